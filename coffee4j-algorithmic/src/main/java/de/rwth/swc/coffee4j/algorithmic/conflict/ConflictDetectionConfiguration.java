@@ -22,6 +22,7 @@ public class ConflictDetectionConfiguration {
     private final Supplier<? extends ConflictExplainer> conflictExplainerSupplier;
     private final boolean conflictDiagnosisEnabled;
     private final Supplier<? extends ConflictDiagnostician> conflictDiagnosticianSupplier;
+    private final int parallelism;
 
     private boolean implies(boolean a, boolean b) {
         return !a || b;
@@ -30,7 +31,20 @@ public class ConflictDetectionConfiguration {
     public ConflictDetectionConfiguration(boolean conflictDetectionEnabled, boolean shouldAbort,
             boolean conflictExplanationEnabled, Supplier<? extends ConflictExplainer> conflictExplainerSupplier,
             boolean conflictDiagnosisEnabled, Supplier<? extends ConflictDiagnostician> conflictDiagnosticianSupplier) {
+        this(conflictDetectionEnabled, shouldAbort, conflictExplanationEnabled, conflictExplainerSupplier,
+                conflictDiagnosisEnabled, conflictDiagnosticianSupplier, 1);
+    }
+
+    /**
+     * @param parallelism the maximum number of error constraints which are checked for conflicts at the same time.
+     *     Each thread uses its own explainer, diagnostician and constraint model. Must be positive
+     */
+    public ConflictDetectionConfiguration(boolean conflictDetectionEnabled, boolean shouldAbort,
+            boolean conflictExplanationEnabled, Supplier<? extends ConflictExplainer> conflictExplainerSupplier,
+            boolean conflictDiagnosisEnabled, Supplier<? extends ConflictDiagnostician> conflictDiagnosticianSupplier,
+            int parallelism) {
         
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
         Preconditions.check(implies(conflictExplanationEnabled, conflictDetectionEnabled));
         Preconditions.check(implies(conflictExplanationEnabled, conflictExplainerSupplier != null));
         Preconditions.check(implies(conflictDiagnosisEnabled, conflictExplanationEnabled));
@@ -53,6 +67,8 @@ public class ConflictDetectionConfiguration {
         } else {
             this.conflictDiagnosticianSupplier = conflictDiagnosticianSupplier;
         }
+
+        this.parallelism = parallelism;
     }
 
     public boolean isConflictDetectionEnabled() {
@@ -71,6 +87,10 @@ public class ConflictDetectionConfiguration {
         return conflictDiagnosisEnabled;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
     public ConflictExplainer createConflictExplainer() {
         return conflictExplainerSupplier.get();
     }
@@ -92,6 +112,7 @@ public class ConflictDetectionConfiguration {
                 shouldAbort == that.shouldAbort &&
                 conflictExplanationEnabled == that.conflictExplanationEnabled &&
                 conflictDiagnosisEnabled == that.conflictDiagnosisEnabled &&
+                parallelism == that.parallelism &&
                 Objects.equals(conflictExplainerSupplier, that.conflictExplainerSupplier) &&
                 Objects.equals(conflictDiagnosticianSupplier, that.conflictDiagnosticianSupplier);
     }
@@ -99,7 +120,7 @@ public class ConflictDetectionConfiguration {
     @Override
     public int hashCode() {
         return Objects.hash(conflictDetectionEnabled, shouldAbort, conflictExplanationEnabled,
-                conflictExplainerSupplier, conflictDiagnosisEnabled, conflictDiagnosticianSupplier);
+                conflictExplainerSupplier, conflictDiagnosisEnabled, conflictDiagnosticianSupplier, parallelism);
     }
 
     @Override
@@ -111,6 +132,7 @@ public class ConflictDetectionConfiguration {
                 ", conflictExplainerSupplier=" + conflictExplainerSupplier +
                 ", conflictDiagnosisEnabled=" + conflictDiagnosisEnabled +
                 ", conflictDiagnosticianSupplier=" + conflictDiagnosticianSupplier +
+                ", parallelism=" + parallelism +
                 '}';
     }
     
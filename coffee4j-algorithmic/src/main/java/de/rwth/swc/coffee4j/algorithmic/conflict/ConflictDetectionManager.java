@@ -1,5 +1,6 @@
 package de.rwth.swc.coffee4j.algorithmic.conflict;
 
+import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
 import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
 import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
 import de.rwth.swc.coffee4j.algorithmic.conflict.choco.ChocoModel;
@@ -11,6 +12,12 @@ import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.groupingBy;
@@ -18,14 +25,13 @@ import static java.util.stream.Collectors.groupingBy;
 public class ConflictDetectionManager {
 
     private final ConflictDetectionConfiguration configuration;
-    private final ConflictExplainer explainer;
-    private final ConflictDiagnostician diagnostician;
     private final TestModelExpander expander;
 
     private final CompleteTestModel testModel;
+    private final List<Constraint> constraints;
     private final Map<Boolean, List<Constraint>> partitionedConstraints;
 
-    private final ChocoModel chocoModel;
+    private final Worker worker;
 
     public ConflictDetectionManager(ConflictDetectionConfiguration configuration,
                                     CompleteTestModel originalTestModel) {
@@ -33,13 +39,11 @@ public class ConflictDetectionManager {
         Preconditions.notNull(originalTestModel);
 
         this.configuration = configuration;
-        this.explainer = configuration.createConflictExplainer();
-        this.diagnostician = configuration.createConflictDiagnostician();
         this.expander = configuration.createTestModelExpander(originalTestModel);
 
         this.testModel = expander.createExpandedTestModel();
 
-        final List<Constraint> constraints = new ArrayList<>();
+        this.constraints = new ArrayList<>();
         constraints.addAll(this.testModel.getExclusionConstraints());
         constraints.addAll(this.testModel.getErrorConstraints());
 
@@ -50,7 +54,7 @@ public class ConflictDetectionManager {
             partitionedConstraints.put(true, Collections.emptyList());
         }
 
-        this.chocoModel = new ChocoModel(this.testModel.getParameterSizes(), constraints);
+        this.worker = new Worker();
     }
 
     public List<MissingInvalidTuple> detectMissingInvalidTuples() {
@@ -59,99 +63,168 @@ public class ConflictDetectionManager {
         }
 
         final ConflictDetectionResultConverter converter = new ConflictDetectionResultConverter(testModel, expander);
+        final List<TupleList> errorTupleLists = testModel.getErrorTupleLists();
+        final int parallelism = Math.min(configuration.getParallelism(), errorTupleLists.size());
 
-        return testModel.getErrorTupleLists().stream()
-                .map(this::checkForNegatedErrorConstraint)
+        final List<List<InternalMissingInvalidTuple>> missingInvalidTuples = parallelism > 1
+                ? checkForNegatedErrorConstraintsInParallel(errorTupleLists, parallelism)
+                : errorTupleLists.stream().map(worker::checkForNegatedErrorConstraint).collect(Collectors.toList());
+
+        return missingInvalidTuples.stream()
                 .flatMap(Collection::stream)
                 .map(converter::convertMissingInvalidTuple)
                 .collect(Collectors.toList());
     }
 
-    private List<InternalMissingInvalidTuple> checkForNegatedErrorConstraint(TupleList toBeNegated) {
-        final List<InternalMissingInvalidTuple> missingInvalidTuples = new ArrayList<>();
-
-        chocoModel.reset();
-        chocoModel.setNegationOfConstraint(toBeNegated.getId());
-
-        for(int[] tuple : toBeNegated.getTuples()) {
-            final IntSet background = new IntArraySet();
-            background.add(toBeNegated.getId());
-            background.addAll(partitionedConstraints.get(true).stream()
-                    .map(constraint -> constraint.getTupleList().getId())
-                    .collect(Collectors.toList()));
-
-            final IntSet relaxable = new IntArraySet();
-            relaxable.addAll(partitionedConstraints.get(false).stream()
-                    .filter(constraint -> constraint.getTupleList().getId() != toBeNegated.getId())
-                    .map(constraint -> constraint.getTupleList().getId())
-                    .collect(Collectors.toList()));
-
-            final Optional<InternalExplanation> optional
-                    = checkForInvalidTuple(toBeNegated, tuple, background, relaxable);
-            optional.ifPresent(explanation ->
-                    missingInvalidTuples.add(new InternalMissingInvalidTuple(
-                            toBeNegated.getId(),
-                            toBeNegated.getInvolvedParameters(),
-                            tuple,
-                            explanation)));
-        }
+    /*
+     * Each error constraint is checked by one task. Since a ChocoModel is modified while checking, every thread
+     * borrows its own worker from the pool and returns it afterwards. The results are collected in the order of the
+     * error constraints, so they are the same as in the sequential case.
+     */
+    private List<List<InternalMissingInvalidTuple>> checkForNegatedErrorConstraintsInParallel(
+            List<TupleList> errorTupleLists, int parallelism) {
+        final BlockingQueue<Worker> workers = new LinkedBlockingQueue<>();
+        workers.add(worker);
 
-        chocoModel.resetNegationOfConstraint();
-        return missingInvalidTuples;
-    }
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
 
-    private Optional<InternalExplanation> checkForInvalidTuple(TupleList tupleList,
-                                                               int[] tuple,
-                                                               IntSet background,
-                                                               IntSet relaxable) {
-        chocoModel.reset();
-
-        final int assignmentId = chocoModel.setAssignmentConstraint(tupleList.getInvolvedParameters(), tuple);
+        try {
+            final List<Future<List<InternalMissingInvalidTuple>>> futures = new ArrayList<>(errorTupleLists.size());
+
+            for (TupleList errorTupleList : errorTupleLists) {
+                futures.add(executor.submit(() -> {
+                    final Worker borrowedWorker = Optional.ofNullable(workers.poll()).orElseGet(Worker::new);
+
+                    try {
+                        return borrowedWorker.checkForNegatedErrorConstraint(errorTupleList);
+                    } finally {
+                        workers.add(borrowedWorker);
+                    }
+                }));
+            }
 
-        background.add(assignmentId);
+            final List<List<InternalMissingInvalidTuple>> missingInvalidTuples = new ArrayList<>(futures.size());
 
-        try {
-            final Optional<InternalExplanation> optional = createExplanation(background.toIntArray(), relaxable.toIntArray());
+            for (Future<List<InternalMissingInvalidTuple>> future : futures) {
+                missingInvalidTuples.add(future.get());
+            }
 
-            return optional.map(explanation -> {
-                if(configuration.isConflictDiagnosisEnabled() && explanation instanceof InternalConflictSet) {
-                    return new InternalDiagnosisSets((InternalConflictSet) explanation, diagnostician.getMinimalDiagnoses((InternalConflictSet) explanation));
-                } else if(explanation instanceof InternalInconsistentBackground) {
-                    return removeAssignmentConstraintFromBackground(assignmentId, (InternalInconsistentBackground) explanation);
-                } else {
-                    return explanation;
-                }
-            });
+            return missingInvalidTuples;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Coffee4JException(e, "Interrupted during parallel conflict detection!");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
 
+            throw new Coffee4JException(e.getCause(), "Could not detect conflicts!");
         } finally {
-            chocoModel.clearAssignmentConstraint();
-
-            background.remove(assignmentId);
+            executor.shutdownNow();
         }
     }
 
-    private InternalExplanation removeAssignmentConstraintFromBackground(int assignmentId,
-                                                                         InternalInconsistentBackground explanation) {
-        final int[] cleanedBackground = Arrays.stream(explanation.getBackground())
-                .filter(c -> c != assignmentId)
-                .toArray();
+    /**
+     * Everything needed to check error constraints which must not be shared between threads.
+     */
+    private final class Worker {
 
-        return new InternalInconsistentBackground(cleanedBackground, explanation.getRelaxable());
-    }
+        private final ConflictExplainer explainer;
+        private final ConflictDiagnostician diagnostician;
+        private final ChocoModel chocoModel;
+
+        private Worker() {
+            this.explainer = configuration.createConflictExplainer();
+            this.diagnostician = configuration.createConflictDiagnostician();
+            this.chocoModel = new ChocoModel(testModel.getParameterSizes(), constraints);
+        }
+
+        private List<InternalMissingInvalidTuple> checkForNegatedErrorConstraint(TupleList toBeNegated) {
+            final List<InternalMissingInvalidTuple> missingInvalidTuples = new ArrayList<>();
 
-    private Optional<InternalExplanation> createExplanation(int[] background, int[] relaxable) {
-        if(!configuration.isConflictExplanationEnabled()) {
             chocoModel.reset();
+            chocoModel.setNegationOfConstraint(toBeNegated.getId());
+
+            for(int[] tuple : toBeNegated.getTuples()) {
+                final IntSet background = new IntArraySet();
+                background.add(toBeNegated.getId());
+                background.addAll(partitionedConstraints.get(true).stream()
+                        .map(constraint -> constraint.getTupleList().getId())
+                        .collect(Collectors.toList()));
+
+                final IntSet relaxable = new IntArraySet();
+                relaxable.addAll(partitionedConstraints.get(false).stream()
+                        .filter(constraint -> constraint.getTupleList().getId() != toBeNegated.getId())
+                        .map(constraint -> constraint.getTupleList().getId())
+                        .collect(Collectors.toList()));
+
+                final Optional<InternalExplanation> optional
+                        = checkForInvalidTuple(toBeNegated, tuple, background, relaxable);
+                optional.ifPresent(explanation ->
+                        missingInvalidTuples.add(new InternalMissingInvalidTuple(
+                                toBeNegated.getId(),
+                                toBeNegated.getInvolvedParameters(),
+                                tuple,
+                                explanation)));
+            }
 
-            if(chocoModel.isSatisfiable()) {
-                return Optional.empty();
+            chocoModel.resetNegationOfConstraint();
+            return missingInvalidTuples;
+        }
+
+        private Optional<InternalExplanation> checkForInvalidTuple(TupleList tupleList,
+                                                                   int[] tuple,
+                                                                   IntSet background,
+                                                                   IntSet relaxable) {
+            chocoModel.reset();
+
+            final int assignmentId = chocoModel.setAssignmentConstraint(tupleList.getInvolvedParameters(), tuple);
+
+            background.add(assignmentId);
+
+            try {
+                final Optional<InternalExplanation> optional = createExplanation(background.toIntArray(), relaxable.toIntArray());
+
+                return optional.map(explanation -> {
+                    if(configuration.isConflictDiagnosisEnabled() && explanation instanceof InternalConflictSet) {
+                        return new InternalDiagnosisSets((InternalConflictSet) explanation, diagnostician.getMinimalDiagnoses((InternalConflictSet) explanation));
+                    } else if(explanation instanceof InternalInconsistentBackground) {
+                        return removeAssignmentConstraintFromBackground(assignmentId, (InternalInconsistentBackground) explanation);
+                    } else {
+                        return explanation;
+                    }
+                });
+
+            } finally {
+                chocoModel.clearAssignmentConstraint();
+
+                background.remove(assignmentId);
+            }
+        }
+
+        private InternalExplanation removeAssignmentConstraintFromBackground(int assignmentId,
+                                                                             InternalInconsistentBackground explanation) {
+            final int[] cleanedBackground = Arrays.stream(explanation.getBackground())
+                    .filter(c -> c != assignmentId)
+                    .toArray();
+
+            return new InternalInconsistentBackground(cleanedBackground, explanation.getRelaxable());
+        }
+
+        private Optional<InternalExplanation> createExplanation(int[] background, int[] relaxable) {
+            if(!configuration.isConflictExplanationEnabled()) {
+                chocoModel.reset();
+
+                if(chocoModel.isSatisfiable()) {
+                    return Optional.empty();
+                } else {
+                    return Optional.of(
+                            new InternalUnknownExplanation()
+                    );
+                }
             } else {
-                return Optional.of(
-                        new InternalUnknownExplanation()
-                );
+                return explainer.getMinimalConflict(chocoModel, background, relaxable);
             }
-        } else {
-            return explainer.getMinimalConflict(chocoModel, background, relaxable);
         }
     }
 }
@@ -6,17 +6,18 @@ import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
-import org.chocosolver.solver.variables.Variable;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static de.rwth.swc.coffee4j.algorithmic.util.ChocoUtil.createVariables;
+
 public class ChocoModel {
 
     private final Model model;
+    private final IntVar[] variables;
     private final List<ChocoConstraint> enabledConstraints;
     private final List<ChocoConstraint> disabledConstraints;
 
@@ -38,7 +39,7 @@ public class ChocoModel {
         this.originalNegatedConstraint = null;
         this.oppositeNegatedConstraint = null;
 
-        createVariables(parameterSizes);
+        this.variables = createVariables(model, parameterSizes);
 
         for(Constraint constraint : constraints) {
             final ChocoConstraint chocoConstraint = createAndPostConstraint(constraint);
@@ -81,8 +82,8 @@ public class ChocoModel {
             final int parameter = parameters[i];
             final int value = values[i];
 
-            final Optional<Variable> candidate = findVariable(parameter);
-            final IntVar variable = (IntVar) candidate.orElseThrow(() -> new IllegalStateException("unknown variable"));
+            final IntVar variable = findVariable(parameter)
+                    .orElseThrow(() -> new IllegalStateException("unknown variable"));
 
             arithms[i] = model.arithm(variable, "=", value);
         }
@@ -244,15 +245,6 @@ public class ChocoModel {
                 .findFirst();
     }
 
-    private void createVariables(int[] parameterSizes) {
-        for (int i = 0; i < parameterSizes.length; i++) {
-            int parameterSize = parameterSizes[i];
-            String key = String.valueOf(i);
-
-            model.intVar(key, 0, parameterSize - 1);
-        }
-    }
-
     private ChocoConstraint createAndPostConstraint(Constraint constraint) {
         final org.chocosolver.solver.constraints.Constraint[] tmp = model.getCstrs();
         final org.chocosolver.solver.constraints.Constraint appliedConstraint = constraint.apply(model);
@@ -297,11 +289,11 @@ public class ChocoModel {
         return false;
     }
 
-    private Optional<Variable> findVariable(int parameter) {
-        final String key = String.valueOf(parameter);
+    private Optional<IntVar> findVariable(int parameter) {
+        if (parameter < 0 || parameter >= variables.length) {
+            return Optional.empty();
+        }
 
-        return Arrays.stream(model.getVars())
-                .filter(variable -> variable.getName().equals(key))
-                .findFirst();
+        return Optional.of(variables[parameter]);
     }
 }
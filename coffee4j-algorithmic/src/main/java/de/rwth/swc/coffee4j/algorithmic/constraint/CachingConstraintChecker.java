@@ -0,0 +1,266 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.IntArrayWrapper;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import it.unimi.dsi.fastutil.ints.IntAVLTreeSet;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.NO_VALUE;
+
+/**
+ * A decorator for a {@link ConstraintChecker} which memorizes the results of previous checks.
+ *
+ * <p>The validity of a combination only depends on the values of parameters which are involved in at least one
+ * constraint. Therefore, each query is projected onto these parameters and the projection is used as the key of
+ * a bounded cache which evicts the least recently used entry once its capacity is exceeded. Consequently, queries
+ * which only differ in unconstrained parameters share one entry, and {@link #isValid(int[])},
+ * {@link #isExtensionValid(int[], int...)} and {@link #isDualValid(int[], int[])} share their results as well.
+ *
+ * <p>Whenever {@link #addConstraint(int[])} is called, the cache is cleared and the parameters of the forbidden
+ * tuple are added to the involved parameters. Queries assigning different values to the same parameter are always
+ * forwarded to the decorated checker. All queries are expected to only use values inside the domain of their
+ * parameter.
+ */
+public class CachingConstraintChecker implements ConstraintChecker {
+
+    private final ConstraintChecker checker;
+    private final int capacity;
+    private final Map<IntArrayWrapper, Boolean> cache;
+
+    private final IntSortedSet involvedParameters;
+    private volatile int[] projectedParameters;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * @param checker               the checker whose results are cached
+     * @param involvedParameters    all parameters which appear in a constraint of the given checker
+     * @param capacity              the maximum number of results which are cached. Must be positive
+     */
+    public CachingConstraintChecker(ConstraintChecker checker, int[] involvedParameters, int capacity) {
+        Preconditions.notNull(checker);
+        Preconditions.notNull(involvedParameters);
+        Preconditions.check(capacity > 0, "capacity must be positive");
+
+        this.checker = checker;
+        this.capacity = capacity;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IntArrayWrapper, Boolean> eldest) {
+                return size() > CachingConstraintChecker.this.capacity;
+            }
+        };
+        this.involvedParameters = new IntAVLTreeSet(involvedParameters);
+        this.projectedParameters = this.involvedParameters.toIntArray();
+    }
+
+    /**
+     * Creates a new cache for the given checker where the involved parameters are those of all exclusion and error
+     * constraints of the given model.
+     *
+     * @param checker   the checker whose results are cached
+     * @param testModel the model for which the checker was created
+     * @param capacity  the maximum number of results which are cached. Must be positive
+     */
+    public CachingConstraintChecker(ConstraintChecker checker, CompleteTestModel testModel, int capacity) {
+        this(checker, computeInvolvedParameters(Preconditions.notNull(testModel)), capacity);
+    }
+
+    private static int[] computeInvolvedParameters(CompleteTestModel testModel) {
+        final IntSortedSet parameters = new IntAVLTreeSet();
+
+        for (TupleList tupleList : testModel.getExclusionTupleLists()) {
+            parameters.addAll(IntArrayList.wrap(tupleList.getInvolvedParameters()));
+        }
+        for (TupleList tupleList : testModel.getErrorTupleLists()) {
+            parameters.addAll(IntArrayList.wrap(tupleList.getInvolvedParameters()));
+        }
+
+        return parameters.toIntArray();
+    }
+
+    @Override
+    public boolean isValid(int[] combination) {
+        final int[] parameters = projectedParameters;
+        final IntArrayWrapper key = project(parameters, combination);
+        final Boolean result = lookup(key);
+
+        if (result != null) {
+            return result;
+        }
+
+        return store(parameters, key, checker.isValid(combination));
+    }
+
+    @Override
+    public boolean isExtensionValid(int[] combination, int... parameterValues) {
+        Preconditions.check(parameterValues.length % 2 == 0);
+
+        if (hasConflictingExtension(combination, parameterValues)) {
+            return checker.isExtensionValid(combination, parameterValues);
+        }
+
+        final int[] parameters = projectedParameters;
+        final IntArrayWrapper key = project(parameters, combination);
+
+        for (int i = 0; i < parameterValues.length; i += 2) {
+            setProjectedValue(parameters, key.getArray(), parameterValues[i], parameterValues[i + 1]);
+        }
+
+        final Boolean result = lookup(key);
+
+        if (result != null) {
+            return result;
+        }
+
+        return store(parameters, key, checker.isExtensionValid(combination, parameterValues));
+    }
+
+    @Override
+    public boolean isDualValid(int[] parameters, int[] values) {
+        Preconditions.check(parameters.length == values.length);
+
+        if (hasConflictingAssignment(parameters, values)) {
+            return checker.isDualValid(parameters, values);
+        }
+
+        final int[] projectedParameters = this.projectedParameters;
+        final IntArrayWrapper key = project(projectedParameters, new int[0]);
+
+        for (int i = 0; i < parameters.length; i++) {
+            setProjectedValue(projectedParameters, key.getArray(), parameters[i], values[i]);
+        }
+
+        final Boolean result = lookup(key);
+
+        if (result != null) {
+            return result;
+        }
+
+        return store(projectedParameters, key, checker.isDualValid(parameters, values));
+    }
+
+    @Override
+    public synchronized void addConstraint(int[] forbiddenTuple) {
+        checker.addConstraint(forbiddenTuple);
+
+        for (int parameter = 0; parameter < forbiddenTuple.length; parameter++) {
+            if (forbiddenTuple[parameter] != NO_VALUE) {
+                involvedParameters.add(parameter);
+            }
+        }
+
+        projectedParameters = involvedParameters.toIntArray();
+        cache.clear();
+    }
+
+    private static boolean hasConflictingExtension(int[] combination, int[] parameterValues) {
+        for (int i = 0; i < parameterValues.length; i += 2) {
+            final int parameter = parameterValues[i];
+            final int value = parameterValues[i + 1];
+
+            if (value != NO_VALUE) {
+                if (parameter < combination.length && combination[parameter] != NO_VALUE
+                        && combination[parameter] != value) {
+                    return true;
+                }
+                for (int j = 0; j < i; j += 2) {
+                    if (parameterValues[j] == parameter && parameterValues[j + 1] != NO_VALUE
+                            && parameterValues[j + 1] != value) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean hasConflictingAssignment(int[] parameters, int[] values) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (values[i] != NO_VALUE) {
+                for (int j = 0; j < i; j++) {
+                    if (parameters[j] == parameters[i] && values[j] != NO_VALUE && values[j] != values[i]) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static IntArrayWrapper project(int[] parameters, int[] combination) {
+        final int[] projection = new int[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            final int parameter = parameters[i];
+
+            projection[i] = parameter < combination.length ? combination[parameter] : NO_VALUE;
+        }
+
+        return new IntArrayWrapper(projection);
+    }
+
+    private static void setProjectedValue(int[] parameters, int[] projection, int parameter, int value) {
+        if (value == NO_VALUE) {
+            return;
+        }
+
+        final int index = Arrays.binarySearch(parameters, parameter);
+
+        if (index >= 0) {
+            projection[index] = value;
+        }
+    }
+
+    private synchronized Boolean lookup(IntArrayWrapper key) {
+        final Boolean result = cache.get(key);
+
+        if (result != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+
+        return result;
+    }
+
+    private synchronized boolean store(int[] parameters, IntArrayWrapper key, boolean result) {
+        // a result computed before a constraint was added may be outdated
+        if (parameters == projectedParameters) {
+            cache.put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the number of queries answered from the cache
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * @return the number of queries which had to be forwarded to the decorated checker
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * @return the decorated checker
+     */
+    public ConstraintChecker getChecker() {
+        return checker;
+    }
+}
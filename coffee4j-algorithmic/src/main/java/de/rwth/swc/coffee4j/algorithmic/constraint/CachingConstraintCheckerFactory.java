@@ -0,0 +1,60 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+/**
+ * Factory which decorates the checkers of another factory with a {@link CachingConstraintChecker}.
+ * Without arguments, the solver-based checkers of {@link HardConstraintCheckerFactory} are cached, since they
+ * benefit the most from not repeating queries.
+ */
+public class CachingConstraintCheckerFactory implements ConstraintCheckerFactory {
+
+    /**
+     * The number of results cached by a checker if no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final ConstraintCheckerFactory factory;
+    private final int capacity;
+
+    /**
+     * Creates a new factory caching the checkers of a {@link HardConstraintCheckerFactory} with the
+     * {@link #DEFAULT_CAPACITY}.
+     */
+    public CachingConstraintCheckerFactory() {
+        this(new HardConstraintCheckerFactory());
+    }
+
+    /**
+     * @param factory the factory whose checkers are cached with the {@link #DEFAULT_CAPACITY}
+     */
+    public CachingConstraintCheckerFactory(ConstraintCheckerFactory factory) {
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param factory   the factory whose checkers are cached
+     * @param capacity  the maximum number of results cached per checker. Must be positive
+     */
+    public CachingConstraintCheckerFactory(ConstraintCheckerFactory factory, int capacity) {
+        Preconditions.check(capacity > 0, "capacity must be positive");
+
+        this.factory = Preconditions.notNull(factory);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public ConstraintChecker createConstraintChecker(CompleteTestModel testModel) {
+        return new CachingConstraintChecker(factory.createConstraintChecker(testModel), testModel, capacity);
+    }
+
+    @Override
+    public ConstraintChecker createConstraintCheckerWithNegation(CompleteTestModel testModel, TupleList toBeNegated) {
+        return new CachingConstraintChecker(
+                factory.createConstraintCheckerWithNegation(testModel, toBeNegated),
+                testModel,
+                capacity);
+    }
+}
@@ -0,0 +1,239 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.NO_VALUE;
+
+/**
+ * A compiled representation of a set of forbidden tuples which allows to check whether a combination contains any
+ * of them without allocating memory.
+ *
+ * <p>Each tuple is assigned a bit. For every parameter, one bitset contains the tuples which assign a value to the
+ * parameter, and for every value of the parameter, one bitset contains the tuples assigning exactly this value.
+ * A tuple is contained in a combination if the combination has the tuple's value for all parameters set in the
+ * tuple. Consequently, the bits of all contained tuples remain after AND-ing
+ * {@code NOT(parameterBits) OR valueBits} of all parameters, which is done word-wise for 64 tuples at once.
+ *
+ * <p>Tuples can be added and removed in time proportional to the number of parameters. The bit of a removed tuple is
+ * reused by the next added one, and a bitset of active bits masks out unused ones.
+ */
+final class CompiledForbiddenTuples {
+
+    private final Collection<IntList> source;
+    private final int[] valueOffsets;
+    private final int[] parameterSizes;
+
+    private final Object2IntMap<IntList> tupleIndices = new Object2IntOpenHashMap<>();
+    private final IntList freeIndices = new IntArrayList();
+    private int numberOfIndices = 0;
+    private int numberOfWords = 0;
+
+    /**
+     * Parameters which are set in at least one tuple added so far. Only those can rule out a tuple.
+     */
+    private int[] involvedParameters = new int[0];
+
+    private final long[][] parameterBits;
+    private final long[][] valueBits;
+    private long[] activeBits = new long[0];
+
+    /**
+     * @param tuples            the forbidden tuples. Each must have one entry per parameter where
+     *                          {@link de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil#NO_VALUE} marks unset
+     *                          parameters
+     * @param parameterSizes    the number of values of each parameter
+     */
+    CompiledForbiddenTuples(Collection<IntList> tuples, int[] parameterSizes) {
+        Preconditions.notNull(tuples);
+        Preconditions.notNull(parameterSizes);
+
+        this.source = tuples;
+        this.parameterSizes = parameterSizes.clone();
+        this.valueOffsets = new int[parameterSizes.length];
+        tupleIndices.defaultReturnValue(-1);
+
+        int numberOfValues = 0;
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            valueOffsets[parameter] = numberOfValues;
+            numberOfValues += parameterSizes[parameter];
+        }
+
+        this.parameterBits = new long[parameterSizes.length][];
+        this.valueBits = new long[numberOfValues][];
+
+        for (IntList tuple : tuples) {
+            add(tuple);
+        }
+    }
+
+    /**
+     * @param tuple a forbidden tuple in the format described in {@link #CompiledForbiddenTuples(Collection, int[])}.
+     *              It must not be modified afterwards
+     * @return whether the tuple was not contained before
+     */
+    boolean add(IntList tuple) {
+        checkTuple(tuple);
+
+        if (tupleIndices.containsKey(tuple)) {
+            return false;
+        }
+
+        final int tupleIndex = freeIndices.isEmpty() ? numberOfIndices++ : freeIndices.removeInt(freeIndices.size() - 1);
+        ensureCapacity(tupleIndex);
+        tupleIndices.put(tuple, tupleIndex);
+
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            final int value = tuple.getInt(parameter);
+
+            if (value != NO_VALUE) {
+                if (parameterBits[parameter] == null) {
+                    parameterBits[parameter] = new long[numberOfWords];
+                    addInvolvedParameter(parameter);
+                }
+
+                setBit(parameterBits, parameter, tupleIndex, true);
+                setBit(valueBits, valueOffsets[parameter] + value, tupleIndex, true);
+            }
+        }
+
+        activeBits[tupleIndex / Long.SIZE] |= 1L << tupleIndex;
+
+        return true;
+    }
+
+    /**
+     * @param tuple a forbidden tuple
+     * @return whether the tuple was contained before
+     */
+    boolean remove(IntList tuple) {
+        final int tupleIndex = tupleIndices.removeInt(tuple);
+
+        if (tupleIndex < 0) {
+            return false;
+        }
+
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            final int value = tuple.getInt(parameter);
+
+            if (value != NO_VALUE) {
+                setBit(parameterBits, parameter, tupleIndex, false);
+                setBit(valueBits, valueOffsets[parameter] + value, tupleIndex, false);
+            }
+        }
+
+        activeBits[tupleIndex / Long.SIZE] &= ~(1L << tupleIndex);
+        freeIndices.add(tupleIndex);
+
+        return true;
+    }
+
+    private void checkTuple(IntList tuple) {
+        Preconditions.notNull(tuple);
+        Preconditions.check(tuple.size() == parameterSizes.length);
+
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            final int value = tuple.getInt(parameter);
+
+            Preconditions.check(value == NO_VALUE || (value >= 0 && value < parameterSizes[parameter]));
+        }
+    }
+
+    private void ensureCapacity(int tupleIndex) {
+        if (tupleIndex / Long.SIZE < numberOfWords) {
+            return;
+        }
+
+        numberOfWords = Math.max(1, numberOfWords * 2);
+        activeBits = Arrays.copyOf(activeBits, numberOfWords);
+        grow(parameterBits);
+        grow(valueBits);
+    }
+
+    private void grow(long[][] bitsets) {
+        for (int index = 0; index < bitsets.length; index++) {
+            if (bitsets[index] != null) {
+                bitsets[index] = Arrays.copyOf(bitsets[index], numberOfWords);
+            }
+        }
+    }
+
+    private void addInvolvedParameter(int parameter) {
+        involvedParameters = Arrays.copyOf(involvedParameters, involvedParameters.length + 1);
+        involvedParameters[involvedParameters.length - 1] = parameter;
+    }
+
+    private void setBit(long[][] bitsets, int index, int tupleIndex, boolean isSet) {
+        if (bitsets[index] == null) {
+            bitsets[index] = new long[numberOfWords];
+        }
+
+        if (isSet) {
+            bitsets[index][tupleIndex / Long.SIZE] |= 1L << tupleIndex;
+        } else {
+            bitsets[index][tupleIndex / Long.SIZE] &= ~(1L << tupleIndex);
+        }
+    }
+
+    /**
+     * @param combination a combination where
+     *                    {@link de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil#NO_VALUE} marks unset parameters.
+     *                    Parameters beyond its length are treated as unset
+     * @return whether the combination contains at least one of the forbidden tuples
+     */
+    boolean containsForbiddenTuple(int[] combination) {
+        final int numberOfUsedWords = (numberOfIndices + Long.SIZE - 1) / Long.SIZE;
+
+        for (int word = 0; word < numberOfUsedWords; word++) {
+            long candidates = activeBits[word];
+
+            for (int i = 0; i < involvedParameters.length && candidates != 0; i++) {
+                final int parameter = involvedParameters[i];
+                final long[] valueBitset = findValueBits(combination, parameter);
+                final long mismatches = valueBitset == null
+                        ? parameterBits[parameter][word]
+                        : parameterBits[parameter][word] & ~valueBitset[word];
+
+                candidates &= ~mismatches;
+            }
+
+            if (candidates != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private long[] findValueBits(int[] combination, int parameter) {
+        if (parameter >= combination.length) {
+            return null;
+        }
+
+        final int value = combination[parameter];
+
+        if (value < 0 || value >= parameterSizes[parameter]) {
+            return null;
+        }
+
+        return valueBits[valueOffsets[parameter] + value];
+    }
+
+    /**
+     * @param tuples a collection of forbidden tuples
+     * @return whether this representation was compiled from exactly the given collection instance
+     */
+    boolean isCompiledFrom(Collection<IntList> tuples) {
+        return source == tuples;
+    }
+
+    int getNumberOfTuples() {
+        return tupleIndices.size();
+    }
+}
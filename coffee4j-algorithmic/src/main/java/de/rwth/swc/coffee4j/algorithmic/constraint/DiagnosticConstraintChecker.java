@@ -11,6 +11,8 @@ import org.chocosolver.solver.variables.IntVar;
 import java.util.Arrays;
 import java.util.Collection;
 
+import static de.rwth.swc.coffee4j.algorithmic.util.ChocoUtil.createVariables;
+
 class DiagnosticConstraintChecker extends ModelBasedConstraintChecker {
 
     DiagnosticConstraintChecker(CompleteTestModel testModel,
@@ -32,7 +34,7 @@ class DiagnosticConstraintChecker extends ModelBasedConstraintChecker {
         final Model model = new Model();
         model.getSettings().setCheckDeclaredConstraints(false);
 
-        createVariables(testModel, model);
+        createVariables(model, testModel.getParameterSizes());
         final IntVar threshold = createThresholdVariable(model, thresholds);
         createHardConstraints(hardConstraints, model);
         createSoftConstraints(softConstraints, model, threshold);
@@ -41,15 +43,6 @@ class DiagnosticConstraintChecker extends ModelBasedConstraintChecker {
         return model;
     }
 
-    private static void createVariables(CompleteTestModel testModel, Model model) {
-        for (int i = 0; i < testModel.getNumberOfParameters(); i++) {
-            int parameterSize = testModel.getParameterSizes()[i];
-            String key = String.valueOf(i);
-
-            model.intVar(key, 0, parameterSize - 1);
-        }
-    }
-
     private static IntVar createThresholdVariable(Model model, Object2IntMap<IntArrayWrapper> thresholds) {
         int maxThreshold = thresholds.values().stream().mapToInt(i -> i).max().orElse(0);
 
@@ -11,6 +11,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import static de.rwth.swc.coffee4j.algorithmic.util.ChocoUtil.createVariables;
+
 public class DynamicHardConstraintChecker extends ModelBasedConstraintChecker {
 
     private final IntSet involvedParameters = new IntArraySet();
@@ -30,21 +32,12 @@ public class DynamicHardConstraintChecker extends ModelBasedConstraintChecker {
         final Model model = new Model();
         model.getSettings().setCheckDeclaredConstraints(false);
 
-        createVariables(inputParameterModel, model);
+        createVariables(model, inputParameterModel.getParameterSizes());
         createConstraints(exclusionConstraints, errorConstraints, model);
 
         return model;
     }
 
-    private static void createVariables(CompleteTestModel inputParameterModel, Model model) {
-        for (int i = 0; i < inputParameterModel.getNumberOfParameters(); i++) {
-            int parameterSize = inputParameterModel.getParameterSizes()[i];
-            String key = String.valueOf(i);
-
-            model.intVar(key, 0, parameterSize - 1);
-        }
-    }
-
     private static void createConstraints(Collection<Constraint> exclusionConstraints,
                                           Collection<Constraint> errorConstraints,
                                           Model model) {
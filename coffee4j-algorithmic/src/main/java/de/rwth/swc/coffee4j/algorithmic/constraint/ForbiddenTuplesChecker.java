@@ -28,6 +28,8 @@ public abstract class ForbiddenTuplesChecker implements ConstraintChecker {
     final Multimap<IntList, IntList> parameterValuesToTupleMap = MultimapBuilder.hashKeys().hashSetValues().build();
     final Multimap<Integer, IntList> parameterToUsedValuesMap;
 
+    private volatile CompiledForbiddenTuples compiledTuples;
+
     /**
      * @param model test model to create a {@link ConstraintChecker} for.
      */
@@ -112,21 +114,6 @@ public abstract class ForbiddenTuplesChecker implements ConstraintChecker {
         minimalForbiddenTuples = new HashSet<>(initialForbiddenTuples);
     }
 
-    void updateMultiMaps(Set<IntList> newTuples) {
-        for (IntList tuple : newTuples) {
-            for (int param = 0; param < numberOfParameters; param++) {
-                if (tuple.getInt(param) != -1) {
-                    IntList key = new IntArrayList(new int[]{param, tuple.getInt(param)});
-
-                    parameterValuesToTupleMap.put(key, tuple);
-                    parameterToUsedValuesMap.put(param, key);
-                }
-            }
-        }
-
-        minimalForbiddenTuples = new HashSet<>(parameterValuesToTupleMap.values());
-    }
-
     public Set<IntList> getMinimalForbiddenTuples() {
         return minimalForbiddenTuples;
     }
@@ -139,13 +126,51 @@ public abstract class ForbiddenTuplesChecker implements ConstraintChecker {
     public boolean isValid(int[] combination) {
         generateNecessaryForbiddenTupleSet(combination);
 
-        for (IntList forbiddenTuple : minimalForbiddenTuples) {
-            if (CombinationUtil.contains(combination, forbiddenTuple.toIntArray())) {
-                return false;
-            }
+        return !compileMinimalForbiddenTuples().containsForbiddenTuple(combination);
+    }
+
+    /**
+     * Adds a tuple to the minimal forbidden tuples and keeps their compiled representation up to date.
+     *
+     * @param tuple a minimal forbidden tuple. It must not be modified afterwards
+     */
+    void addMinimalForbiddenTuple(IntList tuple) {
+        final CompiledForbiddenTuples compiled = compiledTuples;
+
+        if (minimalForbiddenTuples.add(tuple) && compiled != null && compiled.isCompiledFrom(minimalForbiddenTuples)) {
+            compiled.add(tuple);
+        }
+    }
+
+    /**
+     * Removes a tuple from the minimal forbidden tuples and keeps their compiled representation up to date.
+     *
+     * @param tuple a minimal forbidden tuple
+     */
+    void removeMinimalForbiddenTuple(IntList tuple) {
+        final CompiledForbiddenTuples compiled = compiledTuples;
+
+        if (minimalForbiddenTuples.remove(tuple) && compiled != null
+                && compiled.isCompiledFrom(minimalForbiddenTuples)) {
+            compiled.remove(tuple);
+        }
+    }
+
+    /**
+     * The compiled representation is only rebuilt if the set of minimal forbidden tuples was replaced since the
+     * last check. Subclasses should therefore modify the current set via {@link #addMinimalForbiddenTuple(IntList)}
+     * and {@link #removeMinimalForbiddenTuple(IntList)}, which update the compiled representation incrementally.
+     */
+    private CompiledForbiddenTuples compileMinimalForbiddenTuples() {
+        final Set<IntList> currentTuples = minimalForbiddenTuples;
+        CompiledForbiddenTuples compiled = compiledTuples;
+
+        if (compiled == null || !compiled.isCompiledFrom(currentTuples)) {
+            compiled = new CompiledForbiddenTuples(currentTuples, parameterSizes);
+            compiledTuples = compiled;
         }
 
-        return true;
+        return compiled;
     }
 
     @Override
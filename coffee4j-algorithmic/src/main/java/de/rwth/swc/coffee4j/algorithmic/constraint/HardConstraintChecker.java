@@ -6,6 +6,8 @@ import org.chocosolver.solver.Model;
 import java.util.Collection;
 import java.util.List;
 
+import static de.rwth.swc.coffee4j.algorithmic.util.ChocoUtil.createVariables;
+
 class HardConstraintChecker extends ModelBasedConstraintChecker {
 
     HardConstraintChecker(final CompleteTestModel testModel,
@@ -14,27 +16,18 @@ class HardConstraintChecker extends ModelBasedConstraintChecker {
         super(createModel(testModel, exclusionConstraints, errorConstraints));
     }
     
-    private static Model createModel(CompleteTestModel testModel,
-                                     List<Constraint> exclusionConstraints,
-                                     List<Constraint> errorConstraints) {
+    static Model createModel(CompleteTestModel testModel,
+                             List<Constraint> exclusionConstraints,
+                             List<Constraint> errorConstraints) {
         final Model model = new Model();
         model.getSettings().setCheckDeclaredConstraints(false);
 
-        createVariables(testModel, model);
+        createVariables(model, testModel.getParameterSizes());
         createConstraints(exclusionConstraints, errorConstraints, model);
         
         return model;
     }
     
-    private static void createVariables(CompleteTestModel testModel, Model model) {
-        for (int i = 0; i < testModel.getNumberOfParameters(); i++) {
-            int parameterSize = testModel.getParameterSizes()[i];
-            String key = String.valueOf(i);
-            
-            model.intVar(key, 0, parameterSize - 1);
-        }
-    }
-    
     private static void createConstraints(Collection<Constraint> exclusionConstraints,
                                           Collection<Constraint> errorConstraints,
                                           Model model) {
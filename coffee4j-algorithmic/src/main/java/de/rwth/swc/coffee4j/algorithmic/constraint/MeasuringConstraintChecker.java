@@ -0,0 +1,73 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+/**
+ * A decorator for a {@link ConstraintChecker} which reports the duration of every query as
+ * {@link MetricNames#CONSTRAINT_CHECK} and the number of queries answered with "invalid" as
+ * {@link MetricNames#CONSTRAINT_CHECKS_INVALID} to a {@link MetricsListener}. The number of queries is the count of
+ * the duration.
+ */
+public class MeasuringConstraintChecker implements ConstraintChecker {
+
+    private final ConstraintChecker checker;
+    private final MetricsListener listener;
+
+    /**
+     * @param checker   the checker whose queries are measured. Must not be {@code null}
+     * @param listener  the listener receiving the measurements. Must not be {@code null}
+     */
+    public MeasuringConstraintChecker(ConstraintChecker checker, MetricsListener listener) {
+        this.checker = Preconditions.notNull(checker);
+        this.listener = Preconditions.notNull(listener);
+    }
+
+    @Override
+    public boolean isValid(int[] combination) {
+        final long start = System.nanoTime();
+        final boolean isValid = checker.isValid(combination);
+
+        return record(start, isValid);
+    }
+
+    @Override
+    public boolean isExtensionValid(int[] combination, int... parameterValues) {
+        final long start = System.nanoTime();
+        final boolean isValid = checker.isExtensionValid(combination, parameterValues);
+
+        return record(start, isValid);
+    }
+
+    @Override
+    public boolean isDualValid(int[] parameters, int[] values) {
+        final long start = System.nanoTime();
+        final boolean isValid = checker.isDualValid(parameters, values);
+
+        return record(start, isValid);
+    }
+
+    private boolean record(long start, boolean isValid) {
+        listener.durationRecorded(MetricNames.CONSTRAINT_CHECK, System.nanoTime() - start);
+
+        if (!isValid) {
+            listener.countRecorded(MetricNames.CONSTRAINT_CHECKS_INVALID, 1);
+        }
+
+        return isValid;
+    }
+
+    @Override
+    public void addConstraint(int[] forbiddenTuple) {
+        checker.addConstraint(forbiddenTuple);
+    }
+
+    /**
+     * @return the decorated checker
+     */
+    public ConstraintChecker getChecker() {
+        return checker;
+    }
+
+}
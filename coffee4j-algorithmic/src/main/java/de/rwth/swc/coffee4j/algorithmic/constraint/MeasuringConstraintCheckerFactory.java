@@ -0,0 +1,38 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+/**
+ * Factory which decorates the checkers of another factory with a {@link MeasuringConstraintChecker}, e.g. to find
+ * out how much of the generation time is spent in the solver. Since generators create their checkers from the factory
+ * in their own configuration, the decorator has to be put into that configuration.
+ */
+public class MeasuringConstraintCheckerFactory implements ConstraintCheckerFactory {
+
+    private final ConstraintCheckerFactory factory;
+    private final MetricsListener listener;
+
+    /**
+     * @param factory   the factory whose checkers are measured. Must not be {@code null}
+     * @param listener  the listener receiving the measurements of all checkers. Must not be {@code null}
+     */
+    public MeasuringConstraintCheckerFactory(ConstraintCheckerFactory factory, MetricsListener listener) {
+        this.factory = Preconditions.notNull(factory);
+        this.listener = Preconditions.notNull(listener);
+    }
+
+    @Override
+    public ConstraintChecker createConstraintChecker(CompleteTestModel testModel) {
+        return new MeasuringConstraintChecker(factory.createConstraintChecker(testModel), listener);
+    }
+
+    @Override
+    public ConstraintChecker createConstraintCheckerWithNegation(CompleteTestModel testModel, TupleList toBeNegated) {
+        return new MeasuringConstraintChecker(
+                factory.createConstraintCheckerWithNegation(testModel, toBeNegated),
+                listener);
+    }
+}
@@ -1,19 +1,27 @@
 package de.rwth.swc.coffee4j.algorithmic.constraint;
 
 import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
-import de.rwth.swc.coffee4j.algorithmic.interleaving.util.TupleBuilderUtil;
 import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Subclass of {@link ForbiddenTuplesChecker} implementing the general approach introduced in
  * "Constraint Handling In Combinatorial Test Generation Using Forbidden Tuples" by Yu et. al.
+ *
+ * <p>The minimal forbidden tuples are derived incrementally. Each new tuple is only resolved against the tuples
+ * which share one of its parameters, and the literal index ({@link #parameterValuesToTupleMap}) is used to find
+ * the tuples it subsumes or is subsumed by. Therefore, adding a forbidden tuple does not recompute the whole set,
+ * and the set of minimal forbidden tuples as well as its compiled representation are only updated for the inserted
+ * and removed tuples.
  */
 public class MinimalForbiddenTuplesChecker extends ForbiddenTuplesChecker {
+
+    // not initialized explicitly since the super constructor already derives the minimal forbidden tuples
+    private boolean emptyTupleForbidden;
+
     /**
      * @param model test model to create a {@link ConstraintChecker} for.
      */
@@ -27,6 +35,11 @@ public class MinimalForbiddenTuplesChecker extends ForbiddenTuplesChecker {
      */
     public MinimalForbiddenTuplesChecker(ForbiddenTuplesChecker checker) {
         super(checker);
+
+        // the copied tuples are already minimal and closed under derivation
+        for (IntList tuple : new ArrayList<>(minimalForbiddenTuples)) {
+            insert(tuple);
+        }
     }
 
     /**
@@ -38,134 +51,226 @@ public class MinimalForbiddenTuplesChecker extends ForbiddenTuplesChecker {
 
     @Override
     protected void generateMinimalForbiddenTupleSet() {
-        boolean newTuplesDerived;
-        Set<IntList> newDerivedTuples;
+        final List<IntList> initialTuples = new ArrayList<>(new HashSet<>(parameterValuesToTupleMap.values()));
+
+        parameterValuesToTupleMap.clear();
+        parameterToUsedValuesMap.clear();
+        minimalForbiddenTuples = new HashSet<>();
 
-        do {
-            newDerivedTuples = deriveNewTuples();
-            newTuplesDerived = !simplifyTupleSet().containsAll(newDerivedTuples);
-        } while (newTuplesDerived);
+        addForbiddenTuples(initialTuples);
     }
 
-    private Set<IntList> deriveNewTuples() {
-        Set<IntList> newTuples = new HashSet<>();
+    /**
+     * Adds the tuples one after another. A tuple which contains an already forbidden tuple is discarded. Otherwise,
+     * all forbidden tuples containing it are removed, and new tuples are derived for each of its parameters.
+     * Derived tuples are processed in the same way until no new tuples can be derived.
+     */
+    private void addForbiddenTuples(Collection<IntList> newTuples) {
+        final Deque<IntList> pendingTuples = new ArrayDeque<>(newTuples);
+
+        while (!pendingTuples.isEmpty()) {
+            final IntList tuple = pendingTuples.poll();
+
+            if (isSubsumed(tuple)) {
+                continue;
+            }
+
+            removeTuplesSubsumedBy(tuple);
+            insert(tuple);
 
-        // try to derive new tuples for each parameter individually
-        for (int currentParam = 0; currentParam < numberOfParameters; currentParam++) {
-            newTuples.addAll(deriveNewTuplesUsingParameter(currentParam));
+            for (int param = 0; param < numberOfParameters; param++) {
+                if (tuple.getInt(param) != CombinationUtil.NO_VALUE) {
+                    pendingTuples.addAll(deriveNewTuplesUsingParameter(tuple, param));
+                }
+            }
         }
+    }
 
-        newTuples = removeAlreadyIdentifiedTuples(newTuples);
+    private boolean isSubsumed(IntList tuple) {
+        if (emptyTupleForbidden) {
+            return true;
+        }
 
-        if (!newTuples.isEmpty()) {
-            updateMultiMaps(newTuples);
+        for (int param = 0; param < numberOfParameters; param++) {
+            final int value = tuple.getInt(param);
+
+            if (value != CombinationUtil.NO_VALUE) {
+                for (IntList candidate : parameterValuesToTupleMap.get(literal(param, value))) {
+                    if (contains(tuple, candidate)) {
+                        return true;
+                    }
+                }
+            }
         }
 
-        return newTuples;
+        return false;
     }
 
-    private Collection<IntList> deriveNewTuplesUsingParameter(int param) {
-        Collection<IntList> usedValuesForParameter = parameterToUsedValuesMap.get(param);
+    private void removeTuplesSubsumedBy(IntList tuple) {
+        Collection<IntList> candidates = null;
 
-        // not all possible values for current parameter are set -> no deriving possible
-        if (usedValuesForParameter.size() < parameterSizes[param]) {
-            return Collections.emptySet();
-        }
+        // every tuple containing the new one shares all its literals, so the smallest bucket suffices
+        for (int param = 0; param < numberOfParameters; param++) {
+            final int value = tuple.getInt(param);
 
-        // stores for each value of the current parameter all forbidden tuples containing this
-        // parameter-value combination
-        Set<Collection<IntList>> forbiddenTuplesForParameter = usedValuesForParameter
-                .stream()
-                .map(parameterValuesToTupleMap::get)
-                .collect(Collectors.toSet());
-
-        // for every forbidden tuple, a new tuple without the value of the parameter must be created
-        // (copies reference the same object)
-        Set<Collection<IntList>> forbiddenSet = new HashSet<>();
-
-        for (Collection<IntList> set : forbiddenTuplesForParameter) {
-            Set<IntList> newSet = new HashSet<>();
-            for (IntList tuple : set) {
-                IntList newTuple = new IntArrayList(tuple);
-                newTuple.set(param, -1);
-                newSet.add(newTuple);
+            if (value != CombinationUtil.NO_VALUE) {
+                final Collection<IntList> bucket = parameterValuesToTupleMap.get(literal(param, value));
+
+                if (candidates == null || bucket.size() < candidates.size()) {
+                    candidates = bucket;
+                }
             }
+        }
 
-            forbiddenSet.add(newSet);
+        final List<IntList> subsumedTuples = new ArrayList<>();
+        for (IntList candidate : candidates == null ? new ArrayList<>(minimalForbiddenTuples) : candidates) {
+            if (contains(candidate, tuple)) {
+                subsumedTuples.add(candidate);
+            }
         }
 
-        return TupleBuilderUtil.buildCartesianProduct(forbiddenSet, numberOfParameters);
+        subsumedTuples.forEach(this::remove);
     }
 
-    private Set<IntList> removeAlreadyIdentifiedTuples(Set<IntList> newTuples) {
-        Collection<IntList> oldTuples = parameterValuesToTupleMap.values();
-        return newTuples
-                .stream()
-                .filter(tuple -> !oldTuples.contains(tuple))
-                .collect(Collectors.toSet());
+    private void insert(IntList tuple) {
+        boolean empty = true;
+        for (int param = 0; param < numberOfParameters; param++) {
+            final int value = tuple.getInt(param);
+
+            if (value != CombinationUtil.NO_VALUE) {
+                final IntList key = literal(param, value);
+
+                parameterValuesToTupleMap.put(key, tuple);
+                parameterToUsedValuesMap.put(param, key);
+                empty = false;
+            }
+        }
+
+        emptyTupleForbidden |= empty;
+        addMinimalForbiddenTuple(tuple);
     }
 
-    private Set<IntList> simplifyTupleSet() {
-        Set<IntList> removedTuples = new HashSet<>();
+    private void remove(IntList tuple) {
+        for (int param = 0; param < numberOfParameters; param++) {
+            final int value = tuple.getInt(param);
 
-        for (IntList combination : minimalForbiddenTuples) {
+            if (value != CombinationUtil.NO_VALUE) {
+                final IntList key = literal(param, value);
 
-            List<IntList> subCombinations = new ArrayList<>(minimalForbiddenTuples);
-            subCombinations.remove(combination);
-            subCombinations = subCombinations
-                    .stream()
-                    .filter(subCombination -> CombinationUtil.contains(combination.toIntArray(), subCombination.toIntArray()))
-                    .collect(Collectors.toList());
+                parameterValuesToTupleMap.remove(key, tuple);
 
-            if (!subCombinations.isEmpty()) {
-                removedTuples.add(combination);
+                if (!parameterValuesToTupleMap.containsKey(key)) {
+                    parameterToUsedValuesMap.remove(param, key);
+                }
+            }
+        }
 
-                for (int param = 0; param < numberOfParameters; param++) {
-                    int value = combination.getInt(param);
+        removeMinimalForbiddenTuple(tuple);
+    }
 
-                    if (value != -1) {
-                        IntList key = new IntArrayList(new int[]{param, value});
+    /**
+     * Derives all tuples which result from resolving the given tuple on the given parameter, i.e. the tuple is
+     * combined with one forbidden tuple for every other value of the parameter while the parameter is removed.
+     */
+    private Collection<IntList> deriveNewTuplesUsingParameter(IntList tuple, int param) {
+        // not all possible values for current parameter are set -> no deriving possible
+        if (parameterToUsedValuesMap.get(param).size() < parameterSizes[param]) {
+            return Collections.emptySet();
+        }
+
+        Set<IntList> products = new HashSet<>();
+        products.add(withoutParameter(tuple, param));
+
+        for (int value = 0; value < parameterSizes[param]; value++) {
+            if (value == tuple.getInt(param)) {
+                continue;
+            }
 
-                        parameterValuesToTupleMap.remove(key, combination);
+            final Set<IntList> newProducts = new HashSet<>();
 
-                        if (!parameterValuesToTupleMap.containsKey(key)) {
-                            parameterToUsedValuesMap.remove(param, key);
-                        }
+            for (IntList otherTuple : parameterValuesToTupleMap.get(literal(param, value))) {
+                final IntList strippedTuple = withoutParameter(otherTuple, param);
+
+                for (IntList product : products) {
+                    final IntList combinedTuple = combine(product, strippedTuple);
+
+                    // a combination already containing a forbidden tuple can only lead to non-minimal tuples
+                    if (combinedTuple != null && !isSubsumed(combinedTuple)) {
+                        newProducts.add(combinedTuple);
                     }
                 }
             }
+
+            if (newProducts.isEmpty()) {
+                return Collections.emptySet();
+            }
+
+            products = newProducts;
         }
 
-        minimalForbiddenTuples = new HashSet<>(parameterValuesToTupleMap.values());
-        return removedTuples;
+        products.removeIf(MinimalForbiddenTuplesChecker::isEmpty);
+
+        return products;
     }
 
-    @Override
-    protected void generateNecessaryForbiddenTupleSet(int[] combination) {
-        // No action needed
+    private static IntList literal(int param, int value) {
+        return new IntArrayList(new int[]{param, value});
     }
 
-    @Override
-    public void addConstraint(int[] forbiddenTuple) {
-        if (Arrays.equals(forbiddenTuple, CombinationUtil.emptyCombination(forbiddenTuple.length))) {
-            for (int param = 0; param < numberOfParameters; param++) {
-                IntList key = new IntArrayList(new int[]{param, forbiddenTuple[param]});
+    private static IntList withoutParameter(IntList tuple, int param) {
+        final IntList newTuple = new IntArrayList(tuple);
+        newTuple.set(param, CombinationUtil.NO_VALUE);
 
-                parameterValuesToTupleMap.put(key, new IntArrayList(forbiddenTuple));
-                parameterToUsedValuesMap.put(param, key);
+        return newTuple;
+    }
+
+    private static IntList combine(IntList first, IntList second) {
+        final IntList combinedTuple = new IntArrayList(first);
+
+        for (int param = 0; param < first.size(); param++) {
+            final int value = second.getInt(param);
+
+            if (value != CombinationUtil.NO_VALUE) {
+                if (first.getInt(param) == CombinationUtil.NO_VALUE) {
+                    combinedTuple.set(param, value);
+                } else if (first.getInt(param) != value) {
+                    return null;
+                }
             }
         }
 
-        for (int param = 0; param < numberOfParameters; param++) {
-            if (forbiddenTuple[param]!= -1) {
-                IntList key = new IntArrayList(new int[]{param, forbiddenTuple[param]});
+        return combinedTuple;
+    }
 
-                parameterValuesToTupleMap.put(key, new IntArrayList(forbiddenTuple));
-                parameterToUsedValuesMap.put(param, key);
+    private static boolean contains(IntList tuple, IntList subTuple) {
+        for (int param = 0; param < tuple.size(); param++) {
+            final int value = subTuple.getInt(param);
+
+            if (value != CombinationUtil.NO_VALUE && tuple.getInt(param) != value) {
+                return false;
             }
         }
 
-        // re-generate minimal tuple set
-        generateMinimalForbiddenTupleSet();
+        return true;
+    }
+
+    private static boolean isEmpty(IntList tuple) {
+        for (int param = 0; param < tuple.size(); param++) {
+            if (tuple.getInt(param) != CombinationUtil.NO_VALUE) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    protected void generateNecessaryForbiddenTupleSet(int[] combination) {
+        // No action needed
+    }
+
+    @Override
+    public void addConstraint(int[] forbiddenTuple) {
+        addForbiddenTuples(Collections.singletonList(new IntArrayList(forbiddenTuple)));
     }
-}
\ No newline at end of file
+}
@@ -8,14 +8,17 @@ import org.chocosolver.solver.variables.IntVar;
 import java.util.ArrayList;
 import java.util.List;
 
-import static de.rwth.swc.coffee4j.algorithmic.util.ChocoUtil.findVariable;
+import static de.rwth.swc.coffee4j.algorithmic.util.ChocoUtil.getVariableIndex;
 
 public abstract class ModelBasedConstraintChecker implements ConstraintChecker {
 
     protected final Model model;
+
+    private final IntVar[] variables;
     
     ModelBasedConstraintChecker(Model model) {
         this.model = Preconditions.notNull(model);
+        this.variables = getVariableIndex(model);
     }
 
     @Override
@@ -42,10 +45,11 @@ public abstract class ModelBasedConstraintChecker implements ConstraintChecker {
             return;
         }
 
-        final IntVar variable = findVariable(model, parameter)
-                .filter(v -> v instanceof IntVar)
-                .map(v -> (IntVar) v)
-                .orElseThrow(() -> new IllegalStateException("unknown variable"));
+        if (parameter < 0 || parameter >= variables.length || variables[parameter] == null) {
+            throw new IllegalStateException("unknown variable");
+        }
+
+        final IntVar variable = variables[parameter];
 
         final Constraint constraint = model.arithm(variable, "=", value);
         constraints.add(constraint);
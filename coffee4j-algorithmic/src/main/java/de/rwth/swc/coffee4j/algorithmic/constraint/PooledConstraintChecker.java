@@ -0,0 +1,144 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import static de.rwth.swc.coffee4j.algorithmic.util.ChocoUtil.getVariableIndex;
+
+/**
+ * A {@link ConstraintChecker} which can safely be used by multiple threads at the same time.
+ *
+ * <p>Instead of one shared {@link Model}, the checker keeps a pool of models created by the given supplier.
+ * Each query borrows a model for its exclusive use and returns it afterwards. Consequently, a model is confined
+ * to one thread at a time and the pool grows to the number of threads checking concurrently.
+ *
+ * <p>Contrary to {@link ModelBasedConstraintChecker}, no temporary constraints are posted. The assignments of a
+ * query are applied as domain restrictions in a new world of the model's environment, and popping this world
+ * after the solver is reset restores the original domains.
+ */
+class PooledConstraintChecker implements ConstraintChecker {
+
+    private final int numberOfParameters;
+    private final Supplier<Model> modelSupplier;
+    private final Queue<ConfinedModel> pool = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param numberOfParameters    the number of parameters of the checked combinations
+     * @param modelSupplier         creates a new model with one variable per parameter. The variables must be named
+     *                              by the index of their parameter, and each call must return an independent model
+     */
+    PooledConstraintChecker(int numberOfParameters, Supplier<Model> modelSupplier) {
+        Preconditions.check(numberOfParameters >= 0);
+
+        this.numberOfParameters = numberOfParameters;
+        this.modelSupplier = Preconditions.notNull(modelSupplier);
+    }
+
+    @Override
+    public boolean isValid(int[] combination) {
+        final ConfinedModel confinedModel = borrow();
+
+        try {
+            return confinedModel.solve(combination, new int[0], new int[0]);
+        } finally {
+            pool.offer(confinedModel);
+        }
+    }
+
+    @Override
+    public boolean isExtensionValid(int[] combination, int... parameterValues) {
+        Preconditions.check(parameterValues.length % 2 == 0);
+
+        final int[] parameters = new int[parameterValues.length / 2];
+        final int[] values = new int[parameterValues.length / 2];
+
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = parameterValues[2 * i];
+            values[i] = parameterValues[2 * i + 1];
+        }
+
+        final ConfinedModel confinedModel = borrow();
+
+        try {
+            return confinedModel.solve(combination, parameters, values);
+        } finally {
+            pool.offer(confinedModel);
+        }
+    }
+
+    @Override
+    public boolean isDualValid(int[] parameters, int[] values) {
+        Preconditions.check(parameters.length == values.length);
+
+        final ConfinedModel confinedModel = borrow();
+
+        try {
+            return confinedModel.solve(new int[0], parameters, values);
+        } finally {
+            pool.offer(confinedModel);
+        }
+    }
+
+    @Override
+    public void addConstraint(int[] forbiddenTuple) {
+        // no action needed
+        // like in ModelBasedConstraintChecker, the set of constraints is fixed
+    }
+
+    private ConfinedModel borrow() {
+        final ConfinedModel confinedModel = pool.poll();
+
+        return confinedModel != null ? confinedModel : new ConfinedModel(modelSupplier.get(), numberOfParameters);
+    }
+
+    private static final class ConfinedModel {
+
+        private final Model model;
+        private final IntVar[] variables;
+
+        private ConfinedModel(Model model, int numberOfParameters) {
+            this.model = Preconditions.notNull(model);
+            this.variables = Arrays.copyOf(getVariableIndex(model), numberOfParameters);
+        }
+
+        private boolean solve(int[] combination, int[] parameters, int[] values) {
+            model.getEnvironment().worldPush();
+
+            try {
+                for (int parameter = 0; parameter < combination.length; parameter++) {
+                    restrict(parameter, combination[parameter]);
+                }
+                for (int i = 0; i < parameters.length; i++) {
+                    restrict(parameters[i], values[i]);
+                }
+
+                return model.getSolver().solve();
+            } catch (ContradictionException e) {
+                return false;
+            } finally {
+                model.getSolver().reset();
+                model.getEnvironment().worldPop();
+            }
+        }
+
+        private void restrict(int parameter, int value) throws ContradictionException {
+            if (value == -1) {
+                return;
+            }
+
+            if (parameter >= variables.length || variables[parameter] == null) {
+                throw new IllegalStateException("unknown variable");
+            }
+
+            variables[parameter].instantiateTo(value, Cause.Null);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.List;
+
+import static de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerUtil.checkValidIdentifier;
+import static de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerUtil.errorConstraintsWithNegation;
+
+/**
+ * Factory for creating constraint checkers with the same semantics as the ones created by
+ * {@link HardConstraintCheckerFactory}. The created checkers keep one model per concurrently checking thread
+ * and can therefore be used by parallel generators.
+ */
+public class PooledHardConstraintCheckerFactory implements ConstraintCheckerFactory {
+
+    @Override
+    public ConstraintChecker createConstraintChecker(CompleteTestModel testModel) {
+        return createPooledConstraintChecker(
+                testModel,
+                testModel.getExclusionConstraints(),
+                testModel.getErrorConstraints());
+    }
+
+    @Override
+    public ConstraintChecker createConstraintCheckerWithNegation(CompleteTestModel testModel, TupleList toBeNegated) {
+        Preconditions.check(checkValidIdentifier(testModel, toBeNegated.getId()));
+
+        return createPooledConstraintChecker(
+                testModel,
+                testModel.getExclusionConstraints(),
+                errorConstraintsWithNegation(testModel, toBeNegated));
+    }
+
+    static ConstraintChecker createPooledConstraintChecker(CompleteTestModel testModel,
+                                                           List<Constraint> exclusionConstraints,
+                                                           List<Constraint> errorConstraints) {
+        return new PooledConstraintChecker(
+                testModel.getNumberOfParameters(),
+                () -> HardConstraintChecker.createModel(testModel, exclusionConstraints, errorConstraints));
+    }
+}
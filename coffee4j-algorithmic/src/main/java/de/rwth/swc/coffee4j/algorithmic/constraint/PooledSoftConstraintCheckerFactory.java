@@ -0,0 +1,54 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerUtil.checkValidIdentifier;
+import static de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerUtil.errorConstraintsWithNegation;
+import static de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerUtil.filterErrorConstraintToBeNegated;
+import static de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerUtil.findErrorConstraintToBeNegated;
+import static de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerUtil.negateConstraint;
+
+/**
+ * Factory for creating constraint checkers with the same semantics as the ones created by
+ * {@link SoftConstraintCheckerFactory}. The created checkers keep one model per concurrently checking thread
+ * and can therefore be used by parallel generators.
+ */
+public class PooledSoftConstraintCheckerFactory implements ConstraintCheckerFactory {
+
+    @Override
+    public ConstraintChecker createConstraintChecker(CompleteTestModel testModel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ConstraintChecker createConstraintCheckerWithNegation(CompleteTestModel testModel, TupleList toBeNegated) {
+        Preconditions.notNull(testModel);
+        Preconditions.check(checkValidIdentifier(testModel, toBeNegated.getId()));
+
+        final int threshold = SoftConstraintCheckerFactory.computeThreshold(testModel, toBeNegated);
+
+        if (threshold == 0) {
+            return PooledHardConstraintCheckerFactory.createPooledConstraintChecker(
+                    testModel,
+                    testModel.getExclusionConstraints(),
+                    errorConstraintsWithNegation(testModel, toBeNegated));
+        } else {
+            final List<Constraint> hardConstraints = new ArrayList<>();
+            hardConstraints.add(negateConstraint(findErrorConstraintToBeNegated(testModel, toBeNegated)));
+
+            final List<Constraint> softConstraints = filterErrorConstraintToBeNegated(testModel, toBeNegated);
+            softConstraints.addAll(testModel.getExclusionConstraints());
+
+            Preconditions.check(threshold <= softConstraints.size());
+
+            return new PooledConstraintChecker(
+                    testModel.getNumberOfParameters(),
+                    () -> SoftConstraintChecker.createModel(testModel, hardConstraints, softConstraints, threshold));
+        }
+    }
+}
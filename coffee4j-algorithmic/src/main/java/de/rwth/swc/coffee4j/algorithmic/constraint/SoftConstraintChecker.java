@@ -8,6 +8,8 @@ import org.chocosolver.solver.variables.IntVar;
 import java.util.Arrays;
 import java.util.Collection;
 
+import static de.rwth.swc.coffee4j.algorithmic.util.ChocoUtil.createVariables;
+
 class SoftConstraintChecker extends ModelBasedConstraintChecker {
 
     SoftConstraintChecker(CompleteTestModel testModel,
@@ -19,29 +21,20 @@ class SoftConstraintChecker extends ModelBasedConstraintChecker {
         Preconditions.check(0 <= threshold && threshold <= softConstraints.size());
     }
 
-    private static Model createModel(CompleteTestModel testModel,
-                                     Collection<Constraint> hardConstraints,
-                                     Collection<Constraint> softConstraints,
-                                     int threshold) {
+    static Model createModel(CompleteTestModel testModel,
+                             Collection<Constraint> hardConstraints,
+                             Collection<Constraint> softConstraints,
+                             int threshold) {
         final Model model = new Model();
         model.getSettings().setCheckDeclaredConstraints(false);
 
-        createVariables(testModel, model);
+        createVariables(model, testModel.getParameterSizes());
         createHardConstraints(hardConstraints, model);
         createSoftConstraints(softConstraints, threshold, model);
 
         return model;
     }
 
-    private static void createVariables(CompleteTestModel testModel, Model model) {
-        for (int i = 0; i < testModel.getNumberOfParameters(); i++) {
-            int parameterSize = testModel.getParameterSizes()[i];
-            String key = String.valueOf(i);
-
-            model.intVar(key, 0, parameterSize - 1);
-        }
-    }
-
     private static void createHardConstraints(Collection<Constraint> hardConstraints,
                                               Model model) {
         for (Constraint constraint : hardConstraints) {
@@ -43,7 +43,7 @@ public class SoftConstraintCheckerFactory implements ConstraintCheckerFactory {
         }
     }
 
-    private int computeThreshold(CompleteTestModel testModel, TupleList toBeNegated) {
+    static int computeThreshold(CompleteTestModel testModel, TupleList toBeNegated) {
         final InternalConflictDiagnosisManager diagnostician = new InternalConflictDiagnosisManager();
         final List<InternalMissingInvalidTuple> missingInvalidTuples = diagnostician.diagnose(testModel, toBeNegated);
 
@@ -1,20 +1,21 @@
 package de.rwth.swc.coffee4j.algorithmic.interleaving;
 
 import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
-import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
-import de.rwth.swc.coffee4j.algorithmic.util.Combinator;
+import de.rwth.swc.coffee4j.algorithmic.util.BitSetCoverageMap;
 import de.rwth.swc.coffee4j.algorithmic.util.ParameterValuePair;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import it.unimi.dsi.fastutil.ints.*;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Coverage Map storing all uncovered t-tuples.
+ * <p>
+ * The tuples are stored in a {@link BitSetCoverageMap}, so copies share the coverage data until one of them changes.
  */
 public class CoverageMap {
-    private final Set<int[]> uncoveredCombinations;
+    private final BitSetCoverageMap uncoveredCombinations;
+    private final int[] parameterSizes;
     private final ConstraintChecker checker;
     private final int numberOfParameters;
     private final Set<IntList> passingTestInputs;
@@ -31,10 +32,9 @@ public class CoverageMap {
 
         this.checker = Preconditions.notNull(checker);
 
-        this.uncoveredCombinations = Combinator.computeCombinations(parameterSizes, strength)
-                .stream()
-                .filter(checker::isValid)
-                .collect(Collectors.toSet());
+        this.uncoveredCombinations = BitSetCoverageMap.allCombinations(parameterSizes, strength);
+        this.uncoveredCombinations.removeCombinationsIf(combination -> !checker.isValid(combination));
+        this.parameterSizes = Arrays.copyOf(parameterSizes, parameterSizes.length);
 
         numberOfParameters = parameterSizes.length;
 
@@ -50,7 +50,9 @@ public class CoverageMap {
      * @param checker Constraint checker used to remove invalid t-tuples.
      */
     public CoverageMap(CoverageMap coverageMap, ConstraintChecker checker) {
-        this.uncoveredCombinations = new HashSet<>(coverageMap.uncoveredCombinations);
+        this.uncoveredCombinations = coverageMap.uncoveredCombinations.copy();
+        this.parameterSizes = coverageMap.parameterSizes;
+        this.parameters.addAll(coverageMap.parameters);
         this.numberOfParameters = coverageMap.numberOfParameters;
         this.passingTestInputs = new HashSet<>(coverageMap.passingTestInputs);
         this.checker = checker;
@@ -64,7 +66,7 @@ public class CoverageMap {
      * @return true iff all valid t-tuples are covered
      */
     public boolean allCombinationsCovered() {
-        return uncoveredCombinations.isEmpty();
+        return !uncoveredCombinations.hasUncoveredCombinations();
     }
 
     /**
@@ -73,7 +75,7 @@ public class CoverageMap {
      */
     public void updateCoverage(int[] testInput) {
         passingTestInputs.add(new IntArrayList(testInput));
-        uncoveredCombinations.removeIf(combination -> CombinationUtil.contains(testInput, combination));
+        uncoveredCombinations.markAsCovered(testInput);
     }
 
     /**
@@ -81,7 +83,7 @@ public class CoverageMap {
      * to {@link #checker}
      */
     public void updateCoverage() {
-        uncoveredCombinations.removeIf(combination -> !checker.isValid(combination));
+        uncoveredCombinations.removeCombinationsIf(combination -> !checker.isValid(combination));
     }
 
     /**
@@ -90,53 +92,48 @@ public class CoverageMap {
      */
     public long getNumberOfCoveredCombinationsByTestInput(int[] testInput) {
         // numberOfSetValues(testInput) >= testing strength
-        long numberOfCombinationsCoveredByTestInput = uncoveredCombinations
-                .stream()
-                .filter(combination -> CombinationUtil.contains(testInput, combination))
-                .count();
+        long numberOfCombinationsCoveredByTestInput = uncoveredCombinations.getNumberOfContainedCombinations(testInput);
 
         // numberOfSetValues(testInput) < testing strength
-        long numberOfCombinationsContainingPartialTestInput = uncoveredCombinations
-                .stream()
-                .filter(combination -> (numberOfSetValues(testInput) < numberOfSetValues(combination))
-                    && CombinationUtil.contains(combination, testInput))
-                .count();
+        long numberOfCombinationsContainingPartialTestInput
+                = uncoveredCombinations.getNumberOfExtendingCombinations(testInput);
 
         return numberOfCombinationsContainingPartialTestInput + numberOfCombinationsCoveredByTestInput;
     }
 
-    private int numberOfSetValues(int[] testInput) {
-        return (int) Arrays.stream(testInput).filter(value -> value != -1).count();
+    /**
+     * @param forbiddenPairs parameter-value paris to be excluded from search of optimal pair
+     * @return parameter-value pair covering most uncovered t-tuples
+     */
+    public ParameterValuePair getParameterValuePairCoveringMostCombinations(Set<ParameterValuePair> forbiddenPairs) {
+        return getParameterValuePairCoveringMostCombinations(forbiddenPairs, new Random());
     }
 
     /**
      * @param forbiddenPairs parameter-value paris to be excluded from search of optimal pair
+     * @param random used to break ties between pairs covering the same number of t-tuples
      * @return parameter-value pair covering most uncovered t-tuples
      */
-    public ParameterValuePair getParameterValuePairCoveringMostCombinations(Set<ParameterValuePair> forbiddenPairs) {
+    public ParameterValuePair getParameterValuePairCoveringMostCombinations(Set<ParameterValuePair> forbiddenPairs, Random random) {
         int optimalParameter = -1;
         int optimalValue = -1;
         long maximumNumberOfCoveredCombinations = 0;
 
         IntList randomOrderParameters = new IntArrayList(parameters);
-        Collections.shuffle(randomOrderParameters);
+        Collections.shuffle(randomOrderParameters, random);
 
         for (int parameter : randomOrderParameters) {
-            Int2IntMap parameterValueCoverageCount = new Int2IntArrayMap();
-
-            for (int[] combination : uncoveredCombinations) {
-                if (combination[parameter] != -1 && !forbiddenPairs.contains(new ParameterValuePair(parameter, combination[parameter]))) {
-                    parameterValueCoverageCount.put(combination[parameter], parameterValueCoverageCount.getOrDefault(combination[parameter], 0) + 1);
+            for (int value = 0; value < parameterSizes[parameter]; value++) {
+                final int numberOfCoveredCombinations
+                        = uncoveredCombinations.getNumberOfUncoveredCombinations(parameter, value);
+
+                if (numberOfCoveredCombinations > maximumNumberOfCoveredCombinations
+                        && !forbiddenPairs.contains(new ParameterValuePair(parameter, value))) {
+                    optimalParameter = parameter;
+                    optimalValue = value;
+                    maximumNumberOfCoveredCombinations = numberOfCoveredCombinations;
                 }
             }
-
-            Optional<Int2IntMap.Entry> optimalValueForParameter = parameterValueCoverageCount.int2IntEntrySet().stream().max(Comparator.comparing(Int2IntMap.Entry::getIntValue));
-
-            if (optimalValueForParameter.isPresent() && optimalValueForParameter.get().getIntValue() > maximumNumberOfCoveredCombinations) {
-                optimalParameter = parameter;
-                optimalValue = optimalValueForParameter.get().getIntKey();
-                maximumNumberOfCoveredCombinations = optimalValueForParameter.get().getIntValue();
-            }
         }
 
         return new ParameterValuePair(optimalParameter, optimalValue);
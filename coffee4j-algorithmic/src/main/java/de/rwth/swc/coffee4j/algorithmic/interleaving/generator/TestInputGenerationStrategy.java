@@ -4,11 +4,22 @@ import java.util.Optional;
 
 /**
  * Interface that each test input generation strategy used by interleaving CT must implement.
+ * <p>
+ * Strategies may hold resources like thread pools. These are released by {@link #close()}, which is called by the
+ * interleaving managers once the generation of an interleaving group is finished.
  */
-public interface TestInputGenerationStrategy {
+public interface TestInputGenerationStrategy extends AutoCloseable {
     /**
      * @return next test input covering as many uncovered t-tuples as possible. If all tuples are covered, an empty
      * Optional is returned.
      */
     Optional<int[]> generateNextTestInput();
+
+    /**
+     * Releases all resources held by the strategy. The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
 }
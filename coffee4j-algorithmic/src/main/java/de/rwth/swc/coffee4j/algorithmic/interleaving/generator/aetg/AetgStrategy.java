@@ -2,8 +2,6 @@ package de.rwth.swc.coffee4j.algorithmic.interleaving.generator.aetg;
 
 import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
 import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
-import de.rwth.swc.coffee4j.algorithmic.constraint.ForbiddenTuplesChecker;
-import de.rwth.swc.coffee4j.algorithmic.constraint.MinimalForbiddenTuplesChecker;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.CoverageMap;
 import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
 import de.rwth.swc.coffee4j.algorithmic.util.ParameterValuePair;
@@ -12,20 +10,28 @@ import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.TestInputGenerati
 import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.TestInputGenerationStrategyFactory;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.util.OptimalValue;
 import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntList;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 /**
  * Implementation of AETGSat ("Constructing Interaction Test Suites for Highly-Configurable Systems in the Presence
  * of Constraints: A Greedy Approach").
+ * <p>
+ * The candidate test inputs are built and scored in parallel by a bounded pool of daemon threads. The pool is created
+ * on first use, reused for all following test inputs and shut down by {@link #close()}. All candidates of one test
+ * input work on the same snapshot of the coverage map, and each candidate uses its own {@link Random} derived from
+ * the seed of the strategy. Therefore, a strategy created with {@link #aetgStrategy(long)} always generates the same
+ * test inputs for the same sequence of coverage updates.
  */
 public class AetgStrategy implements TestInputGenerationStrategy {
     
@@ -42,12 +48,17 @@ public class AetgStrategy implements TestInputGenerationStrategy {
 
     // List of all parameters
     private final IntList parameters;
-    private final Random seed = ThreadLocalRandom.current();
+    private final Random random;
+    private final int parallelism;
 
-    private AetgStrategy(TestInputGenerationConfiguration configuration) {
+    private ExecutorService candidateBuilderService;
+
+    private AetgStrategy(TestInputGenerationConfiguration configuration, Random random, int parallelism) {
         this.coverageMap = configuration.getCoverageMap();
         this.checker = configuration.getConstraintChecker();
         this.testModel = configuration.getTestModel();
+        this.random = random;
+        this.parallelism = parallelism;
 
         numberOfParameters = testModel.getNumberOfParameters();
         numberOfParameterValuePairs = Arrays.stream(testModel.getParameterSizes()).reduce(Integer::sum).orElse(0);
@@ -60,7 +71,30 @@ public class AetgStrategy implements TestInputGenerationStrategy {
      * @return Factory creating AETG-Strategy
      */
     public static TestInputGenerationStrategyFactory aetgStrategy() {
-        return AetgStrategy::new;
+        return configuration -> new AetgStrategy(configuration, new Random(), defaultParallelism());
+    }
+
+    /**
+     * @param seed seed for all random decisions, so that the generated test inputs are reproducible
+     * @return Factory creating AETG-Strategy
+     */
+    public static TestInputGenerationStrategyFactory aetgStrategy(long seed) {
+        return aetgStrategy(seed, defaultParallelism());
+    }
+
+    /**
+     * @param seed seed for all random decisions, so that the generated test inputs are reproducible
+     * @param parallelism maximum number of threads building candidate test inputs. Must be positive
+     * @return Factory creating AETG-Strategy
+     */
+    public static TestInputGenerationStrategyFactory aetgStrategy(long seed, int parallelism) {
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
+
+        return configuration -> new AetgStrategy(configuration, new Random(seed), parallelism);
+    }
+
+    private static int defaultParallelism() {
+        return Math.min(Runtime.getRuntime().availableProcessors(), NUMBER_OF_DIFFERENT_TEST_INPUTS);
     }
 
     @Override
@@ -70,41 +104,81 @@ public class AetgStrategy implements TestInputGenerationStrategy {
             return Optional.empty();
         }
 
-        List<int[]> candidateTestInputs = new ArrayList<>(NUMBER_OF_DIFFERENT_TEST_INPUTS);
-        ConstraintChecker tempChecker = new MinimalForbiddenTuplesChecker((ForbiddenTuplesChecker) this.checker);
-        CoverageMap tempCoverageMap = new CoverageMap(this.coverageMap, tempChecker);
-
-        ExecutorService candidateBuilderService = Executors.newCachedThreadPool();
+        // copies share the coverage data, so taking a snapshot is cheap. It isolates the candidates from
+        // concurrent updates of the coverage map
+        final CoverageMap snapshot = new CoverageMap(coverageMap, checker);
+        final List<Callable<ScoredCandidate>> tasks = new ArrayList<>(NUMBER_OF_DIFFERENT_TEST_INPUTS);
 
         // create numberOfDifferentTestInputs candidate test inputs
         // afterwards, choose test input that covers the most uncovered t-tuples (if any exists)
         for (int iteration = 0; iteration < NUMBER_OF_DIFFERENT_TEST_INPUTS; iteration++) {
-            Runnable task = () -> {
-                Optional<int[]> possibleTestInput = generatePossibleTestInput();
-                possibleTestInput.ifPresent(candidateTestInputs::add);
-            };
+            final Random candidateRandom = new Random(random.nextLong());
+
+            tasks.add(() -> generatePossibleTestInput(snapshot, candidateRandom)
+                    .map(testInput -> new ScoredCandidate(testInput,
+                            snapshot.getNumberOfCoveredCombinationsByTestInput(testInput)))
+                    .orElse(null));
+        }
+
+        ScoredCandidate bestCandidate = null;
+
+        // futures are returned in the order of the tasks, and ties are resolved in favour of the first candidate
+        for (Future<ScoredCandidate> future : invokeAll(tasks)) {
+            final ScoredCandidate candidate = getResult(future);
+
+            if (candidate != null && (bestCandidate == null || candidate.score > bestCandidate.score)) {
+                bestCandidate = candidate;
+            }
+        }
 
-            candidateBuilderService.execute(task);
+        return Optional.ofNullable(bestCandidate).map(candidate -> candidate.testInput);
+    }
+
+    private List<Future<ScoredCandidate>> invokeAll(List<Callable<ScoredCandidate>> tasks) {
+        try {
+            return getCandidateBuilderService().invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Coffee4JException(e, "Interrupted while creating candidate test inputs!");
         }
+    }
 
-        candidateBuilderService.shutdown();
+    private static ScoredCandidate getResult(Future<ScoredCandidate> future) {
         try {
-            candidateBuilderService.awaitTermination(30, TimeUnit.MINUTES);
+            return future.get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new Coffee4JException(e, "Creating candidate test inputs took too long!");
+            throw new Coffee4JException(e, "Interrupted while creating candidate test inputs!");
+        } catch (ExecutionException e) {
+            throw new Coffee4JException(e.getCause(), "Could not create candidate test input!");
         }
+    }
 
-        if (candidateTestInputs.isEmpty()) {
-            return Optional.empty();
-        } else if (candidateTestInputs.size() == 1) {
-            return Optional.of(candidateTestInputs.get(0));
-        } else {
-            return Optional.of(Collections.max(candidateTestInputs, Comparator.comparing(tempCoverageMap::getNumberOfCoveredCombinationsByTestInput)));
+    private synchronized ExecutorService getCandidateBuilderService() {
+        if (candidateBuilderService == null) {
+            candidateBuilderService = Executors.newFixedThreadPool(parallelism, runnable -> {
+                final Thread thread = new Thread(runnable, "coffee4j-aetg-candidate-builder");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return candidateBuilderService;
+    }
+
+    /**
+     * Shuts down the threads building candidate test inputs. If another test input is requested afterwards, new
+     * threads are started.
+     */
+    @Override
+    public synchronized void close() {
+        if (candidateBuilderService != null) {
+            candidateBuilderService.shutdownNow();
+            candidateBuilderService = null;
         }
     }
 
-    private Optional<int[]> generatePossibleTestInput() {
+    private Optional<int[]> generatePossibleTestInput(CoverageMap coverageMap, Random random) {
         final IntList tempParameters = new IntArrayList(this.parameters);
 
         int[] testInput = CombinationUtil.emptyCombination(numberOfParameters);
@@ -119,7 +193,7 @@ public class AetgStrategy implements TestInputGenerationStrategy {
             }
 
             // select first valid parameter-value-pair contained in most uncovered t-tuples
-            firstParameterValuePair = getFirstParameterAndValue(forbiddenPairs);
+            firstParameterValuePair = coverageMap.getParameterValuePairCoveringMostCombinations(forbiddenPairs, random);
             isSatisfying = checker.isExtensionValid(testInput, firstParameterValuePair.getParameter(), firstParameterValuePair.getValue());
 
             if (!isSatisfying) {
@@ -129,7 +203,7 @@ public class AetgStrategy implements TestInputGenerationStrategy {
 
         testInput[firstParameterValuePair.getParameter()] = firstParameterValuePair.getValue();
 
-        Collections.shuffle(tempParameters, seed);
+        Collections.shuffle(tempParameters, random);
 
         OptimalValue optimalValueFinder = new OptimalValue();
 
@@ -137,7 +211,7 @@ public class AetgStrategy implements TestInputGenerationStrategy {
         for (int parameter : tempParameters) {
             if (testInput[parameter] == -1) {
                 // search for a value for the given parameter and partial test input to maximize number of covered t-tuples
-                Optional<ParameterValuePair>  optimalValue = optimalValueFinder.forParameter(parameter, testModel.getParameterSize(parameter), new IntArraySet(), testInput, coverageMap, checker);
+                Optional<ParameterValuePair>  optimalValue = optimalValueFinder.forParameter(parameter, testModel.getParameterSize(parameter), new IntArraySet(), testInput, coverageMap, checker, random);
 
                 // no valid value for given parameter and partial test input available
                 if (!optimalValue.isPresent()) {
@@ -151,12 +225,19 @@ public class AetgStrategy implements TestInputGenerationStrategy {
         return Optional.of(testInput);
     }
 
-    private ParameterValuePair getFirstParameterAndValue(Set<ParameterValuePair> forbiddenPairs) {
-        return coverageMap.getParameterValuePairCoveringMostCombinations(forbiddenPairs);
-    }
-
     @Override
     public String toString() {
         return "AetgStrategy";
     }
+
+    private static final class ScoredCandidate {
+
+        private final int[] testInput;
+        private final long score;
+
+        private ScoredCandidate(int[] testInput, long score) {
+            this.testInput = testInput;
+            this.score = score;
+        }
+    }
 }
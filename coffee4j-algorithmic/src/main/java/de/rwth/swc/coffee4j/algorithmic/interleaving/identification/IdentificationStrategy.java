@@ -8,8 +8,11 @@ import java.util.Optional;
 
 /**
  * Interface that each identification strategy used by interleaving CT must implement.
+ * <p>
+ * Strategies may hold resources like thread pools. These are released by {@link #close()}, which is called by the
+ * interleaving managers once an identification is finished.
  */
-public interface IdentificationStrategy {
+public interface IdentificationStrategy extends AutoCloseable {
     /**
      * @param failingTestInput test input to start the identification of exception/failure-inducing combinations for
      * @param result {@link TestResult} of the failing test case containing information needed to decide whether it is
@@ -42,4 +45,12 @@ public interface IdentificationStrategy {
      * @return identified combinations together with their type -- exception- or failure-inducing
      */
     Map<IntList, CombinationType> getIdentifiedCombinations();
+
+    /**
+     * Releases all resources held by the strategy. The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
 }
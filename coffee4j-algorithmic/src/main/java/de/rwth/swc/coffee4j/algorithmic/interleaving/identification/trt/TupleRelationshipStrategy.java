@@ -13,13 +13,15 @@ import de.rwth.swc.coffee4j.algorithmic.interleaving.identification.Identificati
 import de.rwth.swc.coffee4j.algorithmic.interleaving.identification.IdentificationStrategyFactory;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.util.OptimalValue;
 import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.IntStream;
 
 import static org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficient;
@@ -34,6 +36,13 @@ import static org.apache.commons.math3.util.CombinatoricsUtils.binomialCoefficie
  *    tuple is faulty and that the failing of the test case is not caused by a new failure. The higher this value,
  *    the higher the probability that the selected tuple is really faulty.
  * </p>
+ * <p>
+ *    The tree is stored in a single {@link TupleRelationshipTree} which is reset for each processed test input.
+ *    For models with more than MAXIMUM_NUMBER_OF_PARAMETERS_FOR_FULL_TREE parameters, a reduced tree is used. The
+ *    search for unknown paths processes the sub-trees of the root in parallel. It runs in a {@link ForkJoinPool}
+ *    owned by the strategy, so that no work is forked into the pool of the calling thread. The pool is created on
+ *    first use and shut down by {@link #close()}.
+ * </p>
  */
 public class TupleRelationshipStrategy implements IdentificationStrategy {
     
@@ -41,20 +50,16 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
     final ConstraintChecker checker;
     final CompleteTestModel testModel;
 
-    // root node of tuple relationship tree for currently processed failing or exceptional-passing test input
-    TupleNode root = null;
+    // tuple relationship tree for currently processed failing or exceptional-passing test input
+    final TupleRelationshipTree trt;
 
     // stores all test input that passed in the normal control-flow
     private final Set<IntList> passingTestInputs = new HashSet<>();
     protected int[] currentlyProcessedTestInput;
     private TestResult resultOfCurrentlyProcessedTestInput;
 
-    private TupleNode templateTRT;
-    private final List<Set<TupleNode>> templateNodes = new ArrayList<>();
-    private final ExecutorService trtBuildExecutorService = Executors.newCachedThreadPool();
-
-    TupleNode currentlySelectedNode;
-    List<TupleNode> currentlySelectedLongestPath;
+    int currentlySelectedNode = TupleRelationshipTree.NO_NODE;
+    IntList currentlySelectedLongestPath;
     int head = 0;
     int middle = 0;
     int tail = 0;
@@ -62,7 +67,7 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
     // List of all parameters
     final IntList parameters;
 
-    private List<TupleNode> tempPath;
+    private IntList tempPath;
 
     // used for the augmented version of the strategy to reduce effect of safe value assumption
     private static final int MAXIMUM_NUMBER_OF_ITERATIONS = 50;
@@ -74,24 +79,31 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
 
     List<Throwable> exceptionsTriggeredByCurrentlySelectedNode;
 
-    private boolean maximumPathFound;
+    private volatile boolean maximumPathFound;
     private static final int MAXIMUM_NUMBER_OF_PARAMETERS_FOR_FULL_TREE = 14;
-    private boolean firstRound = true;
+
+    private final int parallelism;
+    private ForkJoinPool pathSearchPool;
 
     TupleRelationshipStrategy(IdentificationConfiguration configuration) {
+        this(configuration, defaultParallelism());
+    }
+
+    TupleRelationshipStrategy(IdentificationConfiguration configuration, int parallelism) {
         this.coverageMap = configuration.getCoverageMap();
         this.checker = configuration.getConstraintChecker();
         this.testModel = configuration.getTestModel();
+        this.parallelism = parallelism;
 
         numberOfParameters = testModel.getNumberOfParameters();
 
         parameters = new IntArrayList(numberOfParameters);
         IntStream.range(0, numberOfParameters).forEach(parameters::add);
 
-        buildTemplateTree();
+        trt = buildTree();
     }
 
-    private void buildTemplateTree() {
+    private TupleRelationshipTree buildTree() {
         int size = numberOfParameters;
 
         // check whether to use reduced tree or not
@@ -104,14 +116,7 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
             }
         }
 
-        int finalSize = size;
-
-        // start creation of tree in a separate thread
-        Runnable task = () ->
-                templateTRT = TreeBuilder.createTree(finalSize, numberOfParameters, templateNodes);
-
-        trtBuildExecutorService.execute(task);
-        trtBuildExecutorService.shutdown();
+        return new TupleRelationshipTree(size, numberOfParameters);
     }
 
     /**
@@ -121,6 +126,20 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
         return TupleRelationshipStrategy::new;
     }
 
+    /**
+     * @param parallelism maximum number of threads searching for unknown paths. Must be positive
+     * @return factory creating Tuple-Relationship-Strategy
+     */
+    public static IdentificationStrategyFactory tupleRelationshipStrategy(int parallelism) {
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
+
+        return configuration -> new TupleRelationshipStrategy(configuration, parallelism);
+    }
+
+    private static int defaultParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
     @Override
     public Optional<int[]> startIdentification(int[] testInput, TestResult result) {
         if (!result.getResultValue().isPresent()) {
@@ -132,11 +151,11 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
         resultOfCurrentlyProcessedTestInput = result;
 
         possiblyInducingCombinations.clear();
-        currentlySelectedNode = null;
+        currentlySelectedNode = TupleRelationshipTree.NO_NODE;
         passingTestInputs.addAll(coverageMap.getPassingTestInputs());
 
         // build trt of currently processed failing test input
-        root = buildTupleRelationshipTree(result);
+        buildTupleRelationshipTree(result);
 
         alreadyExecutedTests.clear();
         alreadyExecutedTests.add(currentlyProcessedTestInput);
@@ -144,11 +163,11 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
         chooseTupleFromCurrentTRT();
 
         // root node is minimal faulty tuple
-        if (currentlySelectedNode == null) {
+        if (currentlySelectedNode == TupleRelationshipTree.NO_NODE) {
             return Optional.empty();
         }
 
-        return generateNextTestInputContainingTuple(currentlySelectedNode.getCombination(currentlyProcessedTestInput), alreadyExecutedTests);
+        return generateNextTestInputContainingTuple(trt.getCombination(currentlySelectedNode, currentlyProcessedTestInput), alreadyExecutedTests);
     }
 
     /**
@@ -210,17 +229,17 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
      */
     void chooseTupleFromCurrentTRT() {
         // first iteration in identification or longest path processed
-        if (currentlySelectedNode == null || tail < head || (currentlySelectedLongestPath.size() == 1 && !currentlySelectedLongestPath.get(0).isUnknown())) {
+        if (currentlySelectedNode == TupleRelationshipTree.NO_NODE || tail < head || (currentlySelectedLongestPath.size() == 1 && !trt.isUnknown(currentlySelectedLongestPath.getInt(0)))) {
             currentlySelectedLongestPath = getLongestPath();
 
             head = middle = 0;
             tail = currentlySelectedLongestPath.size() - 1;
         }
 
-        if (currentlySelectedNode != null) {
-            if (currentlySelectedNode.isHealthy()) {
+        if (currentlySelectedNode != TupleRelationshipTree.NO_NODE) {
+            if (trt.isHealthy(currentlySelectedNode)) {
                 tail = middle - 1;
-            } else if (currentlySelectedNode.isFaulty() || currentlySelectedNode.isExceptionInducingCombination()) {
+            } else if (trt.isFaulty(currentlySelectedNode) || trt.isExceptionInducingCombination(currentlySelectedNode)) {
                 head = middle + 1;
             }
 
@@ -229,125 +248,155 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
         }
 
         if (!currentlySelectedLongestPath.isEmpty()) {
-            currentlySelectedNode = currentlySelectedLongestPath.get(middle);
+            currentlySelectedNode = currentlySelectedLongestPath.getInt(middle);
             exceptionsTriggeredByCurrentlySelectedNode = new ArrayList<>();
         } else {
             // no unknown path available -> all tuples are failing or passing
             // -> possibly failure- or exception-inducing combinations can be returned
-            currentlySelectedNode = null;
+            currentlySelectedNode = TupleRelationshipTree.NO_NODE;
         }
     }
 
     /**
-     * @return longest unknown path from currently processed tuple relationship tree ({@link #root}).
+     * @return longest unknown path from currently processed tuple relationship tree ({@link #trt}).
      * If no path is available, the TRT is processed and an empty path is returned.
      */
-    List<TupleNode> getLongestPath() {
-        tempPath = new ArrayList<>();
+    IntList getLongestPath() {
+        tempPath = new IntArrayList();
         possiblyInducingCombinations.clear();
 
         maximumPathFound = false;
 
-        try {
-            computeUnknownPaths();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new Coffee4JException(e, "Took too long to compute unknown paths!");
-        }
+        computeUnknownPaths();
+
         return tempPath;
     }
 
     /**
-     * searches for unknown paths. For every child-node of the {@link #root} of the current TRT, a new thread is started
-     * searching for the longest unknown path starting from this child. When all threads are finished, the longest path
-     * from all paths returned by the threads is used.
+     * searches for unknown paths. For every child-node of the root of the current TRT, a new task is forked
+     * searching for the longest unknown path starting from this child. When all tasks are finished, the longest path
+     * from all paths returned by the tasks is used. If multiple paths are equally long, the first one is used.
      *
      * This function also collects all possibly minimal failure- or exception-inducing combinations
      * (failing / exceptional-passing tuples whose children are all passing). If no unknown paths are found,
      * the possibly failure-/exception-inducing combinations can be directly returned.
      * If this is the case, the new longest unknown path is set to an empty path.
-     *
-     * @throws InterruptedException thrown if a thread takes too long to finish searching for an unknown path.
      */
-    void computeUnknownPaths() throws InterruptedException {
+    void computeUnknownPaths() {
         // collects all possible fics that are encountered during search
-        Set<TupleNode> collectedInducingCombinations = new HashSet<>();
-        // stores the longest path for each thread (unknown path starting from a child of the root node)
-        Set<List<TupleNode>> longestPaths = new HashSet<>();
-        ExecutorService executorService = Executors.newCachedThreadPool();
+        Set<Integer> collectedInducingCombinations = ConcurrentHashMap.newKeySet();
 
-        if (root.isMinimalInducingTuple()) {
-            collectedInducingCombinations.add(root);
+        if (trt.isMinimalInducingTuple(trt.getRoot())) {
+            collectedInducingCombinations.add(trt.getRoot());
         }
 
-        for (TupleNode child : root.getChildren()) {
-            List<TupleNode> path = new ArrayList<>();
+        tempPath = getPathSearchPool().invoke(new UnknownPathSearch(collectedInducingCombinations));
 
-            if (child.isUnknown()) {
-                path.add(child);
-            } else if ((child.isFaulty() || child.isExceptionInducingCombination()) && child.isMinimalInducingTuple()) {
-                // child is possibly minimal failure- or exception-inducing
-                collectedInducingCombinations.add(child);
-            }
+        if (tempPath.isEmpty() && !collectedInducingCombinations.isEmpty()) {
+            collectedInducingCombinations.forEach(fic -> possiblyInducingCombinations.put(new IntArrayList(trt.getCombination(fic, currentlyProcessedTestInput)), trt.isExceptionInducingCombination(fic) ? CombinationType.EXCEPTION_INDUCING : CombinationType.FAILURE_INDUCING));
+        }
+    }
 
-            if (child.hasChildren()) {
-                Runnable task = () -> {
-                    List<TupleNode> longestPath = new ArrayList<>();
-                    computePathsRecursively(path, child, longestPath, collectedInducingCombinations);
-                    // add longest path starting from child or one of its children
-                    longestPaths.add(longestPath);
-                };
+    private synchronized ForkJoinPool getPathSearchPool() {
+        if (pathSearchPool == null) {
+            pathSearchPool = new ForkJoinPool(parallelism);
+        }
 
-                executorService.execute(task);
-            } else if (!path.isEmpty()) {
-                longestPaths.add(path);
-            }
+        return pathSearchPool;
+    }
+
+    /**
+     * Shuts down the threads searching for unknown paths. If another path is searched afterwards, new threads are
+     * started.
+     */
+    @Override
+    public synchronized void close() {
+        if (pathSearchPool != null) {
+            pathSearchPool.shutdownNow();
+            pathSearchPool = null;
         }
+    }
 
-        executorService.shutdown();
-        executorService.awaitTermination(5, TimeUnit.MINUTES);
+    /**
+     * Searches the longest unknown path starting from any child of the root. The sub-tree of each child is
+     * searched by a separate task which is forked into the pool of the strategy.
+     */
+    private final class UnknownPathSearch extends RecursiveTask<IntList> {
 
-        while(!executorService.isTerminated());
+        private final Set<Integer> collectedInducingCombinations;
 
-        if (!longestPaths.isEmpty()) {
-            tempPath = longestPaths.stream().max(Comparator.comparing(List::size)).orElse(new ArrayList<>());
-        } else {
-            tempPath = new ArrayList<>();
+        private UnknownPathSearch(Set<Integer> collectedInducingCombinations) {
+            this.collectedInducingCombinations = collectedInducingCombinations;
         }
 
-        if (tempPath.isEmpty() && !collectedInducingCombinations.isEmpty()) {
-            collectedInducingCombinations.forEach(fic -> possiblyInducingCombinations.put(new IntArrayList(fic.getCombination(currentlyProcessedTestInput)), fic.isExceptionInducingCombination() ? CombinationType.EXCEPTION_INDUCING : CombinationType.FAILURE_INDUCING));
+        @Override
+        protected IntList compute() {
+            // stores the longest path for each task (unknown path starting from a child of the root node)
+            List<ForkJoinTask<IntList>> searches = new ArrayList<>();
+            IntList longestPath = new IntArrayList();
+
+            for (int child : trt.getChildren(trt.getRoot())) {
+                IntList path = new IntArrayList();
+
+                if (trt.isUnknown(child)) {
+                    path.add(child);
+                } else if (trt.isMinimalInducingTuple(child)) {
+                    // child is possibly minimal failure- or exception-inducing
+                    collectedInducingCombinations.add(child);
+                }
+
+                if (trt.hasChildren(child)) {
+                    searches.add(ForkJoinTask.adapt(() -> {
+                        IntList longestPathOfChild = new IntArrayList();
+                        computePathsRecursively(path, child, longestPathOfChild, collectedInducingCombinations);
+                        // add longest path starting from child or one of its children
+                        return longestPathOfChild;
+                    }).fork());
+                } else if (path.size() > longestPath.size()) {
+                    longestPath = path;
+                }
+            }
+
+            for (ForkJoinTask<IntList> search : searches) {
+                IntList path = search.join();
+
+                if (path.size() > longestPath.size()) {
+                    longestPath = path;
+                }
+            }
+
+            return longestPath;
         }
     }
 
-    private void computePathsRecursively(List<TupleNode> list, TupleNode node, List<TupleNode> longestPath, Set<TupleNode> collectedInducingCombinations) {
+    private void computePathsRecursively(IntList list, int node, IntList longestPath, Set<Integer> collectedInducingCombinations) {
         if (maximumPathFound) {
             return;
         }
         // no children -> check whether path is a better solution or not
-        if (!node.hasChildren()) {
+        if (!trt.hasChildren(node)) {
             if (list.size() > longestPath.size()) {
                 longestPath.clear();
                 longestPath.addAll(list);
 
-                if (list.size() == templateNodes.size() - 1) {
+                if (list.size() == trt.getNumberOfLevels() - 1) {
                     maximumPathFound = true;
                     return;
                 }
             }
 
-            if (node.isMinimalInducingTuple()) {
+            if (trt.isMinimalInducingTuple(node)) {
                 collectedInducingCombinations.add(node);
             }
         } else {
-            for (TupleNode child : node.getChildren()) {
+            for (int child : trt.getChildren(node)) {
                 if (maximumPathFound) {
                     return;
                 }
 
                 // child unknown -> add to current path
-                if (child.isUnknown()) {
-                    List<TupleNode> path = new ArrayList<>(list);
+                if (trt.isUnknown(child)) {
+                    IntList path = new IntArrayList(list);
                     path.add(child);
                     computePathsRecursively(path, child, longestPath, collectedInducingCombinations);
                 } else {
@@ -356,18 +405,18 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
                         longestPath.clear();
                         longestPath.addAll(list);
 
-                        if (list.size() == templateNodes.size() - 1) {
+                        if (list.size() == trt.getNumberOfLevels() - 1) {
                             maximumPathFound = true;
                             return;
                         }
                     }
 
                     // if it is failure- or exception-inducing, there may be unknown paths starting from one of its child nodes
-                    if (child.isFaulty() || child.isExceptionInducingCombination()) {
-                        if (child.isMinimalInducingTuple()) {
+                    if (trt.isFaulty(child) || trt.isExceptionInducingCombination(child)) {
+                        if (trt.isMinimalInducingTuple(child)) {
                             collectedInducingCombinations.add(child);
                         } else {
-                            computePathsRecursively(new ArrayList<>(), child, longestPath, collectedInducingCombinations);
+                            computePathsRecursively(new IntArrayList(), child, longestPath, collectedInducingCombinations);
                         }
                     }
                 }
@@ -376,67 +425,30 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
     }
 
     /**
-     * @param result test result of the root node (processed test input)
+     * resets {@link #trt} such that the processed test input (containing failure- or exception-inducing
+     * combinations) is its root node and all tuples contained in passing test inputs are healthy.
      *
-     * @return tuple relationship tree with processed test input (containing failure- or exception-inducing combinations)
-     * as root node
+     * @param result test result of the root node (processed test input)
      */
-    TupleNode buildTupleRelationshipTree(TestResult result) {
-        while (!trtBuildExecutorService.isTerminated());
-
-        if (firstRound) {
-            firstRound = false;
-            ExecutorService es = Executors.newCachedThreadPool();
+    void buildTupleRelationshipTree(TestResult result) {
+        trt.reset();
 
-            for (int i = 0; i < templateNodes.size() - 1; i++) {
-                int finalI = i;
-                Runnable collectChildNodes = () ->
-                        templateNodes.get(finalI).forEach(TupleNode::getChildren);
-
-                es.execute(collectChildNodes);
-            }
-
-            for (int i = templateNodes.size() - 1; i > 0; i--) {
-                int finalI = i;
-                Runnable collectParentNodes = () ->
-                        templateNodes.get(finalI).forEach(TupleNode::getParents);
-
-                es.execute(collectParentNodes);
-            }
-
-            es.shutdown();
-        }
-
-        TupleNode trt = new TupleNode(templateTRT);
-
-        updateKnownPassingTuples(templateNodes);
+        updateKnownPassingTuples();
 
         Optional<Throwable> optCause = result.getResultValue();
         if (!optCause.isPresent()) {
             throw new Coffee4JException("Cause for TestResult must not be empty!");
         } else if (optCause.get() instanceof ErrorConstraintException) {
-            trt.setAsExceptionInducingCombination();
+            trt.setStatus(trt.getRoot(), TupleStatus.EXCEPTIONAL_COMBINATION);
         } else {
-            trt.setFaulty();
+            trt.setStatus(trt.getRoot(), TupleStatus.FAULTY);
         }
-
-        return trt;
     }
 
-    void updateKnownPassingTuples(List<Set<TupleNode>> nodes) {
-        // iterate over all tuples of the generated trt and set tuple as healthy if it is contained in a passing test
-        // input
-        for (Set<TupleNode> nodeSet : nodes) {
-            for (TupleNode node : nodeSet) {
-                node.setAsUnknown();
-
-                for (IntList passingTestInput : passingTestInputs) {
-                    if (CombinationUtil.contains(passingTestInput.toIntArray(), node.getCombination(currentlyProcessedTestInput))) {
-                        node.setHealthy();
-                        break;
-                    }
-                }
-            }
+    void updateKnownPassingTuples() {
+        // set all tuples of the trt as healthy if they are contained in a passing test input
+        for (IntList passingTestInput : passingTestInputs) {
+            trt.setHealthyIfContained(currentlyProcessedTestInput, passingTestInput.toIntArray());
         }
     }
 
@@ -451,9 +463,7 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
         if (testResult.isSuccessful()) {
             passingTestInputs.add(new IntArrayList(testInput));
 
-            currentlySelectedNode.setHealthy();
-            if (currentlySelectedNode.hasChildren())
-                currentlySelectedNode.getChildren().forEach(this::updateChildren);
+            trt.setHealthyWithDescendants(currentlySelectedNode);
 
             iteration = 1;
             alreadyExecutedTests.clear();
@@ -465,7 +475,7 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
                 iteration++;
                 alreadyExecutedTests.add(testInput);
                 exceptionsTriggeredByCurrentlySelectedNode.add(testResult.getResultValue().orElseGet(ErrorConstraintException::new));
-                return generateNextTestInputContainingTuple(currentlySelectedNode.getCombination(currentlyProcessedTestInput), alreadyExecutedTests);
+                return generateNextTestInputContainingTuple(trt.getCombination(currentlySelectedNode, currentlyProcessedTestInput), alreadyExecutedTests);
             // currently processed tuple is most likely failure- ore exception-inducing
             } else {
                 long errorExceptions = exceptionsTriggeredByCurrentlySelectedNode.stream().filter(exception -> exception instanceof ErrorConstraintException).count();
@@ -473,15 +483,12 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
                 TupleStatus status;
 
                 if (errorExceptions > failures) {
-                    currentlySelectedNode.setAsExceptionInducingCombination();
                     status = TupleStatus.EXCEPTIONAL_COMBINATION;
                 } else {
-                    currentlySelectedNode.setFaulty();
                     status = TupleStatus.FAULTY;
                 }
 
-                if (currentlySelectedNode.hasParents())
-                    currentlySelectedNode.getParents().forEach(parent -> updateParents(parent, status));
+                trt.setStatusWithAncestors(currentlySelectedNode, status);
 
                 iteration = 1;
                 alreadyExecutedTests.clear();
@@ -491,44 +498,11 @@ public class TupleRelationshipStrategy implements IdentificationStrategy {
         // there are unknown tuples in tree -> generate next test input
         chooseTupleFromCurrentTRT();
 
-        if (currentlySelectedNode == null)
+        if (currentlySelectedNode == TupleRelationshipTree.NO_NODE)
             return Optional.empty();
 
-        return generateNextTestInputContainingTuple(currentlySelectedNode.getCombination(currentlyProcessedTestInput), alreadyExecutedTests);
-
-    }
-
-    /**
-     * @param node node and all its children are set to healthy
-     */
-    private void updateChildren(TupleNode node) {
-        if (node.isHealthy()) {
-            return;
-        }
-
-        node.setHealthy();
-        if (node.hasChildren())
-            node.getChildren().forEach(this::updateChildren);
-    }
-
-    /**
-     * @param node node and all its parent nodes are set to faulty
-     */
-    private void updateParents(TupleNode node, TupleStatus status) {
-        if(node.getStatus() == status) {
-            return;
-        }
-
-        if (status == TupleStatus.EXCEPTIONAL_COMBINATION) {
-            node.setAsExceptionInducingCombination();
-        } else if (status == TupleStatus.FAULTY) {
-            node.setFaulty();
-        } else {
-            throw new Coffee4JException("status must be FAULTY or EXCEPTIONAL_COMBINATION!");
-        }
+        return generateNextTestInputContainingTuple(trt.getCombination(currentlySelectedNode, currentlyProcessedTestInput), alreadyExecutedTests);
 
-        if (node.hasParents())
-            node.getParents().forEach(parent -> updateParents(parent, status));
     }
 
     @Override
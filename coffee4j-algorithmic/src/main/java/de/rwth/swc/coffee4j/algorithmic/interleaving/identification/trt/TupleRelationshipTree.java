@@ -0,0 +1,454 @@
+package de.rwth.swc.coffee4j.algorithmic.interleaving.identification.trt;
+
+import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.Arrays;
+
+/**
+ * Compact tuple-relationship-tree used by {@link TupleRelationshipStrategy}.
+ * <p>
+ * A node represents a set of parameters, i.e. the sub-combination of the currently processed test input which
+ * contains the values of exactly these parameters. The tree contains the root, which contains all parameters, and
+ * all nodes containing between one and {@link #getMaximumSize()} parameters. The children of a node are all nodes
+ * containing one parameter less, the children of the root are all nodes of the maximum size.
+ * <p>
+ * Nodes are not stored as objects. Instead, each node is identified by an int which is computed from its set of
+ * parameters: the nodes of each size form a contiguous range, and within a range a node is identified by the
+ * colexicographic rank of its set of parameters. The status of all nodes is stored in a single byte array, and the
+ * children and parents of a node are computed from its identifier when needed. Status changes are propagated to all
+ * descendants or ancestors by sweeping over the tree level by level, using one bit set per level as the frontier.
+ */
+final class TupleRelationshipTree {
+
+    static final int NO_NODE = -1;
+
+    private static final TupleStatus[] STATUSES = TupleStatus.values();
+
+    private final int numberOfParameters;
+    private final int maximumSize;
+
+    // binomialCoefficients[n][k] = n choose k for all n <= numberOfParameters and k <= maximumSize + 1
+    private final int[][] binomialCoefficients;
+    // levelOffsets[size] is the identifier of the first node with the given size, levelOffsets[maximumSize + 1]
+    // is the identifier of the root if the root is not contained in the levels
+    private final int[] levelOffsets;
+    private final int root;
+    private final byte[] statuses;
+
+    /**
+     * Creates a new tree in which all nodes are unknown.
+     *
+     * @param size maximum size of sub-combinations the tree must contain. If size is at least numberOfParameters - 1,
+     *             a full tree is created. Otherwise, the root contains all parameters and its children contain size
+     *             parameters
+     * @param numberOfParameters number of parameters in the processed test model. Must be positive
+     */
+    TupleRelationshipTree(int size, int numberOfParameters) {
+        Preconditions.check(numberOfParameters > 0, "numberOfParameters must be positive");
+
+        this.numberOfParameters = numberOfParameters;
+        maximumSize = Math.max(1, Math.min(size, numberOfParameters - 1));
+
+        binomialCoefficients = new int[numberOfParameters + 1][maximumSize + 2];
+        for (int n = 0; n <= numberOfParameters; n++) {
+            binomialCoefficients[n][0] = 1;
+
+            for (int k = 1; k <= Math.min(n, maximumSize + 1); k++) {
+                binomialCoefficients[n][k] = Math.addExact(binomialCoefficients[n - 1][k - 1],
+                        k <= n - 1 ? binomialCoefficients[n - 1][k] : 0);
+            }
+        }
+
+        levelOffsets = new int[maximumSize + 2];
+        for (int levelSize = 1; levelSize <= maximumSize; levelSize++) {
+            levelOffsets[levelSize + 1] = Math.addExact(levelOffsets[levelSize],
+                    binomialCoefficients[numberOfParameters][levelSize]);
+        }
+
+        // with only one parameter the root is the only node of size one
+        root = numberOfParameters > maximumSize ? levelOffsets[maximumSize + 1] : 0;
+        statuses = new byte[root + 1];
+        reset();
+    }
+
+    int getNumberOfParameters() {
+        return numberOfParameters;
+    }
+
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    int getNumberOfNodes() {
+        return statuses.length;
+    }
+
+    /**
+     * @return number of levels in the tree including the level of the root
+     */
+    int getNumberOfLevels() {
+        return root == 0 ? 1 : maximumSize + 1;
+    }
+
+    int getRoot() {
+        return root;
+    }
+
+    /**
+     * Sets the status of all nodes to {@link TupleStatus#UNKNOWN}.
+     */
+    void reset() {
+        Arrays.fill(statuses, (byte) TupleStatus.UNKNOWN.ordinal());
+    }
+
+    TupleStatus getStatus(int node) {
+        return STATUSES[statuses[node]];
+    }
+
+    void setStatus(int node, TupleStatus status) {
+        statuses[node] = (byte) status.ordinal();
+    }
+
+    boolean isUnknown(int node) {
+        return getStatus(node) == TupleStatus.UNKNOWN;
+    }
+
+    boolean isHealthy(int node) {
+        return getStatus(node) == TupleStatus.HEALTHY;
+    }
+
+    boolean isFaulty(int node) {
+        return getStatus(node) == TupleStatus.FAULTY;
+    }
+
+    boolean isExceptionInducingCombination(int node) {
+        return getStatus(node) == TupleStatus.EXCEPTIONAL_COMBINATION;
+    }
+
+    /**
+     * @param node a node of the tree
+     * @return number of parameters contained in the node
+     */
+    int getSize(int node) {
+        if (node == root) {
+            return numberOfParameters;
+        }
+
+        int size = 1;
+        while (node >= levelOffsets[size + 1]) {
+            size++;
+        }
+
+        return size;
+    }
+
+    /**
+     * @param node a node of the tree
+     * @return the parameters contained in the node in ascending order
+     */
+    int[] getParameters(int node) {
+        if (node == root) {
+            int[] parameters = new int[numberOfParameters];
+            Arrays.setAll(parameters, parameter -> parameter);
+
+            return parameters;
+        }
+
+        int size = getSize(node);
+        int rank = node - levelOffsets[size];
+        int[] parameters = new int[size];
+        int candidate = numberOfParameters - 1;
+
+        // the parameter at position i is the largest one whose binomial coefficient does not exceed the remaining rank
+        for (int position = size; position > 0; position--) {
+            while (binomialCoefficients[candidate][position] > rank) {
+                candidate--;
+            }
+
+            parameters[position - 1] = candidate;
+            rank -= binomialCoefficients[candidate][position];
+            candidate--;
+        }
+
+        return parameters;
+    }
+
+    /**
+     * @param parameters the parameters of a node in ascending order
+     * @return the node containing exactly the given parameters
+     */
+    int getNode(int[] parameters) {
+        if (parameters.length == numberOfParameters) {
+            return root;
+        }
+
+        Preconditions.check(parameters.length > 0 && parameters.length <= maximumSize);
+
+        int rank = 0;
+        for (int position = 0; position < parameters.length; position++) {
+            rank += binomialCoefficients[parameters[position]][position + 1];
+        }
+
+        return levelOffsets[parameters.length] + rank;
+    }
+
+    boolean hasChildren(int node) {
+        return node == root ? root != 0 : getSize(node) > 1;
+    }
+
+    boolean hasParents(int node) {
+        return node != root;
+    }
+
+    /**
+     * @param node a node of the tree
+     * @return all nodes containing one parameter less than the given node, or all nodes of the maximum size if the
+     * given node is the root
+     */
+    int[] getChildren(int node) {
+        if (!hasChildren(node)) {
+            return new int[0];
+        }
+
+        if (node == root) {
+            int[] children = new int[levelOffsets[maximumSize + 1] - levelOffsets[maximumSize]];
+            Arrays.setAll(children, index -> levelOffsets[maximumSize] + index);
+
+            return children;
+        }
+
+        int[] parameters = getParameters(node);
+        int[] children = new int[parameters.length];
+        int levelOffset = levelOffsets[parameters.length - 1];
+
+        // removing the parameter at position i decreases the position of all following parameters by one
+        for (int removed = 0; removed < parameters.length; removed++) {
+            int rank = 0;
+
+            for (int position = 0; position < parameters.length; position++) {
+                if (position < removed) {
+                    rank += binomialCoefficients[parameters[position]][position + 1];
+                } else if (position > removed) {
+                    rank += binomialCoefficients[parameters[position]][position];
+                }
+            }
+
+            children[removed] = levelOffset + rank;
+        }
+
+        return children;
+    }
+
+    /**
+     * @param node a node of the tree
+     * @return all nodes containing one parameter more than the given node, or the root if the given node is of the
+     * maximum size
+     */
+    int[] getParents(int node) {
+        if (!hasParents(node)) {
+            return new int[0];
+        }
+
+        int[] parameters = getParameters(node);
+
+        if (parameters.length == maximumSize) {
+            return new int[]{root};
+        }
+
+        int[] parents = new int[numberOfParameters - parameters.length];
+        int levelOffset = levelOffsets[parameters.length + 1];
+        int numberOfParents = 0;
+        int position = 0;
+
+        for (int added = 0; added < numberOfParameters; added++) {
+            if (position < parameters.length && parameters[position] == added) {
+                position++;
+                continue;
+            }
+
+            // all parameters after the added one move up by one position
+            int rank = binomialCoefficients[added][position + 1];
+            for (int index = 0; index < parameters.length; index++) {
+                rank += binomialCoefficients[parameters[index]][index < position ? index + 1 : index + 2];
+            }
+
+            parents[numberOfParents++] = levelOffset + rank;
+        }
+
+        return parents;
+    }
+
+    /**
+     * @param node a node of the tree
+     * @return true iff the node is failure- or exception-inducing and none of its children is failure- or
+     * exception-inducing or unknown, i.e. all children are healthy
+     */
+    boolean isMinimalInducingTuple(int node) {
+        if (!isFaulty(node) && !isExceptionInducingCombination(node)) {
+            return false;
+        }
+
+        for (int child : getChildren(node)) {
+            if (!isHealthy(child)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sets the given node and all its descendants to healthy. As a descendant of a healthy node is already healthy,
+     * the sweep does not continue below nodes which were healthy before.
+     *
+     * @param node a node of the tree
+     */
+    void setHealthyWithDescendants(int node) {
+        setStatus(node, TupleStatus.HEALTHY);
+
+        long[][] frontier = createFrontier();
+        addAll(frontier, getChildren(node));
+
+        for (int size = maximumSize; size > 0; size--) {
+            for (int descendant = nextNode(frontier, size, 0); descendant != NO_NODE;
+                    descendant = nextNode(frontier, size, descendant + 1)) {
+                if (!isHealthy(descendant)) {
+                    setStatus(descendant, TupleStatus.HEALTHY);
+                    addAll(frontier, getChildren(descendant));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the given node and all its ancestors except for the root to the given status. The status of the root is
+     * determined by the result of the processed test input and is therefore never changed. As the ancestors of a
+     * node with the given status already have the same status, the sweep does not continue above such nodes.
+     *
+     * @param node a node of the tree
+     * @param status {@link TupleStatus#FAULTY} or {@link TupleStatus#EXCEPTIONAL_COMBINATION}
+     */
+    void setStatusWithAncestors(int node, TupleStatus status) {
+        Preconditions.check(status == TupleStatus.FAULTY || status == TupleStatus.EXCEPTIONAL_COMBINATION,
+                "status must be FAULTY or EXCEPTIONAL_COMBINATION!");
+
+        setStatus(node, status);
+
+        long[][] frontier = createFrontier();
+        addAll(frontier, getParents(node));
+
+        for (int size = 1; size <= maximumSize; size++) {
+            for (int ancestor = nextNode(frontier, size, 0); ancestor != NO_NODE;
+                    ancestor = nextNode(frontier, size, ancestor + 1)) {
+                if (getStatus(ancestor) != status) {
+                    setStatus(ancestor, status);
+                    addAll(frontier, getParents(ancestor));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets all nodes contained in the given passing test input to healthy.
+     *
+     * @param failingTestInput the processed test input represented by the root
+     * @param passingTestInput a test input which passed
+     */
+    void setHealthyIfContained(int[] failingTestInput, int[] passingTestInput) {
+        boolean[] matches = new boolean[numberOfParameters];
+        int numberOfMatches = 0;
+
+        for (int parameter = 0; parameter < numberOfParameters; parameter++) {
+            matches[parameter] = failingTestInput[parameter] == passingTestInput[parameter];
+            numberOfMatches += matches[parameter] ? 1 : 0;
+        }
+
+        int largestSize = Math.min(numberOfMatches, maximumSize);
+        if (largestSize == 0) {
+            return;
+        }
+
+        // nodes of the largest size are checked directly, all smaller ones are reached via their children
+        for (int node = levelOffsets[largestSize]; node < levelOffsets[largestSize + 1]; node++) {
+            if (!isHealthy(node) && containsOnly(node, matches)) {
+                setHealthyWithDescendants(node);
+            }
+        }
+    }
+
+    private boolean containsOnly(int node, boolean[] parameters) {
+        for (int parameter : getParameters(node)) {
+            if (!parameters[parameter]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * maps the given node to the sub-combination it represents.
+     * @param node a node of the tree
+     * @param failingTestInput test input to compute the sub-combination for.
+     *
+     * @return the sub-combination of the failingTestInput the node represents.
+     */
+    int[] getCombination(int node, int[] failingTestInput) {
+        Preconditions.check(failingTestInput.length >= numberOfParameters);
+
+        int[] combination = CombinationUtil.emptyCombination(failingTestInput.length);
+
+        for (int parameter : getParameters(node)) {
+            combination[parameter] = failingTestInput[parameter];
+        }
+
+        return combination;
+    }
+
+    private long[][] createFrontier() {
+        long[][] frontier = new long[maximumSize + 1][];
+
+        for (int size = 1; size <= maximumSize; size++) {
+            frontier[size] = new long[((levelOffsets[size + 1] - levelOffsets[size]) >>> 6) + 1];
+        }
+
+        return frontier;
+    }
+
+    private void addAll(long[][] frontier, int[] nodes) {
+        for (int node : nodes) {
+            if (node != root) {
+                int size = getSize(node);
+                int index = node - levelOffsets[size];
+
+                frontier[size][index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private int nextNode(long[][] frontier, int size, int fromNode) {
+        long[] words = frontier[size];
+        int index = Math.max(fromNode - levelOffsets[size], 0);
+        int wordIndex = index >>> 6;
+
+        if (wordIndex >= words.length) {
+            return NO_NODE;
+        }
+
+        long word = words[wordIndex] & (-1L << index);
+
+        while (true) {
+            if (word != 0) {
+                return levelOffsets[size] + (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+
+            if (++wordIndex == words.length) {
+                return NO_NODE;
+            }
+
+            word = words[wordIndex];
+        }
+    }
+
+}
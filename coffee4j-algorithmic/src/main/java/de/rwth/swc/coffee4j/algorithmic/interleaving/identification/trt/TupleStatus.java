@@ -1,7 +1,7 @@
 package de.rwth.swc.coffee4j.algorithmic.interleaving.identification.trt;
 
 /**
- *  Enum used to classify {@link TupleNode}s used by {@link TupleRelationshipStrategy}.
+ *  Enum used to classify the nodes of a {@link TupleRelationshipTree} used by {@link TupleRelationshipStrategy}.
  */
 enum TupleStatus {
     HEALTHY,
@@ -5,7 +5,9 @@ import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.classification.ClassificationConfiguration;
 import de.rwth.swc.coffee4j.algorithmic.classification.ClassificationStrategy;
+import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
 import de.rwth.swc.coffee4j.algorithmic.constraint.ForbiddenTuplesChecker;
+import de.rwth.swc.coffee4j.algorithmic.constraint.MeasuringConstraintChecker;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.Phase;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.util.TupleBuilderUtil;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
@@ -86,6 +88,7 @@ public abstract class AbstractGeneratingInterleavingManager extends AbstractInte
         }
 
         if (!nextTestInput.isPresent()) {
+            testInputGenerationStrategy.close();
             currentPhase = Phase.CLASSIFICATION;
         }
 
@@ -112,8 +115,13 @@ public abstract class AbstractGeneratingInterleavingManager extends AbstractInte
     }
 
     protected List<int[]> postProcessExceptionInducingCombinations() {
-        Preconditions.check(checker instanceof ForbiddenTuplesChecker);
-        Set<IntList> initialForbiddenTuples = ((ForbiddenTuplesChecker) checker).getInitialForbiddenTuples();
+        // the engine measures the checker if metrics are collected
+        final ConstraintChecker forbiddenTuplesChecker = checker instanceof MeasuringConstraintChecker
+                ? ((MeasuringConstraintChecker) checker).getChecker()
+                : checker;
+        Preconditions.check(forbiddenTuplesChecker instanceof ForbiddenTuplesChecker);
+        Set<IntList> initialForbiddenTuples = ((ForbiddenTuplesChecker) forbiddenTuplesChecker)
+                .getInitialForbiddenTuples();
         Set<IntList> exceptionInducingCombinations = minimalExceptionInducingCombinations.keySet().stream().map(IntArrayList::new).collect(Collectors.toSet());
 
         Set<IntList> derivedTuples = new HashSet<>();
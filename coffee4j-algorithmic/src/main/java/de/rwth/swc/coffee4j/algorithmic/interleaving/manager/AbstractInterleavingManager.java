@@ -200,6 +200,7 @@ abstract class AbstractInterleavingManager implements InterleavingCombinatorialT
         }
 
         if (!nextTestInput.isPresent()) {
+            testInputGenerationStrategy.close();
             terminateInterleavingGroup();
         }
 
@@ -222,6 +223,7 @@ abstract class AbstractInterleavingManager implements InterleavingCombinatorialT
     private Optional<int[]> checkTestInputForIdentification(Optional<int[]> nextTestInput) {
         // identification finished: no more test inputs needed
         if (!nextTestInput.isPresent()) {
+            identificationStrategy.close();
             terminateIdentification();
         } else {
             reporter.identificationTestInputGenerated(testGroup, nextTestInput.get());
@@ -294,6 +296,15 @@ abstract class AbstractInterleavingManager implements InterleavingCombinatorialT
      */
     protected abstract void resetCombinationsToBeChecked();
 
+    @Override
+    public void close() {
+        try {
+            testInputGenerationStrategy.close();
+        } finally {
+            identificationStrategy.close();
+        }
+    }
+
     /**
      * Call {@link #updateCoverageAfterFailureInducingCombinationIsIdentified(Set)} for each type of combination.
      * At least {@link #failureInducingCombinationsToCheck} must be used to update.
@@ -7,7 +7,7 @@ import java.util.Optional;
 /**
  * Interface that each {@link InterleavingCombinatorialTestManager} for interleaving CT must implement.
  */
-public interface InterleavingCombinatorialTestManager {
+public interface InterleavingCombinatorialTestManager extends AutoCloseable {
     /**
      * @param testInput previously executed test input. Null if called for the first time.
      * @param result result of previously executed test input. Null if called for the first time.
@@ -54,4 +54,13 @@ public interface InterleavingCombinatorialTestManager {
      * @return true iff currently checked combination is most likely exception/failure-inducing
      */
     boolean combinationIdentified();
+
+    /**
+     * Releases all resources held by the manager and its strategies, e.g. thread pools. Called by the engine once
+     * the combinatorial test is finished, even if it was aborted early. The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
 }
@@ -26,6 +26,21 @@ public final class OptimalValue {
      * @return valid value for given parameter covering most uncovered t-tuples
      */
     public Optional<ParameterValuePair> forParameter(int parameter, int numberOfValues, IntSet forbiddenValues, int[] testInput, CoverageMap coverageMap, ConstraintChecker checker) {
+        return forParameter(parameter, numberOfValues, forbiddenValues, testInput, coverageMap, checker, new Random());
+    }
+
+    /**
+     * @param parameter parameter to find an optimal value for
+     * @param numberOfValues number of possible values the given parameter can take
+     * @param forbiddenValues values that must not be assigned to the parameter
+     * @param testInput partial test input generated so far and which needs to be extended
+     * @param coverageMap containing all uncovered combinations
+     * @param checker Constraint Checker to ensure that assigned value is valid in given test input
+     * @param random used to break ties between values covering the same number of t-tuples
+     *
+     * @return valid value for given parameter covering most uncovered t-tuples
+     */
+    public Optional<ParameterValuePair> forParameter(int parameter, int numberOfValues, IntSet forbiddenValues, int[] testInput, CoverageMap coverageMap, ConstraintChecker checker, Random random) {
         int[] candidateTestInput = Arrays.copyOf(testInput, testInput.length);
 
         int optimalValue = -1;
@@ -38,7 +53,7 @@ public final class OptimalValue {
             }
         }
 
-        Collections.shuffle(possibleValues);
+        Collections.shuffle(possibleValues, random);
 
         for (int value : possibleValues) {
             if (checker.isExtensionValid(candidateTestInput, parameter, value)) {
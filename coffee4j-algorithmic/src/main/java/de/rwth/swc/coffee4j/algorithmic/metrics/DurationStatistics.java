@@ -0,0 +1,122 @@
+package de.rwth.swc.coffee4j.algorithmic.metrics;
+
+import java.util.Objects;
+
+/**
+ * Immutable statistics over all durations recorded for one metric. All durations are given in nanoseconds.
+ * The percentiles are approximations which are at most 12.5% larger than the exact values.
+ */
+public final class DurationStatistics {
+
+    private final long count;
+    private final long total;
+    private final long min;
+    private final long max;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+
+    DurationStatistics(long count, long total, long min, long max, long p50, long p90, long p99) {
+        this.count = count;
+        this.total = total;
+        this.min = min;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    /**
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the sum of all recorded durations
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return the shortest recorded duration or zero if none was recorded
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * @return the longest recorded duration or zero if none was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the average of all recorded durations or zero if none was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * @return the approximate median of all recorded durations
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * @return the approximate 90th percentile of all recorded durations
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * @return the approximate 99th percentile of all recorded durations
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        final DurationStatistics other = (DurationStatistics) object;
+        return count == other.count
+                && total == other.total
+                && min == other.min
+                && max == other.max
+                && p50 == other.p50
+                && p90 == other.p90
+                && p99 == other.p99;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, total, min, max, p50, p90, p99);
+    }
+
+    @Override
+    public String toString() {
+        return "DurationStatistics{" +
+                "count=" + count +
+                ", total=" + total +
+                ", min=" + min +
+                ", max=" + max +
+                ", p50=" + p50 +
+                ", p90=" + p90 +
+                ", p99=" + p99 +
+                '}';
+    }
+
+}
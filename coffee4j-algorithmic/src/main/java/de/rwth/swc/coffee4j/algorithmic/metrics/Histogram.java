@@ -0,0 +1,98 @@
+package de.rwth.swc.coffee4j.algorithmic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative durations in nanoseconds.
+ *
+ * <p>
+ *     Durations are sorted into log-linear buckets: every power of two is split into eight equally wide buckets, so
+ *     the percentiles derived from the buckets are at most 12.5% larger than the exact ones. The memory needed is
+ *     constant regardless of the number of recorded durations. Count, total, minimum and maximum are exact.
+ * </p>
+ */
+final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUMBER_OF_BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    void record(long nanos) {
+        final long duration = Math.max(0, nanos);
+
+        buckets.incrementAndGet(bucketOf(duration));
+        total.add(duration);
+        min.accumulateAndGet(duration, Math::min);
+        max.accumulateAndGet(duration, Math::max);
+    }
+
+    static int bucketOf(long duration) {
+        if (duration < SUB_BUCKETS) {
+            return (int) duration;
+        }
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(duration);
+        final int subBucket = (int) (duration >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    DurationStatistics snapshot() {
+        final long[] bucketCounts = new long[NUMBER_OF_BUCKETS];
+        long numberOfDurations = 0;
+
+        for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+            bucketCounts[bucket] = buckets.get(bucket);
+            numberOfDurations += bucketCounts[bucket];
+        }
+
+        if (numberOfDurations == 0) {
+            return new DurationStatistics(0, 0, 0, 0, 0, 0, 0);
+        }
+
+        final long maximum = max.get();
+
+        return new DurationStatistics(
+                numberOfDurations,
+                total.sum(),
+                min.get(),
+                maximum,
+                percentile(bucketCounts, numberOfDurations, 0.5, maximum),
+                percentile(bucketCounts, numberOfDurations, 0.9, maximum),
+                percentile(bucketCounts, numberOfDurations, 0.99, maximum));
+    }
+
+    private static long percentile(long[] bucketCounts, long numberOfDurations, double quantile, long maximum) {
+        final long rank = Math.max(1, (long) Math.ceil(quantile * numberOfDurations));
+        long seen = 0;
+
+        for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+            seen += bucketCounts[bucket];
+
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), maximum);
+            }
+        }
+
+        return maximum;
+    }
+
+}
@@ -0,0 +1,64 @@
+package de.rwth.swc.coffee4j.algorithmic.metrics;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsListener} which aggregates all measurements in memory. Counters are summed up, and durations are
+ * collected in one histogram per metric so that their distribution can be inspected through
+ * {@link #getSummary()}.
+ *
+ * <p>
+ *     Recording never blocks: counters are {@link LongAdder}s and the histograms only use atomic operations.
+ *     The memory needed per metric is constant.
+ * </p>
+ */
+public class InMemoryMetrics implements MetricsListener {
+
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> durations = new ConcurrentHashMap<>();
+
+    @Override
+    public void durationRecorded(String metric, long nanos) {
+        Preconditions.notNull(metric);
+
+        durations.computeIfAbsent(metric, name -> new Histogram()).record(nanos);
+    }
+
+    @Override
+    public void countRecorded(String metric, long count) {
+        Preconditions.notNull(metric);
+
+        counters.computeIfAbsent(metric, name -> new LongAdder()).add(count);
+    }
+
+    /**
+     * Takes a snapshot of all measurements recorded so far. Measurements which are recorded concurrently may or may
+     * not be contained in the snapshot.
+     *
+     * @return the summary of all measurements
+     */
+    public MetricsSummary getSummary() {
+        final Map<String, Long> counterValues = new HashMap<>();
+        counters.forEach((metric, counter) -> counterValues.put(metric, counter.sum()));
+
+        final Map<String, DurationStatistics> durationStatistics = new HashMap<>();
+        durations.forEach((metric, histogram) -> durationStatistics.put(metric, histogram.snapshot()));
+
+        return new MetricsSummary(counterValues, durationStatistics);
+    }
+
+    /**
+     * Removes all measurements recorded so far.
+     */
+    public void reset() {
+        counters.clear();
+        durations.clear();
+    }
+
+}
@@ -0,0 +1,95 @@
+package de.rwth.swc.coffee4j.algorithmic.metrics;
+
+/**
+ * The names of all metrics emitted by coffee4j. Names of durations start with the kind of operation, names of
+ * counters describe the counted events.
+ */
+public final class MetricNames {
+
+    /**
+     * Duration of one query of a constraint checker.
+     */
+    public static final String CONSTRAINT_CHECK = "constraint.check";
+
+    /**
+     * Number of constraint checker queries which were answered with "invalid".
+     */
+    public static final String CONSTRAINT_CHECKS_INVALID = "constraint.checks.invalid";
+
+    /**
+     * Duration of the modification of the input parameter model by extensions.
+     */
+    public static final String PHASE_MODEL_MODIFICATION = "phase.modelModification";
+
+    /**
+     * Duration of the detection of conflicts between constraints.
+     */
+    public static final String PHASE_CONFLICT_DETECTION = "phase.conflictDetection";
+
+    /**
+     * Duration of one generation phase, i.e. the initial generation in sequential testing or the generation of one
+     * test input in interleaving testing.
+     */
+    public static final String PHASE_GENERATION = "phase.generation";
+
+    /**
+     * Duration of the initial generation and execution if both are pipelined.
+     */
+    public static final String PHASE_PIPELINED_GENERATION_AND_EXECUTION = "phase.pipelinedGenerationAndExecution";
+
+    /**
+     * Duration of one execution phase including all extension callbacks.
+     */
+    public static final String PHASE_EXECUTION = "phase.execution";
+
+    /**
+     * Duration of one round of sequential fault characterization.
+     */
+    public static final String PHASE_FAULT_CHARACTERIZATION = "phase.faultCharacterization";
+
+    /**
+     * Duration of one step of interleaving failure-inducing combination identification.
+     */
+    public static final String PHASE_IDENTIFICATION = "phase.identification";
+
+    /**
+     * Duration of one step of interleaving feedback checking.
+     */
+    public static final String PHASE_CHECKING = "phase.checking";
+
+    /**
+     * Duration of the classification of exception-inducing combinations.
+     */
+    public static final String PHASE_CLASSIFICATION = "phase.classification";
+
+    /**
+     * Duration of the execution of one test input, excluding extension callbacks.
+     */
+    public static final String TEST_INPUT_EXECUTION = "testInput.execution";
+
+    /**
+     * Number of test inputs generated by the initial generation in sequential testing or by the generation phase in
+     * interleaving testing.
+     */
+    public static final String TEST_INPUTS_GENERATED = "testInputs.generated";
+
+    /**
+     * Number of test inputs generated for fault characterization, i.e. by the identification and checking phases in
+     * interleaving testing.
+     */
+    public static final String TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION = "testInputs.generatedForCharacterization";
+
+    /**
+     * Number of test inputs which were not successful.
+     */
+    public static final String TEST_INPUTS_FAILED = "testInputs.failed";
+
+    /**
+     * Number of test inputs whose result was taken from a cache instead of executing them.
+     */
+    public static final String TEST_INPUTS_CACHED = "testInputs.cached";
+
+    private MetricNames() {
+    }
+
+}
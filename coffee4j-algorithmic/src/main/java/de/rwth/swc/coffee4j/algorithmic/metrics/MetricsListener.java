@@ -0,0 +1,73 @@
+package de.rwth.swc.coffee4j.algorithmic.metrics;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Receives the measurements taken during a combinatorial test, e.g. how long a phase took, how many constraint checks
+ * were issued, or how many test inputs were executed. The names of the metrics emitted by coffee4j itself are listed
+ * in {@link MetricNames}.
+ *
+ * <p>
+ *     Implementations must be thread-safe since test inputs may be executed and generated concurrently. Both
+ *     methods are called on the hot path of the measured code and should therefore return quickly.
+ *     {@link InMemoryMetrics} aggregates all measurements into counters and histograms.
+ * </p>
+ */
+public interface MetricsListener {
+
+    /**
+     * Called whenever an operation with the given name finished.
+     *
+     * @param metric the name of the measured operation
+     * @param nanos the duration of the operation in nanoseconds
+     */
+    void durationRecorded(String metric, long nanos);
+
+    /**
+     * Called whenever events with the given name occurred.
+     *
+     * @param metric the name of the counted event
+     * @param count the number of events which occurred
+     */
+    void countRecorded(String metric, long count);
+
+    /**
+     * Creates a listener which forwards all measurements to each of the given listeners.
+     *
+     * @param listeners the listeners to notify. Must not be, nor contain {@code null}
+     * @return a listener notifying all given listeners
+     */
+    static MetricsListener composite(Collection<? extends MetricsListener> listeners) {
+        Preconditions.notNull(listeners);
+
+        final List<MetricsListener> copiedListeners = new ArrayList<>(listeners.size());
+        for (MetricsListener listener : listeners) {
+            copiedListeners.add(Preconditions.notNull(listener));
+        }
+
+        if (copiedListeners.size() == 1) {
+            return copiedListeners.get(0);
+        }
+
+        return new MetricsListener() {
+            @Override
+            public void durationRecorded(String metric, long nanos) {
+                for (MetricsListener listener : copiedListeners) {
+                    listener.durationRecorded(metric, nanos);
+                }
+            }
+
+            @Override
+            public void countRecorded(String metric, long count) {
+                for (MetricsListener listener : copiedListeners) {
+                    listener.countRecorded(metric, count);
+                }
+            }
+        };
+    }
+
+}
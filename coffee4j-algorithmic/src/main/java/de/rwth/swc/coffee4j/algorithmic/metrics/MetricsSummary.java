@@ -0,0 +1,116 @@
+package de.rwth.swc.coffee4j.algorithmic.metrics;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable snapshot of all counters and durations recorded by an {@link InMemoryMetrics}. Its
+ * {@link #toString()} renders a table which can directly be logged, with the durations in milliseconds.
+ */
+public final class MetricsSummary {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, Long> counters;
+    private final Map<String, DurationStatistics> durations;
+
+    MetricsSummary(Map<String, Long> counters, Map<String, DurationStatistics> durations) {
+        this.counters = Collections.unmodifiableMap(new TreeMap<>(counters));
+        this.durations = Collections.unmodifiableMap(new TreeMap<>(durations));
+    }
+
+    /**
+     * @return all counters sorted by their name
+     */
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    /**
+     * @param metric the name of a counter. Must not be {@code null}
+     * @return the value of the counter or zero if nothing was counted
+     */
+    public long getCounter(String metric) {
+        return counters.getOrDefault(Preconditions.notNull(metric), 0L);
+    }
+
+    /**
+     * @return the statistics of all durations sorted by their name
+     */
+    public Map<String, DurationStatistics> getDurations() {
+        return durations;
+    }
+
+    /**
+     * @param metric the name of a duration. Must not be {@code null}
+     * @return the statistics of the duration. If nothing was recorded, all statistics are zero
+     */
+    public DurationStatistics getDuration(String metric) {
+        final DurationStatistics statistics = durations.get(Preconditions.notNull(metric));
+
+        return statistics != null ? statistics : new DurationStatistics(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * @return whether neither counters nor durations were recorded
+     */
+    public boolean isEmpty() {
+        return counters.isEmpty() && durations.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        final MetricsSummary other = (MetricsSummary) object;
+        return counters.equals(other.counters) && durations.equals(other.durations);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * counters.hashCode() + durations.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+
+        if (!durations.isEmpty()) {
+            builder.append(String.format(Locale.ROOT, "%-40s %10s %12s %10s %10s %10s %10s%n",
+                    "duration", "count", "total[ms]", "mean[ms]", "p50[ms]", "p99[ms]", "max[ms]"));
+
+            for (Map.Entry<String, DurationStatistics> entry : durations.entrySet()) {
+                final DurationStatistics statistics = entry.getValue();
+
+                builder.append(String.format(Locale.ROOT, "%-40s %10d %12.3f %10.3f %10.3f %10.3f %10.3f%n",
+                        entry.getKey(),
+                        statistics.getCount(),
+                        statistics.getTotal() / NANOS_PER_MILLI,
+                        statistics.getMean() / NANOS_PER_MILLI,
+                        statistics.getP50() / NANOS_PER_MILLI,
+                        statistics.getP99() / NANOS_PER_MILLI,
+                        statistics.getMax() / NANOS_PER_MILLI));
+            }
+        }
+
+        if (!counters.isEmpty()) {
+            builder.append(String.format(Locale.ROOT, "%-40s %10s%n", "counter", "value"));
+
+            for (Map.Entry<String, Long> entry : counters.entrySet()) {
+                builder.append(String.format(Locale.ROOT, "%-40s %10d%n", entry.getKey(), entry.getValue()));
+            }
+        }
+
+        return builder.toString();
+    }
+
+}
@@ -1,6 +1,7 @@
 package de.rwth.swc.coffee4j.algorithmic.model;
 
 import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import de.rwth.swc.coffee4j.algorithmic.util.IntArrayWrapper;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 
 import java.util.*;
@@ -47,10 +48,12 @@ public class TupleList {
     }
 
     private void checkNoDuplicates(Collection<int[]> tuples) {
+        final Set<IntArrayWrapper> distinctTuples = new HashSet<>(tuples.size() * 2);
+        
         for(int[] tuple : tuples) {
-            Preconditions.check(
-                    tuples.stream().filter(currentTuple -> Arrays.equals(tuple, currentTuple)).count() == 1,
-                    "found duplicate tuple in TupleList: " + Arrays.toString(tuple));
+            if (!distinctTuples.add(new IntArrayWrapper(tuple))) {
+                throw new IllegalArgumentException("found duplicate tuple in TupleList: " + Arrays.toString(tuple));
+            }
         }
     }
 
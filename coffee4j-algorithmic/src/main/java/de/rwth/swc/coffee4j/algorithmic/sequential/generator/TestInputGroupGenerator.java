@@ -3,9 +3,12 @@ package de.rwth.swc.coffee4j.algorithmic.sequential.generator;
 import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharacterizationConfiguration;
 import de.rwth.swc.coffee4j.algorithmic.report.Reporter;
 import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Interface for all algorithms which can generate combinatorial test inputs.
@@ -41,4 +44,34 @@ public interface TestInputGroupGenerator {
      */
     Collection<Supplier<TestInputGroup>> generate(CompleteTestModel model, Reporter reporter);
     
+    /**
+     * Generates the same {@link TestInputGroup} instances as {@link #generate(CompleteTestModel, Reporter)}, but
+     * additionally passes each test input of a group to the given consumer while {@link Supplier#get()} is executed.
+     * Generators which know some test inputs before the whole group is finished should override this method to pass
+     * them as early as possible, so that they can already be executed while the generation continues.
+     * Each test input of the returned group is passed exactly once, but not necessarily in the order of
+     * {@link TestInputGroup#getTestInputs()}. A passed test input must not be modified afterwards.
+     * By default, all test inputs are passed once the group is completely generated.
+     *
+     * @param model             the complete testModel with which the test input groups should be constructed.
+     *                          Must not be {@code null}
+     * @param reporter          to report information from inside the generation
+     * @param testInputConsumer receives the test inputs of all groups as soon as they are known.
+     *                          Must not be {@code null}
+     * @return a supplier of a test input group which passes its test inputs to the consumer
+     * @throws NullPointerException if the testModel or consumer is {@code null}
+     */
+    default Collection<Supplier<TestInputGroup>> generate(CompleteTestModel model, Reporter reporter,
+            Consumer<int[]> testInputConsumer) {
+        Preconditions.notNull(testInputConsumer);
+        
+        return generate(model, reporter).stream()
+                .map(supplier -> (Supplier<TestInputGroup>) () -> {
+                    final TestInputGroup group = supplier.get();
+                    group.getTestInputs().forEach(testInputConsumer);
+                    return group;
+                })
+                .collect(Collectors.toList());
+    }
+    
 }
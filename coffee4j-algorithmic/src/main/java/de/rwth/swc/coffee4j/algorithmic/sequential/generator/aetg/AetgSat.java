@@ -9,10 +9,12 @@ import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharact
 import de.rwth.swc.coffee4j.algorithmic.sequential.generator.TestInputGroup;
 import de.rwth.swc.coffee4j.algorithmic.sequential.generator.TestInputGroupGenerator;
 import de.rwth.swc.coffee4j.algorithmic.report.Reporter;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -25,6 +27,18 @@ public class AetgSat implements TestInputGroupGenerator {
 
     @Override
     public Set<Supplier<TestInputGroup>> generate(CompleteTestModel model, Reporter reporter) {
+        return generate(model, reporter, testInput -> {});
+    }
+
+    /**
+     * Generates the same group as {@link #generate(CompleteTestModel, Reporter)}, but passes each test input to the
+     * consumer as soon as it is chosen.
+     */
+    @Override
+    public Set<Supplier<TestInputGroup>> generate(CompleteTestModel model, Reporter reporter,
+            Consumer<int[]> testInputConsumer) {
+        Preconditions.notNull(testInputConsumer);
+
         if (model.getPositiveTestingStrength() == 0) {
             return Collections.emptySet();
         }
@@ -37,7 +51,7 @@ public class AetgSat implements TestInputGroupGenerator {
             
             final List<int[]> testInputs = new AetgSatAlgorithm(AetgSatConfiguration.aetgSatConfiguration()
                     .model(groupModel).build())
-                    .generate();
+                    .generate(testInputConsumer);
             final FaultCharacterizationConfiguration faultCharacterizationConfiguration =
                     new FaultCharacterizationConfiguration(groupModel, reporter);
             return new TestInputGroup(DISPLAY_NAME, testInputs, faultCharacterizationConfiguration);
@@ -12,6 +12,7 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the AETGSat variant of the AETG algorithm from "Constructing Interaction Test Suites for
@@ -180,13 +181,12 @@ public class AetgSatAlgorithm {
     }
 
     private Optional<ParameterValuePair> selectBestValue(int parameter, IntSet forbiddenValues, int[] testCase) {
-        int[] candidate = Arrays.copyOf(testCase, testCase.length);
+        long[] valueResults = coverageMap.getNumberOfUncoveredCombinationsPerValue(testCase, parameter);
         int bestValue = -1;
         long bestValueResult = -1;
         for (int value = 0; value < model.getParameterSize(parameter); value++) {
             if (!forbiddenValues.contains(value)) {
-                candidate[parameter] = value;
-                long valueResult = coverageMap.getNumberOfUncoveredCombinations(candidate);
+                long valueResult = valueResults[value];
                 if (valueResult > bestValueResult) {
                     bestValueResult = valueResult;
                     bestValue = value;
@@ -220,11 +220,24 @@ public class AetgSatAlgorithm {
      * @return a list of test cases that cover all t-way combinations
      */
     public List<int[]> generate() {
+        return generate(testCase -> {});
+    }
+
+    /**
+     * Generate a complete covering array and pass each test case to the consumer as soon as it is chosen.
+     *
+     * @param testCaseConsumer receives each test case in the order of the returned list. It may not be {@code null}.
+     * @return a list of test cases that cover all t-way combinations
+     */
+    public List<int[]> generate(Consumer<int[]> testCaseConsumer) {
+        Preconditions.notNull(testCaseConsumer);
+
         List<int[]> result = new ArrayList<>();
         Optional<int[]> nextTestCase = getNextTestCase();
         while (nextTestCase.isPresent()) {
             updateCoverage(nextTestCase.get());
             result.add(nextTestCase.get());
+            testCaseConsumer.accept(nextTestCase.get());
             nextTestCase = getNextTestCase();
         }
         return result;
@@ -1,76 +1,103 @@
 package de.rwth.swc.coffee4j.algorithmic.sequential.generator.aetg;
 
 import de.rwth.swc.coffee4j.algorithmic.constraint.DynamicHardConstraintChecker;
-import de.rwth.swc.coffee4j.algorithmic.sequential.generator.ipog.IpogAlgorithm;
-import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
-import de.rwth.swc.coffee4j.algorithmic.util.Combinator;
+import de.rwth.swc.coffee4j.algorithmic.util.BitSetCoverageMap;
 import de.rwth.swc.coffee4j.algorithmic.util.ParameterValuePair;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
-import it.unimi.dsi.fastutil.ints.Int2IntArrayMap;
-import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.IntSet;
 
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Optional;
+import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of a coverage map that tracks how many t-combinations are already covered.
  * <p>
  * It also provides the means for handling constraints and some supporting functions for {@link AetgSat}. Combinations
- * are stored as arrays. A more efficient implementations should make use of a bitset like the coverage map of the
- * {@link IpogAlgorithm}.
+ * are stored in a {@link BitSetCoverageMap}, so counting the uncovered combinations of a (partial) test case and
+ * finding the most common value do not need to iterate over all uncovered combinations.
  */
 class CoverageMap {
 
-    private final Set<int[]> combinations;
-    private final int length;
+    private final BitSetCoverageMap combinations;
+    private final int[] parameterSizes;
     private final DynamicHardConstraintChecker checker;
 
     CoverageMap(int[] parameterSizes, int strength, DynamicHardConstraintChecker checker) {
-        this(Combinator.computeCombinations(parameterSizes, strength), parameterSizes.length, checker);
+        this(BitSetCoverageMap.allCombinations(parameterSizes, strength), parameterSizes, checker);
     }
 
     CoverageMap(Set<int[]> combinations, int length, DynamicHardConstraintChecker checker) {
+        this(computeParameterSizes(combinations, length), combinations, checker);
+    }
+
+    private CoverageMap(int[] parameterSizes, Set<int[]> combinations, DynamicHardConstraintChecker checker) {
+        this(BitSetCoverageMap.fromCombinations(parameterSizes, combinations), parameterSizes, checker);
+    }
+
+    private CoverageMap(BitSetCoverageMap combinations, int[] parameterSizes, DynamicHardConstraintChecker checker) {
+        Preconditions.check(combinations.hasUncoveredCombinations());
+
+        this.combinations = combinations;
+        this.parameterSizes = parameterSizes;
+        this.checker = checker;
+
+        if (!checker.getInvolvedParameters().isEmpty()) {
+            this.combinations.removeCombinationsIf(combination -> !checker.isValid(combination));
+        }
+    }
+
+    /*
+     * Only the values contained in the given combinations need to be tracked, so the highest value of each
+     * parameter determines its size.
+     */
+    private static int[] computeParameterSizes(Set<int[]> combinations, int length) {
         Preconditions.notNull(combinations);
         Preconditions.check(!combinations.isEmpty());
         Preconditions.check(combinations.stream().allMatch(s -> s.length == length));
 
-        if (checker.getInvolvedParameters().isEmpty()) {
-            this.combinations = new HashSet<>(combinations);
-        } else {
-            this.combinations = combinations.stream().filter(checker::isValid).collect(Collectors.toSet());
+        final int[] parameterSizes = new int[length];
+        Arrays.fill(parameterSizes, 1);
+
+        for (int[] combination : combinations) {
+            for (int parameter = 0; parameter < length; parameter++) {
+                parameterSizes[parameter] = Math.max(parameterSizes[parameter], combination[parameter] + 1);
+            }
         }
-        this.length = length;
-        this.checker = checker;
+
+        return parameterSizes;
     }
 
     void addForbiddenCombination(int[] combination) {
         this.checker.addConstraint(combination);
-        this.combinations.removeIf(c -> !checker.isValid(c));
+        this.combinations.removeCombinationsIf(c -> !checker.isValid(c));
     }
 
     boolean hasUncoveredCombinations() {
-        return !combinations.isEmpty();
+        return combinations.hasUncoveredCombinations();
     }
 
     void updateSubCombinationCoverage(int[] testCase) {
-        combinations.removeIf(c -> CombinationUtil.contains(testCase, c));
+        combinations.markAsCovered(testCase);
     }
     
     long getNumberOfUncoveredCombinations(int[] testCase) {
-        return combinations.stream().filter(c -> contains(testCase, c)).count();
+        return combinations.getNumberOfUncoveredCombinations(testCase);
     }
-    
-    private boolean contains(int[] testCase, int[] combination) {
-        for (int parameter = 0; parameter < testCase.length; parameter++) {
-            if (testCase[parameter] != CombinationUtil.NO_VALUE && combination[parameter] != CombinationUtil.NO_VALUE && testCase[parameter] != combination[parameter]) {
-                return false;
-            }
-        }
-        return true;
+
+    /**
+     * Computes, for each value of the parameter, the number of uncovered combinations containing the parameter which
+     * match the test case if the parameter had that value. Combinations not containing the parameter are ignored, as
+     * they add the same number to every value.
+     *
+     * @param testCase the partial test case
+     * @param parameter the parameter
+     * @return the counts indexed by value
+     */
+    long[] getNumberOfUncoveredCombinationsPerValue(int[] testCase, int parameter) {
+        final long[] counts = new long[parameterSizes[parameter]];
+        combinations.addUncoveredCountsOfParameter(testCase, parameter, counts);
+
+        return counts;
     }
 
     ParameterValuePair getMostCommonValue(Set<ParameterValuePair> forbiddenPairs, IntSet forbiddenParameters) {
@@ -80,26 +107,23 @@ class CoverageMap {
 
         int highestCount = 0;
 
-        for (int parameter = 0; parameter < length; parameter++) {
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
             if (!forbiddenParameters.contains(parameter)) {
-                Int2IntMap valueCount = new Int2IntArrayMap();
-                for (int[] combination : combinations) {
-                    if (combination[parameter] != CombinationUtil.NO_VALUE && !forbiddenPairs.contains(new ParameterValuePair(parameter, combination[parameter]))) {
-                        valueCount.put(combination[parameter], valueCount.getOrDefault(combination[parameter], 0) + 1);
+                for (int value = 0; value < parameterSizes[parameter]; value++) {
+                    final int count = combinations.getNumberOfUncoveredCombinations(parameter, value);
+
+                    if (count > highestCount && !forbiddenPairs.contains(new ParameterValuePair(parameter, value))) {
+                        bestParameter = parameter;
+                        bestValue = value;
+                        highestCount = count;
                     }
                 }
-                Optional<Int2IntMap.Entry> best = valueCount.int2IntEntrySet().stream().max(Comparator.comparing(Int2IntMap.Entry::getIntValue));
-                if (best.isPresent() && best.get().getIntValue() > highestCount) {
-                    bestParameter = parameter;
-                    bestValue = best.get().getIntKey();
-                    highestCount = best.get().getIntValue();
-                }
             }
         }
         return new ParameterValuePair(bestParameter, bestValue);
     }
 
     int getNumberOfUncoveredCombinations() {
-        return combinations.size();
+        return combinations.getNumberOfUncoveredCombinations();
     }
 }
@@ -196,13 +196,12 @@ public class AdvancedAetgSatAlgorithm {
     }
 
     private Optional<ParameterValuePair> selectBestValue(int parameter, IntSet forbiddenValues, int[] testCase) {
-        int[] candidate = Arrays.copyOf(testCase, testCase.length);
+        long[] valueResults = coverageMap.getNumberOfUncoveredCombinationsPerValue(testCase, parameter);
         int bestValue = -1;
         long bestValueResult = -1;
         for (int value = 0; value < model.getParameterSize(parameter); value++) {
             if (!forbiddenValues.contains(value)) {
-                candidate[parameter] = value;
-                long valueResult = coverageMap.getNumberOfUncoveredCombinations(candidate);
+                long valueResult = valueResults[value];
                 if (valueResult > bestValueResult) {
                     bestValueResult = valueResult;
                     bestValue = value;
@@ -1,21 +1,17 @@
 package de.rwth.swc.coffee4j.algorithmic.sequential.generator.aetg.advanced;
 
+import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
 import de.rwth.swc.coffee4j.algorithmic.model.PrimitiveStrengthGroup;
 import de.rwth.swc.coffee4j.algorithmic.model.TestModel;
 import de.rwth.swc.coffee4j.algorithmic.sequential.generator.aetg.AetgSat;
-import de.rwth.swc.coffee4j.algorithmic.sequential.generator.ipog.IpogAlgorithm;
-import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import de.rwth.swc.coffee4j.algorithmic.util.BitSetCoverageMap;
 import de.rwth.swc.coffee4j.algorithmic.util.Combinator;
 import de.rwth.swc.coffee4j.algorithmic.util.ParameterValuePair;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
-import it.unimi.dsi.fastutil.ints.Int2IntArrayMap;
-import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.IntSet;
 
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -24,30 +20,28 @@ import java.util.stream.IntStream;
  * Implementation of a coverage map that tracks how many t-combinations are already covered.
  * <p>
  * It also provides the means for handling constraints and some supporting functions for {@link AetgSat}. Combinations
- * are stored as arrays. A more efficient implementations should make use of a bitset like the coverage map of the
- * {@link IpogAlgorithm}.
+ * of all strengths are stored in one {@link BitSetCoverageMap}.
  */
 class MixedStrengthCoverageMap {
 
-    private final Set<int[]> combinations;
-    private final int length;
+    private final BitSetCoverageMap combinations;
+    private final int[] parameterSizes;
 
     MixedStrengthCoverageMap(TestModel testModel) {
         Preconditions.notNull(testModel, "testModel required");
         
-        this.length = testModel.getNumberOfParameters();
+        this.parameterSizes = testModel.getParameterSizes();
         this.combinations = computeCombination(testModel);
     }
     
-    private Set<int[]> computeCombination(TestModel testModel) {
-        final Set<IntSet> parameterCombinations = computeParameterCombinations(testModel);
-        
-        return parameterCombinations.stream()
-                .map(parameterCombination ->
-                        Combinator.computeCombinations(testModel.getParameterSizes(), parameterCombination))
-                .flatMap(Collection::stream)
-                .filter(testModel.getConstraintChecker()::isValid)
-                .collect(Collectors.toSet());
+    private BitSetCoverageMap computeCombination(TestModel testModel) {
+        final BitSetCoverageMap coverageMap = new BitSetCoverageMap(testModel.getParameterSizes());
+        computeParameterCombinations(testModel).forEach(coverageMap::addAllCombinations);
+
+        final ConstraintChecker checker = testModel.getConstraintChecker();
+        coverageMap.removeCombinationsIf(combination -> !checker.isValid(combination));
+
+        return coverageMap;
     }
     
     private Set<IntSet> computeParameterCombinations(TestModel testModel) {
@@ -72,24 +66,31 @@ class MixedStrengthCoverageMap {
     }
 
     boolean hasUncoveredCombinations() {
-        return !combinations.isEmpty();
+        return combinations.hasUncoveredCombinations();
     }
 
     void updateSubCombinationCoverage(int[] testCase) {
-        combinations.removeIf(c -> contains(testCase, c));
+        combinations.markAsCovered(testCase);
     }
     
     long getNumberOfUncoveredCombinations(int[] testCase) {
-        return combinations.stream().filter(c -> contains(testCase, c)).count();
+        return combinations.getNumberOfUncoveredCombinations(testCase);
     }
-    
-    private boolean contains(int[] testCase, int[] combination) {
-        for (int parameter = 0; parameter < testCase.length; parameter++) {
-            if (testCase[parameter] != CombinationUtil.NO_VALUE && combination[parameter] != CombinationUtil.NO_VALUE && testCase[parameter] != combination[parameter]) {
-                return false;
-            }
-        }
-        return true;
+
+    /**
+     * Computes, for each value of the parameter, the number of uncovered combinations containing the parameter which
+     * match the test case if the parameter had that value. Combinations not containing the parameter are ignored, as
+     * they add the same number to every value.
+     *
+     * @param testCase the partial test case
+     * @param parameter the parameter
+     * @return the counts indexed by value
+     */
+    long[] getNumberOfUncoveredCombinationsPerValue(int[] testCase, int parameter) {
+        final long[] counts = new long[parameterSizes[parameter]];
+        combinations.addUncoveredCountsOfParameter(testCase, parameter, counts);
+
+        return counts;
     }
 
     ParameterValuePair getMostCommonValue(Set<ParameterValuePair> forbiddenPairs, IntSet forbiddenParameters) {
@@ -98,21 +99,17 @@ class MixedStrengthCoverageMap {
 
         int highestCount = 0;
 
-        for (int parameter = 0; parameter < length; parameter++) {
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
             if (!forbiddenParameters.contains(parameter)) {
-                Int2IntMap valueCount = new Int2IntArrayMap();
-                for (int[] combination : combinations) {
-                    if (combination[parameter] != CombinationUtil.NO_VALUE && !forbiddenPairs.contains(new ParameterValuePair(parameter, combination[parameter]))) {
-                        valueCount.put(combination[parameter], valueCount.getOrDefault(combination[parameter], 0) + 1);
+                for (int value = 0; value < parameterSizes[parameter]; value++) {
+                    final int count = combinations.getNumberOfUncoveredCombinations(parameter, value);
+
+                    if (count > highestCount && !forbiddenPairs.contains(new ParameterValuePair(parameter, value))) {
+                        bestParameter = parameter;
+                        bestValue = value;
+                        highestCount = count;
                     }
                 }
-                Optional<Int2IntMap.Entry> best = valueCount.int2IntEntrySet().stream()
-                        .max(Comparator.comparing(Int2IntMap.Entry::getIntValue));
-                if (best.isPresent() && best.get().getIntValue() > highestCount) {
-                    bestParameter = parameter;
-                    bestValue = best.get().getIntKey();
-                    highestCount = best.get().getIntValue();
-                }
             }
         }
         return new ParameterValuePair(bestParameter, bestValue);
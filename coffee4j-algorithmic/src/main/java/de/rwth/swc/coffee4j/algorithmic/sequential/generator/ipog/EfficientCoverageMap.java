@@ -3,19 +3,20 @@ package de.rwth.swc.coffee4j.algorithmic.sequential.generator.ipog;
 import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.ints.IntSets;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 
 import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.NO_VALUE;
-import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.containsAllParameters;
 
 /**
  * This acts as the coverage map described in section 4.1 of the paper
@@ -24,6 +25,14 @@ import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.containsAllP
  * bitmap with a bijective function to map to and from an index in said bitmap.
  * <p>
  * This uses the index system described in {@link IpogAlgorithm}.
+ * <p>
+ * The parameter combinations are stored in a flat array. For each of them, the contained parameters are
+ * additionally encoded as a bitmask, and for each parameter an inverted index stores the parameter
+ * combinations in which it is the smallest parameter. A parameter combination is relevant for a given
+ * combination if all of its parameters have a value. For a combination which assigns all parameters of the
+ * parameter combinations, which is the case for each test input during the horizontal extension, all parameter
+ * combinations are relevant and no check or allocation is necessary. For other combinations, only the
+ * parameter combinations indexed by an assigned parameter are checked against the bitmask.
  */
 public class EfficientCoverageMap implements CoverageMap {
     
@@ -33,10 +42,18 @@ public class EfficientCoverageMap implements CoverageMap {
     private static final String COMBINATION_NOT_NULL = "Combination cannot be null";
     private static final String PARAMETERS_NOT_NULL = "Parameters cannot be null";
     
+    private static final int[] NO_COMBINATIONS = new int[0];
+    
     private final int fixedParameter;
     private final int fixedParameterSize;
     
-    private final Map<IntSet, ParameterCombinationCoverageMap> combinationCoverageMap = new HashMap<>();
+    private final ParameterCombinationCoverageMap[] combinationCoverages;
+    private final long[][] parameterMasks;
+    private final int[][] combinationsStartingWithParameter;
+    private final int[] involvedParameters;
+    private final int[] combinationsWithoutParameters;
+    
+    private int firstPossiblyUncoveredCombination = 0;
     
     private final ConstraintChecker constraintChecker;
     
@@ -71,25 +88,95 @@ public class EfficientCoverageMap implements CoverageMap {
         this.constraintChecker = constraintChecker;
         this.fixedParameter = fixedParameter;
         fixedParameterSize = parameters.get(fixedParameter);
-        constructCombinationCoverageMap(parameterCombinations, fixedParameter, parameters);
+        
+        final Set<IntSet> distinctCombinations = parameterCombinations.isEmpty()
+                ? Collections.singleton(IntSets.EMPTY_SET)
+                : new LinkedHashSet<>(parameterCombinations);
+        final int[][] combinations = distinctCombinations.stream()
+                .map(IntSet::toIntArray)
+                .toArray(int[][]::new);
+        
+        combinationCoverages = constructCombinationCoverages(distinctCombinations, fixedParameter, parameters);
+        involvedParameters = computeInvolvedParameters(combinations);
+        parameterMasks = computeParameterMasks(combinations);
+        combinationsStartingWithParameter = computeCombinationsStartingWithParameter(combinations);
+        combinationsWithoutParameters = computeCombinationsWithoutParameters(combinations);
+    }
+    
+    private ParameterCombinationCoverageMap[] constructCombinationCoverages(Collection<IntSet> parameterCombinations,
+                                                                            int fixedParameter,
+                                                                            Int2IntMap parameters) {
+        return parameterCombinations.stream()
+                .map(parameterCombination -> new ParameterCombinationCoverageMap(
+                        parameterCombination,
+                        fixedParameter,
+                        parameters,
+                        constraintChecker))
+                .toArray(ParameterCombinationCoverageMap[]::new);
+    }
+    
+    private static int[] computeInvolvedParameters(int[][] combinations) {
+        final IntSet parameters = new IntOpenHashSet();
+        for (int[] combination : combinations) {
+            parameters.addAll(IntArrayList.wrap(combination));
+        }
+        
+        final int[] involvedParameters = parameters.toIntArray();
+        Arrays.sort(involvedParameters);
+        
+        return involvedParameters;
+    }
+    
+    private int numberOfMaskWords() {
+        return involvedParameters.length == 0 ? 0 : (involvedParameters[involvedParameters.length - 1] >> 6) + 1;
     }
     
-    private void constructCombinationCoverageMap(Collection<IntSet> parameterCombinations,
-                                                 int fixedParameter,
-                                                 Int2IntMap parameters) {
-        if (parameterCombinations.isEmpty()) {
-            parameterCombinations = Collections.singleton(IntSets.EMPTY_SET);
+    private long[][] computeParameterMasks(int[][] combinations) {
+        final long[][] masks = new long[combinations.length][numberOfMaskWords()];
+        
+        for (int i = 0; i < combinations.length; i++) {
+            for (int parameter : combinations[i]) {
+                masks[i][parameter >> 6] |= 1L << parameter;
+            }
+        }
+        
+        return masks;
+    }
+    
+    private int[][] computeCombinationsStartingWithParameter(int[][] combinations) {
+        final int numberOfParameters = involvedParameters.length == 0
+                ? 0
+                : involvedParameters[involvedParameters.length - 1] + 1;
+        final IntList[] combinationsPerParameter = new IntList[numberOfParameters];
+        
+        for (int parameter : involvedParameters) {
+            combinationsPerParameter[parameter] = new IntArrayList();
+        }
+        for (int i = 0; i < combinations.length; i++) {
+            if (combinations[i].length > 0) {
+                combinationsPerParameter[Arrays.stream(combinations[i]).min().getAsInt()].add(i);
+            }
         }
         
-        for (IntSet parameterCombination : parameterCombinations) {
-            combinationCoverageMap.put(
-                    parameterCombination,
-                    new ParameterCombinationCoverageMap(
-                            parameterCombination,
-                            fixedParameter,
-                            parameters,
-                            constraintChecker));
+        final int[][] index = new int[numberOfParameters][];
+        for (int parameter = 0; parameter < numberOfParameters; parameter++) {
+            index[parameter] = combinationsPerParameter[parameter] == null
+                    ? NO_COMBINATIONS
+                    : combinationsPerParameter[parameter].toIntArray();
         }
+        
+        return index;
+    }
+    
+    private static int[] computeCombinationsWithoutParameters(int[][] combinations) {
+        final IntList emptyCombinations = new IntArrayList();
+        for (int i = 0; i < combinations.length; i++) {
+            if (combinations[i].length == 0) {
+                emptyCombinations.add(i);
+            }
+        }
+        
+        return emptyCombinations.toIntArray();
     }
     
     /**
@@ -97,13 +184,13 @@ public class EfficientCoverageMap implements CoverageMap {
      */
     @Override
     public boolean mayHaveUncoveredCombinations() {
-        for (ParameterCombinationCoverageMap combinationCoverage : combinationCoverageMap.values()) {
-            if (combinationCoverage.mayHaveUncoveredCombinations()) {
-                return true;
-            }
+        // coverage only increases, so completely covered parameter combinations can be skipped permanently
+        while (firstPossiblyUncoveredCombination < combinationCoverages.length
+                && !combinationCoverages[firstPossiblyUncoveredCombination].mayHaveUncoveredCombinations()) {
+            firstPossiblyUncoveredCombination++;
         }
         
-        return false;
+        return firstPossiblyUncoveredCombination < combinationCoverages.length;
     }
     
     /**
@@ -118,25 +205,70 @@ public class EfficientCoverageMap implements CoverageMap {
     public void markAsCovered(int[] combination) {
         Preconditions.notNull(combination, COMBINATION_NOT_NULL);
         
-        if (combination[fixedParameter] != NO_VALUE) {
-            Set<ParameterCombinationCoverageMap> relevantCombinationCoverages
-                    = getRelevantCombinationCoverages(combination);
-
-            for (ParameterCombinationCoverageMap combinationCoverage : relevantCombinationCoverages) {
+        if (combination[fixedParameter] == NO_VALUE) {
+            return;
+        }
+        
+        if (assignsAllInvolvedParameters(combination)) {
+            for (ParameterCombinationCoverageMap combinationCoverage : combinationCoverages) {
                 combinationCoverage.markAsCovered(combination);
             }
+        } else {
+            for (int index : getRelevantCombinationsOfPartialCombination(combination)) {
+                combinationCoverages[index].markAsCovered(combination);
+            }
         }
     }
     
-    private Set<ParameterCombinationCoverageMap> getRelevantCombinationCoverages(int[] combination) {
-        Set<ParameterCombinationCoverageMap> relevantCombinationCoverages = new HashSet<>();
-        for (Map.Entry<IntSet, ParameterCombinationCoverageMap> entry : combinationCoverageMap.entrySet()) {
-            if (containsAllParameters(combination, entry.getKey())) {
-                relevantCombinationCoverages.add(entry.getValue());
+    private boolean assignsAllInvolvedParameters(int[] combination) {
+        for (int parameter : involvedParameters) {
+            if (combination[parameter] == NO_VALUE) {
+                return false;
             }
         }
         
-        return relevantCombinationCoverages;
+        return true;
+    }
+    
+    private long[] computeAssignedParameterMask(int[] combination) {
+        final long[] mask = new long[numberOfMaskWords()];
+        
+        for (int parameter : involvedParameters) {
+            if (combination[parameter] != NO_VALUE) {
+                mask[parameter >> 6] |= 1L << parameter;
+            }
+        }
+        
+        return mask;
+    }
+    
+    private int[] getRelevantCombinationsOfPartialCombination(int[] combination) {
+        final long[] assignedParameters = computeAssignedParameterMask(combination);
+        final IntList relevantCombinations = new IntArrayList(combinationsWithoutParameters);
+        
+        for (int parameter : involvedParameters) {
+            if (combination[parameter] != NO_VALUE) {
+                for (int index : combinationsStartingWithParameter[parameter]) {
+                    if (isRelevant(index, assignedParameters)) {
+                        relevantCombinations.add(index);
+                    }
+                }
+            }
+        }
+        
+        return relevantCombinations.toIntArray();
+    }
+    
+    private boolean isRelevant(int index, long[] assignedParameters) {
+        final long[] parameterMask = parameterMasks[index];
+        
+        for (int word = 0; word < parameterMask.length; word++) {
+            if ((parameterMask[word] & ~assignedParameters[word]) != 0) {
+                return false;
+            }
+        }
+        
+        return true;
     }
     
     /**
@@ -160,15 +292,99 @@ public class EfficientCoverageMap implements CoverageMap {
     public int[] computeGainsOfFixedParameter(int[] combination) {
         Preconditions.notNull(combination, COMBINATION_NOT_NULL);
         
-        int[] gains = new int[fixedParameterSize];
-        Set<ParameterCombinationCoverageMap> relevantCombinations = getRelevantCombinationCoverages(combination);
-        for (ParameterCombinationCoverageMap combinationCoverage : relevantCombinations) {
-            combinationCoverage.addGainsOfFixedParameter(combination, gains);
+        final int[] gains = new int[fixedParameterSize];
+        
+        if (assignsAllInvolvedParameters(combination)) {
+            for (ParameterCombinationCoverageMap combinationCoverage : combinationCoverages) {
+                combinationCoverage.addGainsOfFixedParameter(combination, gains);
+            }
+        } else {
+            for (int index : getRelevantCombinationsOfPartialCombination(combination)) {
+                combinationCoverages[index].addGainsOfFixedParameter(combination, gains);
+            }
         }
         
         return gains;
     }
     
+    /**
+     * Computes the number of uncovered combinations which would be covered if the fixed parameter given in the
+     * constructor would be set to a specific value in the given combination. Contrary to
+     * {@link #computeGainsOfFixedParameter(int[])}, constraints are not considered and the coverage map is not
+     * modified. Consequently, the returned counts are an upper bound of the gains and this method can be called
+     * concurrently for multiple combinations as long as no other method modifies the coverage map at the same time.
+     *
+     * @param combination the base combination in which the counts of the values for the fixed parameter shall be
+     *                    computed. Must not be {@code null}
+     * @return the number of uncovered combinations per value of the fixed parameter
+     * @throws NullPointerException if combination is {@code null}
+     */
+    public int[] computeUncoveredCountsOfFixedParameter(int[] combination) {
+        Preconditions.notNull(combination, COMBINATION_NOT_NULL);
+        
+        final int[] counts = new int[fixedParameterSize];
+        
+        if (assignsAllInvolvedParameters(combination)) {
+            for (ParameterCombinationCoverageMap combinationCoverage : combinationCoverages) {
+                combinationCoverage.addUncoveredCountsOfFixedParameter(combination, counts);
+            }
+        } else {
+            for (int index : getRelevantCombinationsOfPartialCombination(combination)) {
+                combinationCoverages[index].addUncoveredCountsOfFixedParameter(combination, counts);
+            }
+        }
+        
+        return counts;
+    }
+    
+    /**
+     * Computes the number of combinations which would be covered if the fixed parameter given in the constructor
+     * would be set to the given value in the given combination. This is the value-specific variant of
+     * {@link #computeGainsOfFixedParameter(int[])} and follows the same semantics.
+     *
+     * @param combination the base combination in which the gain shall be computed. Must not be {@code null}
+     * @param value       the value of the fixed parameter
+     * @return the number of combinations which would additionally be covered, or -1 if the value leads to an
+     * invalid combination
+     * @throws NullPointerException if combination is {@code null}
+     */
+    public int computeGainOfFixedParameterValue(int[] combination, int value) {
+        Preconditions.notNull(combination, COMBINATION_NOT_NULL);
+        
+        int gain = 0;
+        
+        if (assignsAllInvolvedParameters(combination)) {
+            for (ParameterCombinationCoverageMap combinationCoverage : combinationCoverages) {
+                final int combinationGain = computeGainOfFixedParameterValue(combinationCoverage, combination, value);
+                
+                if (combinationGain < 0) {
+                    return -1;
+                }
+                gain += combinationGain;
+            }
+        } else {
+            for (int index : getRelevantCombinationsOfPartialCombination(combination)) {
+                final int combinationGain
+                        = computeGainOfFixedParameterValue(combinationCoverages[index], combination, value);
+                
+                if (combinationGain < 0) {
+                    return -1;
+                }
+                gain += combinationGain;
+            }
+        }
+        
+        return gain;
+    }
+    
+    private static int computeGainOfFixedParameterValue(ParameterCombinationCoverageMap combinationCoverage,
+                                                        int[] combination,
+                                                        int value) {
+        return combinationCoverage.mayHaveUncoveredCombinations()
+                ? combinationCoverage.computeGainOfFixedParameterValue(combination, value)
+                : 0;
+    }
+    
     /**
      * Finds the next uncovered combination and returns it.
      *
@@ -178,7 +394,9 @@ public class EfficientCoverageMap implements CoverageMap {
      */
     @Override
     public Optional<int[]> getUncoveredCombination() {
-        for (ParameterCombinationCoverageMap combinationCoverage : combinationCoverageMap.values()) {
+        for (int i = firstPossiblyUncoveredCombination; i < combinationCoverages.length; i++) {
+            final ParameterCombinationCoverageMap combinationCoverage = combinationCoverages[i];
+            
             if (combinationCoverage.mayHaveUncoveredCombinations()) {
                 final Optional<int[]> uncoveredCombination = combinationCoverage.getUncoveredCombination();
 
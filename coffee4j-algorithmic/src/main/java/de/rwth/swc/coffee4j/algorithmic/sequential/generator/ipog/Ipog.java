@@ -13,6 +13,7 @@ import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -46,6 +47,25 @@ public class Ipog implements TestInputGroupGenerator {
      */
     @Override
     public Set<Supplier<TestInputGroup>> generate(CompleteTestModel model, Reporter reporter) {
+        return generate(model, reporter, testInput -> {});
+    }
+    
+    /**
+     * Constructs the same test suite as {@link #generate(CompleteTestModel, Reporter)}. Test inputs are passed to
+     * the consumer once all parameters are fixed, which is the case for most of them before the vertical extension
+     * of the last parameter.
+     *
+     * @param model             the complete testModel with which the test input groups
+     *                          should be constructed. Must not be {@code null}
+     * @param reporter          to report information from inside the generation
+     * @param testInputConsumer receives the test inputs as soon as they are final. Must not be {@code null}
+     * @return a test suite meeting the criteria described in {@link #generate(CompleteTestModel, Reporter)}
+     */
+    @Override
+    public Set<Supplier<TestInputGroup>> generate(CompleteTestModel model, Reporter reporter,
+            Consumer<int[]> testInputConsumer) {
+        Preconditions.notNull(testInputConsumer);
+        
         if(model.getPositiveTestingStrength() == 0) {
             return Collections.emptySet();
         }
@@ -53,7 +73,8 @@ public class Ipog implements TestInputGroupGenerator {
         return Collections.singleton(() -> {
             final ConstraintChecker constraintChecker = configuration.getConstraintCheckerFactory().createConstraintChecker(model);
             final TestModel groupModel = GroupSpecificTestModel.positive(model, constraintChecker);
-            final List<int[]> testInputs = new IpogAlgorithm(groupModel).generate();
+            final List<int[]> testInputs = new IpogAlgorithm(groupModel, configuration.getParallelism())
+                    .generate(testInputConsumer);
             final FaultCharacterizationConfiguration faultCharacterizationConfiguration
                     = new FaultCharacterizationConfiguration(groupModel, reporter);
 
@@ -12,10 +12,17 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntSet;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.NO_VALUE;
@@ -29,10 +36,20 @@ import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.containsAllP
  * <p>The algorithm was extended to offer support for constraints, dynamic parameter orders, and variable strength
  * testing. To introduce parameter orders, the strategy pattern is used with {@link ParameterOrder}, and the same is
  * done for variable strength testing via {@link ParameterCombinationFactory}.
+ *
+ * <p>Optionally, the horizontal extension can be executed in parallel. Then the test inputs are processed in blocks
+ * of a fixed size. For all test inputs of a block, the number of uncovered combinations per value is computed
+ * concurrently. Since coverage only increases, these numbers are upper bounds of the actual gains. Afterwards, the
+ * values are chosen sequentially in the order of the test inputs by lazily computing the actual gain of the value
+ * with the highest bound until the best value is known. As neither the block size nor the merge order depend on the
+ * number of threads, the same model always results in the same test suite.
  */
 public class IpogAlgorithm {
     
+    private static final int PARALLEL_BLOCK_SIZE = 256;
+    
     private final TestModel model;
+    private final int parallelism;
     private final ParameterOrder order = new MixedStrengthParameterOrder();
     private final ParameterCombinationFactory combinationFactory = new MixedStrengthParameterCombinationFactory();
     
@@ -44,10 +61,59 @@ public class IpogAlgorithm {
      * @throws NullPointerException if configuration is {@code null}
      */
     public IpogAlgorithm(TestModel testModel) {
+        this(testModel, 1);
+    }
+    
+    /**
+     * Creates a new algorithm for the given configuration which computes the gains of the horizontal extension with
+     * the given number of threads. Only the coverage map is accessed concurrently, so the constraint checker of
+     * the model does not need to be thread-safe.
+     *
+     * @param testModel test model that should be generated by IPOG. Must not be {@code null}
+     * @param parallelism the number of threads used for the horizontal extension. One means sequential
+     *                    execution. Must be positive
+     * @throws NullPointerException if configuration is {@code null}
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public IpogAlgorithm(TestModel testModel, int parallelism) {
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
+        
         model = Preconditions.notNull(testModel);
+        this.parallelism = parallelism;
     }
     
     public List<int[]> generate() {
+        return generate(testInput -> {});
+    }
+    
+    /**
+     * Generates the same test suite as {@link #generate()}, but passes each test input to the given consumer as soon
+     * as it is final. This is the case for all test inputs which have a value for each parameter after the
+     * horizontal extension of the last parameter, as the following vertical extension only adds new test inputs
+     * and completes existing ones which are missing values. All other test inputs are passed at the end.
+     *
+     * @param testInputConsumer receives each test input of the returned test suite exactly once. Must not be
+     *                          {@code null}
+     * @return the generated test suite. Its order can differ from the order in which the test inputs were passed
+     * @throws NullPointerException if testInputConsumer is {@code null}
+     */
+    public List<int[]> generate(Consumer<int[]> testInputConsumer) {
+        Preconditions.notNull(testInputConsumer);
+        
+        if (parallelism == 1) {
+            return generate(null, testInputConsumer);
+        }
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        
+        try {
+            return generate(executor, testInputConsumer);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private List<int[]> generate(ExecutorService executor, Consumer<int[]> testInputConsumer) {
         final int strength = model.getDefaultTestingStrength();
 
         final Int2IntMap parameters = convertToFactors();
@@ -57,13 +123,21 @@ public class IpogAlgorithm {
         addSeedsToInitialTestSuite(testSuite, model.getSeeds());
 
         final int[] remainingParameters = order.getRemainingParameters(model);
+        boolean[] passedTestInputs = new boolean[0];
 
         if(strength > 0 || model.getMixedStrengthGroups().size() > 1) {
-            extendInitialTestSuite(parameters, initialParameters, testSuite, remainingParameters);
+            passedTestInputs = extendInitialTestSuite(parameters, initialParameters, testSuite, remainingParameters,
+                    executor, testInputConsumer);
         }
 
         fillEmptyValues(testSuite, parameters);
         
+        for (int i = 0; i < testSuite.size(); i++) {
+            if (i >= passedTestInputs.length || !passedTestInputs[i]) {
+                testInputConsumer.accept(testSuite.get(i));
+            }
+        }
+        
         return testSuite;
     }
     
@@ -122,18 +196,24 @@ public class IpogAlgorithm {
         return false;
     }
 
-    private void extendInitialTestSuite(Int2IntMap parameters, int[] initialParameters, List<int[]> testSuite,
-            int[] remainingParameters) {
+    private boolean[] extendInitialTestSuite(Int2IntMap parameters, int[] initialParameters, List<int[]> testSuite,
+            int[] remainingParameters, ExecutorService executor, Consumer<int[]> testInputConsumer) {
         
         final IntList coveredParameters = new IntArrayList(initialParameters);
+        boolean[] passedTestInputs = new boolean[0];
 
-        for (int nextParameter : remainingParameters) {
+        for (int i = 0; i < remainingParameters.length; i++) {
+            final int nextParameter = remainingParameters[i];
             final List<IntSet> parameterCombinations = combinationFactory.create(
                     coveredParameters.toIntArray(), nextParameter, model);
             
             if (!parameterCombinations.isEmpty()) {
                 final CoverageMap coverageMap =
-                        horizontalExtension(nextParameter, testSuite, parameters, parameterCombinations);
+                        horizontalExtension(nextParameter, testSuite, parameters, parameterCombinations, executor);
+                
+                if (i == remainingParameters.length - 1) {
+                    passedTestInputs = passCompleteTestInputs(testSuite, testInputConsumer);
+                }
     
                 if (coverageMap.mayHaveUncoveredCombinations()) {
                     verticalExtension(nextParameter, parameters, testSuite, coverageMap);
@@ -142,13 +222,30 @@ public class IpogAlgorithm {
 
             coveredParameters.add(nextParameter);
         }
+        
+        return passedTestInputs;
+    }
+    
+    private boolean[] passCompleteTestInputs(List<int[]> testSuite, Consumer<int[]> testInputConsumer) {
+        final boolean[] passedTestInputs = new boolean[testSuite.size()];
+        
+        for (int i = 0; i < testSuite.size(); i++) {
+            final int[] testInput = testSuite.get(i);
+            
+            if (!ArrayUtil.contains(testInput, NO_VALUE)) {
+                testInputConsumer.accept(testInput);
+                passedTestInputs[i] = true;
+            }
+        }
+        
+        return passedTestInputs;
     }
     
     private CoverageMap horizontalExtension(int nextParameter, List<int[]> testSuite, Int2IntMap allParameters,
-            List<IntSet> parameterCombinations) {
+            List<IntSet> parameterCombinations, ExecutorService executor) {
         
-        final CoverageMap coverageMap = new EfficientCoverageMap(parameterCombinations, nextParameter, allParameters,
-                model.getConstraintChecker());
+        final EfficientCoverageMap coverageMap = new EfficientCoverageMap(parameterCombinations, nextParameter,
+                allParameters, model.getConstraintChecker());
         
         if (!model.getSeeds().isEmpty()) {
             for (int[] testInput : testSuite) {
@@ -156,6 +253,12 @@ public class IpogAlgorithm {
             }
         }
         
+        if (executor != null) {
+            parallelHorizontalExtension(coverageMap, testSuite, nextParameter, executor);
+            
+            return coverageMap;
+        }
+        
         for (int[] testInput : testSuite) {
             addValueWithHighestCoverageGain(coverageMap, testInput, nextParameter);
             coverageMap.markAsCovered(testInput);
@@ -195,6 +298,108 @@ public class IpogAlgorithm {
                 + " cannot be updated for parameter " + parameterIndex);
     }
 
+    private void parallelHorizontalExtension(EfficientCoverageMap coverageMap, List<int[]> testSuite,
+                                             int nextParameter, ExecutorService executor) {
+        for (int blockStart = 0; blockStart < testSuite.size(); blockStart += PARALLEL_BLOCK_SIZE) {
+            final List<int[]> block = testSuite.subList(blockStart,
+                    Math.min(blockStart + PARALLEL_BLOCK_SIZE, testSuite.size()));
+            final List<int[]> upperBounds = computeUncoveredCounts(coverageMap, block, nextParameter, executor);
+            
+            for (int i = 0; i < block.size(); i++) {
+                final int[] testInput = block.get(i);
+                
+                if (!skipAlreadyParameterValues(testInput, nextParameter)) {
+                    addValueWithHighestCoverageGain(coverageMap, testInput, nextParameter, upperBounds.get(i));
+                }
+                coverageMap.markAsCovered(testInput);
+                
+                if (!coverageMap.mayHaveUncoveredCombinations()) {
+                    return;
+                }
+            }
+        }
+    }
+    
+    private List<int[]> computeUncoveredCounts(EfficientCoverageMap coverageMap, List<int[]> block,
+                                               int parameterIndex, ExecutorService executor) {
+        final int chunkSize = (block.size() + parallelism - 1) / parallelism;
+        final List<Callable<List<int[]>>> tasks = new ArrayList<>(parallelism);
+        
+        for (int chunkStart = 0; chunkStart < block.size(); chunkStart += chunkSize) {
+            final List<int[]> chunk = block.subList(chunkStart, Math.min(chunkStart + chunkSize, block.size()));
+            
+            tasks.add(() -> {
+                final List<int[]> counts = new ArrayList<>(chunk.size());
+                for (int[] testInput : chunk) {
+                    counts.add(skipAlreadyParameterValues(testInput, parameterIndex)
+                            ? null
+                            : coverageMap.computeUncoveredCountsOfFixedParameter(testInput));
+                }
+                return counts;
+            });
+        }
+        
+        final List<int[]> upperBounds = new ArrayList<>(block.size());
+        try {
+            for (Future<List<int[]>> future : executor.invokeAll(tasks)) {
+                upperBounds.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during parallel horizontal extension", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not compute gains of parameter " + parameterIndex, e.getCause());
+        }
+        
+        return upperBounds;
+    }
+    
+    /*
+     * The upper bounds are lazily replaced by the actual gains. Once the value with the highest bound has an actual
+     * gain, no other value can have a higher gain. Ties are broken by the smaller value like in the sequential case.
+     */
+    private void addValueWithHighestCoverageGain(EfficientCoverageMap coverageMap,
+                                                 int[] partialTestInput,
+                                                 int parameterIndex,
+                                                 int[] upperBounds) {
+        final boolean[] actualGain = new boolean[upperBounds.length];
+        final boolean[] triedValue = new boolean[upperBounds.length];
+        
+        for (int remainingValues = upperBounds.length; remainingValues > 0; ) {
+            final int value = getValueWithHighestGain(upperBounds, triedValue);
+            
+            if (!actualGain[value]) {
+                upperBounds[value] = coverageMap.computeGainOfFixedParameterValue(partialTestInput, value);
+                actualGain[value] = true;
+            } else {
+                partialTestInput[parameterIndex] = value;
+                
+                if (model.getConstraintChecker().isValid(partialTestInput)) {
+                    return;
+                }
+                
+                partialTestInput[parameterIndex] = NO_VALUE;
+                triedValue[value] = true;
+                remainingValues--;
+            }
+        }
+        
+        throw new IllegalStateException("ERROR: test input "
+                + Arrays.toString(partialTestInput)
+                + " cannot be updated for parameter " + parameterIndex);
+    }
+    
+    private int getValueWithHighestGain(int[] gains, boolean[] excludedValues) {
+        int valueWithHighestGain = -1;
+        for (int value = 0; value < gains.length; value++) {
+            if (!excludedValues[value]
+                    && (valueWithHighestGain == -1 || gains[value] > gains[valueWithHighestGain])) {
+                valueWithHighestGain = value;
+            }
+        }
+        return valueWithHighestGain;
+    }
+
     private boolean skipAlreadyParameterValues(int[] partialTestInput, int parameterIndex) {
         return partialTestInput[parameterIndex] != NO_VALUE;
     }
@@ -2,6 +2,7 @@ package de.rwth.swc.coffee4j.algorithmic.sequential.generator.ipog;
 
 import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerFactory;
 import de.rwth.swc.coffee4j.algorithmic.constraint.MinimalForbiddenTuplesCheckerFactory;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 
 import java.util.Objects;
 
@@ -12,25 +13,43 @@ public class IpogConfiguration {
     }
 
     private final ConstraintCheckerFactory constraintCheckerFactory;
+    private final int parallelism;
 
     public IpogConfiguration(ConstraintCheckerFactory constraintCheckerFactory) {
+        this(constraintCheckerFactory, 1);
+    }
+
+    /**
+     * @param constraintCheckerFactory the factory used to create the constraint checker for the generation
+     * @param parallelism the number of threads used for the horizontal extension of {@link IpogAlgorithm}.
+     *                    One means sequential execution. Must be positive
+     */
+    public IpogConfiguration(ConstraintCheckerFactory constraintCheckerFactory, int parallelism) {
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
+
         this.constraintCheckerFactory = constraintCheckerFactory;
+        this.parallelism = parallelism;
     }
 
     public ConstraintCheckerFactory getConstraintCheckerFactory() {
         return constraintCheckerFactory;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         IpogConfiguration that = (IpogConfiguration) o;
-        return constraintCheckerFactory.equals(that.constraintCheckerFactory);
+        return parallelism == that.parallelism &&
+                constraintCheckerFactory.equals(that.constraintCheckerFactory);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(constraintCheckerFactory);
+        return Objects.hash(constraintCheckerFactory, parallelism);
     }
 }
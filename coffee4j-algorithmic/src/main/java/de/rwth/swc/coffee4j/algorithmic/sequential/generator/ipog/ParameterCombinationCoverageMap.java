@@ -26,6 +26,7 @@ final class ParameterCombinationCoverageMap {
     private final int[] parameterMultipliers;
 
     private final BitSet coverageMap;
+    private int numberOfUncoveredCombinations;
 
     private final ConstraintChecker constraintChecker;
 
@@ -56,6 +57,7 @@ final class ParameterCombinationCoverageMap {
         numberOfParameters = parameters.size();
 
         coverageMap = new BitSet(numberOfCombinations);
+        numberOfUncoveredCombinations = numberOfCombinations;
 
         this.constraintChecker = constraintChecker;
     }
@@ -95,7 +97,7 @@ final class ParameterCombinationCoverageMap {
      *          false if all combinations are covered
      */
     boolean mayHaveUncoveredCombinations() {
-        return coverageMap.cardinality() < numberOfCombinations;
+        return numberOfUncoveredCombinations > 0;
     }
 
     /**
@@ -105,15 +107,14 @@ final class ParameterCombinationCoverageMap {
      * @param combination   combination to mark as covered
      */
     void markAsCovered(int[] combination) {
-        int index = getIndexUntil(combination, parameterCombination.length);
-
-        if (!coverageMap.get(index)) {
-            markIndexAsCovered(index);
-        }
+        markIndexAsCovered(getIndexUntil(combination, parameterCombination.length));
     }
 
     private void markIndexAsCovered(int index) {
-        coverageMap.set(index);
+        if (!coverageMap.get(index)) {
+            coverageMap.set(index);
+            numberOfUncoveredCombinations--;
+        }
     }
 
     private int getIndexUntil(int[] combination, int parameterCount) {
@@ -181,12 +182,15 @@ final class ParameterCombinationCoverageMap {
         int fixedParameterIndex = parameterCombination.length - 1;
         int baseIndex = getIndexUntil(combination, fixedParameterIndex);
 
-        int[] subset = createSubsetOfCombination(combination, parameterCombination);
+        int[] subset = null;
 
         for (int value = 0; value < gains.length; value++) {
             int index = baseIndex + value * parameterMultipliers[fixedParameterIndex];
 
             if (gains[value] != -1 && !coverageMap.get(index)) {
+                if (subset == null) {
+                    subset = createSubsetOfCombination(combination, parameterCombination);
+                }
                 subset[fixedParameterIndex] = value;
 
                 if (constraintChecker.isDualValid(parameterCombination, subset)) {
@@ -199,6 +203,54 @@ final class ParameterCombinationCoverageMap {
         }
     }
 
+    /**
+     * Adds the number of uncovered combinations which would be covered if the fixed parameter was set to a
+     * specific value. In contrast to {@link #addGainsOfFixedParameter(int[], int[])}, this method neither consults
+     * the constraint checker nor modifies the coverage map. Therefore, it can be called concurrently as long as no
+     * other thread modifies the map, and the counts are an upper bound of the actual gains.
+     *
+     * @param combination   the combination for which the counts are computed
+     * @param counts        the counts per value of the fixed parameter to which the uncovered combinations are added
+     */
+    void addUncoveredCountsOfFixedParameter(int[] combination, int[] counts) {
+        int fixedParameterIndex = parameterCombination.length - 1;
+        int baseIndex = getIndexUntil(combination, fixedParameterIndex);
+
+        for (int value = 0; value < counts.length; value++) {
+            if (!coverageMap.get(baseIndex + value * parameterMultipliers[fixedParameterIndex])) {
+                counts[value]++;
+            }
+        }
+    }
+
+    /**
+     * Computes whether setting the fixed parameter to the given value would cover a new combination.
+     * Like in {@link #addGainsOfFixedParameter(int[], int[])}, an invalid combination is marked as covered.
+     *
+     * @param combination   the combination for which the gain is computed
+     * @param value         the value of the fixed parameter
+     * @return  1 if a new valid combination would be covered, 0 if the combination is already covered,
+     *          and -1 if the combination is invalid
+     */
+    int computeGainOfFixedParameterValue(int[] combination, int value) {
+        int fixedParameterIndex = parameterCombination.length - 1;
+        int index = getIndexUntil(combination, fixedParameterIndex) + value * parameterMultipliers[fixedParameterIndex];
+
+        if (coverageMap.get(index)) {
+            return 0;
+        }
+
+        int[] subset = createSubsetOfCombination(combination, parameterCombination);
+        subset[fixedParameterIndex] = value;
+
+        if (constraintChecker.isDualValid(parameterCombination, subset)) {
+            return 1;
+        } else {
+            markIndexAsCovered(index);
+            return -1;
+        }
+    }
+
     private int[] createSubsetOfCombination(int[] combination, int[] parameters) {
         int[] subset = new int[parameters.length];
 
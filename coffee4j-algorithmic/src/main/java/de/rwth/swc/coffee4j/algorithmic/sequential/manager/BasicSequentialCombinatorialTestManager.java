@@ -9,6 +9,7 @@ import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharact
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.sequential.generator.TestInputGroup;
 import de.rwth.swc.coffee4j.algorithmic.sequential.generator.TestInputGroupGenerator;
+import de.rwth.swc.coffee4j.algorithmic.sequential.prioritization.NoOpTestInputPrioritizer;
 import de.rwth.swc.coffee4j.algorithmic.sequential.prioritization.TestInputPrioritizer;
 import de.rwth.swc.coffee4j.algorithmic.sequential.report.EmptySequentialGenerationReporter;
 import de.rwth.swc.coffee4j.algorithmic.sequential.report.GenerationReporter;
@@ -16,6 +17,7 @@ import de.rwth.swc.coffee4j.algorithmic.util.IntArrayWrapper;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -60,11 +62,56 @@ public class BasicSequentialCombinatorialTestManager implements SequentialCombin
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Generates the same test inputs as {@link #generateInitialTests()}. If the {@link TestInputPrioritizer} is a
+     * {@link NoOpTestInputPrioritizer}, the test inputs are passed to the consumer as soon as the
+     * {@link TestInputGroupGenerator} provides them. Otherwise, each group has to be prioritized first, so its test
+     * inputs are passed once the group is complete.
+     *
+     * @param testInputConsumer receives the initial test inputs as soon as they are known. Must not be {@code null}
+     * @return all generated test inputs from all groups
+     */
+    @Override
+    public List<int[]> generateInitialTests(Consumer<int[]> testInputConsumer) {
+        Preconditions.notNull(testInputConsumer);
+        
+        if (!(configuration.getPrioritizer() instanceof NoOpTestInputPrioritizer)) {
+            return SequentialCombinatorialTestManager.super.generateInitialTests(testInputConsumer);
+        }
+        
+        final List<int[]> testInputs = new ArrayList<>();
+        
+        for (TestInputGroupGenerator generator : configuration.getGenerators()) {
+            for (SingleGroupGenerationManager manager : generateManagers(generator, testInputConsumer)) {
+                testInputs.addAll(registerManager(manager).generateInitialTests());
+            }
+        }
+        
+        return testInputs;
+    }
+    
     private Set<SingleGroupGenerationManager> generateManagers(TestInputGroupGenerator generator) {
-        final GenerationReporter generationReporter = configuration.getGenerationReporter()
-                .orElse(new EmptySequentialGenerationReporter());
+        final GenerationReporter generationReporter = getGenerationReporter();
+        
+        return createManagers(generator, generator.generate(model, generationReporter), generationReporter);
+    }
+    
+    private Set<SingleGroupGenerationManager> generateManagers(TestInputGroupGenerator generator,
+            Consumer<int[]> testInputConsumer) {
+        final GenerationReporter generationReporter = getGenerationReporter();
+        
+        return createManagers(generator, generator.generate(model, generationReporter, testInputConsumer),
+                generationReporter);
+    }
+    
+    private GenerationReporter getGenerationReporter() {
+        return configuration.getGenerationReporter().orElse(new EmptySequentialGenerationReporter());
+    }
+    
+    private Set<SingleGroupGenerationManager> createManagers(TestInputGroupGenerator generator,
+            Collection<Supplier<TestInputGroup>> testInputGroupSuppliers, GenerationReporter generationReporter) {
         
-        return generator.generate(model, generationReporter).stream()
+        return testInputGroupSuppliers.stream()
                 .map(testInputGroupSupplier -> new SingleGroupGenerationManager(
                         testInputGroupSupplier,
                         generator,
@@ -5,6 +5,7 @@ import de.rwth.swc.coffee4j.algorithmic.util.IntArrayWrapper;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +35,40 @@ public class CachingDelegatingSequentialCombinatorialTestManager implements Sequ
         return computeTestInputsWithUnknownResults(generator.generateInitialTests());
     }
     
+    /**
+     * Passes the test inputs of the delegated manager without a cached result to the consumer as soon as the
+     * delegated manager provides them. Cached results can only be given to the delegated manager once its initial
+     * generation is finished, so test inputs resulting from them are passed afterwards.
+     *
+     * @param testInputConsumer receives the initial test inputs with unknown results as soon as they are known.
+     *                          Must not be {@code null}
+     * @return all initial test inputs with unknown results
+     */
+    @Override
+    public synchronized List<int[]> generateInitialTests(Consumer<int[]> testInputConsumer) {
+        Preconditions.notNull(testInputConsumer);
+        
+        final List<int[]> testInputsWithUnknownResults = new ArrayList<>();
+        final List<int[]> testInputsWithCachedResults = new ArrayList<>();
+        
+        generator.generateInitialTests(testInput -> {
+            final IntArrayWrapper wrappedTestInput = new IntArrayWrapper(testInput);
+            
+            if (cache.containsResultFor(wrappedTestInput)) {
+                testInputsWithCachedResults.add(testInput);
+            } else if (awaitedTestResults.add(wrappedTestInput)) {
+                testInputsWithUnknownResults.add(testInput);
+                testInputConsumer.accept(testInput);
+            }
+        });
+        
+        final List<int[]> remainingTestInputs = computeTestInputsWithUnknownResults(testInputsWithCachedResults);
+        remainingTestInputs.forEach(testInputConsumer);
+        testInputsWithUnknownResults.addAll(remainingTestInputs);
+        
+        return testInputsWithUnknownResults;
+    }
+    
     private List<int[]> computeTestInputsWithUnknownResults(List<int[]> neededTestResults) {
         final List<int[]> testInputsWithUnknownResults = new ArrayList<>();
         final LinkedList<IntArrayWrapper> remainingNeededTestResults = neededTestResults.stream()
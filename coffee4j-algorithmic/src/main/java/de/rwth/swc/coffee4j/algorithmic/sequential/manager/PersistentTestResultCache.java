@@ -0,0 +1,390 @@
+package de.rwth.swc.coffee4j.algorithmic.sequential.manager;
+
+import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.IntArrayWrapper;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link TestResultCache} which shares the results of passing test inputs across multiple runs, so that unchanged
+ * test inputs are not executed again.
+ *
+ * <p>
+ *     The results are stored in a file named after a fingerprint of the namespace, the structure of the
+ *     {@link CompleteTestModel} (testing strengths, parameter sizes, and constraint tuples), and a description of the
+ *     model's parameters and values. The latter is needed since the indices of a renamed or reordered value stay the
+ *     same. Any change to the model therefore starts with an empty store. The file consists of a header followed by fixed-size records, each
+ *     containing the time at which it was recorded and the value of every parameter. When the cache is created, the
+ *     file is read once to build an in-memory index, and records which are invalid according to the
+ *     {@link TestResultInvalidationPolicy} are removed. A partially written record at the end of the file is discarded.
+ *     Files which were not written by this cache are never modified.
+ * </p>
+ * <p>
+ *     Lookups only read from a {@link ConcurrentHashMap} and therefore never block. Adding results appends a single
+ *     record to the file. Creating the header, removing invalid records, and appending records are done while holding
+ *     a lock on a separate lock file, so multiple caches and processes can safely use the same store. Only passing
+ *     results are stored in the file since the exceptions of failing test inputs cannot be restored faithfully.
+ *     Failing results are cached for the current run only.
+ * </p>
+ */
+public class PersistentTestResultCache implements TestResultCache {
+
+    static final String FILE_EXTENSION = ".testresults";
+
+    private static final int MAGIC_NUMBER = 0xC0FF4E57;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /**
+     * A {@link FileLock} is held on behalf of the whole JVM, so caches of the same JVM additionally synchronize on
+     * one monitor per lock file.
+     */
+    private static final Map<Path, Object> LOCK_FILE_MONITORS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Path lockFile;
+    private final long fingerprint;
+    private final int[] parameterSizes;
+    private final int recordSize;
+
+    private final Clock clock;
+
+    private final Map<IntArrayWrapper, TestResult> results = new ConcurrentHashMap<>();
+
+    /**
+     * Opens the store for the given model in the given directory and loads all valid results from it. The directory
+     * and the store are created if they do not exist yet. Since the model only contains value indices, renaming or
+     * reordering values is not detected. Use
+     * {@link #PersistentTestResultCache(Path, String, CompleteTestModel, String, TestResultInvalidationPolicy)} if
+     * a description of the values is available.
+     *
+     * @param directory the directory containing the stores. Must not be {@code null}
+     * @param namespace distinguishes tests with structurally equal models. Must not be {@code null}
+     * @param model the model of all cached test inputs. Must not be {@code null}
+     * @param invalidationPolicy decides which stored results are no longer used. Must not be {@code null}
+     * @throws Coffee4JException if the store cannot be opened or its file was not written by this cache
+     */
+    public PersistentTestResultCache(Path directory, String namespace, CompleteTestModel model,
+            TestResultInvalidationPolicy invalidationPolicy) {
+
+        this(directory, namespace, model, "", invalidationPolicy);
+    }
+
+    /**
+     * Opens the store for the given model in the given directory and loads all valid results from it. The directory
+     * and the store are created if they do not exist yet.
+     *
+     * @param directory the directory containing the stores. Must not be {@code null}
+     * @param namespace distinguishes tests with structurally equal models. Must not be {@code null}
+     * @param model the model of all cached test inputs. Must not be {@code null}
+     * @param modelDescription describes the parameters and values behind the indices of the model, e.g. their names.
+     *                         Must not be {@code null}
+     * @param invalidationPolicy decides which stored results are no longer used. Must not be {@code null}
+     * @throws Coffee4JException if the store cannot be opened or its file was not written by this cache
+     */
+    public PersistentTestResultCache(Path directory, String namespace, CompleteTestModel model,
+            String modelDescription, TestResultInvalidationPolicy invalidationPolicy) {
+
+        this(directory, namespace, model, modelDescription, invalidationPolicy, Clock.systemUTC());
+    }
+
+    PersistentTestResultCache(Path directory, String namespace, CompleteTestModel model, String modelDescription,
+            TestResultInvalidationPolicy invalidationPolicy, Clock clock) {
+
+        Preconditions.notNull(directory);
+        Preconditions.notNull(namespace);
+        Preconditions.notNull(model);
+        Preconditions.notNull(modelDescription);
+        Preconditions.notNull(invalidationPolicy);
+
+        this.fingerprint = computeFingerprint(namespace, model, modelDescription);
+        this.file = directory.resolve(String.format("%016x", fingerprint) + FILE_EXTENSION);
+        this.lockFile = directory.resolve(file.getFileName() + ".lock");
+        this.parameterSizes = model.getParameterSizes();
+        this.recordSize = Long.BYTES + parameterSizes.length * Integer.BYTES;
+        this.clock = Preconditions.notNull(clock);
+
+        try {
+            Files.createDirectories(directory);
+            runLocked(() -> load(invalidationPolicy));
+        } catch (IOException e) {
+            throw new Coffee4JException(e, "Could not open test result store %s", file);
+        }
+    }
+
+    /**
+     * Computes a fingerprint of the namespace, the given model, and its description which stays the same across
+     * different JVMs as long as the testing strengths, parameter sizes, constraint tuples, and description of the
+     * model do not change.
+     *
+     * @param namespace distinguishes tests with structurally equal models. Must not be {@code null}
+     * @param model the model for which a fingerprint is computed. Must not be {@code null}
+     * @param modelDescription describes the parameters and values behind the indices of the model. Must not be
+     *                         {@code null}
+     * @return the fingerprint
+     */
+    static long computeFingerprint(String namespace, CompleteTestModel model, String modelDescription) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream description = new DataOutputStream(bytes)) {
+            writeString(description, namespace);
+            description.writeInt(model.getPositiveTestingStrength());
+            description.writeInt(model.getNegativeTestingStrength());
+            writeInts(description, model.getParameterSizes());
+            writeTupleLists(description, model.getExclusionTupleLists());
+            writeTupleLists(description, model.getErrorTupleLists());
+            writeString(description, modelDescription);
+        } catch (IOException e) {
+            throw new Coffee4JException("Could not compute fingerprint of test model", e);
+        }
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes.toByteArray());
+
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new Coffee4JException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream description, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        description.writeInt(bytes.length);
+        description.write(bytes);
+    }
+
+    private static void writeTupleLists(DataOutputStream description, List<TupleList> tupleLists) throws IOException {
+        description.writeInt(tupleLists.size());
+
+        for (TupleList tupleList : tupleLists) {
+            description.writeInt(tupleList.getId());
+            writeInts(description, tupleList.getInvolvedParameters());
+            description.writeInt(tupleList.getTuples().size());
+            for (int[] tuple : tupleList.getTuples()) {
+                writeInts(description, tuple);
+            }
+        }
+    }
+
+    private static void writeInts(DataOutputStream description, int[] values) throws IOException {
+        description.writeInt(values.length);
+
+        for (int value : values) {
+            description.writeInt(value);
+        }
+    }
+
+    private void runLocked(FileOperation operation) throws IOException {
+        final Object monitor = LOCK_FILE_MONITORS.computeIfAbsent(lockFile.toAbsolutePath().normalize(),
+                path -> new Object());
+
+        synchronized (monitor) {
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock lock = channel.lock()) {
+
+                operation.run();
+            }
+        }
+    }
+
+    private void load(TestResultInvalidationPolicy invalidationPolicy) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        final Instant now = clock.instant();
+        final List<ByteBuffer> validRecords = new ArrayList<>();
+        final ByteBuffer buffer = read();
+        final int size = buffer.limit();
+        boolean isCompactionNeeded;
+
+        if (size >= Integer.BYTES && buffer.getInt(0) != MAGIC_NUMBER) {
+            throw new Coffee4JException("%s is not a test result store", file);
+        }
+
+        if (!hasValidHeader(buffer)) {
+            isCompactionNeeded = true;
+        } else {
+            final int numberOfRecords = (size - HEADER_SIZE) / recordSize;
+            isCompactionNeeded = HEADER_SIZE + numberOfRecords * recordSize != size;
+
+            for (int i = 0; i < numberOfRecords; i++) {
+                final ByteBuffer record = buffer.slice().limit(recordSize);
+                buffer.position(buffer.position() + recordSize);
+
+                final Instant recordedAt = Instant.ofEpochMilli(record.getLong());
+                final int[] testInput = readTestInput(record);
+
+                if (testInput == null || invalidationPolicy.isInvalid(recordedAt, now)
+                        || results.putIfAbsent(new IntArrayWrapper(testInput), TestResult.success()) != null) {
+                    isCompactionNeeded = true;
+                } else {
+                    validRecords.add(record.rewind());
+                }
+            }
+        }
+
+        if (isCompactionNeeded) {
+            rewrite(validRecords);
+        }
+    }
+
+    /*
+     * The file is read into a heap buffer instead of being memory-mapped since a mapping is only released by the
+     * garbage collector, and some platforms do not allow replacing a mapped file.
+     */
+    private ByteBuffer read() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            if (size > Integer.MAX_VALUE) {
+                throw new Coffee4JException("%s is too large to be a test result store", file);
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until the buffer is full or the end of the file is reached
+            }
+
+            return buffer.flip();
+        }
+    }
+
+    private boolean hasValidHeader(ByteBuffer buffer) {
+        return buffer.remaining() >= HEADER_SIZE
+                && buffer.getInt() == MAGIC_NUMBER
+                && buffer.getInt() == VERSION
+                && buffer.getLong() == fingerprint
+                && buffer.getInt() == parameterSizes.length;
+    }
+
+    private int[] readTestInput(ByteBuffer record) {
+        final int[] testInput = new int[parameterSizes.length];
+
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            testInput[parameter] = record.getInt();
+
+            if (testInput[parameter] < -1 || testInput[parameter] >= parameterSizes[parameter]) {
+                return null;
+            }
+        }
+
+        return testInput;
+    }
+
+    private void rewrite(List<ByteBuffer> records) throws IOException {
+        final Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+            channel.write(createHeader());
+            for (ByteBuffer record : records) {
+                channel.write(record);
+            }
+        }
+
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private ByteBuffer createHeader() {
+        return ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC_NUMBER)
+                .putInt(VERSION)
+                .putLong(fingerprint)
+                .putInt(parameterSizes.length)
+                .flip();
+    }
+
+    @Override
+    public boolean containsResultFor(IntArrayWrapper testInput) {
+        return results.containsKey(testInput);
+    }
+
+    @Override
+    public TestResult getResultFor(IntArrayWrapper testInput) {
+        return results.get(testInput);
+    }
+
+    @Override
+    public void addResultFor(IntArrayWrapper testInput, TestResult result) {
+        final TestResult previousResult = results.put(testInput, result);
+
+        if (result.isSuccessful() && (previousResult == null || !previousResult.isSuccessful())
+                && testInput.getArray().length == parameterSizes.length) {
+            append(testInput.getArray());
+        }
+    }
+
+    private void append(int[] testInput) {
+        final ByteBuffer record = ByteBuffer.allocate(recordSize).putLong(clock.millis());
+        for (int value : testInput) {
+            record.putInt(value);
+        }
+        record.flip();
+
+        try {
+            runLocked(() -> {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+
+                    if (channel.size() == 0) {
+                        channel.write(createHeader());
+                    }
+                    channel.write(record);
+                }
+            });
+        } catch (IOException e) {
+            throw new Coffee4JException(e, "Could not store test result in %s", file);
+        }
+    }
+
+    /**
+     * Explicitly invalidates all results of this model, including the ones stored in earlier runs.
+     */
+    public void invalidateAll() {
+        results.clear();
+
+        try {
+            runLocked(() -> Files.deleteIfExists(file));
+        } catch (IOException e) {
+            throw new Coffee4JException(e, "Could not delete test result store %s", file);
+        }
+    }
+
+    /**
+     * @return the file in which the results are stored
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @FunctionalInterface
+    private interface FileOperation {
+
+        void run() throws IOException;
+
+    }
+
+}
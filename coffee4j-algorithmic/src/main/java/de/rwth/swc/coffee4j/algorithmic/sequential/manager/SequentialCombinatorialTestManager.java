@@ -3,6 +3,7 @@ package de.rwth.swc.coffee4j.algorithmic.sequential.manager;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Defines a manager which can completely manage a combinatorial test including dynamic test generation (e.g
@@ -19,6 +20,22 @@ public interface SequentialCombinatorialTestManager {
      */
     List<int[]> generateInitialTests();
     
+    /**
+     * Generates the same initial test inputs as {@link #generateInitialTests()}, but passes each of them to the given
+     * consumer as soon as it is known. This allows front-ends to execute test inputs while the generation is still
+     * running. Each returned test input is passed exactly once, though not necessarily in the returned order.
+     * By default, all test inputs are passed after the generation is finished.
+     *
+     * @param testInputConsumer receives the initial test inputs as soon as they are known. Must not be {@code null}
+     * @return a list of all initial test inputs
+     */
+    default List<int[]> generateInitialTests(Consumer<int[]> testInputConsumer) {
+        final List<int[]> testInputs = generateInitialTests();
+        testInputs.forEach(testInputConsumer);
+        
+        return testInputs;
+    }
+    
     /**
      * Generates additional test inputs based on results of previous test inputs normally generated by either
      * {@link #generateInitialTests()} or this method in a previous iteration. For example, this functionality can be
@@ -6,6 +6,7 @@ import de.rwth.swc.coffee4j.algorithmic.util.IntArrayWrapper;
 /**
  * A cache for test results to reduce unnecessary execution time if the same test input results are requested multiple
  * times.
+ * Implementations are created through a {@link TestResultCacheFactory}.
  */
 public interface TestResultCache {
     
@@ -0,0 +1,80 @@
+package de.rwth.swc.coffee4j.algorithmic.sequential.manager;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+
+import java.nio.file.Path;
+
+/**
+ * A factory for the {@link TestResultCache} used by a {@link CachingDelegatingSequentialCombinatorialTestManager}.
+ */
+@FunctionalInterface
+public interface TestResultCacheFactory {
+    
+    /**
+     * Creates a new {@link TestResultCache} for the test inputs of the given model.
+     *
+     * @param model the model of which the test inputs are cached. Must not be {@code null}
+     * @return the created cache
+     */
+    TestResultCache create(CompleteTestModel model);
+    
+    /**
+     * Creates a new {@link TestResultCache} for the test inputs of the given model. Caches which outlive a run can use
+     * the description to detect changed parameters or values, since the model only contains their indices.
+     *
+     * @param model the model of which the test inputs are cached. Must not be {@code null}
+     * @param modelDescription describes the parameters and values behind the indices of the model, e.g. their names.
+     *                         Must not be {@code null}
+     * @return the created cache
+     */
+    default TestResultCache create(CompleteTestModel model, String modelDescription) {
+        return create(model);
+    }
+    
+    /**
+     * @return a factory for {@link HashMapTestResultCache}s which only cache results within one run. This is the
+     * default
+     */
+    static TestResultCacheFactory hashMap() {
+        return model -> new HashMapTestResultCache();
+    }
+    
+    /**
+     * Creates a factory for {@link PersistentTestResultCache}s which keep passing results forever.
+     *
+     * @param directory the directory in which the results are stored. Must not be {@code null}
+     * @param namespace distinguishes tests with structurally equal models, e.g. the name of the test method.
+     *                  Must not be {@code null}
+     * @return a factory for caches sharing results across runs
+     */
+    static TestResultCacheFactory persistent(Path directory, String namespace) {
+        return persistent(directory, namespace, TestResultInvalidationPolicy.never());
+    }
+    
+    /**
+     * Creates a factory for {@link PersistentTestResultCache}s which discard results according to the given policy.
+     *
+     * @param directory the directory in which the results are stored. Must not be {@code null}
+     * @param namespace distinguishes tests with structurally equal models, e.g. the name of the test method.
+     *                  Must not be {@code null}
+     * @param invalidationPolicy decides which stored results are no longer used. Must not be {@code null}
+     * @return a factory for caches sharing results across runs
+     */
+    static TestResultCacheFactory persistent(Path directory, String namespace,
+            TestResultInvalidationPolicy invalidationPolicy) {
+        
+        return new TestResultCacheFactory() {
+            @Override
+            public TestResultCache create(CompleteTestModel model) {
+                return new PersistentTestResultCache(directory, namespace, model, invalidationPolicy);
+            }
+            
+            @Override
+            public TestResultCache create(CompleteTestModel model, String modelDescription) {
+                return new PersistentTestResultCache(directory, namespace, model, modelDescription,
+                        invalidationPolicy);
+            }
+        };
+    }
+    
+}
@@ -0,0 +1,41 @@
+package de.rwth.swc.coffee4j.algorithmic.sequential.manager;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Decides whether a result stored by a {@link PersistentTestResultCache} in an earlier run may still be used.
+ * Invalid results are removed from the store when the cache is opened, so the corresponding test inputs are
+ * executed again.
+ */
+@FunctionalInterface
+public interface TestResultInvalidationPolicy {
+    
+    /**
+     * @param recordedAt the point in time at which the result was stored
+     * @param now the point in time at which the cache is opened
+     * @return whether the result must not be used anymore
+     */
+    boolean isInvalid(Instant recordedAt, Instant now);
+    
+    /**
+     * @return a policy which keeps all results until the model changes or the store is deleted
+     */
+    static TestResultInvalidationPolicy never() {
+        return (recordedAt, now) -> false;
+    }
+    
+    /**
+     * @param maximumAge the maximum age of a result. Must not be {@code null} or negative
+     * @return a policy invalidating all results which are older than the given age
+     */
+    static TestResultInvalidationPolicy olderThan(Duration maximumAge) {
+        Preconditions.notNull(maximumAge);
+        Preconditions.check(!maximumAge.isNegative());
+        
+        return (recordedAt, now) -> recordedAt.plus(maximumAge).isBefore(now);
+    }
+    
+}
@@ -0,0 +1,173 @@
+package de.rwth.swc.coffee4j.algorithmic.sequential.prioritization;
+
+import de.rwth.swc.coffee4j.algorithmic.model.TestModel;
+import de.rwth.swc.coffee4j.algorithmic.util.BitSetCoverageMap;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * An implementation of {@link TestInputPrioritizer} which greedily orders the test inputs by their coverage of
+ * t-wise combinations, where t is the {@link TestModel#getDefaultTestingStrength()} of the model. Each next test input
+ * is the one covering the most combinations which are not covered by any earlier test input. Ties are broken by the
+ * original order, and all test inputs which do not cover any new combination keep their original order at the end.
+ *
+ * <p>If weights are used, each combination counts with the product of the weights of its values as given by
+ * {@link TestModel#getWeight(int, int, double)}. Values without a weight have a weight of one, so a model without
+ * any weights is prioritized in the same way as without using weights. Weights should be positive.
+ *
+ * <p>The uncovered combinations are tracked in a {@link BitSetCoverageMap}. Since the number of newly covered
+ * combinations of a test input can only decrease as more test inputs are selected, the prioritizer does not
+ * reevaluate all remaining test inputs in each step. Instead, it keeps them in a priority queue ordered by their last
+ * known coverage and only reevaluates the head of the queue until its coverage is up to date. In practice, only a few
+ * test inputs are reevaluated per step, so the running time is close to linear in the number of test inputs.
+ */
+public final class CoverageBasedTestInputPrioritizer implements TestInputPrioritizer {
+
+    private static final double DEFAULT_WEIGHT = 1;
+
+    private final boolean useWeights;
+
+    /**
+     * Creates a new prioritizer which weighs the combinations using the weights of the model.
+     */
+    public CoverageBasedTestInputPrioritizer() {
+        this(true);
+    }
+
+    /**
+     * Creates a new prioritizer.
+     *
+     * @param useWeights whether the combinations are weighted using the weights of the model. Otherwise, every
+     *     combination counts as one
+     */
+    public CoverageBasedTestInputPrioritizer(boolean useWeights) {
+        this.useWeights = useWeights;
+    }
+
+    @Override
+    public List<int[]> prioritize(Collection<int[]> testCases, TestModel model) {
+        Preconditions.notNull(testCases);
+        Preconditions.notNull(model);
+
+        final List<int[]> testInputs = new ArrayList<>(testCases);
+        final int[] parameterSizes = model.getParameterSizes();
+        final int strength = Math.min(model.getDefaultTestingStrength(), parameterSizes.length);
+
+        if (testInputs.size() < 2 || strength < 1) {
+            return Collections.unmodifiableList(testInputs);
+        }
+
+        final BitSetCoverageMap coverageMap = BitSetCoverageMap.allCombinations(parameterSizes, strength);
+        final double[][] valueWeights = computeValueWeights(model, parameterSizes);
+
+        final PriorityQueue<Candidate> candidates = new PriorityQueue<>(testInputs.size());
+        for (int index = 0; index < testInputs.size(); index++) {
+            final int[] testInput = testInputs.get(index);
+            Preconditions.check(testInput.length == parameterSizes.length);
+
+            candidates.add(new Candidate(index,
+                    coverageMap.getWeightOfContainedCombinations(testInput, valueWeights)));
+        }
+
+        final List<int[]> prioritizedTestInputs = new ArrayList<>(testInputs.size());
+        final boolean[] isSelected = new boolean[testInputs.size()];
+
+        while (!candidates.isEmpty() && coverageMap.hasUncoveredCombinations()) {
+            final Candidate candidate = candidates.poll();
+
+            if (candidate.evaluatedInStep == prioritizedTestInputs.size()) {
+                if (candidate.coverage <= 0) {
+                    break;
+                }
+
+                final int[] testInput = testInputs.get(candidate.index);
+                coverageMap.markAsCovered(testInput);
+                prioritizedTestInputs.add(testInput);
+                isSelected[candidate.index] = true;
+            } else {
+                candidate.coverage = coverageMap.getWeightOfContainedCombinations(
+                        testInputs.get(candidate.index), valueWeights);
+                candidate.evaluatedInStep = prioritizedTestInputs.size();
+                candidates.add(candidate);
+            }
+        }
+
+        for (int index = 0; index < testInputs.size(); index++) {
+            if (!isSelected[index]) {
+                prioritizedTestInputs.add(testInputs.get(index));
+            }
+        }
+
+        return Collections.unmodifiableList(prioritizedTestInputs);
+    }
+
+    private double[][] computeValueWeights(TestModel model, int[] parameterSizes) {
+        final double[][] valueWeights = new double[parameterSizes.length][];
+
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            valueWeights[parameter] = new double[parameterSizes[parameter]];
+
+            for (int value = 0; value < parameterSizes[parameter]; value++) {
+                valueWeights[parameter][value] = useWeights
+                        ? model.getWeight(parameter, value, DEFAULT_WEIGHT)
+                        : DEFAULT_WEIGHT;
+            }
+        }
+
+        return valueWeights;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        final CoverageBasedTestInputPrioritizer other = (CoverageBasedTestInputPrioritizer) object;
+        return useWeights == other.useWeights;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(useWeights);
+    }
+
+    @Override
+    public String toString() {
+        return "CoverageBasedTestInputPrioritizer{" +
+                "useWeights=" + useWeights +
+                '}';
+    }
+
+    /**
+     * A test input which was not yet selected together with the weight of the combinations it newly covered when it
+     * was last evaluated. Candidates with a higher coverage come first, and ties are broken by the original order.
+     */
+    private static final class Candidate implements Comparable<Candidate> {
+
+        private final int index;
+        private double coverage;
+        private int evaluatedInStep = 0;
+
+        private Candidate(int index, double coverage) {
+            this.index = index;
+            this.coverage = coverage;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            final int comparison = Double.compare(other.coverage, coverage);
+
+            return comparison != 0 ? comparison : Integer.compare(index, other.index);
+        }
+    }
+
+}
@@ -0,0 +1,600 @@
+package de.rwth.swc.coffee4j.algorithmic.util;
+
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.NO_VALUE;
+
+/**
+ * Tracks a set of uncovered combinations in the format described in {@link CombinationUtil}.
+ * <p>
+ * The combinations are grouped by the parameters they contain. Each group stores its uncovered combinations in a
+ * bitset indexed by the mixed-radix number formed by the values of the combination, like the coverage map used by
+ * IPOG. Additionally, every group keeps the number of uncovered combinations matching each partial assignment of its
+ * parameters, where every parameter either has a value or is unassigned. These counters are updated incrementally when
+ * a combination is covered, so the number of uncovered combinations matching a partially assigned test input can be
+ * determined with one lookup per group instead of iterating over all uncovered combinations. The same holds for the
+ * number of uncovered combinations containing a parameter-value pair, which is maintained globally.
+ * <p>
+ * Groups can have different sizes, so combinations of mixed strengths can be tracked in the same map.
+ * <p>
+ * {@link #copy()} creates a snapshot in time proportional to the number of groups. The bitsets and counters are
+ * shared between the map and its copy until one of them modifies a group, at which point only that group is cloned.
+ */
+public final class BitSetCoverageMap {
+
+    private final int[] parameterSizes;
+    private final Map<IntArrayWrapper, ParameterCombinationCoverage> coverages = new LinkedHashMap<>();
+    private final List<List<ParameterCombinationCoverage>> coveragesByParameter;
+    private final int[][] valueCounts;
+    private int numberOfUncoveredCombinations = 0;
+
+    /**
+     * Creates a new map without any uncovered combinations.
+     *
+     * @param parameterSizes the number of values of each parameter. Must not be {@code null}
+     */
+    public BitSetCoverageMap(int[] parameterSizes) {
+        Preconditions.notNull(parameterSizes);
+
+        this.parameterSizes = Arrays.copyOf(parameterSizes, parameterSizes.length);
+        coveragesByParameter = new ArrayList<>(parameterSizes.length);
+        valueCounts = new int[parameterSizes.length][];
+
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            Preconditions.check(parameterSizes[parameter] > 0);
+
+            coveragesByParameter.add(new ArrayList<>());
+            valueCounts[parameter] = new int[parameterSizes[parameter]];
+        }
+    }
+
+    private BitSetCoverageMap(BitSetCoverageMap other) {
+        parameterSizes = other.parameterSizes;
+        coveragesByParameter = new ArrayList<>(parameterSizes.length);
+        valueCounts = new int[parameterSizes.length][];
+        numberOfUncoveredCombinations = other.numberOfUncoveredCombinations;
+
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            coveragesByParameter.add(new ArrayList<>(other.coveragesByParameter.get(parameter).size()));
+            valueCounts[parameter] = Arrays.copyOf(other.valueCounts[parameter], parameterSizes[parameter]);
+        }
+
+        for (Map.Entry<IntArrayWrapper, ParameterCombinationCoverage> entry : other.coverages.entrySet()) {
+            final ParameterCombinationCoverage coverage = new ParameterCombinationCoverage(entry.getValue());
+            coverages.put(entry.getKey(), coverage);
+
+            for (int parameter : coverage.parameters) {
+                coveragesByParameter.get(parameter).add(coverage);
+            }
+        }
+    }
+
+    /**
+     * Creates a new map in which all combinations of the given strength are uncovered.
+     *
+     * @param parameterSizes the number of values of each parameter. Must not be {@code null}
+     * @param strength the number of parameters in each combination. Must not be negative
+     * @return a map containing all combinations of the given strength
+     */
+    public static BitSetCoverageMap allCombinations(int[] parameterSizes, int strength) {
+        final BitSetCoverageMap coverageMap = new BitSetCoverageMap(parameterSizes);
+
+        final int[] parameters = IntStream.range(0, parameterSizes.length).toArray();
+
+        for (IntSet parameterCombination : Combinator.computeParameterCombinations(parameters, strength)) {
+            coverageMap.addAllCombinations(parameterCombination);
+        }
+
+        return coverageMap;
+    }
+
+    /**
+     * Creates a new map in which the given combinations are uncovered.
+     *
+     * @param parameterSizes the number of values of each parameter. Must not be {@code null}
+     * @param combinations the uncovered combinations. Must not be {@code null}
+     * @return a map containing exactly the given combinations
+     */
+    public static BitSetCoverageMap fromCombinations(int[] parameterSizes, Collection<int[]> combinations) {
+        Preconditions.notNull(combinations);
+
+        final BitSetCoverageMap coverageMap = new BitSetCoverageMap(parameterSizes);
+        combinations.forEach(coverageMap::addUncoveredCombination);
+
+        return coverageMap;
+    }
+
+    /**
+     * Adds all combinations of the values of the given parameters as uncovered.
+     *
+     * @param parameterCombination the parameters. Must not be {@code null} or empty
+     */
+    public void addAllCombinations(IntSet parameterCombination) {
+        Preconditions.notNull(parameterCombination);
+        Preconditions.check(!parameterCombination.isEmpty());
+
+        final int[] parameters = parameterCombination.toIntArray();
+        Arrays.sort(parameters);
+
+        final ParameterCombinationCoverage coverage = getOrCreateCoverage(parameters);
+        final int[] combination = CombinationUtil.emptyCombination(parameterSizes.length);
+
+        for (int index = 0; index < coverage.numberOfCombinations; index++) {
+            coverage.setCombination(index, combination);
+            addUncoveredCombination(coverage, index, combination);
+        }
+    }
+
+    /**
+     * Adds the combination as uncovered. Nothing happens if it is already uncovered.
+     *
+     * @param combination the combination. Must not be {@code null} and must have at least one value
+     */
+    public void addUncoveredCombination(int[] combination) {
+        checkCombination(combination);
+
+        final int[] parameters = getSetParameters(combination);
+        Preconditions.check(parameters.length > 0, "combination must have at least one value");
+
+        final ParameterCombinationCoverage coverage = getOrCreateCoverage(parameters);
+        addUncoveredCombination(coverage, coverage.getIndex(combination), combination);
+    }
+
+    private void addUncoveredCombination(ParameterCombinationCoverage coverage, int index, int[] combination) {
+        if (!coverage.isUncovered(index)) {
+            coverage.setUncovered(index, combination, 1);
+            updateValueCounts(coverage, combination, 1);
+        }
+    }
+
+    private ParameterCombinationCoverage getOrCreateCoverage(int[] parameters) {
+        return coverages.computeIfAbsent(new IntArrayWrapper(parameters), key -> {
+            final ParameterCombinationCoverage coverage = new ParameterCombinationCoverage(parameters, parameterSizes);
+
+            for (int parameter : parameters) {
+                coveragesByParameter.get(parameter).add(coverage);
+            }
+
+            return coverage;
+        });
+    }
+
+    private void updateValueCounts(ParameterCombinationCoverage coverage, int[] combination, int delta) {
+        for (int parameter : coverage.parameters) {
+            valueCounts[parameter][combination[parameter]] += delta;
+        }
+
+        numberOfUncoveredCombinations += delta;
+    }
+
+    /**
+     * Creates an independent copy of this map. Modifications of the copy do not affect this map and vice versa.
+     *
+     * @return a copy containing the same uncovered combinations
+     */
+    public BitSetCoverageMap copy() {
+        return new BitSetCoverageMap(this);
+    }
+
+    /**
+     * @return whether any combination is still uncovered
+     */
+    public boolean hasUncoveredCombinations() {
+        return numberOfUncoveredCombinations > 0;
+    }
+
+    /**
+     * @return the number of uncovered combinations
+     */
+    public int getNumberOfUncoveredCombinations() {
+        return numberOfUncoveredCombinations;
+    }
+
+    /**
+     * Marks all uncovered combinations contained in the test input as covered.
+     *
+     * @param testInput a complete or partial test input. Must not be {@code null}
+     */
+    public void markAsCovered(int[] testInput) {
+        checkCombination(testInput);
+
+        for (ParameterCombinationCoverage coverage : coverages.values()) {
+            if (coverage.hasAllParameters(testInput)) {
+                cover(coverage, coverage.getIndex(testInput), testInput);
+            }
+        }
+    }
+
+    /**
+     * Marks a single combination as covered if it is uncovered.
+     *
+     * @param combination the combination to cover. Must not be {@code null}
+     * @return whether the combination was uncovered before
+     */
+    public boolean removeCombination(int[] combination) {
+        checkCombination(combination);
+
+        final ParameterCombinationCoverage coverage = coverages.get(new IntArrayWrapper(getSetParameters(combination)));
+
+        return coverage != null && cover(coverage, coverage.getIndex(combination), combination);
+    }
+
+    /**
+     * Marks all uncovered combinations which satisfy the predicate as covered. Each combination passed to the
+     * predicate is a temporary array which must not be stored.
+     *
+     * @param predicate the predicate. Must not be {@code null}
+     */
+    public void removeCombinationsIf(Predicate<int[]> predicate) {
+        Preconditions.notNull(predicate);
+
+        final int[] combination = CombinationUtil.emptyCombination(parameterSizes.length);
+
+        for (ParameterCombinationCoverage coverage : coverages.values()) {
+            for (int index = coverage.nextUncovered(0); index >= 0; index = coverage.nextUncovered(index + 1)) {
+                coverage.setCombination(index, combination);
+
+                if (predicate.test(combination)) {
+                    cover(coverage, index, combination);
+                }
+            }
+
+            coverage.clearCombination(combination);
+        }
+    }
+
+    /**
+     * Copies all uncovered combinations into a new list.
+     *
+     * @return all uncovered combinations
+     */
+    public List<int[]> getUncoveredCombinations() {
+        final List<int[]> combinations = new ArrayList<>(numberOfUncoveredCombinations);
+
+        for (ParameterCombinationCoverage coverage : coverages.values()) {
+            for (int index = coverage.nextUncovered(0); index >= 0; index = coverage.nextUncovered(index + 1)) {
+                final int[] combination = CombinationUtil.emptyCombination(parameterSizes.length);
+                coverage.setCombination(index, combination);
+                combinations.add(combination);
+            }
+        }
+
+        return combinations;
+    }
+
+    private boolean cover(ParameterCombinationCoverage coverage, int index, int[] combination) {
+        if (coverage.isUncovered(index)) {
+            coverage.setUncovered(index, combination, -1);
+            updateValueCounts(coverage, combination, -1);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Counts the uncovered combinations which match the given test input. A combination matches if it has the same
+     * value for all parameters which are set in both the combination and the test input. Hence, a combination
+     * containing a parameter not set in the test input still matches.
+     *
+     * @param testInput a complete or partial test input. Must not be {@code null}
+     * @return the number of uncovered combinations matching the test input
+     */
+    public int getNumberOfUncoveredCombinations(int[] testInput) {
+        checkCombination(testInput);
+
+        int count = 0;
+
+        for (ParameterCombinationCoverage coverage : coverages.values()) {
+            count += coverage.countMatching(testInput);
+        }
+
+        return count;
+    }
+
+    /**
+     * Counts the uncovered combinations which are contained in the given test input, i.e. the combinations which
+     * would be covered by executing it.
+     *
+     * @param testInput a complete or partial test input. Must not be {@code null}
+     * @return the number of uncovered combinations contained in the test input
+     */
+    public int getNumberOfContainedCombinations(int[] testInput) {
+        checkCombination(testInput);
+
+        int count = 0;
+
+        for (ParameterCombinationCoverage coverage : coverages.values()) {
+            if (coverage.hasAllParameters(testInput) && coverage.isUncovered(coverage.getIndex(testInput))) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Sums up the weights of the uncovered combinations which are contained in the given test input, i.e. the
+     * combinations which would be covered by executing it. The weight of a combination is the product of the weights
+     * of its values. If all weights are one, the result is {@link #getNumberOfContainedCombinations(int[])}.
+     *
+     * @param testInput a complete or partial test input. Must not be {@code null}
+     * @param valueWeights the weight of each value of each parameter. Must not be {@code null} and must contain an
+     *     entry for each value
+     * @return the weight of all uncovered combinations contained in the test input
+     */
+    public double getWeightOfContainedCombinations(int[] testInput, double[][] valueWeights) {
+        checkCombination(testInput);
+        Preconditions.notNull(valueWeights);
+        Preconditions.check(valueWeights.length == parameterSizes.length);
+
+        double weight = 0;
+
+        for (ParameterCombinationCoverage coverage : coverages.values()) {
+            if (coverage.hasAllParameters(testInput) && coverage.isUncovered(coverage.getIndex(testInput))) {
+                double combinationWeight = 1;
+
+                for (int parameter : coverage.parameters) {
+                    combinationWeight *= valueWeights[parameter][testInput[parameter]];
+                }
+
+                weight += combinationWeight;
+            }
+        }
+
+        return weight;
+    }
+
+    /**
+     * Counts the uncovered combinations which contain the given combination and at least one additional parameter.
+     *
+     * @param combination a combination. Must not be {@code null}
+     * @return the number of uncovered combinations which are real extensions of the given combination
+     */
+    public int getNumberOfExtendingCombinations(int[] combination) {
+        checkCombination(combination);
+
+        final int numberOfSetParameters = CombinationUtil.numberOfSetParameters(combination);
+        int count = 0;
+
+        for (ParameterCombinationCoverage coverage : coverages.values()) {
+            if (coverage.parameters.length > numberOfSetParameters
+                    && coverage.countSetParameters(combination) == numberOfSetParameters) {
+                count += coverage.countMatching(combination);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Adds, for each value of the given parameter, the number of uncovered combinations which contain the parameter
+     * and match the given test input if the parameter had that value. The value of the parameter in the test input
+     * is ignored. Since combinations not containing the parameter match independently of its value, the resulting
+     * counts differ from {@link #getNumberOfUncoveredCombinations(int[])} only by a constant, and they can be used to
+     * select the best value for the parameter while only looking at the combinations containing it.
+     *
+     * @param testInput a complete or partial test input. Must not be {@code null}
+     * @param parameter the parameter whose values are counted
+     * @param counts the array to which the counts are added. Must have at least one entry for each value
+     */
+    public void addUncoveredCountsOfParameter(int[] testInput, int parameter, long[] counts) {
+        checkCombination(testInput);
+        Preconditions.check(parameter >= 0 && parameter < parameterSizes.length);
+        Preconditions.check(counts.length >= parameterSizes[parameter]);
+
+        for (ParameterCombinationCoverage coverage : coveragesByParameter.get(parameter)) {
+            coverage.addMatchingCountsOfParameter(testInput, parameter, counts);
+        }
+    }
+
+    /**
+     * @param parameter a parameter
+     * @param value a value of the parameter
+     * @return the number of uncovered combinations containing the parameter-value pair
+     */
+    public int getNumberOfUncoveredCombinations(int parameter, int value) {
+        return valueCounts[parameter][value];
+    }
+
+    private void checkCombination(int[] combination) {
+        Preconditions.notNull(combination);
+        Preconditions.check(combination.length == parameterSizes.length);
+    }
+
+    private static int[] getSetParameters(int[] combination) {
+        final int[] parameters = new int[CombinationUtil.numberOfSetParameters(combination)];
+        int position = 0;
+
+        for (int parameter = 0; parameter < combination.length; parameter++) {
+            if (combination[parameter] != NO_VALUE) {
+                parameters[position++] = parameter;
+            }
+        }
+
+        return parameters;
+    }
+
+    /**
+     * The combinations of one set of parameters. The uncovered ones are stored as a bitset indexed by the values
+     * with the radix of each parameter being its size. The counters are indexed in the same way, but with one more
+     * digit per parameter which denotes that the parameter is unassigned.
+     */
+    private static final class ParameterCombinationCoverage {
+
+        private final int[] parameters;
+        private final int[] sizes;
+        private final int[] multipliers;
+        private final int[] countMultipliers;
+        private final int numberOfCombinations;
+
+        private long[] uncovered;
+        private int[] matchingCounts;
+        private boolean isShared = false;
+
+        private ParameterCombinationCoverage(int[] parameters, int[] parameterSizes) {
+            this.parameters = parameters;
+            sizes = new int[parameters.length];
+            multipliers = new int[parameters.length];
+            countMultipliers = new int[parameters.length];
+
+            int multiplier = 1;
+            int countMultiplier = 1;
+            for (int i = 0; i < parameters.length; i++) {
+                sizes[i] = parameterSizes[parameters[i]];
+                multipliers[i] = multiplier;
+                countMultipliers[i] = countMultiplier;
+                multiplier = Math.multiplyExact(multiplier, sizes[i]);
+                countMultiplier = Math.multiplyExact(countMultiplier, sizes[i] + 1);
+            }
+
+            numberOfCombinations = multiplier;
+            uncovered = new long[(multiplier + Long.SIZE - 1) / Long.SIZE];
+            matchingCounts = new int[countMultiplier];
+        }
+
+        private ParameterCombinationCoverage(ParameterCombinationCoverage other) {
+            parameters = other.parameters;
+            sizes = other.sizes;
+            multipliers = other.multipliers;
+            countMultipliers = other.countMultipliers;
+            numberOfCombinations = other.numberOfCombinations;
+            uncovered = other.uncovered;
+            matchingCounts = other.matchingCounts;
+
+            isShared = true;
+            other.isShared = true;
+        }
+
+        private int countSetParameters(int[] combination) {
+            int count = 0;
+
+            for (int parameter : parameters) {
+                if (combination[parameter] != NO_VALUE) {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+        private boolean hasAllParameters(int[] testInput) {
+            for (int parameter : parameters) {
+                if (testInput[parameter] == NO_VALUE) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private int getIndex(int[] combination) {
+            int index = 0;
+
+            for (int i = 0; i < parameters.length; i++) {
+                index += combination[parameters[i]] * multipliers[i];
+            }
+
+            return index;
+        }
+
+        private void setCombination(int index, int[] combination) {
+            for (int i = 0; i < parameters.length; i++) {
+                combination[parameters[i]] = (index / multipliers[i]) % sizes[i];
+            }
+        }
+
+        private void clearCombination(int[] combination) {
+            for (int parameter : parameters) {
+                combination[parameter] = NO_VALUE;
+            }
+        }
+
+        private boolean isUncovered(int index) {
+            return (uncovered[index / Long.SIZE] & (1L << index)) != 0;
+        }
+
+        private int nextUncovered(int fromIndex) {
+            int wordIndex = fromIndex / Long.SIZE;
+
+            if (wordIndex >= uncovered.length) {
+                return -1;
+            }
+
+            long word = uncovered[wordIndex] & (-1L << fromIndex);
+
+            while (true) {
+                if (word != 0) {
+                    return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+                }
+                if (++wordIndex == uncovered.length) {
+                    return -1;
+                }
+
+                word = uncovered[wordIndex];
+            }
+        }
+
+        /*
+         * Flips the bit of the combination and updates the counters of all partial assignments matching it, which
+         * are all assignments where each parameter either has the value of the combination or is unassigned.
+         */
+        private void setUncovered(int index, int[] combination, int delta) {
+            if (isShared) {
+                uncovered = uncovered.clone();
+                matchingCounts = matchingCounts.clone();
+                isShared = false;
+            }
+
+            uncovered[index / Long.SIZE] ^= 1L << index;
+
+            for (int mask = 0; mask < 1 << parameters.length; mask++) {
+                int countIndex = 0;
+
+                for (int i = 0; i < parameters.length; i++) {
+                    final int digit = (mask & (1 << i)) != 0 ? combination[parameters[i]] : sizes[i];
+                    countIndex += digit * countMultipliers[i];
+                }
+
+                matchingCounts[countIndex] += delta;
+            }
+        }
+
+        private int getCountIndex(int[] testInput) {
+            int countIndex = 0;
+
+            for (int i = 0; i < parameters.length; i++) {
+                final int value = testInput[parameters[i]];
+                countIndex += (value == NO_VALUE ? sizes[i] : value) * countMultipliers[i];
+            }
+
+            return countIndex;
+        }
+
+        private int countMatching(int[] testInput) {
+            return matchingCounts[getCountIndex(testInput)];
+        }
+
+        private void addMatchingCountsOfParameter(int[] testInput, int parameter, long[] counts) {
+            final int position = Arrays.binarySearch(parameters, parameter);
+            final int value = testInput[parameter];
+            final int currentDigit = value == NO_VALUE ? sizes[position] : value;
+            final int baseIndex = getCountIndex(testInput) - currentDigit * countMultipliers[position];
+
+            for (int candidate = 0; candidate < sizes[position]; candidate++) {
+                counts[candidate] += matchingCounts[baseIndex + candidate * countMultipliers[position]];
+            }
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package de.rwth.swc.coffee4j.algorithmic.util;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
 
 import java.util.Arrays;
@@ -8,9 +9,95 @@ import java.util.Optional;
 
 public final class ChocoUtil {
 
+    private static final String VARIABLE_INDEX_HOOK_NAME = "coffee4j.variableIndex";
+
     private ChocoUtil() {
     }
 
+    /**
+     * Creates one variable per parameter with the index of the parameter as its name and a domain from 0 to
+     * the size of the parameter minus one. The created variables are registered as an index in the model,
+     * so that {@link #findVariable(Model, int)} and {@link #getVariableIndex(Model)} do not need to search
+     * through all variables of the model.
+     *
+     * @param model             ChocoSolver model without parameter variables
+     * @param parameterSizes    the sizes of all parameters
+     * @return                  the created variables indexed by their parameter
+     */
+    public static IntVar[] createVariables(final Model model, int[] parameterSizes) {
+        Preconditions.notNull(model);
+        Preconditions.notNull(parameterSizes);
+        Preconditions.check(model.getHook(VARIABLE_INDEX_HOOK_NAME) == null,
+                "model already contains parameter variables");
+
+        final IntVar[] variables = new IntVar[parameterSizes.length];
+
+        for (int i = 0; i < parameterSizes.length; i++) {
+            variables[i] = model.intVar(String.valueOf(i), 0, parameterSizes[i] - 1);
+        }
+
+        model.addHook(VARIABLE_INDEX_HOOK_NAME, variables);
+
+        return variables;
+    }
+
+    /**
+     * Returns the parameter variables of the model indexed by their parameter. If the variables were not created
+     * using {@link #createVariables(Model, int[])}, the index is built once by searching through all variables
+     * and then registered in the model. Parameters without a variable have a {@code null} entry.
+     * The returned array is shared and must not be modified.
+     *
+     * @param model ChocoSolver model
+     * @return      the parameter variables of the model
+     */
+    public static IntVar[] getVariableIndex(final Model model) {
+        Preconditions.notNull(model);
+
+        final Object index = model.getHook(VARIABLE_INDEX_HOOK_NAME);
+
+        if (index instanceof IntVar[]) {
+            return (IntVar[]) index;
+        }
+
+        final IntVar[] variables = buildVariableIndex(model);
+        model.addHook(VARIABLE_INDEX_HOOK_NAME, variables);
+
+        return variables;
+    }
+
+    private static IntVar[] buildVariableIndex(Model model) {
+        IntVar[] variables = new IntVar[0];
+
+        for (Variable variable : model.getVars()) {
+            final int id = parseId(variable.getName());
+
+            if (id >= 0 && variable instanceof IntVar) {
+                if (id >= variables.length) {
+                    variables = Arrays.copyOf(variables, id + 1);
+                }
+                if (variables[id] == null) {
+                    variables[id] = (IntVar) variable;
+                }
+            }
+        }
+
+        return variables;
+    }
+
+    private static int parseId(String name) {
+        if (name.isEmpty() || name.length() > 9) {
+            return -1;
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return -1;
+            }
+        }
+
+        return Integer.parseInt(name);
+    }
+
     /**
      * Searches for a variable with a given id as its name
      * @param model ChocoSolver model
@@ -21,6 +108,14 @@ public final class ChocoUtil {
         Preconditions.notNull(model);
         Preconditions.check(id >= 0);
 
+        final Object index = model.getHook(VARIABLE_INDEX_HOOK_NAME);
+
+        if (index instanceof IntVar[]) {
+            final IntVar[] variables = (IntVar[]) index;
+
+            return id < variables.length ? Optional.ofNullable(variables[id]) : Optional.empty();
+        }
+
         final String name = String.valueOf(id);
 
         return Arrays.stream(model.getVars())
@@ -41,5 +41,17 @@ class ConflictDetectionConfigurationTest {
                 true,
                 ExhaustiveConflictDiagnostician::new));
     }
+
+    @Test
+    void testParallelismMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ConflictDetectionConfiguration(
+                true,
+                false,
+                true,
+                QuickConflictExplainer::new,
+                false,
+                () -> null,
+                0));
+    }
     
 }
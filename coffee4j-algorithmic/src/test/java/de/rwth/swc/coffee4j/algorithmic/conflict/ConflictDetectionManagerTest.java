@@ -377,6 +377,34 @@ class ConflictDetectionManagerTest {
                         && Arrays.equals(new int[] { 2 }, element.getConflictingValues())));
     }
 
+    @Test
+    void testParallelDetectionFindsSameMissingInvalidTuplesInSameOrder() {
+        final List<TupleList> errorTupleLists = new ArrayList<>();
+        errorTupleLists.add(new TupleList(1, new int[]{0}, List.of(new int[]{2})));
+        errorTupleLists.add(new TupleList(2, new int[]{1}, List.of(new int[]{2})));
+        errorTupleLists.add(new TupleList(3, new int[]{2}, List.of(new int[]{2})));
+        errorTupleLists.add(new TupleList(4, new int[]{0, 1}, List.of(new int[]{0, 1}, new int[]{0, 2})));
+        errorTupleLists.add(new TupleList(5, new int[]{0, 1}, List.of(new int[]{1, 0}, new int[]{1, 2})));
+
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(2)
+                .parameterSizes(3, 3, 3)
+                .errorTupleLists(errorTupleLists)
+                .build();
+
+        final List<MissingInvalidTuple> sequentialResult = new ConflictDetectionManager(
+                new ConflictDetectionConfiguration(true, false, true, QuickConflictExplainer::new,
+                        true, ExhaustiveConflictDiagnostician::new),
+                model).detectMissingInvalidTuples();
+        final List<MissingInvalidTuple> parallelResult = new ConflictDetectionManager(
+                new ConflictDetectionConfiguration(true, false, true, QuickConflictExplainer::new,
+                        true, ExhaustiveConflictDiagnostician::new, 3),
+                model).detectMissingInvalidTuples();
+
+        assertEquals(3, sequentialResult.size());
+        assertEquals(sequentialResult, parallelResult);
+    }
+
     @Test
     void testCTA2019ExampleWithDetectionExplanationButNoDiagnosis() {
         final ConflictDetectionConfiguration configuration = new ConflictDetectionConfiguration(
@@ -0,0 +1,125 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingConstraintCheckerTest {
+
+    private static final CompleteTestModel MODEL = CompleteTestModel.builder()
+            .positiveTestingStrength(2)
+            .parameterSizes(2, 2, 2, 3)
+            .exclusionTupleLists(List.of(new TupleList(1, new int[]{0, 1}, Collections.singletonList(new int[]{1, 1}))))
+            .errorTupleLists(List.of(new TupleList(2, new int[]{1, 3}, Arrays.asList(new int[]{0, 0}, new int[]{0, 2}))))
+            .build();
+
+    @Test
+    void sameResultsAsDecoratedChecker() {
+        final ConstraintChecker expected = new HardConstraintCheckerFactory().createConstraintChecker(MODEL);
+        final ConstraintChecker checker = new CachingConstraintCheckerFactory().createConstraintChecker(MODEL);
+
+        for (int i = 0; i < 2; i++) {
+            for (int a = -1; a < 2; a++) {
+                for (int b = -1; b < 2; b++) {
+                    for (int d = -1; d < 3; d++) {
+                        final int[] combination = {a, b, -1, d};
+
+                        assertEquals(expected.isValid(combination), checker.isValid(combination));
+                        assertEquals(expected.isExtensionValid(combination, 3, 2),
+                                checker.isExtensionValid(combination, 3, 2));
+                        assertEquals(expected.isExtensionValid(combination, 0, -1),
+                                checker.isExtensionValid(combination, 0, -1));
+                        assertEquals(expected.isDualValid(new int[]{0, 1}, new int[]{a, b}),
+                                checker.isDualValid(new int[]{0, 1}, new int[]{a, b}));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void unconstrainedParametersAreIgnored() {
+        final ConstraintChecker delegate = mock(ConstraintChecker.class);
+        when(delegate.isValid(any())).thenReturn(true);
+        final CachingConstraintChecker checker = new CachingConstraintChecker(delegate, MODEL, 16);
+
+        assertTrue(checker.isValid(new int[]{0, 0, 0, 1}));
+        assertTrue(checker.isValid(new int[]{0, 0, 1, 1}));
+        assertTrue(checker.isValid(new int[]{0, -1, -1, -1}));
+
+        verify(delegate, times(2)).isValid(any());
+        assertEquals(1, checker.getHitCount());
+        assertEquals(2, checker.getMissCount());
+    }
+
+    @Test
+    void queriesShareTheirResults() {
+        final ConstraintChecker delegate = mock(ConstraintChecker.class);
+        when(delegate.isExtensionValid(any(), any())).thenReturn(false);
+        final CachingConstraintChecker checker = new CachingConstraintChecker(delegate, new int[]{0, 1}, 16);
+
+        assertFalse(checker.isExtensionValid(new int[]{1, -1, 0}, 1, 1));
+        assertFalse(checker.isValid(new int[]{1, 1}));
+        assertFalse(checker.isDualValid(new int[]{1, 0, 2}, new int[]{1, 1, 0}));
+
+        verify(delegate).isExtensionValid(any(), any());
+        verifyNoMoreInteractions(delegate);
+        assertEquals(2, checker.getHitCount());
+    }
+
+    @Test
+    void leastRecentlyUsedResultIsEvicted() {
+        final ConstraintChecker delegate = mock(ConstraintChecker.class);
+        when(delegate.isValid(any())).thenReturn(true);
+        final CachingConstraintChecker checker = new CachingConstraintChecker(delegate, new int[]{0}, 2);
+
+        checker.isValid(new int[]{0});
+        checker.isValid(new int[]{1});
+        checker.isValid(new int[]{0});
+        checker.isValid(new int[]{-1});
+        checker.isValid(new int[]{0});
+        checker.isValid(new int[]{1});
+
+        assertEquals(2, checker.getHitCount());
+        assertEquals(4, checker.getMissCount());
+        verify(delegate, times(2)).isValid(new int[]{1});
+    }
+
+    @Test
+    void addingConstraintInvalidatesCache() {
+        final ConstraintChecker delegate = mock(ConstraintChecker.class);
+        when(delegate.isValid(any())).thenReturn(true);
+        final CachingConstraintChecker checker = new CachingConstraintChecker(delegate, new int[]{0}, 16);
+
+        assertTrue(checker.isValid(new int[]{0, 1}));
+        assertTrue(checker.isValid(new int[]{0, 0}));
+
+        checker.addConstraint(new int[]{-1, 1});
+        verify(delegate).addConstraint(new int[]{-1, 1});
+        when(delegate.isValid(new int[]{0, 1})).thenReturn(false);
+
+        assertFalse(checker.isValid(new int[]{0, 1}));
+        assertTrue(checker.isValid(new int[]{0, 0}));
+        assertFalse(checker.isValid(new int[]{0, 1}));
+
+        verify(delegate, times(2)).isValid(new int[]{0, 1});
+        verify(delegate).isValid(new int[]{0, 0});
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        final ConstraintChecker delegate = new NoConstraintChecker();
+
+        assertThrows(IllegalArgumentException.class, () -> new CachingConstraintChecker(delegate, new int[0], 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingConstraintCheckerFactory(new HardConstraintCheckerFactory(), 0));
+    }
+}
@@ -0,0 +1,142 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledForbiddenTuplesTest {
+
+    @Test
+    void noTuplesAreNeverContained() {
+        final CompiledForbiddenTuples tuples = new CompiledForbiddenTuples(Collections.emptySet(), new int[]{2, 2});
+
+        assertEquals(0, tuples.getNumberOfTuples());
+        assertFalse(tuples.containsForbiddenTuple(new int[]{0, 1}));
+        assertFalse(tuples.containsForbiddenTuple(new int[]{-1, -1}));
+    }
+
+    @Test
+    void emptyTupleIsAlwaysContained() {
+        final CompiledForbiddenTuples tuples = new CompiledForbiddenTuples(
+                Set.of(IntArrayList.wrap(new int[]{-1, -1})), new int[]{2, 2});
+
+        assertTrue(tuples.containsForbiddenTuple(new int[]{0, 1}));
+        assertTrue(tuples.containsForbiddenTuple(new int[]{-1, -1}));
+    }
+
+    @Test
+    void tupleIsContainedIfAllItsValuesAreSet() {
+        final CompiledForbiddenTuples tuples = new CompiledForbiddenTuples(
+                Set.of(IntArrayList.wrap(new int[]{1, -1, 2}), IntArrayList.wrap(new int[]{-1, 0, -1})),
+                new int[]{2, 2, 3});
+
+        assertTrue(tuples.containsForbiddenTuple(new int[]{1, 1, 2}));
+        assertTrue(tuples.containsForbiddenTuple(new int[]{-1, 0, -1}));
+        assertFalse(tuples.containsForbiddenTuple(new int[]{1, -1, -1}));
+        assertFalse(tuples.containsForbiddenTuple(new int[]{1, 1, 1}));
+        assertFalse(tuples.containsForbiddenTuple(new int[]{1}));
+    }
+
+    @Test
+    void invalidTuplesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CompiledForbiddenTuples(
+                Set.of(IntArrayList.wrap(new int[]{2, -1})), new int[]{2, 2}));
+        assertThrows(IllegalArgumentException.class, () -> new CompiledForbiddenTuples(
+                Set.of(IntArrayList.wrap(new int[]{0})), new int[]{2, 2}));
+    }
+
+    @Test
+    void sameResultsAsCheckingEachTuple() {
+        final Random random = new Random(42);
+        final int[] parameterSizes = {2, 3, 4, 2, 3, 5, 2, 2};
+        final Set<IntList> forbiddenTuples = new LinkedHashSet<>();
+
+        while (forbiddenTuples.size() < 150) {
+            forbiddenTuples.add(IntArrayList.wrap(randomCombination(random, parameterSizes, 0.7)));
+        }
+
+        final CompiledForbiddenTuples tuples = new CompiledForbiddenTuples(forbiddenTuples, parameterSizes);
+        final List<int[]> plainTuples = new ArrayList<>();
+        forbiddenTuples.forEach(tuple -> plainTuples.add(tuple.toIntArray()));
+
+        for (int i = 0; i < 2000; i++) {
+            final int[] combination = randomCombination(random, parameterSizes, 0.1);
+            final boolean expected = plainTuples.stream()
+                    .anyMatch(tuple -> CombinationUtil.contains(combination, tuple));
+
+            assertEquals(expected, tuples.containsForbiddenTuple(combination));
+        }
+    }
+
+    @Test
+    void removedTuplesAreNoLongerContained() {
+        final IntList first = IntArrayList.wrap(new int[]{1, -1});
+        final IntList second = IntArrayList.wrap(new int[]{-1, 0});
+        final CompiledForbiddenTuples tuples = new CompiledForbiddenTuples(Set.of(first), new int[]{2, 2});
+
+        assertTrue(tuples.add(second));
+        assertFalse(tuples.add(second));
+        assertTrue(tuples.containsForbiddenTuple(new int[]{0, 0}));
+
+        assertTrue(tuples.remove(first));
+        assertFalse(tuples.remove(first));
+        assertEquals(1, tuples.getNumberOfTuples());
+        assertFalse(tuples.containsForbiddenTuple(new int[]{1, 1}));
+        assertTrue(tuples.containsForbiddenTuple(new int[]{1, 0}));
+
+        assertTrue(tuples.remove(second));
+        assertFalse(tuples.containsForbiddenTuple(new int[]{-1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> tuples.add(IntArrayList.wrap(new int[]{0, 2})));
+    }
+
+    @Test
+    void sameResultsAfterAddingAndRemovingTuples() {
+        final Random random = new Random(42);
+        final int[] parameterSizes = {2, 3, 4, 2, 3, 5, 2, 2};
+        final Set<IntList> forbiddenTuples = new LinkedHashSet<>();
+        final CompiledForbiddenTuples tuples = new CompiledForbiddenTuples(Collections.emptySet(), parameterSizes);
+
+        for (int i = 0; i < 500; i++) {
+            if (!forbiddenTuples.isEmpty() && random.nextDouble() < 0.4) {
+                final IntList tuple = new ArrayList<>(forbiddenTuples).get(random.nextInt(forbiddenTuples.size()));
+
+                forbiddenTuples.remove(tuple);
+                assertTrue(tuples.remove(tuple));
+            } else {
+                final IntList tuple = IntArrayList.wrap(randomCombination(random, parameterSizes, 0.7));
+
+                assertEquals(forbiddenTuples.add(tuple), tuples.add(tuple));
+            }
+
+            assertEquals(forbiddenTuples.size(), tuples.getNumberOfTuples());
+
+            final int[] combination = randomCombination(random, parameterSizes, 0.1);
+            final boolean expected = forbiddenTuples.stream()
+                    .anyMatch(tuple -> CombinationUtil.contains(combination, tuple.toIntArray()));
+
+            assertEquals(expected, tuples.containsForbiddenTuple(combination));
+        }
+    }
+
+    private static int[] randomCombination(Random random, int[] parameterSizes, double unsetProbability) {
+        final int[] combination = new int[parameterSizes.length];
+
+        for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+            combination[parameter] = random.nextDouble() < unsetProbability
+                    ? CombinationUtil.NO_VALUE
+                    : random.nextInt(parameterSizes[parameter]);
+        }
+
+        return combination;
+    }
+}
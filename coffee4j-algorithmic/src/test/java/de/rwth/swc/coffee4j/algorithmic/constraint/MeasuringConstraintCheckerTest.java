@@ -0,0 +1,51 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.metrics.InMemoryMetrics;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsSummary;
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MeasuringConstraintCheckerTest {
+
+    private static final CompleteTestModel MODEL = CompleteTestModel.builder()
+            .positiveTestingStrength(2)
+            .parameterSizes(2, 2, 2)
+            .exclusionTupleLists(List.of(new TupleList(1, new int[]{0, 1}, Collections.singletonList(new int[]{1, 1}))))
+            .build();
+
+    @Test
+    void measuresAllQueriesWithoutChangingTheirResults() {
+        final InMemoryMetrics metrics = new InMemoryMetrics();
+        final ConstraintChecker checker = new MeasuringConstraintCheckerFactory(new HardConstraintCheckerFactory(), metrics)
+                .createConstraintChecker(MODEL);
+
+        assertTrue(checker.isValid(new int[]{0, 1, 0}));
+        assertFalse(checker.isValid(new int[]{1, 1, 0}));
+        assertFalse(checker.isExtensionValid(new int[]{1, -1, -1}, 1, 1));
+        assertTrue(checker.isDualValid(new int[]{0, 1}, new int[]{1, 0}));
+
+        final MetricsSummary summary = metrics.getSummary();
+        assertEquals(4, summary.getDuration(MetricNames.CONSTRAINT_CHECK).getCount());
+        assertEquals(2, summary.getCounter(MetricNames.CONSTRAINT_CHECKS_INVALID));
+    }
+
+    @Test
+    void forwardsAddedConstraints() {
+        final ConstraintChecker decorated = mock(ConstraintChecker.class);
+        final ConstraintChecker checker = new MeasuringConstraintChecker(decorated, new InMemoryMetrics());
+        final int[] forbiddenTuple = {0, -1, 0};
+
+        checker.addConstraint(forbiddenTuple);
+
+        verify(decorated).addConstraint(forbiddenTuple);
+    }
+}
@@ -2,13 +2,18 @@ package de.rwth.swc.coffee4j.algorithmic.constraint;
 
 import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
 import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MinimalForbiddenTupleCheckerTest {
@@ -62,4 +67,77 @@ class MinimalForbiddenTupleCheckerTest {
 
         assertFalse(checker.isValid(new int[]{0, 0, -1}));
     }
+
+    @Test
+    void addedTupleReplacesTuplesContainingIt() {
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .parameterSizes(3, 3, 2)
+                .exclusionTupleLists(List.of(new TupleList(1, new int[]{0, 1}, List.of(new int[]{0, 0}, new int[]{0, 1}))))
+                .build();
+
+        final MinimalForbiddenTuplesChecker checker = new MinimalForbiddenTuplesChecker(model);
+        checker.addConstraint(new int[]{0, -1, -1});
+
+        assertEquals(Set.of(tuple(0, -1, -1)), checker.getMinimalForbiddenTuples());
+    }
+
+    @Test
+    void addedTupleIsResolvedAgainstExistingTuples() {
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .parameterSizes(3, 3, 2)
+                .exclusionTupleLists(List.of(
+                        new TupleList(1, new int[]{0}, List.of(new int[]{1}, new int[]{2})),
+                        new TupleList(2, new int[]{1, 2}, List.of(new int[]{1, 1}))))
+                .build();
+
+        final MinimalForbiddenTuplesChecker checker = new MinimalForbiddenTuplesChecker(model);
+        checker.addConstraint(new int[]{0, -1, 0});
+
+        assertEquals(Set.of(tuple(1, -1, -1), tuple(2, -1, -1), tuple(-1, -1, 0), tuple(-1, 1, -1)),
+                checker.getMinimalForbiddenTuples());
+        assertFalse(checker.isValid(new int[]{-1, -1, 0}));
+        assertTrue(checker.isValid(new int[]{0, 0, 1}));
+    }
+
+    @Test
+    void copyKeepsTuplesWhenAddingConstraints() {
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .parameterSizes(2, 2, 2)
+                .exclusionTupleLists(List.of(new TupleList(1, new int[]{0, 1}, List.of(new int[]{0, 0}))))
+                .build();
+
+        final MinimalForbiddenTuplesChecker copy = new MinimalForbiddenTuplesChecker(
+                new MinimalForbiddenTuplesChecker(model));
+        copy.addConstraint(new int[]{0, 1, -1});
+
+        assertEquals(Set.of(tuple(0, -1, -1)), copy.getMinimalForbiddenTuples());
+    }
+
+    @Test
+    void addingConstraintsUpdatesTheCurrentTuples() {
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .parameterSizes(2, 2, 2)
+                .exclusionTupleLists(List.of(new TupleList(1, new int[]{0, 1}, List.of(new int[]{0, 0}))))
+                .build();
+
+        final MinimalForbiddenTuplesChecker checker = new MinimalForbiddenTuplesChecker(model);
+        final Set<IntList> tuples = checker.getMinimalForbiddenTuples();
+        assertTrue(checker.isValid(new int[]{0, 1, 0}));
+
+        checker.addConstraint(new int[]{0, 1, -1});
+
+        assertSame(tuples, checker.getMinimalForbiddenTuples());
+        assertEquals(Set.of(tuple(0, -1, -1)), tuples);
+        assertFalse(checker.isValid(new int[]{0, 1, 0}));
+        assertTrue(checker.isValid(new int[]{1, 0, 0}));
+
+        checker.addConstraint(new int[]{1, -1, -1});
+
+        assertEquals(Set.of(tuple(0, -1, -1), tuple(1, -1, -1)), tuples);
+        assertFalse(checker.isValid(new int[]{1, 0, 0}));
+    }
+
+    private static IntList tuple(int... values) {
+        return new IntArrayList(values);
+    }
 }
@@ -0,0 +1,147 @@
+package de.rwth.swc.coffee4j.algorithmic.constraint;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledConstraintCheckerTest {
+
+    private static final CompleteTestModel MODEL = CompleteTestModel.builder()
+            .positiveTestingStrength(2)
+            .parameterSizes(2, 2, 2, 3)
+            .exclusionTupleLists(List.of(new TupleList(1, new int[]{0, 1}, Collections.singletonList(new int[]{1, 1})),
+                    new TupleList(2, new int[]{2, 3}, Arrays.asList(new int[]{0, 0}, new int[]{1, 2}))))
+            .errorTupleLists(List.of(new TupleList(3, new int[]{0, 3}, Collections.singletonList(new int[]{0, 1})),
+                    new TupleList(4, new int[]{1, 2}, Collections.singletonList(new int[]{1, 0}))))
+            .build();
+
+    @Test
+    void checkWithoutConstraint() {
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(2)
+                .parameterSizes(2, 2)
+                .build();
+        final ConstraintChecker checker = new PooledHardConstraintCheckerFactory().createConstraintChecker(model);
+
+        assertTrue(checker.isValid(new int[]{0, 1}));
+        assertTrue(checker.isValid(new int[]{-1, -1}));
+        assertTrue(checker.isExtensionValid(new int[]{1, -1}, 1, 1));
+        assertFalse(checker.isValid(new int[]{2, 0}));
+    }
+
+    @Test
+    void sameResultsAsHardConstraintChecker() {
+        final ConstraintChecker expected = new HardConstraintCheckerFactory().createConstraintChecker(MODEL);
+        final ConstraintChecker checker = new PooledHardConstraintCheckerFactory().createConstraintChecker(MODEL);
+
+        for (int[] combination : allPartialCombinations(MODEL)) {
+            assertEquals(expected.isValid(combination), checker.isValid(combination), Arrays.toString(combination));
+            assertEquals(expected.isExtensionValid(combination, 3, 2), checker.isExtensionValid(combination, 3, 2),
+                    Arrays.toString(combination));
+        }
+
+        assertEquals(expected.isDualValid(new int[]{0, 3}, new int[]{0, 1}),
+                checker.isDualValid(new int[]{0, 3}, new int[]{0, 1}));
+        assertEquals(expected.isDualValid(new int[]{1, 2}, new int[]{0, 0}),
+                checker.isDualValid(new int[]{1, 2}, new int[]{0, 0}));
+    }
+
+    @Test
+    void sameResultsAsHardConstraintCheckerWithNegation() {
+        final TupleList toBeNegated = MODEL.getErrorTupleLists().get(0);
+        final ConstraintChecker expected = new HardConstraintCheckerFactory()
+                .createConstraintCheckerWithNegation(MODEL, toBeNegated);
+        final ConstraintChecker checker = new PooledHardConstraintCheckerFactory()
+                .createConstraintCheckerWithNegation(MODEL, toBeNegated);
+
+        for (int[] combination : allPartialCombinations(MODEL)) {
+            assertEquals(expected.isValid(combination), checker.isValid(combination), Arrays.toString(combination));
+        }
+    }
+
+    @Test
+    void sameResultsAsSoftConstraintCheckerWithNegation() {
+        for (TupleList toBeNegated : MODEL.getErrorTupleLists()) {
+            final ConstraintChecker expected = new SoftConstraintCheckerFactory()
+                    .createConstraintCheckerWithNegation(MODEL, toBeNegated);
+            final ConstraintChecker checker = new PooledSoftConstraintCheckerFactory()
+                    .createConstraintCheckerWithNegation(MODEL, toBeNegated);
+
+            for (int[] combination : allPartialCombinations(MODEL)) {
+                assertEquals(expected.isValid(combination), checker.isValid(combination),
+                        Arrays.toString(combination));
+            }
+        }
+    }
+
+    @Test
+    void softFactoryDoesNotSupportCheckerWithoutNegation() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> new PooledSoftConstraintCheckerFactory().createConstraintChecker(MODEL));
+    }
+
+    @Test
+    void sameResultsWhenUsedConcurrently() throws Exception {
+        final ConstraintChecker expected = new HardConstraintCheckerFactory().createConstraintChecker(MODEL);
+        final ConstraintChecker checker = new PooledHardConstraintCheckerFactory().createConstraintChecker(MODEL);
+        final List<int[]> combinations = allPartialCombinations(MODEL);
+
+        final boolean[] expectedResults = new boolean[combinations.size()];
+        for (int i = 0; i < combinations.size(); i++) {
+            expectedResults[i] = expected.isValid(combinations.get(i));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Callable<boolean[]>> tasks = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                tasks.add(() -> {
+                    final boolean[] results = new boolean[combinations.size()];
+                    for (int i = 0; i < combinations.size(); i++) {
+                        results[i] = checker.isValid(combinations.get(i));
+                    }
+                    return results;
+                });
+            }
+
+            for (Future<boolean[]> future : executor.invokeAll(tasks)) {
+                assertArrayEquals(expectedResults, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<int[]> allPartialCombinations(CompleteTestModel model) {
+        List<int[]> combinations = new ArrayList<>();
+        combinations.add(new int[0]);
+
+        for (int parameter = 0; parameter < model.getNumberOfParameters(); parameter++) {
+            final List<int[]> extended = new ArrayList<>();
+
+            for (int[] combination : combinations) {
+                for (int value = -1; value < model.getParameterSize(parameter); value++) {
+                    final int[] extendedCombination = Arrays.copyOf(combination, combination.length + 1);
+                    extendedCombination[combination.length] = value;
+                    extended.add(extendedCombination);
+                }
+            }
+
+            combinations = extended;
+        }
+
+        return combinations;
+    }
+}
@@ -6,6 +6,7 @@ import de.rwth.swc.coffee4j.algorithmic.constraint.MinimalForbiddenTuplesChecker
 import de.rwth.swc.coffee4j.algorithmic.interleaving.CoverageMap;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.TestInputGenerationConfiguration;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.TestInputGenerationStrategy;
+import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.TestInputGenerationStrategyFactory;
 import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
 import de.rwth.swc.coffee4j.algorithmic.util.Combinator;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AetgStrategyTest {
@@ -76,6 +79,54 @@ public class AetgStrategyTest {
         assertTrue(allCombinationsCovered(generatedTestInputs, combinations));
     }
 
+    @Test
+    void generatesSameTestInputsForSameSeed() {
+        List<int[]> firstTestInputs = generateAllTestInputs(AetgStrategy.aetgStrategy(42, 4), newConfiguration());
+        List<int[]> secondTestInputs = generateAllTestInputs(AetgStrategy.aetgStrategy(42, 2), newConfiguration());
+
+        assertEquals(firstTestInputs.size(), secondTestInputs.size());
+        for (int i = 0; i < firstTestInputs.size(); i++) {
+            assertArrayEquals(firstTestInputs.get(i), secondTestInputs.get(i));
+        }
+    }
+
+    @Test
+    void generatesTestInputsAfterClose() {
+        Optional<int[]> firstTestInput = strategy.generateNextTestInput();
+        strategy.close();
+        Optional<int[]> secondTestInput = strategy.generateNextTestInput();
+        strategy.close();
+
+        assertTrue(firstTestInput.isPresent());
+        assertTrue(secondTestInput.isPresent());
+    }
+
+    private TestInputGenerationConfiguration newConfiguration() {
+        ConstraintChecker checker = new MinimalForbiddenTuplesChecker(testModel);
+
+        return TestInputGenerationConfiguration.configuration()
+                .testModel(testModel)
+                .constraintChecker(checker)
+                .coverageMap(new CoverageMap(testModel.getParameterSizes(), testModel.getPositiveTestingStrength(), checker))
+                .build();
+    }
+
+    private List<int[]> generateAllTestInputs(TestInputGenerationStrategyFactory factory, TestInputGenerationConfiguration configuration) {
+        List<int[]> generatedTestInputs = new ArrayList<>();
+
+        try (TestInputGenerationStrategy strategy = factory.create(configuration)) {
+            Optional<int[]> nextTestInput = strategy.generateNextTestInput();
+
+            while (nextTestInput.isPresent()) {
+                configuration.getCoverageMap().updateCoverage(nextTestInput.get());
+                generatedTestInputs.add(nextTestInput.get());
+                nextTestInput = strategy.generateNextTestInput();
+            }
+        }
+
+        return generatedTestInputs;
+    }
+
     private boolean allCombinationsCovered(List<int[]> generatedTestInputs, Set<int[]> combinationsToBeCovered) {
         nextCombination:
         for (int[] combination : combinationsToBeCovered) {
@@ -67,4 +67,24 @@ public class TupleRelationshipStrategyTest extends AbstractIdentificationStrateg
 
         assertEquals(expected, found);
     }
+
+    @Test
+    void identificationCanBeRestartedAfterClosingTheStrategy() {
+        failureInducingCombinations.put(new int[]{0,0,-1,-1}, new AssertionError());
+
+        computeMinimalFailureInducingCombinations(strategy.startIdentification(new int[]{0,0,0,0}, TestResult.failure(new AssertionError("failure!"))));
+        strategy.close();
+
+        assertEquals(Collections.singleton(new IntArrayList(new int[]{0, 0, -1, -1})), strategy.getIdentifiedCombinations().keySet());
+
+        computeMinimalFailureInducingCombinations(strategy.restartIdentification());
+        strategy.close();
+
+        assertEquals(Collections.singleton(new IntArrayList(new int[]{0, 0, -1, -1})), strategy.getIdentifiedCombinations().keySet());
+    }
+
+    @Test
+    void parallelismMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> TupleRelationshipStrategy.tupleRelationshipStrategy(0));
+    }
 }
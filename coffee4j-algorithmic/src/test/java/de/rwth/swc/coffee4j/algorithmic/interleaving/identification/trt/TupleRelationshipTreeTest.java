@@ -0,0 +1,213 @@
+package de.rwth.swc.coffee4j.algorithmic.interleaving.identification.trt;
+
+import org.apache.commons.math3.util.CombinatoricsUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleRelationshipTreeTest {
+
+    @Test
+    void correctForSizeOne() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(1, 1);
+
+        assertEquals(1, tree.getNumberOfNodes());
+        assertEquals(1, tree.getNumberOfLevels());
+        assertEquals(1, tree.getSize(tree.getRoot()));
+        assertFalse(tree.hasChildren(tree.getRoot()));
+        assertFalse(tree.hasParents(tree.getRoot()));
+    }
+
+    @Test
+    void testForInvalidSize() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(2, 1);
+
+        assertEquals(1, tree.getNumberOfNodes());
+        assertEquals(1, tree.getNumberOfLevels());
+        assertArrayEquals(new int[]{0}, tree.getParameters(tree.getRoot()));
+        assertArrayEquals(new int[0], tree.getChildren(tree.getRoot()));
+    }
+
+    @Test
+    void correctForHigherSize() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(2, 2);
+        int root = tree.getRoot();
+        int childOne = tree.getNode(new int[]{0});
+        int childTwo = tree.getNode(new int[]{1});
+
+        assertEquals(3, tree.getNumberOfNodes());
+        assertEquals(2, tree.getNumberOfLevels());
+        assertArrayEquals(new int[]{0, 1}, tree.getParameters(root));
+        assertEquals(Set.of(childOne, childTwo), toSet(tree.getChildren(root)));
+        assertArrayEquals(new int[]{root}, tree.getParents(childOne));
+        assertArrayEquals(new int[]{root}, tree.getParents(childTwo));
+        assertFalse(tree.hasChildren(childOne));
+    }
+
+    @Test
+    void testSize() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(5, 5);
+
+        assertEquals(2, tree.getSize(tree.getNode(new int[]{1, 3})));
+        assertArrayEquals(new int[]{1, 3}, tree.getParameters(tree.getNode(new int[]{1, 3})));
+    }
+
+    @Test
+    void testDirectParent() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(3, 3);
+        Set<Integer> childrenOfRoot = toSet(tree.getChildren(tree.getRoot()));
+
+        for (int parameter = 0; parameter < 3; parameter++) {
+            int node = tree.getNode(new int[]{parameter});
+
+            assertFalse(childrenOfRoot.contains(node));
+            assertEquals(2, tree.getParents(node).length);
+        }
+    }
+
+    @Test
+    void changesStatusOfNodes() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(2, 2);
+        int node = tree.getNode(new int[]{0});
+
+        for (int other = 0; other < tree.getNumberOfNodes(); other++) {
+            assertTrue(tree.isUnknown(other));
+        }
+        tree.setStatus(node, TupleStatus.FAULTY);
+        assertTrue(tree.isFaulty(node));
+        tree.setStatus(node, TupleStatus.EXCEPTIONAL_COMBINATION);
+        assertTrue(tree.isExceptionInducingCombination(node));
+        tree.setStatus(node, TupleStatus.HEALTHY);
+        assertTrue(tree.isHealthy(node));
+        assertTrue(tree.isUnknown(tree.getRoot()));
+
+        tree.reset();
+        assertTrue(tree.isUnknown(node));
+    }
+
+    @Test
+    void containsAllTuplesOfEachSize() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(6, 6);
+
+        assertEquals((1 << 6) - 1, tree.getNumberOfNodes());
+        assertEquals(6, tree.getNumberOfLevels());
+
+        Set<Set<Integer>> tuples = new HashSet<>();
+        int[] numberOfTuplesOfSize = new int[7];
+        for (int node = 0; node < tree.getNumberOfNodes(); node++) {
+            int[] parameters = tree.getParameters(node);
+
+            assertEquals(tree.getSize(node), parameters.length);
+            assertEquals(node, tree.getNode(parameters));
+            assertTrue(tuples.add(toSet(parameters)));
+            numberOfTuplesOfSize[parameters.length]++;
+
+            if (parameters.length == 5) {
+                assertArrayEquals(new int[]{tree.getRoot()}, tree.getParents(node));
+            } else if (parameters.length == 2) {
+                assertEquals(4, tree.getParents(node).length);
+            }
+        }
+        for (int size = 1; size < 6; size++) {
+            assertEquals(CombinatoricsUtils.binomialCoefficient(6, size), numberOfTuplesOfSize[size]);
+        }
+        assertEquals(1, numberOfTuplesOfSize[6]);
+    }
+
+    @Test
+    void computesChildrenAndParents() {
+        assertRelationsMatchSubsets(new TupleRelationshipTree(5, 5));
+        assertRelationsMatchSubsets(new TupleRelationshipTree(2, 20));
+    }
+
+    @Test
+    void reducedTreeOnlyContainsSmallTuples() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(3, 30);
+
+        assertEquals(4, tree.getNumberOfLevels());
+        assertEquals(30, tree.getSize(tree.getRoot()));
+        assertEquals(CombinatoricsUtils.binomialCoefficient(30, 3), tree.getChildren(tree.getRoot()).length);
+        assertEquals(30 + CombinatoricsUtils.binomialCoefficient(30, 2)
+                + CombinatoricsUtils.binomialCoefficient(30, 3) + 1, tree.getNumberOfNodes());
+    }
+
+    @Test
+    void propagatesStatusToDescendantsAndAncestors() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(4, 4);
+        int node = tree.getNode(new int[]{0, 1, 2});
+
+        tree.setHealthyWithDescendants(node);
+
+        for (int other = 0; other < tree.getNumberOfNodes(); other++) {
+            boolean isDescendant = toSet(tree.getParameters(node)).containsAll(toSet(tree.getParameters(other)));
+            assertEquals(isDescendant, tree.isHealthy(other));
+        }
+
+        int leaf = tree.getNode(new int[]{3});
+        tree.setStatusWithAncestors(leaf, TupleStatus.FAULTY);
+
+        for (int other = 0; other < tree.getNumberOfNodes() - 1; other++) {
+            boolean isAncestor = toSet(tree.getParameters(other)).contains(3);
+            assertEquals(isAncestor, tree.isFaulty(other));
+        }
+        assertTrue(tree.isUnknown(tree.getRoot()));
+        assertTrue(tree.isMinimalInducingTuple(leaf));
+        assertFalse(tree.isMinimalInducingTuple(tree.getNode(new int[]{2, 3})));
+    }
+
+    @Test
+    void setsTuplesOfPassingTestInputsHealthy() {
+        TupleRelationshipTree tree = new TupleRelationshipTree(2, 20);
+        int[] failingTestInput = new int[20];
+        int[] passingTestInput = new int[20];
+        Arrays.fill(passingTestInput, 1);
+        passingTestInput[4] = 0;
+        passingTestInput[7] = 0;
+        passingTestInput[11] = 0;
+
+        tree.setHealthyIfContained(failingTestInput, passingTestInput);
+
+        Set<Integer> matchingParameters = Set.of(4, 7, 11);
+        for (int node = 0; node < tree.getNumberOfNodes(); node++) {
+            assertEquals(matchingParameters.containsAll(toSet(tree.getParameters(node))), tree.isHealthy(node));
+        }
+        assertArrayEquals(new int[]{-1, -1, -1, -1, 0, -1, -1, 0, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1},
+                tree.getCombination(tree.getNode(new int[]{4, 7}), failingTestInput));
+    }
+
+    private static void assertRelationsMatchSubsets(TupleRelationshipTree tree) {
+        int root = tree.getRoot();
+
+        for (int node = 0; node < tree.getNumberOfNodes(); node++) {
+            Set<Integer> tuple = toSet(tree.getParameters(node));
+            Set<Integer> expectedChildren = new HashSet<>();
+            Set<Integer> expectedParents = new HashSet<>();
+
+            for (int other = 0; other < tree.getNumberOfNodes(); other++) {
+                Set<Integer> otherTuple = toSet(tree.getParameters(other));
+                int expectedChildSize = node == root ? tree.getMaximumSize() : tuple.size() - 1;
+                int expectedParentSize = tuple.size() == tree.getMaximumSize()
+                        ? tree.getNumberOfParameters() : tuple.size() + 1;
+
+                if (tuple.containsAll(otherTuple) && otherTuple.size() == expectedChildSize) {
+                    expectedChildren.add(other);
+                }
+                if (node != root && otherTuple.containsAll(tuple) && otherTuple.size() == expectedParentSize) {
+                    expectedParents.add(other);
+                }
+            }
+
+            assertEquals(expectedChildren, Arrays.stream(tree.getChildren(node)).boxed().collect(Collectors.toSet()));
+            assertEquals(expectedParents, Arrays.stream(tree.getParents(node)).boxed().collect(Collectors.toSet()));
+        }
+    }
+
+    private static Set<Integer> toSet(int[] parameters) {
+        return Arrays.stream(parameters).boxed().collect(Collectors.toSet());
+    }
+}
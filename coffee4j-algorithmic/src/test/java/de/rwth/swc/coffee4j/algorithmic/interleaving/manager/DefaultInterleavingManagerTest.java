@@ -10,8 +10,10 @@ import de.rwth.swc.coffee4j.algorithmic.constraint.MinimalForbiddenTuplesChecker
 import de.rwth.swc.coffee4j.algorithmic.constraint.MinimalForbiddenTuplesCheckerFactory;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.feedback.DefaultFeedbackCheckingStrategy;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.feedback.FeedbackCheckingStrategyFactory;
+import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.TestInputGenerationStrategy;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.TestInputGenerationStrategyFactory;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.aetg.AetgStrategy;
+import de.rwth.swc.coffee4j.algorithmic.interleaving.identification.IdentificationStrategy;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.identification.IdentificationStrategyFactory;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.identification.trt.TupleRelationshipStrategy;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.report.EmptyInterleavingGenerationReporter;
@@ -62,6 +64,22 @@ public class DefaultInterleavingManagerTest {
         assertThrows(NullPointerException.class, () -> new DefaultGeneratingInterleavingManager(simpleConfiguration(), null));
     }
 
+    @Test
+    void closesStrategiesWhenClosed() {
+        instantiateConfiguration();
+        TestInputGenerationStrategy generationStrategy = Mockito.mock(TestInputGenerationStrategy.class);
+        IdentificationStrategy identificationStrategy = Mockito.mock(IdentificationStrategy.class);
+        testInputGenerationStrategyFactory = configuration -> generationStrategy;
+        identificationStrategyFactory = configuration -> identificationStrategy;
+
+        InterleavingCombinatorialTestManager manager = DefaultInterleavingManager
+                .managerFactory().create(simpleConfiguration(), simpleModel());
+        manager.close();
+
+        Mockito.verify(generationStrategy).close();
+        Mockito.verify(identificationStrategy).close();
+    }
+
     @Test
     void testCompleteRunOfDefaultInterleavingManager() {
         instantiateConfiguration();
@@ -0,0 +1,91 @@
+package de.rwth.swc.coffee4j.algorithmic.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryMetricsTest {
+
+    @Test
+    void sumsCounters() {
+        final InMemoryMetrics metrics = new InMemoryMetrics();
+
+        metrics.countRecorded("a", 2);
+        metrics.countRecorded("a", 3);
+        metrics.countRecorded("b", 1);
+
+        assertEquals(Map.of("a", 5L, "b", 1L), metrics.getSummary().getCounters());
+        assertEquals(0, metrics.getSummary().getCounter("c"));
+    }
+
+    @Test
+    void computesDurationStatistics() {
+        final InMemoryMetrics metrics = new InMemoryMetrics();
+        IntStream.rangeClosed(1, 1000).forEach(duration -> metrics.durationRecorded("phase", duration * 1000L));
+
+        final DurationStatistics statistics = metrics.getSummary().getDuration("phase");
+
+        assertEquals(1000, statistics.getCount());
+        assertEquals(500_500_000L, statistics.getTotal());
+        assertEquals(1000, statistics.getMin());
+        assertEquals(1_000_000, statistics.getMax());
+        assertEquals(500_500, statistics.getMean());
+        assertWithinPrecision(500_000, statistics.getP50());
+        assertWithinPrecision(900_000, statistics.getP90());
+        assertWithinPrecision(990_000, statistics.getP99());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125, actual + " is not close to " + expected);
+    }
+
+    @Test
+    void emptySummaryForUnknownDuration() {
+        final MetricsSummary summary = new InMemoryMetrics().getSummary();
+
+        assertTrue(summary.isEmpty());
+        assertEquals(0, summary.getDuration("phase").getCount());
+        assertEquals(0, summary.getDuration("phase").getMean());
+    }
+
+    @Test
+    void resetRemovesAllMeasurements() {
+        final InMemoryMetrics metrics = new InMemoryMetrics();
+        metrics.countRecorded("a", 1);
+        metrics.durationRecorded("b", 1);
+
+        metrics.reset();
+
+        assertTrue(metrics.getSummary().isEmpty());
+    }
+
+    @Test
+    void bucketsCoverTheirValues() {
+        for (long value : new long[]{0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+            final int bucket = Histogram.bucketOf(value);
+
+            assertTrue(Histogram.upperBoundOf(bucket) >= value);
+            assertTrue(bucket == 0 || Histogram.upperBoundOf(bucket - 1) < value);
+        }
+    }
+
+    @Test
+    void compositeListenerNotifiesAllListeners() {
+        final InMemoryMetrics first = new InMemoryMetrics();
+        final InMemoryMetrics second = new InMemoryMetrics();
+        final MetricsListener listener = MetricsListener.composite(List.of(first, second));
+
+        listener.countRecorded("a", 1);
+        listener.durationRecorded("b", 10);
+
+        assertEquals(first.getSummary(), second.getSummary());
+        assertEquals(1, first.getSummary().getCounter("a"));
+        assertEquals(1, second.getSummary().getDuration("b").getCount());
+        assertThrows(NullPointerException.class, () -> MetricsListener.composite(null));
+    }
+
+}
@@ -4,6 +4,7 @@ import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
 import de.rwth.swc.coffee4j.algorithmic.constraint.NoConstraintChecker;
 import it.unimi.dsi.fastutil.ints.*;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.util.*;
 
@@ -110,4 +111,32 @@ class EfficientCoverageMapTest {
         assertArrayEquals(new int[]{1, 1, 1, 1}, coverageMap.computeGainsOfFixedParameter(new int[]{-1, -1, -1, -1}));
     }
 
+    @Test
+    void partialCombinationOnlyCoversParameterCombinationsWithAssignedParameters() {
+        final Int2IntMap parameters = new Int2IntArrayMap(new int[]{0, 1, 2, 3}, new int[]{2, 2, 2, 2});
+        final List<IntSet> parameterCombinations = List.of(
+                new IntOpenHashSet(new int[]{0}),
+                new IntOpenHashSet(new int[]{1}),
+                new IntOpenHashSet(new int[]{3}));
+        final EfficientCoverageMap coverageMap = new EfficientCoverageMap(parameterCombinations, 2, parameters, new NoConstraintChecker());
+
+        coverageMap.markAsCovered(new int[]{1, 0, 0, -1});
+
+        assertArrayEquals(new int[]{0, 1}, coverageMap.computeGainsOfFixedParameter(new int[]{1, -1, -1, -1}));
+        assertArrayEquals(new int[]{0, 1}, coverageMap.computeGainsOfFixedParameter(new int[]{-1, 0, -1, -1}));
+        assertArrayEquals(new int[]{1, 1}, coverageMap.computeGainsOfFixedParameter(new int[]{-1, -1, -1, 0}));
+        assertArrayEquals(new int[]{1, 3}, coverageMap.computeGainsOfFixedParameter(new int[]{1, 0, -1, 0}));
+    }
+
+    @Test
+    void uncoveredCountsIgnoreConstraintsAndDoNotModifyCoverage() {
+        final ConstraintChecker checker = Mockito.mock(ConstraintChecker.class);
+        final EfficientCoverageMap coverageMap = new EfficientCoverageMap(Collections.singletonList(FIRST_PARAMETER_COMBINATION), SECOND_PARAMETER, PARAMETERS, checker);
+        coverageMap.markAsCovered(new int[]{0, 0});
+
+        assertArrayEquals(new int[]{0, 1}, coverageMap.computeUncoveredCountsOfFixedParameter(new int[]{0, -1}));
+        assertArrayEquals(new int[]{1, 1}, coverageMap.computeUncoveredCountsOfFixedParameter(new int[]{1, -1}));
+        Mockito.verifyZeroInteractions(checker);
+    }
+
 }
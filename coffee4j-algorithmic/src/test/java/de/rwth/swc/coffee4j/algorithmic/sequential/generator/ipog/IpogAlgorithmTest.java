@@ -2,6 +2,8 @@ package de.rwth.swc.coffee4j.algorithmic.sequential.generator.ipog;
 
 import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
 import de.rwth.swc.coffee4j.algorithmic.constraint.HardConstraintCheckerFactory;
+import de.rwth.swc.coffee4j.algorithmic.constraint.MinimalForbiddenTuplesCheckerFactory;
+import de.rwth.swc.coffee4j.algorithmic.constraint.NoConstraintChecker;
 import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
 import de.rwth.swc.coffee4j.algorithmic.model.GroupSpecificTestModel;
 import de.rwth.swc.coffee4j.algorithmic.model.PrimitiveSeed;
@@ -19,11 +21,13 @@ import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -257,4 +261,66 @@ class IpogAlgorithmTest {
                 new int[] {-1, -1, -1, 1, 0}, new int[] {-1, -1, -1, 1, 1}), testSuite);
     }
 
+    @Test
+    void itShouldCoverAllCombinationsInParallelMode() {
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(2)
+                .parameterSizes(20, 20, 4, 3, 5, 2, 20, 3)
+                .build();
+        final TestModel groupModel = GroupSpecificTestModel.positive(model, new NoConstraintChecker());
+
+        final List<int[]> testSuite = new IpogAlgorithm(groupModel, 4).generate();
+
+        AlgorithmTestUtil.verifyAllCombinationsPresent(testSuite, model.getParameterSizes(), 2);
+    }
+
+    @Test
+    void itShouldGenerateSameTestSuiteIndependentOfParallelism() {
+        final TupleList constraint = new TupleList(1, new int[]{0, 1, 2}, List.of(
+                new int[]{0, 0, 0},
+                new int[]{1, 2, 0},
+                new int[]{2, 1, 1}));
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(3)
+                .parameterSizes(3, 3, 3, 3, 3, 3, 3, 3, 3, 3)
+                .exclusionTupleLists(List.of(constraint))
+                .build();
+        final ConstraintChecker checker = new MinimalForbiddenTuplesCheckerFactory().createConstraintChecker(model);
+        final TestModel groupModel = GroupSpecificTestModel.positive(model, checker);
+
+        final List<int[]> sequentialSuite = new IpogAlgorithm(groupModel, 1).generate();
+
+        AlgorithmTestUtil.verifyAllRelevantCombinationsPresent(sequentialSuite, model.getParameterSizes(), 3, checker);
+        assertTrue(sequentialSuite.stream().allMatch(checker::isValid));
+        for (int parallelism : new int[]{2, 4}) {
+            final List<int[]> parallelSuite = new IpogAlgorithm(groupModel, parallelism).generate();
+
+            assertEquals(sequentialSuite.size(), parallelSuite.size());
+            for (int i = 0; i < sequentialSuite.size(); i++) {
+                assertArrayEquals(sequentialSuite.get(i), parallelSuite.get(i));
+            }
+        }
+    }
+
+    @Test
+    void itShouldPassEachTestInputOnceWhileGenerating() {
+        final TupleList constraint = new TupleList(1, new int[]{0, 1}, List.of(new int[]{0, 0}, new int[]{1, 2}));
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(2)
+                .parameterSizes(3, 3, 2, 4, 3)
+                .exclusionTupleLists(List.of(constraint))
+                .build();
+        final ConstraintChecker checker = new MinimalForbiddenTuplesCheckerFactory().createConstraintChecker(model);
+        final TestModel groupModel = GroupSpecificTestModel.positive(model, checker);
+        final List<int[]> passedTestInputs = new ArrayList<>();
+
+        final List<int[]> testSuite = new IpogAlgorithm(groupModel).generate(passedTestInputs::add);
+        final List<int[]> expectedTestSuite = new IpogAlgorithm(groupModel).generate();
+
+        assertEquals(testSuite.size(), passedTestInputs.size());
+        assertEquals(IntArrayWrapper.wrapToSet(testSuite), IntArrayWrapper.wrapToSet(passedTestInputs));
+        for (int i = 0; i < expectedTestSuite.size(); i++) {
+            assertArrayEquals(expectedTestSuite.get(i), testSuite.get(i));
+        }
+    }
 }
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -112,4 +115,30 @@ class CachingDelegatingSequentialCombinatorialTestManagerTest {
         assertTrue(calculatedTestInputs.contains(IntArrayWrapper.wrap(FOURTH_TEST_INPUT)));
     }
     
+    @Test
+    void passesUncachedTestInputsBeforeResolvingCachedOnes() {
+        final TestResultCache cache = Mockito.mock(TestResultCache.class);
+        when(cache.containsResultFor(any())).thenReturn(false);
+        when(cache.containsResultFor(IntArrayWrapper.wrap(SECOND_TEST_INPUT))).thenReturn(true);
+        when(cache.getResultFor(IntArrayWrapper.wrap(SECOND_TEST_INPUT))).thenReturn(TestResult.success());
+        final SequentialCombinatorialTestManager generator = Mockito.mock(SequentialCombinatorialTestManager.class);
+        when(generator.generateInitialTests(any())).thenAnswer(invocation -> {
+            final Consumer<int[]> consumer = invocation.getArgument(0);
+            consumer.accept(FIRST_TEST_INPUT);
+            consumer.accept(SECOND_TEST_INPUT);
+            consumer.accept(FIRST_TEST_INPUT);
+            return Arrays.asList(FIRST_TEST_INPUT, SECOND_TEST_INPUT, FIRST_TEST_INPUT);
+        });
+        when(generator.generateAdditionalTestInputsWithResult(aryEq(SECOND_TEST_INPUT), eq(TestResult.success()))).thenReturn(List.of(THIRD_TEST_INPUT));
+        final CachingDelegatingSequentialCombinatorialTestManager cachingGenerator = new CachingDelegatingSequentialCombinatorialTestManager(cache, generator);
+        final List<int[]> passedTestInputs = new ArrayList<>();
+        
+        final List<int[]> calculatedTestInputs = cachingGenerator.generateInitialTests(passedTestInputs::add);
+        
+        assertEquals(2, passedTestInputs.size());
+        assertArrayEquals(FIRST_TEST_INPUT, passedTestInputs.get(0));
+        assertArrayEquals(THIRD_TEST_INPUT, passedTestInputs.get(1));
+        Assertions.assertEquals(IntArrayWrapper.wrapToSet(passedTestInputs), IntArrayWrapper.wrapToSet(calculatedTestInputs));
+        assertEquals(2, calculatedTestInputs.size());
+    }
 }
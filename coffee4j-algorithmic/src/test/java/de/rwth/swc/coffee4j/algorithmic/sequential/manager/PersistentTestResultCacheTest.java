@@ -0,0 +1,194 @@
+package de.rwth.swc.coffee4j.algorithmic.sequential.manager;
+
+import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.algorithmic.util.IntArrayWrapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentTestResultCacheTest {
+    
+    private static final CompleteTestModel MODEL = CompleteTestModel.builder()
+            .positiveTestingStrength(2)
+            .parameterSizes(2, 3, 2)
+            .build();
+    
+    private static final Instant START = Instant.parse("2020-01-01T00:00:00Z");
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void restoresPassingResultsOfPreviousRuns() {
+        final PersistentTestResultCache cache = createCache("test", TestResultInvalidationPolicy.never(), START);
+        cache.addResultFor(IntArrayWrapper.wrap(0, 2, 1), TestResult.success());
+        cache.addResultFor(IntArrayWrapper.wrap(1, -1, 0), TestResult.success());
+        cache.addResultFor(IntArrayWrapper.wrap(1, 1, 1), TestResult.failure(new IllegalStateException()));
+        assertTrue(cache.containsResultFor(IntArrayWrapper.wrap(1, 1, 1)));
+        
+        final PersistentTestResultCache restoredCache
+                = createCache("test", TestResultInvalidationPolicy.never(), START);
+        
+        assertEquals(TestResult.success(), restoredCache.getResultFor(IntArrayWrapper.wrap(0, 2, 1)));
+        assertEquals(TestResult.success(), restoredCache.getResultFor(IntArrayWrapper.wrap(1, -1, 0)));
+        assertFalse(restoredCache.containsResultFor(IntArrayWrapper.wrap(1, 1, 1)));
+    }
+    
+    @Test
+    void separatesNamespacesAndModels() {
+        final CompleteTestModel otherModel = CompleteTestModel.builder()
+                .positiveTestingStrength(2)
+                .parameterSizes(2, 3, 3)
+                .build();
+        
+        assertNotEquals(PersistentTestResultCache.computeFingerprint("test", MODEL, ""),
+                PersistentTestResultCache.computeFingerprint("test", otherModel, ""));
+        assertEquals(PersistentTestResultCache.computeFingerprint("test", MODEL, ""),
+                PersistentTestResultCache.computeFingerprint("test", CompleteTestModel.builder(MODEL).build(), ""));
+        
+        createCache("test", TestResultInvalidationPolicy.never(), START)
+                .addResultFor(IntArrayWrapper.wrap(0, 0, 0), TestResult.success());
+        
+        assertFalse(createCache("other", TestResultInvalidationPolicy.never(), START)
+                .containsResultFor(IntArrayWrapper.wrap(0, 0, 0)));
+        assertFalse(new PersistentTestResultCache(directory, "test", otherModel, TestResultInvalidationPolicy.never())
+                .containsResultFor(IntArrayWrapper.wrap(0, 0, 0)));
+    }
+    
+    @Test
+    void separatesModelsWithDifferentDescriptions() {
+        final TestResultCacheFactory factory = TestResultCacheFactory.persistent(directory, "test");
+        final IntArrayWrapper testInput = IntArrayWrapper.wrap(0, 0, 0);
+        
+        assertNotEquals(PersistentTestResultCache.computeFingerprint("test", MODEL, "a\0b"),
+                PersistentTestResultCache.computeFingerprint("test", MODEL, "b\0a"));
+        
+        factory.create(MODEL, "a\0b").addResultFor(testInput, TestResult.success());
+        
+        assertFalse(factory.create(MODEL, "b\0a").containsResultFor(testInput));
+        assertTrue(factory.create(MODEL, "a\0b").containsResultFor(testInput));
+    }
+    
+    @Test
+    void removesInvalidatedResults() throws IOException {
+        final PersistentTestResultCache oldCache = createCache("test", TestResultInvalidationPolicy.never(), START);
+        oldCache.addResultFor(IntArrayWrapper.wrap(0, 0, 0), TestResult.success());
+        final long sizeWithOneResult = Files.size(oldCache.getFile());
+        
+        createCache("test", TestResultInvalidationPolicy.never(), START.plus(Duration.ofDays(2)))
+                .addResultFor(IntArrayWrapper.wrap(1, 1, 1), TestResult.success());
+        
+        final TestResultInvalidationPolicy policy = TestResultInvalidationPolicy.olderThan(Duration.ofDays(1));
+        final PersistentTestResultCache cache = createCache("test", policy, START.plus(Duration.ofDays(2)));
+        
+        assertFalse(cache.containsResultFor(IntArrayWrapper.wrap(0, 0, 0)));
+        assertTrue(cache.containsResultFor(IntArrayWrapper.wrap(1, 1, 1)));
+        assertEquals(sizeWithOneResult, Files.size(cache.getFile()));
+        
+        cache.invalidateAll();
+        
+        assertFalse(cache.containsResultFor(IntArrayWrapper.wrap(1, 1, 1)));
+        assertFalse(createCache("test", TestResultInvalidationPolicy.never(), START)
+                .containsResultFor(IntArrayWrapper.wrap(1, 1, 1)));
+    }
+    
+    @Test
+    void doesNotOverwriteForeignFiles() throws IOException {
+        final Path file = createCache("test", TestResultInvalidationPolicy.never(), START).getFile();
+        final byte[] foreignContent = {(byte) 0xC0, (byte) 0xFF, 0x4E, (byte) 0xE5, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        Files.write(file, foreignContent);
+        
+        assertThrows(Coffee4JException.class,
+                () -> createCache("test", TestResultInvalidationPolicy.never(), START));
+        assertArrayEquals(foreignContent, Files.readAllBytes(file));
+    }
+    
+    @Test
+    void sharesStoreBetweenConcurrentCaches() throws InterruptedException, ExecutionException {
+        final List<PersistentTestResultCache> caches = List.of(
+                createCache("test", TestResultInvalidationPolicy.never(), START),
+                createCache("test", TestResultInvalidationPolicy.never(), START));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int first = 0; first < 2; first++) {
+                for (int second = 0; second < 3; second++) {
+                    for (int third = 0; third < 2; third++) {
+                        final PersistentTestResultCache cache = caches.get((first + second + third) % 2);
+                        final IntArrayWrapper testInput = IntArrayWrapper.wrap(first, second, third);
+                        
+                        futures.add(executor.submit(() -> cache.addResultFor(testInput, TestResult.success())));
+                    }
+                }
+            }
+            
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        final PersistentTestResultCache restoredCache
+                = createCache("test", TestResultInvalidationPolicy.never(), START);
+        for (int first = 0; first < 2; first++) {
+            for (int second = 0; second < 3; second++) {
+                for (int third = 0; third < 2; third++) {
+                    assertTrue(restoredCache.containsResultFor(IntArrayWrapper.wrap(first, second, third)));
+                }
+            }
+        }
+    }
+    
+    @Test
+    void discardsPartiallyWrittenResult() throws IOException {
+        final PersistentTestResultCache cache = createCache("test", TestResultInvalidationPolicy.never(), START);
+        cache.addResultFor(IntArrayWrapper.wrap(0, 1, 0), TestResult.success());
+        cache.addResultFor(IntArrayWrapper.wrap(1, 2, 1), TestResult.success());
+        
+        final byte[] content = Files.readAllBytes(cache.getFile());
+        Files.write(cache.getFile(), Arrays.copyOf(content, content.length - 3));
+        
+        final PersistentTestResultCache restoredCache
+                = createCache("test", TestResultInvalidationPolicy.never(), START);
+        assertTrue(restoredCache.containsResultFor(IntArrayWrapper.wrap(0, 1, 0)));
+        assertFalse(restoredCache.containsResultFor(IntArrayWrapper.wrap(1, 2, 1)));
+        restoredCache.addResultFor(IntArrayWrapper.wrap(1, 0, 1), TestResult.success());
+        
+        final PersistentTestResultCache finalCache = createCache("test", TestResultInvalidationPolicy.never(), START);
+        assertTrue(finalCache.containsResultFor(IntArrayWrapper.wrap(0, 1, 0)));
+        assertTrue(finalCache.containsResultFor(IntArrayWrapper.wrap(1, 0, 1)));
+    }
+    
+    private PersistentTestResultCache createCache(String namespace, TestResultInvalidationPolicy policy,
+            Instant now) {
+        
+        return new PersistentTestResultCache(directory, namespace, MODEL, "", policy,
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+    
+}
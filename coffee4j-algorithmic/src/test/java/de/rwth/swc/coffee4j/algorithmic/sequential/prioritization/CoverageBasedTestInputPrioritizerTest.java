@@ -0,0 +1,124 @@
+package de.rwth.swc.coffee4j.algorithmic.sequential.prioritization;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TestModel;
+import de.rwth.swc.coffee4j.algorithmic.util.BitSetCoverageMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoverageBasedTestInputPrioritizerTest {
+
+    private static final TestModel MODEL = CompleteTestModel.builder()
+            .positiveTestingStrength(2)
+            .parameterSizes(2, 2, 2)
+            .build();
+
+    @Test
+    void preconditions() {
+        final TestInputPrioritizer prioritizer = new CoverageBasedTestInputPrioritizer();
+
+        assertThrows(NullPointerException.class, () -> prioritizer.prioritize(null, MODEL));
+        assertThrows(NullPointerException.class, () -> prioritizer.prioritize(List.of(), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> prioritizer.prioritize(List.of(new int[]{0, 0}, new int[]{1, 1}), MODEL));
+    }
+
+    @Test
+    void ordersByNewlyCoveredCombinations() {
+        final int[] first = {0, 0, 0};
+        final int[] duplicate = {0, 0, 0};
+        final int[] partlyNew = {0, 0, 1};
+        final int[] completelyNew = {1, 1, 0};
+
+        final List<int[]> prioritized = new CoverageBasedTestInputPrioritizer()
+                .prioritize(List.of(first, duplicate, partlyNew, completelyNew), MODEL);
+
+        assertEquals(4, prioritized.size());
+        assertSame(first, prioritized.get(0));
+        assertSame(completelyNew, prioritized.get(1));
+        assertSame(partlyNew, prioritized.get(2));
+        assertSame(duplicate, prioritized.get(3));
+    }
+
+    @Test
+    void prefersCombinationsWithHigherWeights() {
+        final TestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(2)
+                .parameterSizes(2, 2, 2)
+                .weight(0, 1, 10)
+                .build();
+        final int[] first = {0, 0, 0};
+        final int[] second = {1, 1, 1};
+
+        assertSame(second, new CoverageBasedTestInputPrioritizer().prioritize(List.of(first, second), model).get(0));
+        assertSame(first, new CoverageBasedTestInputPrioritizer(false)
+                .prioritize(List.of(first, second), model).get(0));
+    }
+
+    @Test
+    void eachTestInputCoversTheMostNewCombinations() {
+        final Random random = new Random(42);
+        final int[] parameterSizes = {3, 4, 2, 3, 5, 2};
+        final TestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(2)
+                .parameterSizes(parameterSizes)
+                .build();
+        final List<int[]> testInputs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int[] testInput = new int[parameterSizes.length];
+            for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+                testInput[parameter] = random.nextInt(parameterSizes[parameter]);
+            }
+            testInputs.add(testInput);
+        }
+
+        final List<int[]> prioritized = new CoverageBasedTestInputPrioritizer().prioritize(testInputs, model);
+
+        assertEquals(testInputs.size(), prioritized.size());
+        assertTrue(prioritized.containsAll(testInputs));
+
+        final BitSetCoverageMap coverageMap = BitSetCoverageMap.allCombinations(parameterSizes, 2);
+        final List<int[]> remaining = new ArrayList<>(testInputs);
+        for (int[] testInput : prioritized) {
+            final int best = remaining.stream()
+                    .mapToInt(coverageMap::getNumberOfContainedCombinations)
+                    .max()
+                    .orElseThrow();
+
+            assertEquals(best, coverageMap.getNumberOfContainedCombinations(testInput));
+
+            coverageMap.markAsCovered(testInput);
+            remaining.remove(testInput);
+        }
+    }
+
+    @Test
+    void keepsTheOrderIfNothingCanBeCovered() {
+        final TestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(0)
+                .parameterSizes(2, 2)
+                .build();
+        final List<int[]> testInputs = List.of(new int[]{0, 0}, new int[]{0, 0}, new int[]{1, 1});
+
+        assertEquals(testInputs, new CoverageBasedTestInputPrioritizer().prioritize(testInputs, model));
+    }
+
+    @Test
+    void equalityDependsOnTheUsageOfWeights() {
+        assertEquals(new CoverageBasedTestInputPrioritizer(), new CoverageBasedTestInputPrioritizer(true));
+        assertEquals(new CoverageBasedTestInputPrioritizer().hashCode(),
+                new CoverageBasedTestInputPrioritizer(true).hashCode());
+        assertNotEquals(new CoverageBasedTestInputPrioritizer(), new CoverageBasedTestInputPrioritizer(false));
+        assertNotEquals(new CoverageBasedTestInputPrioritizer(), new NoOpTestInputPrioritizer());
+    }
+
+}
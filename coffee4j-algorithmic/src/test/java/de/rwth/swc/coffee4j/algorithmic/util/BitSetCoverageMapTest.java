@@ -0,0 +1,188 @@
+package de.rwth.swc.coffee4j.algorithmic.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.NO_VALUE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BitSetCoverageMapTest {
+
+    private static final int[] PARAMETER_SIZES = {2, 3, 2, 4, 3};
+
+    @Test
+    void preconditions() {
+        assertThrows(NullPointerException.class, () -> new BitSetCoverageMap(null));
+        assertThrows(IllegalArgumentException.class, () -> new BitSetCoverageMap(new int[]{2, 0}));
+
+        final BitSetCoverageMap coverageMap = new BitSetCoverageMap(new int[]{2, 2});
+        assertThrows(IllegalArgumentException.class, () -> coverageMap.addUncoveredCombination(new int[]{-1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> coverageMap.markAsCovered(new int[]{0}));
+    }
+
+    @Test
+    void containsAllCombinationsOfStrength() {
+        final BitSetCoverageMap coverageMap = BitSetCoverageMap.allCombinations(PARAMETER_SIZES, 2);
+
+        assertEquals(Combinator.computeCombinations(PARAMETER_SIZES, 2).size(),
+                coverageMap.getNumberOfUncoveredCombinations());
+        assertEquals(2 + 2 + 4 + 3, coverageMap.getNumberOfUncoveredCombinations(1, 0));
+    }
+
+    @Test
+    void coversContainedCombinations() {
+        final BitSetCoverageMap coverageMap = BitSetCoverageMap.fromCombinations(new int[]{2, 2, 2}, List.of(
+                new int[]{0, -1, -1}, new int[]{0, 1, -1}, new int[]{-1, 1, 1}, new int[]{1, 1, 1}));
+
+        coverageMap.markAsCovered(new int[]{0, 1, -1});
+
+        assertEquals(2, coverageMap.getNumberOfUncoveredCombinations());
+        assertFalse(coverageMap.removeCombination(new int[]{0, 1, -1}));
+        assertTrue(coverageMap.removeCombination(new int[]{-1, 1, 1}));
+        assertEquals(1, coverageMap.getNumberOfUncoveredCombinations());
+        assertArrayEquals(new int[]{1, 1, 1}, coverageMap.getUncoveredCombinations().get(0));
+
+        coverageMap.markAsCovered(new int[]{1, 1, 1});
+        assertFalse(coverageMap.hasUncoveredCombinations());
+    }
+
+    @Test
+    void copiesAreIndependent() {
+        final BitSetCoverageMap coverageMap = BitSetCoverageMap.allCombinations(PARAMETER_SIZES, 2);
+        final int numberOfCombinations = coverageMap.getNumberOfUncoveredCombinations();
+        final BitSetCoverageMap copy = coverageMap.copy();
+
+        copy.markAsCovered(new int[]{0, 0, 0, 0, 0});
+        assertEquals(numberOfCombinations, coverageMap.getNumberOfUncoveredCombinations());
+        assertEquals(numberOfCombinations - 10, copy.getNumberOfUncoveredCombinations());
+
+        coverageMap.markAsCovered(new int[]{1, 1, 1, 1, 1});
+        assertEquals(numberOfCombinations - 10, coverageMap.getNumberOfUncoveredCombinations());
+        assertEquals(numberOfCombinations - 10, copy.getNumberOfUncoveredCombinations());
+        assertEquals(0, coverageMap.getNumberOfContainedCombinations(new int[]{1, 1, 1, 1, 1}));
+        assertEquals(10, copy.getNumberOfContainedCombinations(new int[]{1, 1, 1, 1, 1}));
+        assertEquals(10, coverageMap.getNumberOfContainedCombinations(new int[]{0, 0, 0, 0, 0}));
+        assertEquals(0, copy.getNumberOfContainedCombinations(new int[]{0, 0, 0, 0, 0}));
+    }
+
+    @Test
+    void countsContainedAndExtendingCombinations() {
+        final BitSetCoverageMap coverageMap = BitSetCoverageMap.fromCombinations(new int[]{2, 2, 2}, List.of(
+                new int[]{0, -1, -1}, new int[]{0, 1, -1}, new int[]{0, -1, 1}, new int[]{1, 1, -1},
+                new int[]{-1, 1, 1}));
+
+        assertEquals(1, coverageMap.getNumberOfContainedCombinations(new int[]{0, -1, -1}));
+        assertEquals(2, coverageMap.getNumberOfExtendingCombinations(new int[]{0, -1, -1}));
+        assertEquals(4, coverageMap.getNumberOfContainedCombinations(new int[]{0, 1, 1}));
+        assertEquals(0, coverageMap.getNumberOfExtendingCombinations(new int[]{0, 1, 1}));
+        assertEquals(3, coverageMap.getNumberOfExtendingCombinations(new int[]{-1, 1, -1}));
+    }
+
+    @Test
+    void weighsContainedCombinationsByTheProductOfTheirValueWeights() {
+        final BitSetCoverageMap coverageMap = BitSetCoverageMap.fromCombinations(new int[]{2, 2, 2}, List.of(
+                new int[]{0, -1, -1}, new int[]{0, 1, -1}, new int[]{0, -1, 1}, new int[]{1, 1, -1},
+                new int[]{-1, 1, 1}));
+        final double[][] weights = {{2, 1}, {3, 1}, {0.5, 1}};
+
+        assertEquals(2 + 2 * 1 + 2 * 1 + 1 * 1,
+                coverageMap.getWeightOfContainedCombinations(new int[]{0, 1, 1}, weights));
+        assertEquals(2, coverageMap.getWeightOfContainedCombinations(new int[]{0, 0, 0}, weights));
+        assertEquals(0, coverageMap.getWeightOfContainedCombinations(new int[]{-1, 0, 0}, weights));
+    }
+
+    @Test
+    void countsLikeIteratingOverAllCombinations() {
+        final Random random = new Random(42);
+        final List<int[]> remainingCombinations = new ArrayList<>(
+                Combinator.computeCombinations(PARAMETER_SIZES, 3));
+        remainingCombinations.addAll(Combinator.computeCombinations(PARAMETER_SIZES, 1));
+        final BitSetCoverageMap coverageMap = BitSetCoverageMap.fromCombinations(
+                PARAMETER_SIZES, remainingCombinations);
+
+        coverageMap.removeCombinationsIf(combination -> combination[0] == 1 && combination[3] == 2);
+        remainingCombinations.removeIf(combination -> combination[0] == 1 && combination[3] == 2);
+
+        while (!remainingCombinations.isEmpty()) {
+            final int[] partialTestInput = randomTestInput(random, 0.5);
+
+            assertEquals(remainingCombinations.size(), coverageMap.getNumberOfUncoveredCombinations());
+            assertEquals(countMatching(remainingCombinations, partialTestInput),
+                    coverageMap.getNumberOfUncoveredCombinations(partialTestInput));
+
+            for (int parameter = 0; parameter < PARAMETER_SIZES.length; parameter++) {
+                assertCountsOfParameter(coverageMap, remainingCombinations, partialTestInput, parameter);
+
+                for (int value = 0; value < PARAMETER_SIZES[parameter]; value++) {
+                    final int currentParameter = parameter;
+                    final int currentValue = value;
+                    assertEquals(remainingCombinations.stream()
+                                    .filter(combination -> combination[currentParameter] == currentValue)
+                                    .count(),
+                            coverageMap.getNumberOfUncoveredCombinations(parameter, value));
+                }
+            }
+
+            final int[] testInput = randomTestInput(random, 0);
+            coverageMap.markAsCovered(testInput);
+            remainingCombinations.removeIf(combination -> CombinationUtil.contains(testInput, combination));
+        }
+
+        assertFalse(coverageMap.hasUncoveredCombinations());
+    }
+
+    private static void assertCountsOfParameter(BitSetCoverageMap coverageMap, List<int[]> remainingCombinations,
+            int[] partialTestInput, int parameter) {
+
+        final long[] counts = new long[PARAMETER_SIZES[parameter]];
+        coverageMap.addUncoveredCountsOfParameter(partialTestInput, parameter, counts);
+
+        final int[] candidate = Arrays.copyOf(partialTestInput, partialTestInput.length);
+        final long[] expectedCounts = new long[PARAMETER_SIZES[parameter]];
+        for (int value = 0; value < expectedCounts.length; value++) {
+            candidate[parameter] = value;
+            expectedCounts[value] = remainingCombinations.stream()
+                    .filter(combination -> combination[parameter] != NO_VALUE)
+                    .filter(combination -> matches(candidate, combination))
+                    .count();
+        }
+
+        assertArrayEquals(expectedCounts, counts);
+    }
+
+    private static int[] randomTestInput(Random random, double unassignedProbability) {
+        final int[] testInput = new int[PARAMETER_SIZES.length];
+
+        for (int parameter = 0; parameter < testInput.length; parameter++) {
+            testInput[parameter] = random.nextDouble() < unassignedProbability
+                    ? NO_VALUE
+                    : random.nextInt(PARAMETER_SIZES[parameter]);
+        }
+
+        return testInput;
+    }
+
+    private static long countMatching(List<int[]> combinations, int[] testInput) {
+        return combinations.stream().filter(combination -> matches(testInput, combination)).count();
+    }
+
+    private static boolean matches(int[] testInput, int[] combination) {
+        for (int parameter = 0; parameter < testInput.length; parameter++) {
+            if (testInput[parameter] != NO_VALUE && combination[parameter] != NO_VALUE
+                    && testInput[parameter] != combination[parameter]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,50 @@
+package de.rwth.swc.coffee4j.algorithmic.util;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChocoUtilTest {
+
+    @Test
+    void createdVariablesAreIndexedByParameter() {
+        final Model model = new Model();
+        final IntVar[] variables = ChocoUtil.createVariables(model, new int[]{2, 3});
+
+        assertEquals(2, variables.length);
+        assertEquals("0", variables[0].getName());
+        assertEquals(1, variables[0].getUB());
+        assertEquals("1", variables[1].getName());
+        assertEquals(2, variables[1].getUB());
+
+        assertSame(variables, ChocoUtil.getVariableIndex(model));
+        assertSame(variables[1], ChocoUtil.findVariable(model, 1).orElseThrow());
+        assertFalse(ChocoUtil.findVariable(model, 2).isPresent());
+    }
+
+    @Test
+    void variablesCannotBeCreatedTwice() {
+        final Model model = new Model();
+        ChocoUtil.createVariables(model, new int[]{2});
+
+        assertThrows(IllegalArgumentException.class, () -> ChocoUtil.createVariables(model, new int[]{2}));
+    }
+
+    @Test
+    void indexIsBuiltForVariablesCreatedElsewhere() {
+        final Model model = new Model();
+        final IntVar first = model.intVar("0", 0, 1);
+        model.intVar("sum", 0, 1);
+        final IntVar third = model.intVar("2", 0, 1);
+
+        assertSame(third, ChocoUtil.findVariable(model, 2).orElseThrow());
+
+        final IntVar[] variables = ChocoUtil.getVariableIndex(model);
+
+        assertArrayEquals(new IntVar[]{first, null, third}, variables);
+        assertSame(variables, ChocoUtil.getVariableIndex(model));
+        assertFalse(ChocoUtil.findVariable(model, 1).isPresent());
+    }
+}
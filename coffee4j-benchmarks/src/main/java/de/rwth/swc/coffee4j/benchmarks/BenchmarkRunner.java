@@ -0,0 +1,52 @@
+package de.rwth.swc.coffee4j.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmark jar. Accepts the same arguments as the JMH command line, but writes the results as
+ * JSON to {@value #DEFAULT_RESULT_FILE} unless another format or file is given.
+ *
+ * <p>
+ *     Example: {@code java -jar coffee4j-benchmarks/target/benchmarks.jar GenerationBenchmark -p strength=2
+ *     -rff generation.json}
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+        // utility class
+    }
+
+    public static void main(String... arguments) throws CommandLineOptionException, RunnerException, IOException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(arguments);
+
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers()
+                || commandLineOptions.shouldListResultFormats()) {
+            Main.main(arguments);
+            return;
+        }
+
+        new Runner(createOptions(commandLineOptions)).run();
+    }
+
+    static Options createOptions(CommandLineOptions commandLineOptions) {
+        return new OptionsBuilder()
+                .parent(commandLineOptions)
+                .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build();
+    }
+
+}
@@ -0,0 +1,148 @@
+package de.rwth.swc.coffee4j.benchmarks;
+
+import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
+import de.rwth.swc.coffee4j.algorithmic.constraint.HardConstraintCheckerFactory;
+import de.rwth.swc.coffee4j.algorithmic.constraint.MinimalForbiddenTuplesChecker;
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the three queries of a {@link ConstraintChecker}. Each invocation checks the next
+ * element of a fixed pool of random test inputs and combinations, so the results do not depend on the caching of a
+ * single query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConstraintCheckerBenchmark {
+
+    private static final int POOL_SIZE = 1 << 10;
+
+    private static final int NUMBER_OF_DUAL_PARAMETERS = 3;
+
+    /**
+     * The constraint checkers which are benchmarked.
+     */
+    public enum Checker {
+        HARD {
+            @Override
+            ConstraintChecker createChecker(CompleteTestModel model) {
+                return new HardConstraintCheckerFactory().createConstraintChecker(model);
+            }
+        },
+        MINIMAL_FORBIDDEN_TUPLES {
+            @Override
+            ConstraintChecker createChecker(CompleteTestModel model) {
+                return new MinimalForbiddenTuplesChecker(model);
+            }
+        };
+
+        abstract ConstraintChecker createChecker(CompleteTestModel model);
+    }
+
+    @Param({"HARD", "MINIMAL_FORBIDDEN_TUPLES"})
+    private Checker checker;
+
+    @Param({"10", "30"})
+    private int numberOfParameters;
+
+    @Param({"4"})
+    private int numberOfValues;
+
+    @Param({"0.05", "0.2"})
+    private double constraintDensity;
+
+    private ConstraintChecker constraintChecker;
+
+    private int[][] testInputs;
+    private int[][] partialCombinations;
+    private int[][] extensions;
+    private int[][] dualParameters;
+    private int[][] dualValues;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createChecker() {
+        final CompleteTestModel model = SyntheticModels.syntheticModel()
+                .numberOfParameters(numberOfParameters)
+                .numberOfValues(numberOfValues)
+                .constraintDensity(constraintDensity)
+                .build();
+
+        constraintChecker = checker.createChecker(model);
+        testInputs = SyntheticModels.randomTestInputs(model, POOL_SIZE, 1).toArray(new int[0][]);
+        partialCombinations = SyntheticModels.randomCombinations(model, POOL_SIZE, numberOfParameters / 2, 2)
+                .toArray(new int[0][]);
+        extensions = new int[POOL_SIZE][];
+        dualParameters = new int[POOL_SIZE][];
+        dualValues = new int[POOL_SIZE][];
+
+        final List<int[]> randomValues = SyntheticModels.randomTestInputs(model, POOL_SIZE, 3);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            final int unassignedParameter = findUnassignedParameter(partialCombinations[i]);
+            extensions[i] = new int[]{unassignedParameter, randomValues.get(i)[unassignedParameter]};
+
+            dualParameters[i] = new int[NUMBER_OF_DUAL_PARAMETERS];
+            dualValues[i] = new int[NUMBER_OF_DUAL_PARAMETERS];
+            for (int j = 0; j < NUMBER_OF_DUAL_PARAMETERS; j++) {
+                dualParameters[i][j] = (i + j * (numberOfParameters / NUMBER_OF_DUAL_PARAMETERS)) % numberOfParameters;
+                dualValues[i][j] = randomValues.get(i)[dualParameters[i][j]];
+            }
+        }
+    }
+
+    private static int findUnassignedParameter(int[] combination) {
+        for (int parameter = 0; parameter < combination.length; parameter++) {
+            if (combination[parameter] == CombinationUtil.NO_VALUE) {
+                return parameter;
+            }
+        }
+
+        throw new IllegalStateException("All parameters are assigned");
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (POOL_SIZE - 1);
+
+        return next;
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return constraintChecker.isValid(testInputs[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean isExtensionValid() {
+        final int index = nextIndex();
+
+        return constraintChecker.isExtensionValid(partialCombinations[index], extensions[index]);
+    }
+
+    @Benchmark
+    public boolean isDualValid() {
+        final int index = nextIndex();
+
+        return constraintChecker.isDualValid(dualParameters[index], dualValues[index]);
+    }
+
+}
@@ -0,0 +1,125 @@
+package de.rwth.swc.coffee4j.benchmarks;
+
+import de.rwth.swc.coffee4j.algorithmic.constraint.NoConstraintCheckerFactory;
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.GroupSpecificTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.algorithmic.report.Reporter;
+import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharacterizationAlgorithm;
+import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharacterizationConfiguration;
+import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.ben.Ben;
+import de.rwth.swc.coffee4j.algorithmic.sequential.generator.ipog.IpogAlgorithm;
+import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete fault characterization runs of {@link Ben}. The initial test suite is generated once, and the
+ * system under test is simulated by a set of random failure-inducing pairs: a test input fails if and only if it
+ * contains one of them. Each invocation executes all characterization rounds until no further test inputs are
+ * requested.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FaultCharacterizationBenchmark {
+
+    private static final TestResult FAILURE = TestResult.failure(new AssertionError("synthetic fault"));
+
+    @Param({"10", "20"})
+    private int numberOfParameters;
+
+    @Param({"3"})
+    private int numberOfValues;
+
+    @Param({"1", "2"})
+    private int numberOfFaults;
+
+    private FaultCharacterizationConfiguration configuration;
+    private List<int[]> faults;
+    private List<int[]> initialTestInputs;
+
+    @Setup(Level.Trial)
+    public void createInitialTestSuite() {
+        final CompleteTestModel model = SyntheticModels.syntheticModel()
+                .numberOfParameters(numberOfParameters)
+                .numberOfValues(numberOfValues)
+                .build();
+        final TestModel groupModel = GroupSpecificTestModel.positive(model,
+                new NoConstraintCheckerFactory().createConstraintChecker(model));
+
+        configuration = new FaultCharacterizationConfiguration(groupModel, Reporter.getEmptyReporter());
+        faults = createFaults(new Random(numberOfFaults));
+        initialTestInputs = new IpogAlgorithm(groupModel).generate();
+    }
+
+    private List<int[]> createFaults(Random random) {
+        final List<int[]> createdFaults = new ArrayList<>(numberOfFaults);
+
+        for (int i = 0; i < numberOfFaults; i++) {
+            final int firstParameter = random.nextInt(numberOfParameters);
+            final int secondParameter = (firstParameter + 1 + random.nextInt(numberOfParameters - 1))
+                    % numberOfParameters;
+            final int[] faultyCombination = CombinationUtil.emptyCombination(numberOfParameters);
+            faultyCombination[firstParameter] = random.nextInt(numberOfValues);
+            faultyCombination[secondParameter] = random.nextInt(numberOfValues);
+            createdFaults.add(faultyCombination);
+        }
+
+        return createdFaults;
+    }
+
+    @Benchmark
+    public List<int[]> characterize() {
+        final FaultCharacterizationAlgorithm algorithm = new Ben(configuration);
+        List<int[]> testInputs = initialTestInputs;
+
+        while (!testInputs.isEmpty()) {
+            testInputs = algorithm.computeNextTestInputs(execute(testInputs));
+        }
+
+        return algorithm.computeFailureInducingCombinations();
+    }
+
+    private Map<int[], TestResult> execute(List<int[]> testInputs) {
+        final Map<int[], TestResult> results = new IdentityHashMap<>(testInputs.size());
+
+        for (int[] testInput : testInputs) {
+            results.put(testInput, containsFault(testInput) ? FAILURE : TestResult.success());
+        }
+
+        return results;
+    }
+
+    private boolean containsFault(int[] testInput) {
+        for (int[] fault : faults) {
+            if (CombinationUtil.contains(testInput, fault)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
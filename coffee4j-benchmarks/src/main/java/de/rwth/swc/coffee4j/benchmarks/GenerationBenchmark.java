@@ -0,0 +1,100 @@
+package de.rwth.swc.coffee4j.benchmarks;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.report.Reporter;
+import de.rwth.swc.coffee4j.algorithmic.sequential.generator.TestInputGroup;
+import de.rwth.swc.coffee4j.algorithmic.sequential.generator.TestInputGroupGenerator;
+import de.rwth.swc.coffee4j.algorithmic.sequential.generator.aetg.AetgSat;
+import de.rwth.swc.coffee4j.algorithmic.sequential.generator.ipog.Ipog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the time needed to generate a complete positive test suite with {@link Ipog} and {@link AetgSat} for a
+ * matrix of model sizes, testing strengths, and constraint densities. The measured time includes the creation of
+ * the constraint checker used by the generator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    /**
+     * The generation algorithms which are benchmarked.
+     */
+    public enum Algorithm {
+        IPOG {
+            @Override
+            TestInputGroupGenerator createGenerator() {
+                return new Ipog();
+            }
+        },
+        AETG_SAT {
+            @Override
+            TestInputGroupGenerator createGenerator() {
+                return new AetgSat();
+            }
+        };
+
+        abstract TestInputGroupGenerator createGenerator();
+    }
+
+    @Param({"IPOG", "AETG_SAT"})
+    private Algorithm algorithm;
+
+    @Param({"10", "20"})
+    private int numberOfParameters;
+
+    @Param({"3", "5"})
+    private int numberOfValues;
+
+    @Param({"2", "3"})
+    private int strength;
+
+    @Param({"0.0", "0.05"})
+    private double constraintDensity;
+
+    private CompleteTestModel model;
+    private TestInputGroupGenerator generator;
+
+    @Setup(Level.Trial)
+    public void createModel() {
+        model = SyntheticModels.syntheticModel()
+                .numberOfParameters(numberOfParameters)
+                .numberOfValues(numberOfValues)
+                .strength(strength)
+                .constraintDensity(constraintDensity)
+                .build();
+        generator = algorithm.createGenerator();
+    }
+
+    @Benchmark
+    public List<int[]> generate() {
+        final List<int[]> testInputs = new ArrayList<>();
+
+        for (Supplier<TestInputGroup> group : generator.generate(model, Reporter.getEmptyReporter())) {
+            testInputs.addAll(group.get().getTestInputs());
+        }
+
+        return testInputs;
+    }
+
+}
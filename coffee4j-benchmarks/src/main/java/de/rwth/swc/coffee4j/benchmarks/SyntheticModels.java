@@ -0,0 +1,206 @@
+package de.rwth.swc.coffee4j.benchmarks;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible synthetic {@link CompleteTestModel}s and test inputs for the benchmarks.
+ *
+ * <p>
+ *     All randomness is derived from an explicit seed, so the same configuration always results in the same model
+ *     and the same test inputs across runs and machines.
+ * </p>
+ */
+public final class SyntheticModels {
+
+    private SyntheticModels() {
+        // utility class
+    }
+
+    /**
+     * @return a builder for a synthetic model with default settings
+     */
+    public static Builder syntheticModel() {
+        return new Builder();
+    }
+
+    /**
+     * Creates random test inputs which assign a value to every parameter of the model. The test inputs may violate
+     * the constraints of the model.
+     *
+     * @param model the model of the test inputs. Must not be {@code null}
+     * @param numberOfTestInputs the number of test inputs to create. Must not be negative
+     * @param seed the seed of the random generator
+     * @return the random test inputs
+     */
+    public static List<int[]> randomTestInputs(CompleteTestModel model, int numberOfTestInputs, long seed) {
+        Preconditions.notNull(model);
+        Preconditions.check(numberOfTestInputs >= 0);
+
+        final Random random = new Random(seed);
+        final int[] parameterSizes = model.getParameterSizes();
+        final List<int[]> testInputs = new ArrayList<>(numberOfTestInputs);
+
+        for (int i = 0; i < numberOfTestInputs; i++) {
+            final int[] testInput = new int[parameterSizes.length];
+            for (int parameter = 0; parameter < parameterSizes.length; parameter++) {
+                testInput[parameter] = random.nextInt(parameterSizes[parameter]);
+            }
+            testInputs.add(testInput);
+        }
+
+        return testInputs;
+    }
+
+    /**
+     * Creates random combinations in which the given number of parameters do not have a value.
+     *
+     * @param model the model of the combinations. Must not be {@code null}
+     * @param numberOfCombinations the number of combinations to create. Must not be negative
+     * @param numberOfUnassignedParameters the number of parameters without value in each combination. Must be
+     *                                     between zero and the number of parameters of the model
+     * @param seed the seed of the random generator
+     * @return the random combinations
+     */
+    public static List<int[]> randomCombinations(CompleteTestModel model, int numberOfCombinations,
+            int numberOfUnassignedParameters, long seed) {
+
+        Preconditions.check(numberOfUnassignedParameters >= 0
+                && numberOfUnassignedParameters <= model.getNumberOfParameters());
+
+        final Random random = new Random(seed);
+        final List<int[]> combinations = randomTestInputs(model, numberOfCombinations, random.nextLong());
+        final List<Integer> parameters = new ArrayList<>();
+        for (int parameter = 0; parameter < model.getNumberOfParameters(); parameter++) {
+            parameters.add(parameter);
+        }
+
+        for (int[] combination : combinations) {
+            Collections.shuffle(parameters, random);
+            for (int i = 0; i < numberOfUnassignedParameters; i++) {
+                combination[parameters.get(i)] = CombinationUtil.NO_VALUE;
+            }
+        }
+
+        return combinations;
+    }
+
+    /**
+     * Builds a model in which every parameter has the same number of values. The exclusion constraints each forbid
+     * a single value pair of two parameters. The constraint density is the fraction of all parameter pairs which are
+     * constrained this way.
+     */
+    public static final class Builder {
+
+        private int numberOfParameters = 10;
+        private int numberOfValues = 3;
+        private int strength = 2;
+        private double constraintDensity = 0;
+        private long seed = 42;
+
+        private Builder() {
+        }
+
+        /**
+         * @param numberOfParameters the number of parameters of the model. Must be positive
+         * @return this
+         */
+        public Builder numberOfParameters(int numberOfParameters) {
+            this.numberOfParameters = numberOfParameters;
+
+            return this;
+        }
+
+        /**
+         * @param numberOfValues the number of values of each parameter. Must be at least two
+         * @return this
+         */
+        public Builder numberOfValues(int numberOfValues) {
+            this.numberOfValues = numberOfValues;
+
+            return this;
+        }
+
+        /**
+         * @param strength the positive testing strength. Must not be greater than the number of parameters
+         * @return this
+         */
+        public Builder strength(int strength) {
+            this.strength = strength;
+
+            return this;
+        }
+
+        /**
+         * @param constraintDensity the fraction of all parameter pairs which have a forbidden value pair. Must be
+         *                          between zero and one
+         * @return this
+         */
+        public Builder constraintDensity(double constraintDensity) {
+            this.constraintDensity = constraintDensity;
+
+            return this;
+        }
+
+        /**
+         * @param seed the seed from which the constraints are derived
+         * @return this
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+
+            return this;
+        }
+
+        /**
+         * @return the model described by this builder
+         */
+        public CompleteTestModel build() {
+            Preconditions.check(numberOfParameters > 0, "too few parameters");
+            Preconditions.check(numberOfValues > 1, "too few values");
+            Preconditions.check(constraintDensity >= 0 && constraintDensity <= 1, "invalid constraint density");
+
+            final int[] parameterSizes = new int[numberOfParameters];
+            Arrays.fill(parameterSizes, numberOfValues);
+
+            return CompleteTestModel.builder()
+                    .positiveTestingStrength(strength)
+                    .parameterSizes(parameterSizes)
+                    .exclusionTupleLists(createExclusionTupleLists())
+                    .build();
+        }
+
+        private List<TupleList> createExclusionTupleLists() {
+            final Random random = new Random(seed);
+            final List<int[]> parameterPairs = new ArrayList<>();
+
+            for (int first = 0; first < numberOfParameters; first++) {
+                for (int second = first + 1; second < numberOfParameters; second++) {
+                    parameterPairs.add(new int[]{first, second});
+                }
+            }
+            Collections.shuffle(parameterPairs, random);
+
+            final int numberOfConstraints = (int) Math.round(constraintDensity * parameterPairs.size());
+            final List<TupleList> tupleLists = new ArrayList<>(numberOfConstraints);
+
+            for (int i = 0; i < numberOfConstraints; i++) {
+                final int[] forbiddenTuple = {random.nextInt(numberOfValues), random.nextInt(numberOfValues)};
+
+                tupleLists.add(new TupleList(i + 1, parameterPairs.get(i), List.of(forbiddenTuple)));
+            }
+
+            return tupleLists;
+        }
+
+    }
+
+}
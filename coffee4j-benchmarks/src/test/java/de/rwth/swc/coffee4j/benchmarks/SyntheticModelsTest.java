@@ -0,0 +1,78 @@
+package de.rwth.swc.coffee4j.benchmarks;
+
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SyntheticModelsTest {
+
+    @Test
+    void buildsModelWithGivenShape() {
+        final CompleteTestModel model = SyntheticModels.syntheticModel()
+                .numberOfParameters(10)
+                .numberOfValues(4)
+                .strength(3)
+                .constraintDensity(0.2)
+                .build();
+
+        assertArrayEquals(new int[]{4, 4, 4, 4, 4, 4, 4, 4, 4, 4}, model.getParameterSizes());
+        assertEquals(3, model.getPositiveTestingStrength());
+        assertEquals(9, model.getExclusionTupleLists().size());
+        for (TupleList tupleList : model.getExclusionTupleLists()) {
+            assertEquals(2, tupleList.getInvolvedParameters().length);
+            assertEquals(1, tupleList.getTuples().size());
+        }
+    }
+
+    @Test
+    void sameSeedBuildsSameModel() {
+        assertEquals(describeConstraints(buildModel(1)), describeConstraints(buildModel(1)));
+        assertNotEquals(describeConstraints(buildModel(1)), describeConstraints(buildModel(2)));
+    }
+
+    @Test
+    void createsReproducibleCombinations() {
+        final CompleteTestModel model = buildModel(1);
+        final List<int[]> combinations = SyntheticModels.randomCombinations(model, 5, 3, 7);
+
+        assertEquals(5, combinations.size());
+        for (int i = 0; i < combinations.size(); i++) {
+            final int[] combination = combinations.get(i);
+
+            assertEquals(3, Arrays.stream(combination).filter(value -> value == CombinationUtil.NO_VALUE).count());
+            assertArrayEquals(SyntheticModels.randomCombinations(model, 5, 3, 7).get(i), combination);
+        }
+    }
+
+    @Test
+    void rejectsInvalidConstraintDensity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SyntheticModels.syntheticModel().constraintDensity(1.5).build());
+    }
+
+    private static CompleteTestModel buildModel(long seed) {
+        return SyntheticModels.syntheticModel()
+                .numberOfParameters(8)
+                .constraintDensity(0.5)
+                .seed(seed)
+                .build();
+    }
+    
+    private static List<String> describeConstraints(CompleteTestModel model) {
+        return model.getExclusionTupleLists().stream()
+                .map(tupleList -> Arrays.toString(tupleList.getInvolvedParameters())
+                        + Arrays.toString(tupleList.getTuples().get(0)))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -12,6 +12,7 @@ import de.rwth.swc.coffee4j.algorithmic.interleaving.manager.DefaultGeneratingIn
 import de.rwth.swc.coffee4j.algorithmic.interleaving.manager.DefaultInterleavingManager;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.manager.GeneratingInterleavingManagerFactory;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.manager.InterleavingManagerFactory;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
 
 import de.rwth.swc.coffee4j.algorithmic.configuration.execution.ExecutionMode;
 import de.rwth.swc.coffee4j.algorithmic.report.ArgumentConverter;
@@ -38,6 +39,7 @@ public class InterleavingExecutionConfiguration {
     private final ConstraintCheckerFactory constraintCheckerFactory;
     private final List<InterleavingExecutionReporter> executionReporters;
     private final List<ArgumentConverter> argumentConverters;
+    private final List<MetricsListener> metricsListeners;
     private final ExecutionMode executionMode;
     private final boolean isGenerating;
 
@@ -63,6 +65,7 @@ public class InterleavingExecutionConfiguration {
         constraintCheckerFactory = builder.constraintCheckerFactory;
         executionReporters = new ArrayList<>(builder.executionReporters);
         argumentConverters = new ArrayList<>(builder.argumentConverters);
+        metricsListeners = new ArrayList<>(builder.metricsListeners);
         executionMode = builder.executionMode;
         isGenerating = builder.isGenerating;
     }
@@ -107,6 +110,13 @@ public class InterleavingExecutionConfiguration {
         return argumentConverters;
     }
     
+    /**
+     * @return all listeners receiving the metrics of the combinatorial test. If empty, no metrics are collected
+     */
+    public List<MetricsListener> getMetricsListeners() {
+        return metricsListeners;
+    }
+    
     /**
      * @return the execution mode for executing the test inputs in groups
      */
@@ -138,6 +148,7 @@ public class InterleavingExecutionConfiguration {
                 Objects.equals(constraintCheckerFactory, other.constraintCheckerFactory) &&
                 Objects.equals(executionReporters, other.executionReporters) &&
                 Objects.equals(argumentConverters, other.argumentConverters) &&
+                Objects.equals(metricsListeners, other.metricsListeners) &&
                 Objects.equals(executionMode, other.executionMode) &&
                 Objects.equals(isGenerating, other.isGenerating);
     }
@@ -147,7 +158,7 @@ public class InterleavingExecutionConfiguration {
         return Objects.hash(managerFactory, modelConverterFactory, conflictDetectionConfiguration,
                 testInputGenerationStrategyFactory, identificationStrategyFactory, feedbackCheckingStrategyFactory,
                 classificationStrategyFactory, constraintCheckerFactory, executionReporters, argumentConverters,
-                executionMode, isGenerating);
+                metricsListeners, executionMode, isGenerating);
     }
 
     @Override
@@ -163,6 +174,7 @@ public class InterleavingExecutionConfiguration {
                 ", constraintCheckerFactory=" + constraintCheckerFactory +
                 ", executionReporters=" + executionReporters +
                 ", argumentConverters=" + argumentConverters +
+                ", metricsListeners=" + metricsListeners +
                 ", executionMode=" + executionMode +
                 ", isGenerating=" + isGenerating +
                 '}';
@@ -193,6 +205,7 @@ public class InterleavingExecutionConfiguration {
         private ConstraintCheckerFactory constraintCheckerFactory =  MinimalForbiddenTuplesChecker.minimalForbiddenTuplesChecker();
         private final List<InterleavingExecutionReporter> executionReporters = new ArrayList<>();
         private final List<ArgumentConverter> argumentConverters = new ArrayList<>();
+        private final List<MetricsListener> metricsListeners = new ArrayList<>();
         private ExecutionMode executionMode = ExecutionMode.EXECUTE_ALL;
         private boolean isGenerating;
     
@@ -283,6 +296,29 @@ public class InterleavingExecutionConfiguration {
             this.argumentConverters.addAll(argumentConverters);
             return this;
         }
+        
+        /**
+         * Adds a listener receiving the durations of all phases and test input executions as well as the counters
+         * listed in {@link de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames}. If at least one listener is
+         * configured, a summary of all metrics is passed to the execution reporters at the end of the test. The
+         * checkers of the configured constraint checker factory are then measured as well.
+         *
+         * @param metricsListener the listener to be added. Must not be {@code null}
+         * @return this
+         */
+        public Builder metricsListener(MetricsListener metricsListener) {
+            this.metricsListeners.add(Preconditions.notNull(metricsListener));
+            return this;
+        }
+        
+        public Builder metricsListeners(Collection<? extends MetricsListener> metricsListeners) {
+            Preconditions.notNull(metricsListeners);
+            
+            for (MetricsListener metricsListener : metricsListeners) {
+                this.metricsListeners.add(Preconditions.notNull(metricsListener));
+            }
+            return this;
+        }
     
         /**
          * Sets the execution mode for the interleaving combinatorial test configuration.
@@ -4,6 +4,10 @@ import de.rwth.swc.coffee4j.algorithmic.classification.ClassificationStrategyFac
 import de.rwth.swc.coffee4j.algorithmic.classification.NoOpClassificationStrategy;
 import de.rwth.swc.coffee4j.algorithmic.configuration.execution.ExecutionMode;
 import de.rwth.swc.coffee4j.algorithmic.conflict.ConflictDetectionConfiguration;
+import de.rwth.swc.coffee4j.algorithmic.constraint.MeasuringConstraintCheckerFactory;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
 import de.rwth.swc.coffee4j.algorithmic.report.ArgumentConverter;
 import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharacterizationAlgorithm;
 import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharacterizationAlgorithmFactory;
@@ -34,7 +38,9 @@ import java.util.*;
  */
 public final class SequentialExecutionConfiguration {
     
+    private final CombinatorialTestManagerFactory customManagerFactory;
     private final CombinatorialTestManagerFactory managerFactory;
+    private final TestResultCacheFactory testResultCacheFactory;
     private final ModelConverterFactory modelConverterFactory;
     private final ConflictDetectionConfiguration conflictDetectionConfiguration;
     private final FaultCharacterizationAlgorithmFactory characterizationAlgorithmFactory;
@@ -43,11 +49,13 @@ public final class SequentialExecutionConfiguration {
     private final TestInputPrioritizer prioritizer;
     private final List<SequentialExecutionReporter> executionReporters;
     private final List<ArgumentConverter> argumentConverters;
+    private final List<MetricsListener> metricsListeners;
     private final ExecutionMode executionMode;
     private final boolean isConstraintGenerator;
     
     private SequentialExecutionConfiguration(Builder builder) {
-        managerFactory = builder.managerFactory;
+        customManagerFactory = builder.managerFactory;
+        testResultCacheFactory = Preconditions.notNull(builder.testResultCacheFactory);
         modelConverterFactory = Preconditions.notNull(builder.modelConverterFactory);
         conflictDetectionConfiguration = Preconditions.notNull(builder.conflictDetectionConfiguration);
         characterizationAlgorithmFactory = builder.characterizationAlgorithmFactory;
@@ -56,8 +64,41 @@ public final class SequentialExecutionConfiguration {
         prioritizer = builder.prioritizer;
         executionReporters = builder.executionReporters;
         argumentConverters = builder.argumentConverters;
+        metricsListeners = builder.metricsListeners;
         executionMode = Preconditions.notNull(builder.executionMode);
         isConstraintGenerator = builder.isConstraintGenerator;
+        managerFactory = customManagerFactory != null
+                ? customManagerFactory
+                : cachingManagerFactory(testResultCacheFactory, isConstraintGenerator);
+    }
+    
+    private static CombinatorialTestManagerFactory cachingManagerFactory(TestResultCacheFactory testResultCacheFactory,
+            boolean isConstraintGenerator) {
+        
+        return new CombinatorialTestManagerFactory() {
+            @Override
+            public SequentialCombinatorialTestManager apply(SequentialCombinatorialTestConfiguration configuration,
+                    CompleteTestModel model) {
+                
+                return createCachingManager(testResultCacheFactory.create(model), configuration, model);
+            }
+            
+            @Override
+            public SequentialCombinatorialTestManager create(SequentialCombinatorialTestConfiguration configuration,
+                    CompleteTestModel model, String modelDescription) {
+                
+                return createCachingManager(testResultCacheFactory.create(model, modelDescription), configuration,
+                        model);
+            }
+            
+            private SequentialCombinatorialTestManager createCachingManager(TestResultCache cache,
+                    SequentialCombinatorialTestConfiguration configuration, CompleteTestModel model) {
+                
+                return new CachingDelegatingSequentialCombinatorialTestManager(cache, isConstraintGenerator
+                        ? new ConstraintGeneratingSequentialCombinatorialTestManager(configuration, model)
+                        : new BasicSequentialCombinatorialTestManager(configuration, model));
+            }
+        };
     }
     
     /**
@@ -67,6 +108,14 @@ public final class SequentialExecutionConfiguration {
         return managerFactory;
     }
     
+    /**
+     * @return the factory used to create the cache of the default manager. Not used if a custom manager factory
+     * is configured
+     */
+    public TestResultCacheFactory getTestResultCacheFactory() {
+        return testResultCacheFactory;
+    }
+    
     /**
      * @return the factory used to create a new manager for an input parameter testModel
      */
@@ -119,6 +168,13 @@ public final class SequentialExecutionConfiguration {
         return argumentConverters;
     }
     
+    /**
+     * @return all listeners receiving the metrics of the combinatorial test. If empty, no metrics are collected
+     */
+    public List<MetricsListener> getMetricsListeners() {
+        return metricsListeners;
+    }
+    
     /**
      * @return the execution mode for executing the test inputs in groups
      */
@@ -144,7 +200,8 @@ public final class SequentialExecutionConfiguration {
         
         final SequentialExecutionConfiguration other
                 = (SequentialExecutionConfiguration) object;
-        return Objects.equals(managerFactory, other.managerFactory) &&
+        return Objects.equals(customManagerFactory, other.customManagerFactory) &&
+                Objects.equals(testResultCacheFactory, other.testResultCacheFactory) &&
                 Objects.equals(modelConverterFactory, other.modelConverterFactory) &&
                 Objects.equals(conflictDetectionConfiguration, other.conflictDetectionConfiguration) &&
                 Objects.equals(characterizationAlgorithmFactory, other.characterizationAlgorithmFactory) &&
@@ -152,21 +209,23 @@ public final class SequentialExecutionConfiguration {
                 Objects.equals(generators, other.generators) &&
                 Objects.equals(executionReporters, other.executionReporters) &&
                 Objects.equals(argumentConverters, other.argumentConverters) &&
+                Objects.equals(metricsListeners, other.metricsListeners) &&
                 Objects.equals(executionMode, other.executionMode) &&
                 Objects.equals(isConstraintGenerator, other.isConstraintGenerator);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(managerFactory, modelConverterFactory, conflictDetectionConfiguration,
+        return Objects.hash(customManagerFactory, testResultCacheFactory, modelConverterFactory, conflictDetectionConfiguration,
                 characterizationAlgorithmFactory, classificationStrategyFactory, generators, executionReporters,
-                argumentConverters, executionMode, isConstraintGenerator);
+                argumentConverters, metricsListeners, executionMode, isConstraintGenerator);
     }
 
     @Override
     public String toString() {
         return "CombinatorialTestExecutionConfiguration{" +
                 "managerFactory=" + managerFactory +
+                ", testResultCacheFactory=" + testResultCacheFactory +
                 ", modelConverterFactory=" + modelConverterFactory +
                 ", conflictDetectionConfiguration=" + conflictDetectionConfiguration +
                 ", characterizationAlgorithmFactory=" + characterizationAlgorithmFactory +
@@ -174,6 +233,7 @@ public final class SequentialExecutionConfiguration {
                 ", generators=" + generators +
                 ", executionReporters=" + executionReporters +
                 ", argumentConverters=" + argumentConverters +
+                ", metricsListeners=" + metricsListeners +
                 ", executionMode=" + executionMode +
                 ", isConstraintGenerator=" + isConstraintGenerator +
                 '}';
@@ -196,7 +256,8 @@ public final class SequentialExecutionConfiguration {
      */
     public Builder toBuilder() {
         return executionConfiguration()
-                .managerFactory(managerFactory)
+                .managerFactory(customManagerFactory)
+                .testResultCacheFactory(testResultCacheFactory)
                 .modelConverterFactory(modelConverterFactory)
                 .faultCharacterizationAlgorithmFactory(characterizationAlgorithmFactory)
                 .classificationStrategyFactory(classificationStrategyFactory)
@@ -205,6 +266,7 @@ public final class SequentialExecutionConfiguration {
                 .prioritizer(prioritizer)
                 .executionReporters(executionReporters)
                 .argumentConverters(argumentConverters)
+                .metricsListeners(metricsListeners)
                 .executionMode(executionMode)
                 .isConstraintGenerator(isConstraintGenerator);
     }
@@ -215,7 +277,8 @@ public final class SequentialExecutionConfiguration {
     public static final class Builder implements
             Buildable<SequentialExecutionConfiguration> {
         
-        private CombinatorialTestManagerFactory managerFactory = (configuration, generationReporter) -> new CachingDelegatingSequentialCombinatorialTestManager(new HashMapTestResultCache(), new BasicSequentialCombinatorialTestManager(configuration, generationReporter));
+        private CombinatorialTestManagerFactory managerFactory;
+        private TestResultCacheFactory testResultCacheFactory = TestResultCacheFactory.hashMap();
         private ModelConverterFactory modelConverterFactory = IndexBasedModelConverter::new;
         private FaultCharacterizationAlgorithmFactory characterizationAlgorithmFactory;
         private ClassificationStrategyFactory classificationStrategyFactory;
@@ -224,17 +287,18 @@ public final class SequentialExecutionConfiguration {
         private TestInputPrioritizer prioritizer = new NoOpTestInputPrioritizer();
         private final List<SequentialExecutionReporter> executionReporters = new ArrayList<>();
         private final List<ArgumentConverter> argumentConverters = new ArrayList<>();
+        private final List<MetricsListener> metricsListeners = new ArrayList<>();
         private ExecutionMode executionMode = ExecutionMode.EXECUTE_ALL;
         private boolean isConstraintGenerator = false;
         
         /**
          * Sets which factory shall be used to create new
          * {@link SequentialCombinatorialTestManager} instances. The default creates new ones
-         * using a {@link CachingDelegatingSequentialCombinatorialTestManager} with a {@link HashMapTestResultCache} wrapped
-         * around a {@link BasicSequentialCombinatorialTestManager}.
+         * using a {@link CachingDelegatingSequentialCombinatorialTestManager} with a cache created by the
+         * {@link #testResultCacheFactory(TestResultCacheFactory)} wrapped around a
+         * {@link BasicSequentialCombinatorialTestManager}.
          *
-         * @param managerFactory the factory for creating new managers. Must not be {@code null} when
-         *                       {@link #build()} is called
+         * @param managerFactory the factory for creating new managers. Can be {@code null} to use the default
          * @return this
          */
         public Builder managerFactory(CombinatorialTestManagerFactory managerFactory) {
@@ -243,6 +307,22 @@ public final class SequentialExecutionConfiguration {
             return this;
         }
         
+        /**
+         * Sets which factory shall be used to create the {@link TestResultCache} of the default manager. The default
+         * is {@link TestResultCacheFactory#hashMap()}, which only caches results within one run. Using
+         * {@link TestResultCacheFactory#persistent(java.nio.file.Path, String)} reuses the results of passing test
+         * inputs across runs.
+         *
+         * @param testResultCacheFactory the factory for creating new caches. Must not be {@code null} when
+         *                               {@link #build()} is called
+         * @return this
+         */
+        public Builder testResultCacheFactory(TestResultCacheFactory testResultCacheFactory) {
+            this.testResultCacheFactory = testResultCacheFactory;
+            
+            return this;
+        }
+        
         /**
          * Sets which factory shall be used to create new {@link ModelConverter}
          * instances. The default is a {@link IndexBasedModelConverter}.
@@ -375,6 +455,41 @@ public final class SequentialExecutionConfiguration {
             return this;
         }
         
+        /**
+         * Adds a listener receiving the durations of all phases and test input executions as well as the counters
+         * listed in {@link MetricNames}. If at least one listener is configured, a summary of all metrics is passed
+         * to the execution reporters at the end of the test. Since generators create their own constraint checkers,
+         * the engine cannot measure them. A {@link MeasuringConstraintCheckerFactory} can be put into the
+         * configuration of a generator to send its constraint checks to a listener. Phases created from the
+         * {@link de.rwth.swc.coffee4j.engine.process.phase.sequential.generation.SequentialGenerationContext} can
+         * add measurements to the summary through its metrics listener.
+         *
+         * @param metricsListener the listener to be added. Must not be {@code null}
+         * @return this
+         */
+        public Builder metricsListener(MetricsListener metricsListener) {
+            metricsListeners.add(Preconditions.notNull(metricsListener));
+            
+            return this;
+        }
+        
+        /**
+         * Adds all listeners receiving the metrics of the combinatorial test.
+         *
+         * @param metricsListeners the listeners to be added. Must not be, nor contain {@code null}
+         * @return this
+         * @see #metricsListener(MetricsListener)
+         */
+        public Builder metricsListeners(Collection<? extends MetricsListener> metricsListeners) {
+            Preconditions.notNull(metricsListeners);
+            
+            for (MetricsListener metricsListener : metricsListeners) {
+                this.metricsListeners.add(Preconditions.notNull(metricsListener));
+            }
+            
+            return this;
+        }
+        
         /**
          * Adds one generator for initial {@link TestInputGroup} generation.
          *
@@ -459,7 +574,8 @@ public final class SequentialExecutionConfiguration {
                     this.classificationStrategyFactory = NoOpClassificationStrategy.noOpClassificationStrategy();
                 }
 
-                this.managerFactory = (configuration, generationReporter) -> new CachingDelegatingSequentialCombinatorialTestManager(new HashMapTestResultCache(), new ConstraintGeneratingSequentialCombinatorialTestManager(configuration, generationReporter));
+                // use the default caching manager which generates error-constraints
+                this.managerFactory = null;
 
             }
 
@@ -468,9 +584,10 @@ public final class SequentialExecutionConfiguration {
         
         /**
          * Creates a new configuration based on the supplied values.
-         * The {@link #managerFactory(CombinatorialTestManagerFactory)} and
+         * The {@link #testResultCacheFactory(TestResultCacheFactory)} and
          * {@link #modelConverterFactory(ModelConverterFactory)} must not be {@code null}. If they are not used,
-         * they will have the non-{@code null} default values defined at the methods.
+         * they will have the non-{@code null} default values defined at the methods. If no
+         * {@link #managerFactory(CombinatorialTestManagerFactory)} is set, a caching default manager is used.
          *
          * @return the new configuration
          */
@@ -5,15 +5,30 @@ import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.NO_VALUE;
+
 /**
  * A encapsulation of a mapping from {@link Parameter} to {@link Value}. Can be used to represent an arbitrary
  * combination or a test input.
+ *
+ * <p>
+ *     Internally, a combination only stores the index of the value of every parameter of a shared
+ *     {@link ParameterValueDictionary}. Combinations created from the same dictionary are therefore compared by
+ *     their indices alone. Combinations over different dictionaries are still equal if they map the same parameters
+ *     to the same values, and all combinations have the same hash code as their {@link #getParameterValueMap()}.
+ * </p>
  */
 public final class Combination {
     
     private static final Combination EMPTY_COMBINATION = new Combination(Map.of());
     
-    private final Map<Parameter, Value> parameterValueMap;
+    private final ParameterValueDictionary dictionary;
+    
+    private final int[] valueIndices;
+    
+    private final int size;
+    
+    private final int hashCode;
     
     /**
      * Creates a new combination with the mappings.
@@ -23,25 +38,94 @@ public final class Combination {
      */
     private Combination(Map<Parameter, Value> parameterValueMap) {
         Preconditions.notNull(parameterValueMap);
-        assertValidValues(parameterValueMap);
+        for (Map.Entry<Parameter, Value> mapping : parameterValueMap.entrySet()) {
+            Preconditions.notNull(mapping.getKey());
+            Preconditions.notNull(mapping.getValue());
+        }
+        
+        // the copy gives the mappings a deterministic order independent of the given map implementation
+        final Map<Parameter, Value> orderedParameterValueMap = new HashMap<>(parameterValueMap);
+        
+        this.dictionary = ParameterValueDictionary.of(orderedParameterValueMap.keySet());
+        this.valueIndices = new int[dictionary.size()];
         
-        this.parameterValueMap = new HashMap<>(parameterValueMap);
+        for (int parameterIndex = 0; parameterIndex < dictionary.size(); parameterIndex++) {
+            final Value value = orderedParameterValueMap.get(dictionary.getParameter(parameterIndex));
+            
+            valueIndices[parameterIndex] = dictionary.indexOf(parameterIndex, value);
+            Preconditions.check(valueIndices[parameterIndex] != ParameterValueDictionary.NOT_FOUND);
+        }
+        
+        this.size = valueIndices.length;
+        this.hashCode = computeHashCode();
+    }
+    
+    private Combination(ParameterValueDictionary dictionary, int[] valueIndices) {
+        Preconditions.notNull(dictionary);
+        Preconditions.notNull(valueIndices);
+        Preconditions.check(valueIndices.length == dictionary.size());
+        
+        int numberOfMappedParameters = 0;
+        for (int parameterIndex = 0; parameterIndex < valueIndices.length; parameterIndex++) {
+            final int valueIndex = valueIndices[parameterIndex];
+            
+            Preconditions.check(valueIndex >= NO_VALUE && valueIndex < dictionary.getNumberOfValues(parameterIndex));
+            if (valueIndex != NO_VALUE) {
+                numberOfMappedParameters++;
+            }
+        }
+        
+        this.dictionary = dictionary;
+        this.valueIndices = valueIndices.clone();
+        this.size = numberOfMappedParameters;
+        this.hashCode = computeHashCode();
+    }
+    
+    private int computeHashCode() {
+        int result = 0;
+        
+        for (int parameterIndex = 0; parameterIndex < valueIndices.length; parameterIndex++) {
+            if (valueIndices[parameterIndex] != NO_VALUE) {
+                result += dictionary.getEntryHashCode(parameterIndex, valueIndices[parameterIndex]);
+            }
+        }
+        
+        return result;
     }
     
     public static Combination of(Map<Parameter, Value> parameterValueMap) {
         return new Combination(parameterValueMap);
     }
     
+    /**
+     * Creates a new combination which maps each parameter of the dictionary to the value at the given index.
+     *
+     * @param dictionary the dictionary of all parameters and values. Must not be {@code null}
+     * @param valueIndices the index of the value of each parameter in the dictionary, or {@code -1} if the parameter
+     *                     is not mapped. Must not be {@code null} and must have the size of the dictionary
+     * @return a combination with the given mappings
+     */
+    public static Combination of(ParameterValueDictionary dictionary, int[] valueIndices) {
+        return new Combination(dictionary, valueIndices);
+    }
+    
     public static Combination empty() {
         return EMPTY_COMBINATION;
     }
     
-    private static void assertValidValues(Map<Parameter, Value> parameterValueMap) {
-        for (Map.Entry<Parameter, Value> mapping : parameterValueMap.entrySet()) {
-            Preconditions.notNull(mapping.getKey());
-            Preconditions.notNull(mapping.getValue());
-            Preconditions.check(mapping.getKey().getValues().contains(mapping.getValue()));
-        }
+    /**
+     * @return the dictionary of the parameters and values of this combination
+     */
+    public ParameterValueDictionary getDictionary() {
+        return dictionary;
+    }
+    
+    /**
+     * @return a copy of the index of the value of each parameter in {@link #getDictionary()}, or {@code -1} if the
+     *     parameter is not mapped
+     */
+    public int[] getValueIndices() {
+        return valueIndices.clone();
     }
     
     /**
@@ -51,7 +135,7 @@ public final class Combination {
      * @return the value to which this parameter is mapped or {@code null} if it is not mapped
      */
     public Value getValue(Parameter parameter) {
-        return parameterValueMap.get(parameter);
+        return parameter == null ? null : getValue(dictionary.indexOf(parameter));
     }
     
     /**
@@ -62,13 +146,15 @@ public final class Combination {
      * with this name
      */
     public Value getValue(String parameterName) {
-        for (Map.Entry<Parameter, Value> mapping : parameterValueMap.entrySet()) {
-            if (mapping.getKey().getName().equals(parameterName)) {
-                return mapping.getValue();
-            }
+        return getValue(dictionary.indexOf(parameterName));
+    }
+    
+    private Value getValue(int parameterIndex) {
+        if (parameterIndex == ParameterValueDictionary.NOT_FOUND || valueIndices[parameterIndex] == NO_VALUE) {
+            return null;
         }
         
-        return null;
+        return dictionary.getValue(parameterIndex, valueIndices[parameterIndex]);
     }
     
     /**
@@ -79,9 +165,10 @@ public final class Combination {
      * ambiguous as {@code null} can also be a valid value object
      */
     public Object getRawValue(Parameter parameter) {
-        Preconditions.check(parameterValueMap.containsKey(parameter));
+        final Value value = getValue(parameter);
+        Preconditions.check(value != null);
         
-        return parameterValueMap.get(parameter).get();
+        return value.get();
     }
     
     /**
@@ -92,27 +179,27 @@ public final class Combination {
      * ambiguous as {@code null} can also be a valid value object
      */
     public Object getRawValue(String parameterName) {
-        for (Map.Entry<Parameter, Value> mapping : parameterValueMap.entrySet()) {
-            if (mapping.getKey().getName().equals(parameterName)) {
-                return mapping.getValue().get();
-            }
+        final Value value = getValue(parameterName);
+        
+        if (value == null) {
+            throw new IllegalArgumentException("There is no parameter with name \"" + parameterName + "\"");
         }
         
-        throw new IllegalArgumentException("There is no parameter with name \"" + parameterName + "\"");
+        return value.get();
     }
     
     /**
-     * @return a copy of the complete map of all parameter value mappings
+     * @return an unmodifiable view of the complete map of all parameter value mappings
      */
     public Map<Parameter, Value> getParameterValueMap() {
-        return Collections.unmodifiableMap(parameterValueMap);
+        return new ParameterValueMap();
     }
     
     /**
      * @return the number of parameters which are mapped to a value
      */
     public int size() {
-        return parameterValueMap.size();
+        return size;
     }
     
     @Override
@@ -125,18 +212,22 @@ public final class Combination {
         }
         
         final Combination other = (Combination) object;
-        return Objects.equals(parameterValueMap, other.parameterValueMap);
+        if (dictionary == other.dictionary) {
+            return Arrays.equals(valueIndices, other.valueIndices);
+        }
+        
+        return size == other.size && hashCode == other.hashCode && contains(other);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(parameterValueMap);
+        return hashCode;
     }
     
     @Override
     public String toString() {
         return "["
-                + parameterValueMap.entrySet().stream()
+                + getParameterValueMap().entrySet().stream()
                         .map(entry -> entry.getKey().getName() + "=" + entry.getValue().toString())
                         .collect(Collectors.joining(", "))
                 + ']';
@@ -152,23 +243,104 @@ public final class Combination {
     public boolean contains(Combination otherCombination) {
         Preconditions.notNull(otherCombination);
 
-        for(Map.Entry<Parameter, Value> otherEntry : otherCombination.parameterValueMap.entrySet()) {
-            final Value value = this.parameterValueMap.get(otherEntry.getKey());
+        if (otherCombination.dictionary == dictionary) {
+            for (int parameterIndex = 0; parameterIndex < valueIndices.length; parameterIndex++) {
+                final int otherValueIndex = otherCombination.valueIndices[parameterIndex];
 
-            if(value == null) {
-                return false;
+                if (otherValueIndex != NO_VALUE && otherValueIndex != valueIndices[parameterIndex]) {
+                    return false;
+                }
             }
 
-            final Value otherValue = otherEntry.getValue();
+            return true;
+        }
+
+        for (int otherIndex = 0; otherIndex < otherCombination.valueIndices.length; otherIndex++) {
+            if (otherCombination.valueIndices[otherIndex] != NO_VALUE) {
+                final Value value = getValue(otherCombination.dictionary.getParameter(otherIndex));
 
-            if(!value.equals(otherValue)) {
-                return false;
+                if (value == null || !value.equals(otherCombination.getValue(otherIndex))) {
+                    return false;
+                }
             }
         }
 
         return true;
     }
     
+    /**
+     * A read-only view of the mappings of a combination in the order of the parameters in its dictionary.
+     */
+    private final class ParameterValueMap extends AbstractMap<Parameter, Value> {
+        
+        @Override
+        public Value get(Object key) {
+            return key instanceof Parameter ? getValue((Parameter) key) : null;
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+        
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+        
+        @Override
+        public Set<Entry<Parameter, Value>> entrySet() {
+            return new AbstractSet<>() {
+                
+                @Override
+                public Iterator<Entry<Parameter, Value>> iterator() {
+                    return new Iterator<>() {
+                        
+                        private int nextParameterIndex = findNextMappedParameter(0);
+                        
+                        @Override
+                        public boolean hasNext() {
+                            return nextParameterIndex < valueIndices.length;
+                        }
+                        
+                        @Override
+                        public Entry<Parameter, Value> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            
+                            final int parameterIndex = nextParameterIndex;
+                            nextParameterIndex = findNextMappedParameter(parameterIndex + 1);
+                            
+                            return Map.entry(dictionary.getParameter(parameterIndex), getValue(parameterIndex));
+                        }
+                    };
+                }
+                
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        
+        private int findNextMappedParameter(int startIndex) {
+            int parameterIndex = startIndex;
+            
+            while (parameterIndex < valueIndices.length && valueIndices[parameterIndex] == NO_VALUE) {
+                parameterIndex++;
+            }
+            
+            return parameterIndex;
+        }
+        
+    }
+    
     @SafeVarargs
     public static Builder combination(Map.Entry<String, Object>... entries) {
         Preconditions.notNull(entries);
@@ -21,6 +21,8 @@ public final class InputParameterModel {
     
     private final List<Parameter> parameters;
     
+    private final ParameterValueDictionary dictionary;
+    
     private final List<Constraint> exclusionConstraints;
     private final List<Constraint> errorConstraints;
     
@@ -59,6 +61,7 @@ public final class InputParameterModel {
         this.negativeTestingStrength = builder.negativeTestingStrength;
         this.name = builder.name;
         this.parameters = new ArrayList<>(builder.parameters);
+        this.dictionary = ParameterValueDictionary.of(parameters);
         this.exclusionConstraints = new ArrayList<>(builder.exclusionConstraints);
         this.errorConstraints = new ArrayList<>(builder.errorConstraints);
         this.positiveSeeds = new ArrayList<>(builder.positiveSeeds);
@@ -187,6 +190,14 @@ public final class InputParameterModel {
         return parameters;
     }
     
+    /**
+     * @return the dictionary of all parameters of this testModel in their order. It should be used to create all
+     *     {@link Combination}s of this testModel
+     */
+    public ParameterValueDictionary getDictionary() {
+        return dictionary;
+    }
+    
     /**
      * @return a copy of the list of all exclusion constraints. Test inputs may never violate those constraints as they
      * define combinations which are not possible testable (like testing safari on windows is not possible)
@@ -15,6 +15,8 @@ public final class Parameter {
     private final String name;
     private final List<Value> values;
     
+    private final int hashCode;
+    
     /**
      * Creates a new parameter with the given name and values.
      *
@@ -31,6 +33,7 @@ public final class Parameter {
         
         this.name = name;
         this.values = new ArrayList<>(values);
+        this.hashCode = Objects.hash(name, this.values);
     }
     
     private static boolean doesNotContainSameValueIdTwice(Collection<Value> values) {
@@ -82,7 +85,7 @@ public final class Parameter {
     
     @Override
     public int hashCode() {
-        return Objects.hash(name, values);
+        return hashCode;
     }
     
     @Override
@@ -0,0 +1,155 @@
+package de.rwth.swc.coffee4j.engine.configuration.model;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable, index-based dictionary of a fixed list of {@link Parameter}s and their {@link Value}s. It is shared
+ * by all {@link Combination}s over the same parameters, which then only need to store the index of the value of
+ * every parameter.
+ *
+ * <p>
+ *     The first parameter of the list has the index 0, the second one the index 1 and so on. Values are indexed by
+ *     their position in {@link Parameter#getValues()}. All lookups by parameter, parameter name, or value take
+ *     constant time. If the same name is used by multiple parameters, lookups by name return the first of them.
+ * </p>
+ */
+public final class ParameterValueDictionary {
+
+    static final int NOT_FOUND = -1;
+
+    private final Parameter[] parameters;
+    private final Value[][] values;
+
+    private final Object2IntMap<Parameter> parameterIndices;
+    private final Object2IntMap<String> parameterIndicesByName;
+    private final Int2IntMap[] valueIndicesById;
+
+    private final int[][] entryHashCodes;
+
+    private ParameterValueDictionary(Collection<Parameter> parameters) {
+        Preconditions.notNull(parameters);
+
+        this.parameters = parameters.toArray(new Parameter[0]);
+        this.values = new Value[this.parameters.length][];
+        this.parameterIndices = new Object2IntOpenHashMap<>(this.parameters.length);
+        this.parameterIndicesByName = new Object2IntOpenHashMap<>(this.parameters.length);
+        this.valueIndicesById = new Int2IntMap[this.parameters.length];
+        this.entryHashCodes = new int[this.parameters.length][];
+
+        parameterIndices.defaultReturnValue(NOT_FOUND);
+        parameterIndicesByName.defaultReturnValue(NOT_FOUND);
+
+        for (int parameterIndex = 0; parameterIndex < this.parameters.length; parameterIndex++) {
+            final Parameter parameter = this.parameters[parameterIndex];
+
+            Preconditions.check(parameter != null, "The parameters must not contain null");
+            Preconditions.check(parameterIndices.put(parameter, parameterIndex) == NOT_FOUND,
+                    "Parameter " + parameter.getName() + " appears twice");
+            parameterIndicesByName.putIfAbsent(parameter.getName(), parameterIndex);
+            indexValues(parameterIndex, parameter);
+        }
+    }
+
+    private void indexValues(int parameterIndex, Parameter parameter) {
+        values[parameterIndex] = parameter.getValues().toArray(new Value[0]);
+        valueIndicesById[parameterIndex] = new Int2IntOpenHashMap(values[parameterIndex].length);
+        valueIndicesById[parameterIndex].defaultReturnValue(NOT_FOUND);
+        entryHashCodes[parameterIndex] = new int[values[parameterIndex].length];
+
+        for (int valueIndex = 0; valueIndex < values[parameterIndex].length; valueIndex++) {
+            final Value value = values[parameterIndex][valueIndex];
+
+            valueIndicesById[parameterIndex].put(value.getId(), valueIndex);
+            // same as Map.Entry#hashCode so that combinations hash like their parameter value map
+            entryHashCodes[parameterIndex][valueIndex] = parameter.hashCode() ^ value.hashCode();
+        }
+    }
+
+    /**
+     * Creates a new dictionary for the given parameters.
+     *
+     * @param parameters the parameters in the order of their indices. Must not be, nor contain {@code null}, and
+     *                   may not contain the same parameter twice
+     * @return a dictionary for the parameters
+     */
+    public static ParameterValueDictionary of(Collection<Parameter> parameters) {
+        return new ParameterValueDictionary(parameters);
+    }
+
+    /**
+     * @return all parameters in the order of their indices
+     */
+    public List<Parameter> getParameters() {
+        return List.of(parameters);
+    }
+
+    /**
+     * @return the number of parameters in this dictionary
+     */
+    public int size() {
+        return parameters.length;
+    }
+
+    /**
+     * @param parameterIndex the index of a parameter
+     * @return the parameter at the given index
+     */
+    public Parameter getParameter(int parameterIndex) {
+        return parameters[parameterIndex];
+    }
+
+    /**
+     * @param parameterIndex the index of a parameter
+     * @param valueIndex the index of a value of the parameter
+     * @return the value at the given index of the parameter at the given index
+     */
+    public Value getValue(int parameterIndex, int valueIndex) {
+        return values[parameterIndex][valueIndex];
+    }
+
+    /**
+     * @param parameterIndex the index of a parameter
+     * @return the number of values of the parameter at the given index
+     */
+    public int getNumberOfValues(int parameterIndex) {
+        return values[parameterIndex].length;
+    }
+
+    /**
+     * @param parameter a parameter
+     * @return the index of the parameter or {@code -1} if it is not contained in this dictionary
+     */
+    public int indexOf(Parameter parameter) {
+        return parameterIndices.getInt(parameter);
+    }
+
+    /**
+     * @param parameterName the name of a parameter
+     * @return the index of the first parameter with this name or {@code -1} if there is no such parameter
+     */
+    public int indexOf(String parameterName) {
+        return parameterIndicesByName.getInt(parameterName);
+    }
+
+    /**
+     * @param parameterIndex the index of a parameter
+     * @param value a value
+     * @return the index of the value inside the parameter at the given index or {@code -1} if the parameter does
+     *     not have this value
+     */
+    public int indexOf(int parameterIndex, Value value) {
+        return valueIndicesById[parameterIndex].get(value.getId());
+    }
+
+    int getEntryHashCode(int parameterIndex, int valueIndex) {
+        return entryHashCodes[parameterIndex][valueIndex];
+    }
+
+}
@@ -4,7 +4,7 @@ import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import de.rwth.swc.coffee4j.engine.configuration.model.constraints.AbstractConstraint;
 import de.rwth.swc.coffee4j.engine.configuration.model.constraints.ConstraintStatus;
 import de.rwth.swc.coffee4j.engine.converter.constraints.ConstraintConverterFactory;
-import de.rwth.swc.coffee4j.engine.converter.constraints.methodbased.SimpleCartesianProductConstraintConverterFactory;
+import de.rwth.swc.coffee4j.engine.converter.constraints.methodbased.PrunedSearchConstraintConverterFactory;
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
 
 import java.util.List;
@@ -57,8 +57,32 @@ public class MethodBasedConstraint extends AbstractConstraint {
                 .map(combination::getRawValue)
                 .collect(Collectors.toList());
 
+        return checkPartially(input) == PartialConstraintResult.VALID;
+    }
+
+    /**
+     * Checks the constraint with only the values of the first parameters given. If the {@link ConstraintFunction}
+     * is no {@link PartialConstraintFunction}, the constraint can only be decided if all values are given.
+     *
+     * @param values the raw values of the first parameters in the order of {@link #getParameterNames()}.
+     *     Must not be {@code null}
+     * @return whether all, no, or only some combinations starting with the given values are valid. Never
+     *     {@link PartialConstraintResult#UNDECIDED} if all values are given
+     */
+    public PartialConstraintResult checkPartially(List<?> values) {
+        Preconditions.notNull(values);
+        Preconditions.check(values.size() <= getParameterNames().size());
+
         try {
-            return constraintFunction.check(input);
+            if (values.size() == getParameterNames().size()) {
+                return constraintFunction.check(values)
+                        ? PartialConstraintResult.VALID
+                        : PartialConstraintResult.INVALID;
+            } else if (constraintFunction instanceof PartialConstraintFunction) {
+                return ((PartialConstraintFunction) constraintFunction).checkPartially(values);
+            }
+
+            return PartialConstraintResult.UNDECIDED;
         } catch (ClassCastException e) {
             throw new IllegalArgumentException("Could not call constraint \"" + getName() + "\" on parameters "
                     + getParameterNames() + " with the given combination due to type issues. " +
@@ -69,7 +93,7 @@ public class MethodBasedConstraint extends AbstractConstraint {
 
     @Override
     public ConstraintConverterFactory getConverterFactory() {
-        return new SimpleCartesianProductConstraintConverterFactory();
+        return new PrunedSearchConstraintConverterFactory();
     }
 
     public ConstraintFunction getConstraintFunction() {
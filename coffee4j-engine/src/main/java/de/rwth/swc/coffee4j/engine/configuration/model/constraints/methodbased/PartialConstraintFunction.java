@@ -0,0 +1,38 @@
+package de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.List;
+
+/**
+ * A {@link ConstraintFunction} which can already be decided if only the first values are given. This is the case for
+ * many constraints which short-circuit, e.g. {@code a != 1 || b == 2} is valid for all values of {@code b} as soon as
+ * {@code a} is not {@code 1}.
+ *
+ * <p>When converting a {@link MethodBasedConstraint} with such a function to forbidden tuples, all assignments of the
+ * remaining parameters are skipped once the result is decided. For a constraint over many large parameters, this
+ * can reduce the number of invocations by orders of magnitude.
+ */
+@FunctionalInterface
+public interface PartialConstraintFunction extends ConstraintFunction {
+    
+    @Override
+    default boolean check(List<?> arguments) {
+        final PartialConstraintResult result = checkPartially(arguments);
+        Preconditions.check(result != PartialConstraintResult.UNDECIDED,
+                "a constraint must be decided if all values are given");
+        
+        return result == PartialConstraintResult.VALID;
+    }
+    
+    /**
+     * Checks whether the given values decide the constraint. Only the values of the first parameters are given, so
+     * the result must hold for all values of the remaining parameters.
+     *
+     * @param arguments the values of the first parameters. If values for all parameters are given, the result must
+     *     not be {@link PartialConstraintResult#UNDECIDED}
+     * @return whether all, no, or only some combinations starting with the given values are valid
+     */
+    PartialConstraintResult checkPartially(List<?> arguments);
+    
+}
@@ -0,0 +1,23 @@
+package de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased;
+
+/**
+ * The result of checking a {@link PartialConstraintFunction} with only the first values of its parameters assigned.
+ */
+public enum PartialConstraintResult {
+    
+    /**
+     * Every assignment of the remaining parameters results in a valid combination.
+     */
+    VALID,
+    
+    /**
+     * Every assignment of the remaining parameters results in an invalid combination.
+     */
+    INVALID,
+    
+    /**
+     * The result depends on the values of the remaining parameters.
+     */
+    UNDECIDED
+    
+}
@@ -0,0 +1,147 @@
+package de.rwth.swc.coffee4j.engine.converter.constraints.methodbased;
+
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import de.rwth.swc.coffee4j.engine.configuration.model.Value;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.Constraint;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.ConstraintStatus;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.MethodBasedConstraint;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.PartialConstraintFunction;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.PartialConstraintResult;
+import de.rwth.swc.coffee4j.engine.converter.constraints.AbstractIndexBasedConstraintConverter;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Converts {@link MethodBasedConstraint} objects to their {@link TupleList} representation by exploring the
+ * cartesian product of its parameters' values as a search tree. The parameters are assigned in the order of
+ * {@link Constraint#getParameterNames()}, and after each assignment the constraint is checked with the values
+ * assigned so far. If the constraint uses a {@link PartialConstraintFunction} and is already decided, the subtree
+ * is not explored any further: if the constraint is valid, nothing is added, and if it is invalid, all completions
+ * of the assignment are added as forbidden tuples without calling the constraint again.
+ *
+ * <p>For other constraint functions, every combination of the cartesian product is checked exactly once, which
+ * results in the same {@link TupleList} as {@link SimpleCartesianProductConstraintConverter}. Instead of creating a
+ * {@link de.rwth.swc.coffee4j.engine.configuration.model.Combination} for each of them, the raw values are passed
+ * to the constraint directly.
+ */
+public class PrunedSearchConstraintConverter extends AbstractIndexBasedConstraintConverter {
+    
+    /*
+     * The order of the cartesian product computed by the Combinator, in which the first parameter changes fastest.
+     */
+    private static final Comparator<int[]> CARTESIAN_PRODUCT_ORDER = (first, second) -> {
+        for (int i = first.length - 1; i >= 0; i--) {
+            if (first[i] != second[i]) {
+                return Integer.compare(first[i], second[i]);
+            }
+        }
+        
+        return 0;
+    };
+    
+    /**
+     * @param parameters parameters containing the values for the conversion. Must not be {@code null}.
+     */
+    public PrunedSearchConstraintConverter(List<Parameter> parameters) {
+        super(parameters);
+    }
+    
+    @Override
+    protected TupleList convertedConstraint(Constraint constraint, Object2IntMap<String> parameterIdMap, Int2ObjectMap<Parameter> idToParameterMap, int id) {
+        Preconditions.check(constraint instanceof MethodBasedConstraint);
+        
+        final int[] relevantParameters = constraint.getParameterNames().stream()
+                .mapToInt(parameterIdMap::getInt)
+                .toArray();
+        final Search search = new Search((MethodBasedConstraint) constraint, relevantParameters, idToParameterMap);
+        search.explore(0);
+        
+        if (search.forbiddenTuples.isEmpty()) {
+            throw new IllegalArgumentException("Constraint \"" + constraint.getName()
+                    + "\" on parameters \"" + constraint.getParameterNames() + "\" allows all values. "
+                    + "This is most likely an error in the constraint function.");
+        } else if (search.forbiddenTuples.size() == search.numberOfCombinations()) {
+            throw new IllegalArgumentException("Constraint \"" + constraint.getName()
+                    + "\" on parameters \"" + constraint.getParameterNames() + "\" does not permit any values. "
+                    + "This is most likely an error in the constraint function.");
+        }
+        
+        search.forbiddenTuples.sort(CARTESIAN_PRODUCT_ORDER);
+        
+        return new TupleList(id, relevantParameters, search.forbiddenTuples,
+                constraint.getConstraintStatus().equals(ConstraintStatus.CORRECT));
+    }
+    
+    /**
+     * The state of the depth-first search through the cartesian product of one constraint.
+     */
+    private static final class Search {
+        
+        private final MethodBasedConstraint constraint;
+        private final Object[][] rawValues;
+        private final int[] assignment;
+        private final Object[] assignedValues;
+        private final List<int[]> forbiddenTuples = new ArrayList<>();
+        
+        private Search(MethodBasedConstraint constraint, int[] relevantParameters,
+                Int2ObjectMap<Parameter> idToParameterMap) {
+            this.constraint = constraint;
+            rawValues = new Object[relevantParameters.length][];
+            assignment = new int[relevantParameters.length];
+            assignedValues = new Object[relevantParameters.length];
+            
+            for (int i = 0; i < relevantParameters.length; i++) {
+                rawValues[i] = idToParameterMap.get(relevantParameters[i]).getValues().stream()
+                        .map(Value::get)
+                        .toArray();
+            }
+        }
+        
+        private long numberOfCombinations() {
+            long numberOfCombinations = 1;
+            
+            for (Object[] values : rawValues) {
+                numberOfCombinations = Math.multiplyExact(numberOfCombinations, values.length);
+            }
+            
+            return numberOfCombinations;
+        }
+        
+        private void explore(int depth) {
+            for (int value = 0; value < rawValues[depth].length; value++) {
+                assignment[depth] = value;
+                assignedValues[depth] = rawValues[depth][value];
+                
+                final PartialConstraintResult result = constraint.checkPartially(
+                        Collections.unmodifiableList(Arrays.asList(assignedValues).subList(0, depth + 1)));
+                
+                if (result == PartialConstraintResult.INVALID) {
+                    forbidAllCompletions(depth + 1);
+                } else if (result == PartialConstraintResult.UNDECIDED) {
+                    explore(depth + 1);
+                }
+            }
+        }
+        
+        private void forbidAllCompletions(int depth) {
+            if (depth == assignment.length) {
+                forbiddenTuples.add(Arrays.copyOf(assignment, assignment.length));
+                return;
+            }
+            
+            for (int value = 0; value < rawValues[depth].length; value++) {
+                assignment[depth] = value;
+                forbidAllCompletions(depth + 1);
+            }
+        }
+    }
+    
+}
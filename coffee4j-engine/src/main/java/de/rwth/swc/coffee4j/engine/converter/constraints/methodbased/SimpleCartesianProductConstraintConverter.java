@@ -4,7 +4,7 @@ import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
 import de.rwth.swc.coffee4j.algorithmic.util.Combinator;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
-import de.rwth.swc.coffee4j.engine.configuration.model.Value;
+import de.rwth.swc.coffee4j.engine.configuration.model.ParameterValueDictionary;
 import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.ConstraintFunction;
 import de.rwth.swc.coffee4j.engine.converter.constraints.AbstractIndexBasedConstraintConverter;
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
@@ -42,12 +42,13 @@ public class SimpleCartesianProductConstraintConverter extends AbstractIndexBase
 
         int[] relevantParameters = constraint.getParameterNames().stream().mapToInt(parameterIdMap::getInt).toArray();
         final Int2IntMap relevantParameterSizes = computeSizeMap(idToParameterMap, relevantParameters);
+        final ParameterValueDictionary dictionary = createDictionary(idToParameterMap, relevantParameters);
         
         final Collection<int[]> cartesianProduct = Combinator.computeCartesianProduct(relevantParameterSizes, relevantParameters.length);
         final List<int[]> tuples = new ArrayList<>();
         
         for (int[] combination : cartesianProduct) {
-            final Combination convertedCombination = mapToCombination(combination, relevantParameters, idToParameterMap);
+            final Combination convertedCombination = Combination.of(dictionary, combination);
             if (!constraint.checkIfValid(convertedCombination)) {
                 int[] tuple = new int[combination.length];
                 System.arraycopy(combination, 0, tuple, 0, combination.length);
@@ -79,18 +80,19 @@ public class SimpleCartesianProductConstraintConverter extends AbstractIndexBase
         return subMap;
     }
 
-    private Combination mapToCombination(int[] combination, int[] relevantParameters, Int2ObjectMap<Parameter> idToParameterMap) {
-        Map<Parameter, Value> parameterValueMap = new HashMap<>();
-
-        for (int i = 0; i < relevantParameters.length; i++) {
-            final int valueId = combination[i];
-
-            Parameter parameter = idToParameterMap.get(relevantParameters[i]);
-            Value value = parameter.getValues().get(valueId);
-
-            parameterValueMap.put(parameter, value);
+    /*
+     * All combinations of the cartesian product share one dictionary, so that creating them only copies the value
+     * indices.
+     */
+    private ParameterValueDictionary createDictionary(Int2ObjectMap<Parameter> idToParameterMap,
+            int[] relevantParameters) {
+        
+        final List<Parameter> parameters = new ArrayList<>(relevantParameters.length);
+        
+        for (int relevantParameter : relevantParameters) {
+            parameters.add(idToParameterMap.get(relevantParameter));
         }
-
-        return Combination.of(parameterValueMap);
+        
+        return ParameterValueDictionary.of(parameters);
     }
 }
@@ -1,5 +1,6 @@
 package de.rwth.swc.coffee4j.engine.converter.model;
 
+import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
 import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
 import de.rwth.swc.coffee4j.algorithmic.model.PrimitiveSeed;
 import de.rwth.swc.coffee4j.algorithmic.model.PrimitiveStrengthGroup;
@@ -27,6 +28,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -38,10 +43,14 @@ import static de.rwth.swc.coffee4j.engine.configuration.model.StrengthGroup.mixe
  * one to 1 and so on and so fourth. The same is done with values per parameter.
  * These integers are then used for {@link TupleList} and {@link Combination}, so [0, 1] is a combination
  * where the first parameter is mapped to it's first value and the second one to its second value.
+ * By default, the constraints are converted one after another. Converters created by
+ * {@link #indexBasedModelConverter(int)} convert them in parallel instead, which is only safe if the functions of
+ * different constraints do not share mutable state.
  */
 public class IndexBasedModelConverter implements ModelConverter {
     
     private final InputParameterModel model;
+    private final int parallelism;
     
     private final Object2IntMap<Parameter> parameterToIdMap = new Object2IntOpenHashMap<>();
     private final Map<Parameter, Object2IntMap<Value>> parameterValueToIdMap = new HashMap<>();
@@ -56,7 +65,20 @@ public class IndexBasedModelConverter implements ModelConverter {
      * @param model the testModel which is converted. Must not be {@code null}
      */
     public IndexBasedModelConverter(InputParameterModel model) {
+        this(model, 1);
+    }
+    
+    /**
+     * Creates and initializes a new converter which converts up to the given number of constraints at once.
+     *
+     * @param model the testModel which is converted. Must not be {@code null}
+     * @param parallelism the maximum number of threads converting constraints. Must be positive
+     */
+    public IndexBasedModelConverter(InputParameterModel model, int parallelism) {
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
+        
         this.model = Preconditions.notNull(model);
+        this.parallelism = parallelism;
         
         initializeConversionMaps();
         convertTuplesLists();
@@ -64,6 +86,20 @@ public class IndexBasedModelConverter implements ModelConverter {
         convertedModel = createConvertedModel();
     }
     
+    /**
+     * Can be set as the {@link ModelConverterFactory} of an execution configuration to convert the constraints of
+     * each model in parallel. The constraint functions are then called concurrently, so those of different
+     * constraints must not share mutable state.
+     *
+     * @param parallelism the maximum number of threads converting constraints. Must be positive
+     * @return a factory creating converters which convert up to the given number of constraints at once
+     */
+    public static ModelConverterFactory indexBasedModelConverter(int parallelism) {
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
+        
+        return model -> new IndexBasedModelConverter(model, parallelism);
+    }
+    
     private void initializeConversionMaps() {
         for (int parameterId = 0; parameterId < model.size(); parameterId++) {
             final Parameter correspondingParameter = model.getParameters().get(parameterId);
@@ -80,13 +116,11 @@ public class IndexBasedModelConverter implements ModelConverter {
         final List<Constraint> allConstraints = new ArrayList<>(model.getExclusionConstraints());
         allConstraints.addAll(model.getErrorConstraints());
         
-        final List<TupleList> correspondingTupleLists = new ArrayList<>();
-        int id = 0;
-
-        for (Constraint constraint : allConstraints) {
-            IndexBasedConstraintConverter converter = constraint.getConverterFactory().create(model.getParameters());
-            correspondingTupleLists.add(converter.convert(constraint, id++));
-        }
+        final List<TupleList> correspondingTupleLists = parallelism > 1 && allConstraints.size() > 1
+                ? convertTuplesListsInParallel(allConstraints)
+                : IntStream.range(0, allConstraints.size())
+                        .mapToObj(id -> convertToTupleList(allConstraints.get(id), id))
+                        .collect(Collectors.toList());
         
         for (int i = 0; i < allConstraints.size(); i++) {
             final Constraint constraint = allConstraints.get(i);
@@ -97,6 +131,52 @@ public class IndexBasedModelConverter implements ModelConverter {
         }
     }
     
+    /*
+     * The constraints are independent of each other, so they can be converted in parallel. The ids only depend on
+     * the position of the constraint. A dedicated executor is used instead of a parallel stream, since the converter
+     * may be created inside the fork-join pool executing the tests, where joining a parallel stream could run other
+     * tests on the current thread.
+     */
+    private List<TupleList> convertTuplesListsInParallel(List<Constraint> constraints) {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(constraints.size(), parallelism));
+        
+        try {
+            final List<Future<TupleList>> futures = new ArrayList<>(constraints.size());
+            
+            for (int id = 0; id < constraints.size(); id++) {
+                final Constraint constraint = constraints.get(id);
+                final int lastId = id;
+                
+                futures.add(executor.submit(() -> convertToTupleList(constraint, lastId)));
+            }
+            
+            final List<TupleList> tupleLists = new ArrayList<>(futures.size());
+            
+            for (Future<TupleList> future : futures) {
+                tupleLists.add(future.get());
+            }
+            
+            return tupleLists;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Coffee4JException("Interrupted during constraint conversion", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            
+            throw new Coffee4JException("Could not convert constraints", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private TupleList convertToTupleList(Constraint constraint, int lastId) {
+        final IndexBasedConstraintConverter converter = constraint.getConverterFactory().create(model.getParameters());
+        
+        return converter.convert(constraint, lastId);
+    }
+    
     private CompleteTestModel createConvertedModel() {
         int[] parameterSizes = IntStream.range(0, model.size())
                 .map(parameterId -> model.getParameters().get(parameterId).size())
@@ -210,6 +290,10 @@ public class IndexBasedModelConverter implements ModelConverter {
     public int[] convertCombination(Combination combination) {
         Preconditions.notNull(combination);
         
+        if (combination.getDictionary() == model.getDictionary()) {
+            return combination.getValueIndices();
+        }
+        
         int[] combinationArray = CombinationUtil.emptyCombination(model.size());
         
         for (Map.Entry<Parameter, Value> mapping : combination.getParameterValueMap().entrySet()) {
@@ -226,18 +310,7 @@ public class IndexBasedModelConverter implements ModelConverter {
         Preconditions.notNull(combination);
         Preconditions.check(combination.length == model.size());
         
-        final Map<Parameter, Value> parameterValueMap = new HashMap<>();
-        
-        for (int parameterId = 0; parameterId < model.size(); parameterId++) {
-            if (combination[parameterId] != CombinationUtil.NO_VALUE) {
-                final Parameter parameter = model.getParameters().get(parameterId);
-                final Value correspondingValue = parameter.getValues().get(combination[parameterId]);
-                
-                parameterValueMap.put(parameter, correspondingValue);
-            }
-        }
-        
-        return Combination.of(parameterValueMap);
+        return Combination.of(model.getDictionary(), combination);
     }
     
     @Override
@@ -110,6 +110,11 @@ public class DefaultExtensionExecutor implements ExtensionExecutor {
             callback.beforeGeneration();
     }
 
+    @Override
+    public boolean allowsPipelinedExecution() {
+        return afterGenerationCallbacks.isEmpty() && beforeExecutionCallbacks.isEmpty();
+    }
+
     /**
      * {@inheritDoc}
      * @throws Coffee4JException  if the items of the input and output list do not match
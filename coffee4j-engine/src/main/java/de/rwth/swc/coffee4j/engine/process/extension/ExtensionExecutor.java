@@ -30,6 +30,17 @@ public interface ExtensionExecutor {
      */
     void executeBeforeGeneration();
 
+    /**
+     * Whether combinations may be executed while the generation phase is still running. This is only possible if no
+     * registered callback needs to see all generated combinations at once, i.e. if
+     * {@link #executeAfterGeneration(List)} and {@link #executeBeforeExecution(List)} do not do anything.
+     *
+     * @return whether generation and execution may be pipelined. {@code false} by default
+     */
+    default boolean allowsPipelinedExecution() {
+        return false;
+    }
+
     /**
      * Executes the callback after the generation phase
      *
@@ -1,12 +1,13 @@
 package de.rwth.swc.coffee4j.engine.process.interleaving;
 
-import de.rwth.swc.coffee4j.algorithmic.ErrorConstraintException;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
 import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
 import de.rwth.swc.coffee4j.engine.process.extension.ExtensionExecutor;
 import de.rwth.swc.coffee4j.engine.process.manager.PhaseManager;
+import de.rwth.swc.coffee4j.engine.process.manager.PhaseMetrics;
 import de.rwth.swc.coffee4j.engine.process.phase.execution.ExecutionContext;
 import de.rwth.swc.coffee4j.engine.process.phase.execution.ExecutionPhase;
 import de.rwth.swc.coffee4j.engine.process.phase.model.ModelModificationContext;
@@ -18,7 +19,6 @@ import de.rwth.swc.coffee4j.engine.process.phase.interleaving.identification.Ide
 import de.rwth.swc.coffee4j.engine.report.DelegatingInterleavingExecutionReporter;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Abstract class implementing the {@link PhaseManager} Interface for Interleaving CT. It provides general functionality
@@ -27,11 +27,20 @@ import java.util.stream.Collectors;
  * <p>
  *     Manages a {@link ResultCache} to execute every test input exactly once. If a test input has been executed before,
  *     the {@link PhaseManager} loads the result from the cache instead of executing the {@link ExecutionPhase}.
+ *     The cache is created by the configured {@link ResultCacheFactory} and closed at the end of {@link #run()}.
+ *     The test manager of the generation context is closed as well, so that the thread pools of its strategies are
+ *     released even if a phase throws.
+ * </p>
+ * <p>
+ *     If metrics listeners are configured, every step of every phase is measured with {@link PhaseMetrics} and the
+ *     summary is passed to the execution reporters at the end of {@link #run()}.
  * </p>
  */
 public abstract class AbstractInterleavingPhaseManager implements PhaseManager {
     
-    protected final ResultCache cache = new HashMapResultCache();
+    protected ResultCache cache;
+    
+    private final Map<Combination, TestResult> errorConstraintExceptionCausingTestInputs = new HashMap<>();
     
     protected InterleavingPhaseManagerConfiguration configuration;
     
@@ -43,6 +52,8 @@ public abstract class AbstractInterleavingPhaseManager implements PhaseManager {
     protected InterleavingGenerationPhase generationPhase;
     protected IdentificationPhase identificationPhase;
     protected CheckingPhase checkingPhase;
+    
+    protected PhaseMetrics metrics;
 
     public AbstractInterleavingPhaseManager(InterleavingPhaseManagerConfiguration configuration) {
         this.configuration = Preconditions.notNull(configuration);
@@ -50,12 +61,33 @@ public abstract class AbstractInterleavingPhaseManager implements PhaseManager {
 
     @Override
     public void run() {
-        executeModelModificationPhase();
+        metrics = PhaseMetrics.create(configuration.getExecutionConfiguration().getMetricsListeners());
+        
+        metrics.time(MetricNames.PHASE_MODEL_MODIFICATION, this::executeModelModificationPhase);
         createContexts();
         createPhases();
         
+        cache = configuration.getResultCacheFactory()
+                .create(configuration.getTestMethodConfiguration().getInputParameterModel());
+        
+        try {
+            runInterleavingTesting();
+        } finally {
+            try {
+                generationContext.getTestManager().close();
+            } finally {
+                cache.close();
+            }
+        }
+        
+        metrics.report(new DelegatingInterleavingExecutionReporter(
+                configuration.getExecutionConfiguration().getExecutionReporters()));
+    }
+    
+    private void runInterleavingTesting() {
         Map<Combination, TestResult> executionResult;
-        Combination nextTestInput = generationPhase.execute(new HashMap<>());
+        Combination nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED,
+                metrics.time(MetricNames.PHASE_GENERATION, generationPhase::execute, new HashMap<>()));
 
         while (nextTestInput != null) {
             executionResult = runTestInput(nextTestInput);
@@ -63,12 +95,16 @@ public abstract class AbstractInterleavingPhaseManager implements PhaseManager {
 
             // test input passed -> no identification necessary
             if (result.isSuccessful()) {
-                nextTestInput = generationPhase.execute(executionResult);
+                nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED,
+                        metrics.time(MetricNames.PHASE_GENERATION, generationPhase::execute, executionResult));
             // test input failed -> start identification phase
             } else {
                 // identify possible fics
                 extensionExecutor.executeBeforeFaultCharacterization(executionResult);
-                nextTestInput = identificationPhase.initialize(nextTestInput, result);
+                final Combination failedTestInput = nextTestInput;
+                nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                        metrics.time(MetricNames.PHASE_IDENTIFICATION,
+                                () -> identificationPhase.initialize(failedTestInput, result)));
 
                 List<Combination> generatedTestInputsDuringIdentification = Collections.emptyList();
 
@@ -78,42 +114,44 @@ public abstract class AbstractInterleavingPhaseManager implements PhaseManager {
                     while (nextTestInput != null) {
                         generatedTestInputsDuringIdentification.add(nextTestInput);
                         executionResult = runTestInput(nextTestInput);
-                        nextTestInput = identificationPhase.execute(executionResult);
+                        nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                                metrics.time(MetricNames.PHASE_IDENTIFICATION, identificationPhase::execute,
+                                        executionResult));
                     }
 
-                    nextTestInput = checkingPhase.initialize();
+                    nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                            metrics.time(MetricNames.PHASE_CHECKING, checkingPhase::initialize));
 
                     while (nextTestInput != null) {
                         while (nextTestInput != null) {
                             executionResult = runTestInput(nextTestInput);
 
-                            nextTestInput = checkingPhase.execute(executionResult);
+                            nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                                    metrics.time(MetricNames.PHASE_CHECKING, checkingPhase::execute,
+                                            executionResult));
                         }
 
                         // restart checking phase until all possibly failure-inducing combinations are checked
                         // if one is not correctly identified, restart identification phase (incorrectly identified
                         // combinations will not be returned again as there is a passing test input)
-                        nextTestInput = checkingPhase.initialize();
+                        nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                                metrics.time(MetricNames.PHASE_CHECKING, checkingPhase::initialize));
                     }
 
                     if (!checkingPhase.failureInducingCombinationsFound()) {
-                        nextTestInput = identificationPhase.reinitialize();
+                        nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                                metrics.time(MetricNames.PHASE_IDENTIFICATION, identificationPhase::reinitialize));
                     }
                 }
 
                 extensionExecutor.executeAfterFaultCharacterization(generatedTestInputsDuringIdentification);
-                nextTestInput = generationPhase.execute(executionResult);
+                nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED,
+                        metrics.time(MetricNames.PHASE_GENERATION, generationPhase::execute, executionResult));
             }
         }
 
-        // provide all test inputs in cache that triggered an ErrorConstraintException
-        executeClassificationPhase(((HashMapResultCache) cache)
-                .getResults()
-                .entrySet()
-                .stream()
-                .filter(testInput -> testInput.getValue().isExceptionalSuccessful())
-                .filter(testInput -> testInput.getValue().getResultValue().orElse(null) instanceof ErrorConstraintException)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        // provide all executed test inputs that triggered an ErrorConstraintException
+        executeClassificationPhase(new HashMap<>(errorConstraintExceptionCausingTestInputs));
     }
     
     private void executeModelModificationPhase() {
@@ -135,13 +173,14 @@ public abstract class AbstractInterleavingPhaseManager implements PhaseManager {
     private void createContexts() {
         executionContext = ExecutionContext.createExecutionContext(
                 extensionExecutor,
-                configuration.getTestMethodConfiguration(),
+                metrics.measure(configuration.getTestMethodConfiguration()),
                 configuration.getExecutionConfiguration().getExecutionReporters());
         
         generationContext = new InterleavingGenerationContext(
                 configuration.getExecutionConfiguration(),
                 configuration.getTestMethodConfiguration().getInputParameterModel(),
-                extensionExecutor);
+                extensionExecutor,
+                metrics.getListener().orElse(null));
     }
     
     protected void createPhases() {
@@ -159,12 +198,24 @@ public abstract class AbstractInterleavingPhaseManager implements PhaseManager {
     }
 
     /**
-     * Template method implemented by error-constraint generating managers.
+     * Template method implemented by error-constraint generating managers. Implementations should measure their
+     * phases with the {@link #metrics}.
      * @param errorConstraintExceptionCausingTestInputs map containing all executed {@link Combination}s and the
      *                                                  corresponding {@link TestResult}s causing an exceptional-pass.
      */
     protected abstract void executeClassificationPhase(Map<Combination, TestResult> errorConstraintExceptionCausingTestInputs);
 
+    /*
+     * Counts the test input returned by a phase, if there is one.
+     */
+    private Combination count(String metric, Combination testInput) {
+        if (testInput != null) {
+            metrics.count(metric, 1);
+        }
+        
+        return testInput;
+    }
+
     /**
      * passes test input to execution phase if result is not present in cache.
      *
@@ -175,12 +226,19 @@ public abstract class AbstractInterleavingPhaseManager implements PhaseManager {
         Map<Combination, TestResult> executionResult;
 
         if (!cache.containsResultFor(nextTestInput)) {
-            executionResult = executionPhase.execute(Collections.singletonList(nextTestInput));
+            executionResult = metrics.time(MetricNames.PHASE_EXECUTION, executionPhase::execute,
+                    Collections.singletonList(nextTestInput));
             cache.addResultIfAbsentFor(nextTestInput, executionResult.get(nextTestInput));
         } else {
+            metrics.count(MetricNames.TEST_INPUTS_CACHED, 1);
             executionResult = new HashMap<>();
             executionResult.put(nextTestInput, cache.getResultFor(nextTestInput));
         }
+        
+        final TestResult result = executionResult.get(nextTestInput);
+        if (result.isExceptionalSuccessful()) {
+            errorConstraintExceptionCausingTestInputs.putIfAbsent(nextTestInput, result);
+        }
 
         return executionResult;
     }
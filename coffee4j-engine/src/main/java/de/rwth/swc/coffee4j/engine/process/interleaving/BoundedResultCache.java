@@ -0,0 +1,52 @@
+package de.rwth.swc.coffee4j.engine.process.interleaving;
+
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link ResultCache} keeping at most a fixed number of results in memory. If the capacity is exceeded, the least
+ * recently used result is evicted, so the corresponding test input is executed again when it is requested the next
+ * time.
+ */
+public class BoundedResultCache implements ResultCache {
+    
+    private final Map<Combination, TestResult> results;
+    
+    /**
+     * @param maximumNumberOfResults the maximum number of results kept in memory. Must be positive
+     */
+    public BoundedResultCache(int maximumNumberOfResults) {
+        checkMaximumNumberOfResults(maximumNumberOfResults);
+        
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Combination, TestResult> eldest) {
+                return size() > maximumNumberOfResults;
+            }
+        };
+    }
+    
+    static void checkMaximumNumberOfResults(int maximumNumberOfResults) {
+        Preconditions.check(maximumNumberOfResults > 0, "The maximum number of results must be positive");
+    }
+    
+    @Override
+    public boolean containsResultFor(Combination testInput) {
+        return results.containsKey(testInput);
+    }
+    
+    @Override
+    public TestResult getResultFor(Combination testInput) {
+        return results.get(testInput);
+    }
+    
+    @Override
+    public void addResultIfAbsentFor(Combination testInput, TestResult result) {
+        results.putIfAbsent(testInput, result);
+    }
+    
+}
@@ -1,6 +1,6 @@
 package de.rwth.swc.coffee4j.engine.process.interleaving;
 
-import de.rwth.swc.coffee4j.algorithmic.ErrorConstraintException;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import de.rwth.swc.coffee4j.engine.configuration.TestMethodConfiguration;
@@ -11,6 +11,7 @@ import de.rwth.swc.coffee4j.engine.configuration.model.constraints.Constraint;
 import de.rwth.swc.coffee4j.engine.converter.model.ModelConverter;
 import de.rwth.swc.coffee4j.engine.process.extension.ExtensionExecutor;
 import de.rwth.swc.coffee4j.engine.process.manager.PhaseManager;
+import de.rwth.swc.coffee4j.engine.process.manager.PhaseMetrics;
 import de.rwth.swc.coffee4j.engine.process.phase.execution.ExecutionContext;
 import de.rwth.swc.coffee4j.engine.process.phase.execution.ExecutionPhase;
 import de.rwth.swc.coffee4j.engine.process.phase.model.ModelModificationContext;
@@ -36,7 +37,10 @@ import java.util.stream.Collectors;
  */
 public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
     
-    private final ResultCache cache = new HashMapResultCache();
+    private ResultCache cache;
+    
+    private final Map<Combination, TestResult> errorConstraintExceptionCausingTestInputs = new HashMap<>();
+    private final Set<Combination> passingTestInputs = new HashSet<>();
     
     private DynamicInterleavingPhaseManagerConfiguration configuration;
     
@@ -49,6 +53,8 @@ public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
     private IdentificationPhase identificationPhase;
     private CheckingPhase checkingPhase;
     private InterleavingClassificationPhase classificationPhase;
+    
+    private PhaseMetrics metrics;
 
     private final InputParameterModel initialInputParameterModel;
 
@@ -63,20 +69,36 @@ public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
 
     @Override
     public void run() {
-        executeModelModificationPhase();
+        metrics = PhaseMetrics.create(configuration.getExecutionConfiguration().getMetricsListeners());
+        
+        metrics.time(MetricNames.PHASE_MODEL_MODIFICATION, this::executeModelModificationPhase);
         createContexts();
         createPhases();
         
-        // Error-Constraint Generation Phase
-        runOneInterleavingTestingIteration();
-
-        executeClassificationPhase();
-
-        // update generation context and create new phases for testing-phase
-        updateConfiguration();
-
-        // Interleaving Combinatorial Testing Phase
-        runOneInterleavingTestingIteration();
+        cache = configuration.getResultCacheFactory()
+                .create(configuration.getTestMethodConfiguration().getInputParameterModel());
+        
+        try {
+            // Error-Constraint Generation Phase
+            runOneInterleavingTestingIteration();
+    
+            executeClassificationPhase();
+    
+            // update generation context and create new phases for testing-phase
+            updateConfiguration();
+    
+            // Interleaving Combinatorial Testing Phase
+            runOneInterleavingTestingIteration();
+        } finally {
+            try {
+                generationContext.getTestManager().close();
+            } finally {
+                cache.close();
+            }
+        }
+        
+        metrics.report(new DelegatingInterleavingExecutionReporter(
+                configuration.getExecutionConfiguration().getExecutionReporters()));
     }
     
     private void executeModelModificationPhase() {
@@ -98,13 +120,14 @@ public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
     private void createContexts() {
         this.executionContext = ExecutionContext.createExecutionContext(
                 extensionExecutor,
-                configuration.getTestMethodConfiguration(),
+                metrics.measure(configuration.getTestMethodConfiguration()),
                 configuration.getExecutionConfiguration().getExecutionReporters());
         
         this.generationContext = new InterleavingGenerationContext(
                 configuration.getErrorConstraintGenerationExecutionConfiguration(),
                 initialInputParameterModel,
-                extensionExecutor);
+                extensionExecutor,
+                metrics.getListener().orElse(null));
     }
     
     private void createPhases() {
@@ -122,7 +145,8 @@ public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
 
     private void runOneInterleavingTestingIteration() {
         Map<Combination, TestResult> executionResult;
-        Combination nextTestInput = generationPhase.execute(new HashMap<>());
+        Combination nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED,
+                metrics.time(MetricNames.PHASE_GENERATION, generationPhase::execute, new HashMap<>()));
 
         while (nextTestInput != null) {
             executionResult = runTestInput(nextTestInput);
@@ -132,7 +156,10 @@ public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
             if (!result.isSuccessful()) {
                 // identify possible fics
                 extensionExecutor.executeBeforeFaultCharacterization(executionResult);
-                nextTestInput = identificationPhase.initialize(nextTestInput, result);
+                final Combination failedTestInput = nextTestInput;
+                nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                        metrics.time(MetricNames.PHASE_IDENTIFICATION,
+                                () -> identificationPhase.initialize(failedTestInput, result)));
 
                 List<Combination> generatedTestInputsDuringIdentification = Collections.emptyList();
 
@@ -142,35 +169,54 @@ public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
                     while (nextTestInput != null) {
                         generatedTestInputsDuringIdentification.add(nextTestInput);
                         executionResult = runTestInput(nextTestInput);
-                        nextTestInput = identificationPhase.execute(executionResult);
+                        nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                                metrics.time(MetricNames.PHASE_IDENTIFICATION, identificationPhase::execute,
+                                        executionResult));
                     }
 
-                    nextTestInput = checkingPhase.initialize();
+                    nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                            metrics.time(MetricNames.PHASE_CHECKING, checkingPhase::initialize));
 
                     while (nextTestInput != null) {
                         while (nextTestInput != null) {
                             executionResult = runTestInput(nextTestInput);
 
-                            nextTestInput = checkingPhase.execute(executionResult);
+                            nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                                    metrics.time(MetricNames.PHASE_CHECKING, checkingPhase::execute,
+                                            executionResult));
                         }
 
                         // restart checking phase until all possibly failure-inducing combinations are checked
                         // if one is not correctly identified, restart identification phase (incorrectly identified
                         // combinations will not be returned again as there is a passing test input)
-                        nextTestInput = checkingPhase.initialize();
+                        nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                                metrics.time(MetricNames.PHASE_CHECKING, checkingPhase::initialize));
                     }
 
                     if (!checkingPhase.failureInducingCombinationsFound()) {
-                        nextTestInput = identificationPhase.reinitialize();
+                        nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION,
+                                metrics.time(MetricNames.PHASE_IDENTIFICATION, identificationPhase::reinitialize));
                     }
                 }
 
                 extensionExecutor.executeAfterFaultCharacterization(generatedTestInputsDuringIdentification);
             }
-            nextTestInput = generationPhase.execute(executionResult);
+            nextTestInput = count(MetricNames.TEST_INPUTS_GENERATED,
+                    metrics.time(MetricNames.PHASE_GENERATION, generationPhase::execute, executionResult));
         }
     }
     
+    /*
+     * Counts the test input returned by a phase, if there is one.
+     */
+    private Combination count(String metric, Combination testInput) {
+        if (testInput != null) {
+            metrics.count(metric, 1);
+        }
+        
+        return testInput;
+    }
+
     /**
      * passes test input to execution phase if result is not present in cache.
      *
@@ -181,29 +227,34 @@ public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
         Map<Combination, TestResult> executionResult;
 
         if (!cache.containsResultFor(nextTestInput)) {
-            executionResult = executionPhase.execute(Collections.singletonList(nextTestInput));
+            executionResult = metrics.time(MetricNames.PHASE_EXECUTION, executionPhase::execute,
+                    Collections.singletonList(nextTestInput));
             cache.addResultIfAbsentFor(nextTestInput, executionResult.get(nextTestInput));
         } else {
+            metrics.count(MetricNames.TEST_INPUTS_CACHED, 1);
             executionResult = new HashMap<>();
             executionResult.put(nextTestInput, cache.getResultFor(nextTestInput));
         }
+        
+        final TestResult result = executionResult.get(nextTestInput);
+        if (result.isSuccessful()) {
+            passingTestInputs.add(nextTestInput);
+        } else if (result.isExceptionalSuccessful()) {
+            errorConstraintExceptionCausingTestInputs.putIfAbsent(nextTestInput, result);
+        }
 
         return executionResult;
     }
     
     private void executeClassificationPhase() {
         Map<Combination, TestResult> executionResult;
-        Combination nextTestInput = classificationPhase.initialize(((HashMapResultCache) cache)
-                .getResults()
-                .entrySet()
-                .stream()
-                .filter(testInput -> testInput.getValue().isExceptionalSuccessful())
-                .filter(testInput -> testInput.getValue().getResultValue().orElse(null) instanceof ErrorConstraintException)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        Combination nextTestInput = metrics.time(MetricNames.PHASE_CLASSIFICATION,
+                classificationPhase::initialize, new HashMap<>(errorConstraintExceptionCausingTestInputs));
         
         while (nextTestInput != null) {
             executionResult = runTestInput(nextTestInput);
-            nextTestInput = classificationPhase.execute(executionResult);
+            nextTestInput = metrics.time(MetricNames.PHASE_CLASSIFICATION, classificationPhase::execute,
+                    executionResult);
         }
     }
     
@@ -235,15 +286,15 @@ public class DefaultDynamicInterleavingPhaseManager implements PhaseManager {
                 .testMethodConfiguration(newTestMethodConfiguration)
                 .build();
         
+        // the manager of the error-constraint generation is not needed anymore
+        generationContext.getTestManager().close();
         createContexts();
         
         InterleavingCombinatorialTestManager newTestManager = generationContext.getTestManager();
         
         // already passing tuples do not need to be considered anymore
-        for (Map.Entry<Combination, TestResult> testInput : ((HashMapResultCache) cache).getResults().entrySet()) {
-            if ((testInput.getValue().isSuccessful())) {
-                newTestManager.updateCoverage(converter.convertCombination(testInput.getKey()));
-            }
+        for (Combination testInput : passingTestInputs) {
+            newTestManager.updateCoverage(converter.convertCombination(testInput));
         }
         
         createPhases();
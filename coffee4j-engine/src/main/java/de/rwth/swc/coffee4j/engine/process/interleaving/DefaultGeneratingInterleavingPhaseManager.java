@@ -1,5 +1,6 @@
 package de.rwth.swc.coffee4j.engine.process.interleaving;
 
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
 import de.rwth.swc.coffee4j.engine.process.phase.interleaving.classification.InterleavingClassificationPhase;
@@ -28,11 +29,13 @@ public class DefaultGeneratingInterleavingPhaseManager extends AbstractInterleav
     @Override
     protected void executeClassificationPhase(Map<Combination, TestResult> errorConstraintExceptionCausingTestInputs) {
         Map<Combination, TestResult> executionResult;
-        Combination nextTestInput = classificationPhase.initialize(errorConstraintExceptionCausingTestInputs);
+        Combination nextTestInput = metrics.time(MetricNames.PHASE_CLASSIFICATION,
+                () -> classificationPhase.initialize(errorConstraintExceptionCausingTestInputs));
 
         while (nextTestInput != null) {
             executionResult = runTestInput(nextTestInput);
-            nextTestInput = classificationPhase.execute(executionResult);
+            nextTestInput = metrics.time(MetricNames.PHASE_CLASSIFICATION, classificationPhase::execute,
+                    executionResult);
         }
     }
 }
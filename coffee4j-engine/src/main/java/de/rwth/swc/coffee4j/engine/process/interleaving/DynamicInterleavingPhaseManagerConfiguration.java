@@ -43,6 +43,7 @@ public class DynamicInterleavingPhaseManagerConfiguration {
     private final CheckingPhaseFactory checkingPhaseFactory;
     private final InterleavingClassificationPhaseFactory classificationPhaseFactory;
     private final ModelModificationPhaseFactory modelModificationPhaseFactory;
+    private final ResultCacheFactory resultCacheFactory;
 
     private DynamicInterleavingPhaseManagerConfiguration(Builder builder) {
         this.executionConfiguration = Preconditions.notNull(builder.executionConfiguration);
@@ -57,6 +58,7 @@ public class DynamicInterleavingPhaseManagerConfiguration {
         this.checkingPhaseFactory = Preconditions.notNull(builder.checkingPhaseFactory);
         this.classificationPhaseFactory = Preconditions.notNull(builder.classificationPhaseFactory);
         this.modelModificationPhaseFactory = Preconditions.notNull(builder.modelModificationPhaseFactory);
+        this.resultCacheFactory = Preconditions.notNull(builder.resultCacheFactory);
     }
     
     public InterleavingExecutionConfiguration getErrorConstraintGenerationExecutionConfiguration() {
@@ -103,6 +105,10 @@ public class DynamicInterleavingPhaseManagerConfiguration {
         return modelModificationPhaseFactory;
     }
     
+    public ResultCacheFactory getResultCacheFactory() {
+        return resultCacheFactory;
+    }
+    
     public Builder toBuilder() {
         return phaseManagerConfiguration()
                 .executionConfiguration(executionConfiguration)
@@ -115,7 +121,8 @@ public class DynamicInterleavingPhaseManagerConfiguration {
                 .identificationPhaseFactory(identificationPhaseFactory)
                 .checkingPhaseFactory(checkingPhaseFactory)
                 .classificationPhaseFactory(classificationPhaseFactory)
-                .modelModificationPhaseFactory(modelModificationPhaseFactory);
+                .modelModificationPhaseFactory(modelModificationPhaseFactory)
+                .resultCacheFactory(resultCacheFactory);
     }
     
     /**
@@ -142,6 +149,7 @@ public class DynamicInterleavingPhaseManagerConfiguration {
         private CheckingPhaseFactory checkingPhaseFactory = CheckingPhase::new;
         private InterleavingClassificationPhaseFactory classificationPhaseFactory = InterleavingClassificationPhase::new;
         private ModelModificationPhaseFactory modelModificationPhaseFactory = ModelModificationPhase::new;
+        private ResultCacheFactory resultCacheFactory = ResultCacheFactory.hashMap();
 
         public Builder executionConfiguration(
                 InterleavingExecutionConfiguration configuration) {
@@ -198,6 +206,11 @@ public class DynamicInterleavingPhaseManagerConfiguration {
             this.modelModificationPhaseFactory = modelModificationPhaseFactory;
             return this;
         }
+        
+        public Builder resultCacheFactory(ResultCacheFactory resultCacheFactory) {
+            this.resultCacheFactory = resultCacheFactory;
+            return this;
+        }
     
         public DynamicInterleavingPhaseManagerConfiguration build() {
             return new DynamicInterleavingPhaseManagerConfiguration(this);
@@ -41,6 +41,7 @@ public class InterleavingPhaseManagerConfiguration {
     private final CheckingPhaseFactory checkingPhaseFactory;
     private final InterleavingClassificationPhaseFactory classificationPhaseFactory;
     private final ModelModificationPhaseFactory modelModificationPhaseFactory;
+    private final ResultCacheFactory resultCacheFactory;
 
     private InterleavingPhaseManagerConfiguration(Builder builder) {
         executionConfiguration = Preconditions.notNull(builder.executionConfiguration);
@@ -54,6 +55,7 @@ public class InterleavingPhaseManagerConfiguration {
         checkingPhaseFactory = Preconditions.notNull(builder.checkingPhaseFactory);
         classificationPhaseFactory = Preconditions.notNull(builder.classificationPhaseFactory);
         modelModificationPhaseFactory = Preconditions.notNull(builder.modelModificationPhaseFactory);
+        resultCacheFactory = Preconditions.notNull(builder.resultCacheFactory);
     }
 
     public InterleavingExecutionConfiguration getExecutionConfiguration() {
@@ -96,6 +98,10 @@ public class InterleavingPhaseManagerConfiguration {
         return modelModificationPhaseFactory;
     }
     
+    public ResultCacheFactory getResultCacheFactory() {
+        return resultCacheFactory;
+    }
+    
     public Builder toBuilder() {
         return phaseManagerConfiguration()
                 .executionConfiguration(executionConfiguration)
@@ -107,7 +113,8 @@ public class InterleavingPhaseManagerConfiguration {
                 .identificationPhaseFactory(identificationPhaseFactory)
                 .checkingPhaseFactory(checkingPhaseFactory)
                 .classificationPhaseFactory(classificationPhaseFactory)
-                .modelModificationPhaseFactory(modelModificationPhaseFactory);
+                .modelModificationPhaseFactory(modelModificationPhaseFactory)
+                .resultCacheFactory(resultCacheFactory);
     }
     
     /**
@@ -133,6 +140,7 @@ public class InterleavingPhaseManagerConfiguration {
         private CheckingPhaseFactory checkingPhaseFactory = CheckingPhase::new;
         private InterleavingClassificationPhaseFactory classificationPhaseFactory = InterleavingClassificationPhase::new;
         private ModelModificationPhaseFactory modelModificationPhaseFactory = ModelModificationPhase::new;
+        private ResultCacheFactory resultCacheFactory = ResultCacheFactory.hashMap();
 
         public Builder executionConfiguration(InterleavingExecutionConfiguration configuration) {
             this.executionConfiguration = configuration;
@@ -183,6 +191,11 @@ public class InterleavingPhaseManagerConfiguration {
             this.modelModificationPhaseFactory = modelModificationPhaseFactory;
             return this;
         }
+        
+        public Builder resultCacheFactory(ResultCacheFactory resultCacheFactory) {
+            this.resultCacheFactory = resultCacheFactory;
+            return this;
+        }
     
         public InterleavingPhaseManagerConfiguration build() {
             return new InterleavingPhaseManagerConfiguration(this);
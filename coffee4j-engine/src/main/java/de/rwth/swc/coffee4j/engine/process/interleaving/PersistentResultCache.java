@@ -0,0 +1,283 @@
+package de.rwth.swc.coffee4j.engine.process.interleaving;
+
+import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import de.rwth.swc.coffee4j.engine.configuration.model.ParameterValueDictionary;
+import de.rwth.swc.coffee4j.engine.configuration.model.Value;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ResultCache} which additionally persists the results of passing test inputs, so that they are not executed
+ * again in later runs of the same test.
+ *
+ * <p>
+ *     The results are stored in an append-only binary log inside a given directory. The log is named after a
+ *     fingerprint of a namespace and the {@link InputParameterModel} (its name, testing strength, parameters and
+ *     values), so changing the model automatically starts a new log. The namespace separates tests which share the
+ *     same model but not their results, e.g. two test methods using the same model. Each record consists of a type
+ *     byte followed by the index of the value of every parameter encoded as a variable-length integer. A truncated
+ *     record at the end of the log, e.g. caused by an aborted run, is discarded when the log is loaded.
+ * </p>
+ * <p>
+ *     Only passing test inputs are persisted since the exceptions of failing or exceptional-passing test inputs
+ *     cannot be restored faithfully. Those test inputs are cached in memory for the current run only and are
+ *     executed again in later runs.
+ * </p>
+ */
+public class PersistentResultCache implements ResultCache {
+
+    static final String FILE_EXTENSION = ".results";
+
+    private static final int MAGIC_NUMBER = 0xC0FF4EE5;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES;
+
+    private static final byte SUCCESS_RECORD = 1;
+
+    private final List<Parameter> parameters;
+    private final ParameterValueDictionary dictionary;
+    private final long fingerprint;
+    private final Path file;
+
+    private final Map<Combination, TestResult> results = new HashMap<>();
+
+    private final DataOutputStream output;
+
+    /**
+     * Opens the log for the given model in the given directory and loads all results stored in it. The directory
+     * and the log are created if they do not exist yet.
+     *
+     * @param directory the directory containing the logs. Must not be {@code null}
+     * @param namespace distinguishes tests with the same model, e.g. the name of the test method. Must not be
+     *                  {@code null}
+     * @param model the model of all cached test inputs. Must not be {@code null}
+     * @throws Coffee4JException if the log cannot be opened or the file of the log was not written by this cache
+     */
+    public PersistentResultCache(Path directory, String namespace, InputParameterModel model) {
+        Preconditions.notNull(directory);
+        Preconditions.notNull(namespace);
+        Preconditions.notNull(model);
+
+        parameters = model.getParameters();
+        dictionary = model.getDictionary();
+        fingerprint = computeFingerprint(namespace, model);
+        file = directory.resolve(String.format("%016x", fingerprint) + FILE_EXTENSION);
+
+        try {
+            Files.createDirectories(directory);
+            final long validLength = load();
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+            channel.truncate(validLength);
+            channel.position(validLength);
+            output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+
+            if (validLength == 0) {
+                output.writeInt(MAGIC_NUMBER);
+                output.writeByte(VERSION);
+                output.writeLong(fingerprint);
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new Coffee4JException(e, "Could not open result log %s", file);
+        }
+    }
+
+    /**
+     * Computes a fingerprint of the namespace and the given model which stays the same across different JVMs as long
+     * as the name, positive testing strength, parameters, and values of the model do not change. The values are
+     * compared by their {@link String} representation.
+     *
+     * @param namespace distinguishes tests with the same model. Must not be {@code null}
+     * @param model the model for which a fingerprint is computed. Must not be {@code null}
+     * @return the fingerprint
+     */
+    static long computeFingerprint(String namespace, InputParameterModel model) {
+        final StringBuilder description = new StringBuilder()
+                .append(namespace.length()).append('\0').append(namespace).append('\0')
+                .append(model.getName()).append('\0')
+                .append(model.getPositiveTestingStrength()).append('\0');
+
+        for (Parameter parameter : model.getParameters()) {
+            description.append(parameter.getName()).append('\0').append(parameter.size()).append('\0');
+
+            for (Value value : parameter.getValues()) {
+                description.append(value.get()).append('\0');
+            }
+        }
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(description.toString().getBytes(StandardCharsets.UTF_8));
+
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new Coffee4JException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    private long load() throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() >= Integer.BYTES && buffer.getInt(0) != MAGIC_NUMBER) {
+            // never overwrite files which were not written by this cache
+            throw new Coffee4JException("%s is not a result log", file);
+        }
+
+        if (buffer.remaining() < HEADER_SIZE
+                || buffer.getInt() != MAGIC_NUMBER
+                || buffer.get() != VERSION
+                || buffer.getLong() != fingerprint) {
+            return 0;
+        }
+
+        long validLength = buffer.position();
+
+        try {
+            while (buffer.hasRemaining()) {
+                final byte type = buffer.get();
+                if (type != SUCCESS_RECORD) {
+                    break;
+                }
+
+                final Combination testInput = readTestInput(buffer);
+                if (testInput == null) {
+                    break;
+                }
+
+                results.put(testInput, TestResult.success());
+                validLength = buffer.position();
+            }
+        } catch (BufferUnderflowException e) {
+            // the last record was not completely written and is overwritten by the next one
+        }
+
+        return validLength;
+    }
+
+    private Combination readTestInput(ByteBuffer buffer) {
+        final int[] valueIndices = new int[parameters.size()];
+
+        for (int i = 0; i < parameters.size(); i++) {
+            final int encodedIndex = readUnsignedVariableLengthInt(buffer);
+            if (encodedIndex < 0 || encodedIndex > parameters.get(i).size()) {
+                return null;
+            }
+            valueIndices[i] = encodedIndex - 1;
+        }
+
+        return Combination.of(dictionary, valueIndices);
+    }
+
+    private static int readUnsignedVariableLengthInt(ByteBuffer buffer) {
+        int result = 0;
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final byte current = buffer.get();
+            result |= (current & 0x7F) << shift;
+
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+
+        return -1;
+    }
+
+    private static void writeUnsignedVariableLengthInt(DataOutputStream output, int value) throws IOException {
+        int remaining = value;
+
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+
+        output.writeByte(remaining);
+    }
+
+    @Override
+    public boolean containsResultFor(Combination testInput) {
+        return results.containsKey(testInput);
+    }
+
+    @Override
+    public TestResult getResultFor(Combination testInput) {
+        return results.get(testInput);
+    }
+
+    @Override
+    public void addResultIfAbsentFor(Combination testInput, TestResult result) {
+        if (results.putIfAbsent(testInput, result) == null && result.isSuccessful()) {
+            append(testInput);
+        }
+    }
+
+    private void append(Combination testInput) {
+        final int[] valueIndices = new int[parameters.size()];
+        int numberOfContainedParameters = 0;
+
+        for (int i = 0; i < parameters.size(); i++) {
+            final Value value = testInput.getValue(parameters.get(i));
+
+            if (value != null) {
+                valueIndices[i] = parameters.get(i).getValues().indexOf(value) + 1;
+                numberOfContainedParameters++;
+            }
+        }
+
+        // test inputs containing parameters of another model cannot be restored
+        if (numberOfContainedParameters != testInput.getParameterValueMap().size()) {
+            return;
+        }
+
+        try {
+            output.writeByte(SUCCESS_RECORD);
+            for (int valueIndex : valueIndices) {
+                writeUnsignedVariableLengthInt(output, valueIndex);
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new Coffee4JException(e, "Could not append result to log %s", file);
+        }
+    }
+
+    /**
+     * @return the file containing the log of this cache
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() {
+        try {
+            output.close();
+        } catch (IOException e) {
+            throw new Coffee4JException(e, "Could not close result log %s", file);
+        }
+    }
+
+}
@@ -7,8 +7,14 @@ import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
  * Cache for results of executed test inputs to reduce the execution time. As soon as a test input {@link Combination}
  * is executed, the {@link TestResult} is stored in the cache. If the {@link TestResult} for an already executed
  * test input is requested, the {@link TestResult} is loaded from cache instead of re-executing the test input.
+ *
+ * <p>
+ *     A cache is created by a {@link ResultCacheFactory} for each run of a {@link AbstractInterleavingPhaseManager}
+ *     and closed once the run is finished, so implementations holding external resources can release them in
+ *     {@link #close()}.
+ * </p>
  */
-public interface ResultCache {
+public interface ResultCache extends AutoCloseable {
     
     /**
      * @param testInput test input to check whether a result is present for.
@@ -28,4 +34,12 @@ public interface ResultCache {
      */
     void addResultIfAbsentFor(Combination testInput, TestResult result);
     
+    /**
+     * Releases all resources held by the cache. The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
+    
 }
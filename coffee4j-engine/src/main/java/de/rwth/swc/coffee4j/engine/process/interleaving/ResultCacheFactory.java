@@ -0,0 +1,48 @@
+package de.rwth.swc.coffee4j.engine.process.interleaving;
+
+import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+
+import java.nio.file.Path;
+
+/**
+ * A factory for the {@link ResultCache} used by the interleaving phase managers.
+ */
+@FunctionalInterface
+public interface ResultCacheFactory {
+    
+    /**
+     * Creates a new {@link ResultCache} for the test inputs of the given model.
+     *
+     * @param model the model of which the test inputs are cached. Is the model after all model modifications
+     * @return the created {@link ResultCache}
+     */
+    ResultCache create(InputParameterModel model);
+    
+    /**
+     * @return a factory for unbounded {@link HashMapResultCache}s. This is the default
+     */
+    static ResultCacheFactory hashMap() {
+        return model -> new HashMapResultCache();
+    }
+    
+    /**
+     * @param maximumNumberOfResults the maximum number of results kept in memory. Must be positive
+     * @return a factory for {@link BoundedResultCache}s with the given capacity
+     */
+    static ResultCacheFactory bounded(int maximumNumberOfResults) {
+        BoundedResultCache.checkMaximumNumberOfResults(maximumNumberOfResults);
+        
+        return model -> new BoundedResultCache(maximumNumberOfResults);
+    }
+    
+    /**
+     * @param directory the directory in which the result logs are stored. Must not be {@code null}
+     * @param namespace distinguishes tests with the same model, e.g. the name of the test method. Must not be
+     *                  {@code null}
+     * @return a factory for {@link PersistentResultCache}s storing their results in the given directory
+     */
+    static ResultCacheFactory persistent(Path directory, String namespace) {
+        return model -> new PersistentResultCache(directory, namespace, model);
+    }
+    
+}
@@ -0,0 +1,178 @@
+package de.rwth.swc.coffee4j.engine.process.manager;
+
+import de.rwth.swc.coffee4j.algorithmic.metrics.InMemoryMetrics;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import de.rwth.swc.coffee4j.engine.configuration.TestMethodConfiguration;
+import de.rwth.swc.coffee4j.engine.configuration.execution.TestInputExecutor;
+import de.rwth.swc.coffee4j.engine.report.ExecutionReporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Measures the phases run by a {@link PhaseManager} and emits the measurements to the configured
+ * {@link MetricsListener}s.
+ *
+ * <p>
+ *     Besides the configured listeners, all measurements of one run are aggregated in an {@link InMemoryMetrics},
+ *     whose summary is passed to the execution reporters by {@link #report(ExecutionReporter)}. Measurements taken
+ *     outside of the phase managers, e.g. constraint checks, only reach this summary if they are emitted to
+ *     {@link #getListener()}. If no listener is configured, nothing is measured and the phases are run without any
+ *     overhead.
+ * </p>
+ */
+public final class PhaseMetrics {
+
+    private final InMemoryMetrics runMetrics;
+    private final MetricsListener listener;
+
+    private PhaseMetrics(InMemoryMetrics runMetrics, MetricsListener listener) {
+        this.runMetrics = runMetrics;
+        this.listener = listener;
+    }
+
+    /**
+     * Creates the metrics of one run of a phase manager.
+     *
+     * @param listeners the configured listeners. Must not be {@code null}. If empty, nothing is measured
+     * @return the metrics of a new run
+     */
+    public static PhaseMetrics create(List<MetricsListener> listeners) {
+        Preconditions.notNull(listeners);
+
+        if (listeners.isEmpty()) {
+            return new PhaseMetrics(null, null);
+        }
+
+        final InMemoryMetrics runMetrics = new InMemoryMetrics();
+        final List<MetricsListener> allListeners = new ArrayList<>(listeners.size() + 1);
+        allListeners.add(runMetrics);
+        allListeners.addAll(listeners);
+
+        return new PhaseMetrics(runMetrics, MetricsListener.composite(allListeners));
+    }
+
+    /**
+     * @return whether the phases are measured
+     */
+    public boolean isEnabled() {
+        return listener != null;
+    }
+
+    /**
+     * @return the listener receiving all measurements of this run, or an empty optional if nothing is measured
+     */
+    public Optional<MetricsListener> getListener() {
+        return Optional.ofNullable(listener);
+    }
+
+    /**
+     * Runs the given phase and records its duration.
+     *
+     * @param metric the name of the duration
+     * @param phase the phase to run
+     * @param <T> the output of the phase
+     * @return the output of the phase
+     */
+    public <T> T time(String metric, Supplier<T> phase) {
+        if (!isEnabled()) {
+            return phase.get();
+        }
+
+        final long start = System.nanoTime();
+        try {
+            return phase.get();
+        } finally {
+            listener.durationRecorded(metric, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs the given phase on the input and records its duration.
+     *
+     * @param metric the name of the duration
+     * @param phase the phase to run
+     * @param input the input of the phase
+     * @param <I> the input of the phase
+     * @param <O> the output of the phase
+     * @return the output of the phase
+     */
+    public <I, O> O time(String metric, Function<I, O> phase, I input) {
+        return time(metric, () -> phase.apply(input));
+    }
+
+    /**
+     * Runs the given phase and records its duration.
+     *
+     * @param metric the name of the duration
+     * @param phase the phase to run
+     */
+    public void time(String metric, Runnable phase) {
+        time(metric, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /**
+     * @param metric the name of the counter
+     * @param count the number of events which occurred
+     */
+    public void count(String metric, long count) {
+        if (isEnabled()) {
+            listener.countRecorded(metric, count);
+        }
+    }
+
+    /**
+     * Decorates the {@link TestInputExecutor} of the given configuration so that the duration of every execution is
+     * recorded as {@link MetricNames#TEST_INPUT_EXECUTION} and unsuccessful executions are counted as
+     * {@link MetricNames#TEST_INPUTS_FAILED}.
+     *
+     * @param configuration the configuration whose executor is measured. Must not be {@code null}
+     * @return the configuration with the measured executor, or the given configuration if nothing is measured
+     */
+    public TestMethodConfiguration measure(TestMethodConfiguration configuration) {
+        Preconditions.notNull(configuration);
+
+        if (!isEnabled()) {
+            return configuration;
+        }
+
+        final TestInputExecutor executor = configuration.getTestInputExecutor();
+
+        return configuration.toBuilder()
+                .testExecutor(combination -> {
+                    final long start = System.nanoTime();
+                    final TestResult result = executor.execute(combination);
+                    listener.durationRecorded(MetricNames.TEST_INPUT_EXECUTION, System.nanoTime() - start);
+
+                    if (result.isUnsuccessful()) {
+                        listener.countRecorded(MetricNames.TEST_INPUTS_FAILED, 1);
+                    }
+
+                    return result;
+                })
+                .build();
+    }
+
+    /**
+     * Passes the summary of all measurements of this run to the given reporter if anything was measured.
+     *
+     * @param reporter the reporter receiving the summary. Must not be {@code null}
+     */
+    public void report(ExecutionReporter reporter) {
+        Preconditions.notNull(reporter);
+
+        if (isEnabled()) {
+            reporter.metricsCollected(runMetrics.getSummary());
+        }
+    }
+
+}
@@ -1,12 +1,14 @@
 package de.rwth.swc.coffee4j.engine.process.manager.sequential;
 
 import de.rwth.swc.coffee4j.algorithmic.configuration.execution.ExecutionMode;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
 import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
 import de.rwth.swc.coffee4j.engine.process.extension.ExtensionExecutor;
 import de.rwth.swc.coffee4j.engine.process.manager.ConflictDetector;
 import de.rwth.swc.coffee4j.engine.process.manager.PhaseManager;
+import de.rwth.swc.coffee4j.engine.process.manager.PhaseMetrics;
 import de.rwth.swc.coffee4j.engine.process.phase.execution.ExecutionContext;
 import de.rwth.swc.coffee4j.engine.process.phase.execution.ExecutionPhase;
 import de.rwth.swc.coffee4j.engine.process.phase.model.ModelModificationContext;
@@ -24,6 +26,9 @@ import java.util.Map;
  * and fields used by all sub-classes.
  *
  * Manages the phases: initial generation, execution and fault characterization
+ *
+ * If metrics listeners are configured, the duration of every phase is measured with {@link PhaseMetrics} and the
+ * summary is passed to the execution reporters at the end of {@link #run()}.
  */
 public abstract class AbstractSequentialPhaseManager implements PhaseManager {
     
@@ -36,6 +41,8 @@ public abstract class AbstractSequentialPhaseManager implements PhaseManager {
     protected ExecutionPhase executionPhase;
     protected SequentialGenerationPhase generationPhase;
     protected FaultCharacterizationPhase faultCharacterizationPhase;
+    
+    protected PhaseMetrics metrics;
 
     /**
      * Creates a new {@link AbstractSequentialPhaseManager} with the supplied configuration
@@ -55,18 +62,16 @@ public abstract class AbstractSequentialPhaseManager implements PhaseManager {
      */
     @Override
     public void run() {
-        executeModelModificationPhase();
+        metrics = PhaseMetrics.create(configuration.getExecutionConfiguration().getMetricsListeners());
+        
+        metrics.time(MetricNames.PHASE_MODEL_MODIFICATION, this::executeModelModificationPhase);
         createTestContexts();
-        detectConflicts();
+        metrics.time(MetricNames.PHASE_CONFLICT_DETECTION, this::detectConflicts);
         createTestPhases();
         
-        List<Combination> currentCombinations = generationPhase
-                .execute(configuration.getTestMethodConfiguration().getInputParameterModel());
+        Map<Combination, TestResult> executionResults = executeGenerationAndExecutionPhase();
         
-        do {
-            // Execution Phase
-            final Map<Combination, TestResult> executionResults = executionPhase.execute(currentCombinations);
-            
+        while (true) {
             // Even if the execution phase was FAIL_FAST, it should now change so that all fault characterization test
             // inputs are executed as expected
             executionPhase.setExecutionMode(ExecutionMode.EXECUTE_ALL);
@@ -75,10 +80,49 @@ public abstract class AbstractSequentialPhaseManager implements PhaseManager {
             collectErrorConstraintExceptionCausingTestInputs(executionResults);
 
             // Failure Characterization Phase
-            currentCombinations = faultCharacterizationPhase.execute(executionResults);
-        } while(!currentCombinations.isEmpty());
+            final Map<Combination, TestResult> previousExecutionResults = executionResults;
+            final List<Combination> currentCombinations = metrics.time(MetricNames.PHASE_FAULT_CHARACTERIZATION,
+                    () -> faultCharacterizationPhase.execute(previousExecutionResults));
+            
+            if (currentCombinations.isEmpty()) {
+                break;
+            }
+            
+            metrics.count(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION, currentCombinations.size());
+            
+            // Execution Phase
+            executionResults = metrics.time(MetricNames.PHASE_EXECUTION,
+                    () -> executionPhase.execute(currentCombinations));
+        }
 
         executeClassificationPhase();
+        
+        metrics.report(new DelegatingSequentialExecutionReporter(
+                configuration.getExecutionConfiguration().getExecutionReporters()));
+    }
+    
+    /**
+     * Executes the initial generation and the execution of its combinations. If no extension needs to see all
+     * combinations at once, each combination is executed as soon as it is generated instead of waiting for the
+     * whole initial test set.
+     */
+    private Map<Combination, TestResult> executeGenerationAndExecutionPhase() {
+        final InputParameterModel model = configuration.getTestMethodConfiguration().getInputParameterModel();
+        
+        if (extensionExecutor.allowsPipelinedExecution()) {
+            return metrics.time(MetricNames.PHASE_PIPELINED_GENERATION_AND_EXECUTION,
+                    () -> executionPhase.executePipelined(combinationConsumer -> generationPhase.execute(model,
+                            combination -> {
+                                metrics.count(MetricNames.TEST_INPUTS_GENERATED, 1);
+                                combinationConsumer.accept(combination);
+                            })));
+        } else {
+            final List<Combination> combinations = metrics.time(MetricNames.PHASE_GENERATION,
+                    () -> generationPhase.execute(model));
+            metrics.count(MetricNames.TEST_INPUTS_GENERATED, combinations.size());
+            
+            return metrics.time(MetricNames.PHASE_EXECUTION, () -> executionPhase.execute(combinations));
+        }
     }
     
     private void executeModelModificationPhase() {
@@ -100,13 +144,14 @@ public abstract class AbstractSequentialPhaseManager implements PhaseManager {
     private void createTestContexts() {
         executionContext = ExecutionContext.createExecutionContext(
                 extensionExecutor,
-                configuration.getTestMethodConfiguration(),
+                metrics.measure(configuration.getTestMethodConfiguration()),
                 configuration.getExecutionConfiguration().getExecutionReporters());
         
         generationContext = new SequentialGenerationContext(
                 configuration.getExecutionConfiguration(),
                 configuration.getTestMethodConfiguration().getInputParameterModel(),
-                extensionExecutor);
+                extensionExecutor,
+                metrics.getListener().orElse(null));
     }
     
     private void detectConflicts() {
@@ -135,7 +180,8 @@ public abstract class AbstractSequentialPhaseManager implements PhaseManager {
     protected abstract void collectErrorConstraintExceptionCausingTestInputs(Map<Combination, TestResult> executionResults);
 
     /**
-     * Template method implemented by error-constraint generating managers.
+     * Template method implemented by error-constraint generating managers. Implementations should measure their
+     * phases with the {@link #metrics}.
      */
     protected abstract void executeClassificationPhase();
     
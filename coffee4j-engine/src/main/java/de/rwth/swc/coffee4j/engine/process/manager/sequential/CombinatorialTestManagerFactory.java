@@ -14,4 +14,20 @@ import java.util.function.BiFunction;
  */
 @FunctionalInterface
 public interface CombinatorialTestManagerFactory extends BiFunction<SequentialCombinatorialTestConfiguration, CompleteTestModel, SequentialCombinatorialTestManager> {
+    
+    /**
+     * Creates a new manager for the given model. The description allows managers to distinguish models whose
+     * parameters or values changed while their indices stayed the same.
+     *
+     * @param configuration the configuration of the manager
+     * @param model the converted model
+     * @param modelDescription describes the parameters and values behind the indices of the model
+     * @return the created manager
+     */
+    default SequentialCombinatorialTestManager create(SequentialCombinatorialTestConfiguration configuration,
+            CompleteTestModel model, String modelDescription) {
+        
+        return apply(configuration, model);
+    }
+    
 }
@@ -1,6 +1,7 @@
 package de.rwth.swc.coffee4j.engine.process.manager.sequential;
 
 import de.rwth.swc.coffee4j.algorithmic.ErrorConstraintException;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
 import de.rwth.swc.coffee4j.engine.process.manager.sequential.AbstractSequentialPhaseManager;
@@ -49,12 +50,15 @@ public class DefaultGeneratingSequentialPhaseManager extends AbstractSequentialP
 
     @Override
     protected void executeClassificationPhase() {
-        Map<Combination, TestResult> executionResult;
-        Combination nextTestInput = classificationPhase.initialize(errorConstraintExceptionCausingTestInputs);
+        Combination nextTestInput = metrics.time(MetricNames.PHASE_CLASSIFICATION,
+                () -> classificationPhase.initialize(errorConstraintExceptionCausingTestInputs));
 
         while (nextTestInput != null) {
-            executionResult = executionPhase.execute(List.of(nextTestInput));
-            nextTestInput = classificationPhase.execute(executionResult);
+            final List<Combination> testInputs = List.of(nextTestInput);
+            final Map<Combination, TestResult> executionResult = metrics.time(MetricNames.PHASE_EXECUTION,
+                    () -> executionPhase.execute(testInputs));
+            nextTestInput = metrics.time(MetricNames.PHASE_CLASSIFICATION,
+                    () -> classificationPhase.execute(executionResult));
         }
     }
 }
@@ -0,0 +1,201 @@
+package de.rwth.swc.coffee4j.engine.process.phase.execution;
+
+import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.engine.configuration.execution.TestInputExecutor;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.report.ExecutionReporter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Executes combinations concurrently on a given {@link Executor} while at most a fixed number of them are in flight.
+ *
+ * <p>All reporter callbacks are made while holding a lock, so reporters never receive concurrent calls.
+ * {@link ExecutionReporter#testInputExecutionStarted(Combination)} is called by the thread executing the combination
+ * directly before the execution, and {@link ExecutionReporter#testInputExecutionFinished(Combination, TestResult)}
+ * directly after it. Therefore, the started callbacks follow the submission order as far as the executor does, and
+ * the finished callbacks follow the order in which the executions complete.
+ *
+ * <p>Once stopped, because of a failure in fail fast mode or an exception thrown by the executor, combinations which
+ * have not started are skipped and the threads of running ones are interrupted. Their finished callbacks are still
+ * made, but their results are discarded. The results of all other combinations are returned in submission order.
+ */
+class ConcurrentCombinationExecution {
+
+    private final Object lock = new Object();
+
+    private final TestInputExecutor testInputExecutor;
+    private final List<ExecutionReporter> executionReporters;
+    private final Executor executor;
+    private final int parallelism;
+    private final boolean isFailFastMode;
+
+    private final List<Combination> submittedCombinations = new ArrayList<>();
+    private final Map<Combination, TestResult> results = new HashMap<>();
+    private final Set<Thread> runningThreads = new HashSet<>();
+    private int numberOfUnfinishedTasks = 0;
+    private boolean isStopped = false;
+    private Throwable executionFailure;
+
+    ConcurrentCombinationExecution(TestInputExecutor testInputExecutor, List<ExecutionReporter> executionReporters,
+            Executor executor, int parallelism, boolean isFailFastMode) {
+
+        this.testInputExecutor = testInputExecutor;
+        this.executionReporters = executionReporters;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.isFailFastMode = isFailFastMode;
+    }
+
+    /**
+     * Submits the combination for execution. Blocks while the maximum number of combinations is in flight.
+     *
+     * @param combination the combination to execute
+     * @return whether further combinations should be submitted
+     */
+    boolean submit(Combination combination) {
+        synchronized (lock) {
+            while (!isStopped && numberOfUnfinishedTasks >= parallelism) {
+                awaitChange();
+            }
+
+            if (isStopped) {
+                return false;
+            }
+
+            submittedCombinations.add(combination);
+            numberOfUnfinishedTasks++;
+        }
+
+        try {
+            executor.execute(() -> run(combination));
+        } catch (RejectedExecutionException e) {
+            synchronized (lock) {
+                numberOfUnfinishedTasks--;
+                stop(e);
+            }
+        }
+
+        return !isStopped();
+    }
+
+    boolean isStopped() {
+        synchronized (lock) {
+            return isStopped;
+        }
+    }
+
+    /**
+     * Waits until all submitted combinations are finished or skipped.
+     *
+     * @return the results of all combinations which finished before the execution was stopped in the order in
+     * which they were submitted
+     */
+    Map<Combination, TestResult> finish() {
+        synchronized (lock) {
+            while (numberOfUnfinishedTasks > 0) {
+                awaitChange();
+            }
+
+            if (executionFailure instanceof RuntimeException) {
+                throw (RuntimeException) executionFailure;
+            } else if (executionFailure instanceof Error) {
+                throw (Error) executionFailure;
+            } else if (executionFailure != null) {
+                throw new Coffee4JException("Concurrent execution of combinations failed", executionFailure);
+            }
+
+            final Map<Combination, TestResult> orderedResults = new LinkedHashMap<>();
+            for (Combination combination : submittedCombinations) {
+                final TestResult result = results.get(combination);
+
+                if (result != null) {
+                    orderedResults.put(combination, result);
+                }
+            }
+
+            return orderedResults;
+        }
+    }
+
+    private void run(Combination combination) {
+        try {
+            synchronized (lock) {
+                if (isStopped) {
+                    return;
+                }
+
+                runningThreads.add(Thread.currentThread());
+                executionReporters.forEach(reporter -> reporter.testInputExecutionStarted(combination));
+            }
+
+            execute(combination);
+        } finally {
+            synchronized (lock) {
+                runningThreads.remove(Thread.currentThread());
+                numberOfUnfinishedTasks--;
+                lock.notifyAll();
+            }
+
+            // the thread may have been interrupted because of a stop, which must not affect following tasks
+            Thread.interrupted();
+        }
+    }
+
+    private void execute(Combination combination) {
+        try {
+            final TestResult result = testInputExecutor.execute(combination);
+
+            synchronized (lock) {
+                executionReporters.forEach(reporter -> reporter.testInputExecutionFinished(combination, result));
+
+                if (!isStopped) {
+                    results.put(combination, result);
+
+                    if (isFailFastMode && result.isUnsuccessful()) {
+                        stop(null);
+                    }
+                }
+            }
+        } catch (Throwable throwable) {
+            synchronized (lock) {
+                stop(throwable);
+            }
+        }
+    }
+
+    private void stop(Throwable failure) {
+        if (!isStopped) {
+            // failures after stopping are most likely caused by the interruption
+            executionFailure = failure;
+            isStopped = true;
+
+            for (Thread thread : runningThreads) {
+                if (thread != Thread.currentThread()) {
+                    thread.interrupt();
+                }
+            }
+        }
+
+        lock.notifyAll();
+    }
+
+    private void awaitChange() {
+        try {
+            lock.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Coffee4JException("Interrupted while waiting for the execution of combinations", e);
+        }
+    }
+
+}
@@ -2,9 +2,11 @@ package de.rwth.swc.coffee4j.engine.process.phase.execution;
 
 import de.rwth.swc.coffee4j.algorithmic.configuration.execution.ExecutionMode;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
 import de.rwth.swc.coffee4j.engine.configuration.TestMethodConfiguration;
 import de.rwth.swc.coffee4j.engine.configuration.execution.TestInputExecutor;
+import de.rwth.swc.coffee4j.engine.process.extension.ExtensionExecutor;
 import de.rwth.swc.coffee4j.engine.process.phase.AbstractPhase;
 
 import java.util.Collections;
@@ -12,6 +14,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Manages an execution Phase with an enforces execution strategy.
@@ -19,13 +23,42 @@ import java.util.Objects;
  * <p>Enforces in this case means, that for a combination all {@link TestInputExecutor}
  * supplied by the {@link ExecutionContext} are executed.
  * It does not matter if some executors fails
+ *
+ * <p>By default, the combinations are executed one after another on the calling thread. Alternatively, a number of
+ * combinations can be executed concurrently on a given {@link Executor}, which is useful if tests mostly wait for I/O.
+ * Then the reporters are still never called concurrently, and in {@link ExecutionMode#FAIL_FAST} the first failure
+ * cancels all combinations which are still running or waiting. In both cases, the results are returned in the order
+ * of the executed combinations.
  */
 public class ExecutionPhase extends AbstractPhase<ExecutionContext, List<Combination>, Map<Combination, TestResult>> {
     
+    private final int parallelism;
+    private final Executor executor;
+    
     private ExecutionMode executionMode = ExecutionMode.EXECUTE_ALL;
     
     public ExecutionPhase(ExecutionContext executionContext) {
         super(executionContext);
+        
+        this.parallelism = 1;
+        this.executor = null;
+    }
+    
+    /**
+     * Creates an execution phase which executes up to the given number of combinations concurrently.
+     * The executor is not shut down by the phase, and it should provide at least as many threads as the parallelism,
+     * e.g. a cached thread pool or an executor creating a new (virtual) thread per task.
+     *
+     * @param executionContext the context of the execution
+     * @param parallelism the maximum number of combinations executed at the same time. Must be positive
+     * @param executor the executor on which the combinations are executed. Must not be {@code null}
+     */
+    public ExecutionPhase(ExecutionContext executionContext, int parallelism, Executor executor) {
+        super(executionContext);
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
+        
+        this.parallelism = parallelism;
+        this.executor = Preconditions.notNull(executor);
     }
     
     /**
@@ -45,28 +78,91 @@ public class ExecutionPhase extends AbstractPhase<ExecutionContext, List<Combina
     public Map<Combination, TestResult> execute(List<Combination> input) {
         context.getExtensionExecutor().executeBeforeExecution(Collections.unmodifiableList(input));
         
-        final Map<Combination, TestResult> results = executeAllCombinations(input);
+        final Map<Combination, TestResult> results;
+        
+        if (executor == null) {
+            results = new LinkedHashMap<>();
+            
+            for (Combination combination : input) {
+                if (!executeCombination(combination, results)) {
+                    break;
+                }
+            }
+        } else {
+            final ConcurrentCombinationExecution execution = startConcurrentExecution();
+            
+            for (Combination combination : input) {
+                if (!execution.submit(combination)) {
+                    break;
+                }
+            }
+            
+            results = execution.finish();
+        }
         
         return context.getExtensionExecutor().executeAfterExecution(new LinkedHashMap<>(results));
     }
     
-    private Map<Combination, TestResult> executeAllCombinations(List<Combination> combinations) {
-        final Map<Combination, TestResult> results = new LinkedHashMap<>();
-        final boolean isFailFastMode = executionMode == ExecutionMode.FAIL_FAST;
+    /**
+     * Executes the combinations passed to the consumer given to the source while the source is still running.
+     * This is used to pipeline the execution with the generation of the combinations. Since the combinations are not
+     * known beforehand, {@link ExtensionExecutor#executeBeforeExecution(List)} is not called, so this should only be
+     * used if {@link ExtensionExecutor#allowsPipelinedExecution()} holds.
+     *
+     * <p>In {@link ExecutionMode#FAIL_FAST}, all combinations passed after the first failure are ignored.
+     *
+     * @param combinationSource passes all combinations which should be executed to the given consumer
+     * @return the results of all executed combinations
+     */
+    public Map<Combination, TestResult> executePipelined(Consumer<Consumer<Combination>> combinationSource) {
+        final Map<Combination, TestResult> results;
         
-        for (Combination combination : combinations) {
-            context.getExecutionReporters().forEach(reporter -> reporter.testInputExecutionStarted(combination));
-            final TestResult testResult = executeCombinationDescriptor(combination);
-            results.put(combination, testResult);
-            context.getExecutionReporters()
-                    .forEach(reporter -> reporter.testInputExecutionFinished(combination, testResult));
+        if (executor == null) {
+            final Map<Combination, TestResult> sequentialResults = new LinkedHashMap<>();
+            final boolean[] isStopped = {false};
             
-            if (testResult.isUnsuccessful() && isFailFastMode) {
-                break;
-            }
+            combinationSource.accept(combination -> {
+                if (!isStopped[0]) {
+                    isStopped[0] = !executeCombination(combination, sequentialResults);
+                }
+            });
+            
+            results = sequentialResults;
+        } else {
+            final ConcurrentCombinationExecution execution = startConcurrentExecution();
+            
+            combinationSource.accept(combination -> {
+                if (!execution.isStopped()) {
+                    execution.submit(combination);
+                }
+            });
+            
+            results = execution.finish();
         }
-
-        return results;
+        
+        return context.getExtensionExecutor().executeAfterExecution(new LinkedHashMap<>(results));
+    }
+    
+    private ConcurrentCombinationExecution startConcurrentExecution() {
+        return new ConcurrentCombinationExecution(
+                context.getTestMethodConfiguration().getTestInputExecutor(),
+                context.getExecutionReporters(),
+                executor,
+                parallelism,
+                executionMode == ExecutionMode.FAIL_FAST);
+    }
+    
+    /**
+     * @return whether further combinations should be executed
+     */
+    private boolean executeCombination(Combination combination, Map<Combination, TestResult> results) {
+        context.getExecutionReporters().forEach(reporter -> reporter.testInputExecutionStarted(combination));
+        final TestResult testResult = executeCombinationDescriptor(combination);
+        results.put(combination, testResult);
+        context.getExecutionReporters()
+                .forEach(reporter -> reporter.testInputExecutionFinished(combination, testResult));
+        
+        return !(testResult.isUnsuccessful() && executionMode == ExecutionMode.FAIL_FAST);
     }
     
     private TestResult executeCombinationDescriptor(Combination combination) {
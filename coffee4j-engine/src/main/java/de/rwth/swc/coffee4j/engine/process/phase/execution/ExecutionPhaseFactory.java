@@ -1,5 +1,9 @@
 package de.rwth.swc.coffee4j.engine.process.phase.execution;
 
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+
+import java.util.concurrent.Executor;
+
 /**
  * A factory for the {@link ExecutionPhase}
  */
@@ -14,4 +18,20 @@ public interface ExecutionPhaseFactory {
      */
     ExecutionPhase create(ExecutionContext executionContext);
 
+    /**
+     * Creates a factory for {@link ExecutionPhase execution phases} which execute up to the given number of
+     * combinations concurrently on the given executor.
+     *
+     * @param parallelism the maximum number of combinations executed at the same time. Must be positive
+     * @param executor the executor on which the combinations are executed. Must not be {@code null}
+     * @return a factory for concurrent execution phases
+     * @see ExecutionPhase#ExecutionPhase(ExecutionContext, int, Executor)
+     */
+    static ExecutionPhaseFactory concurrent(int parallelism, Executor executor) {
+        Preconditions.check(parallelism > 0, "parallelism must be positive");
+        Preconditions.notNull(executor);
+
+        return executionContext -> new ExecutionPhase(executionContext, parallelism, executor);
+    }
+
 }
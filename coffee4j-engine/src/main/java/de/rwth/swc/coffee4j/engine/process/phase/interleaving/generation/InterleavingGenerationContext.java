@@ -1,6 +1,9 @@
 package de.rwth.swc.coffee4j.engine.process.phase.interleaving.generation;
 
+import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerFactory;
+import de.rwth.swc.coffee4j.algorithmic.constraint.MeasuringConstraintCheckerFactory;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.manager.InterleavingCombinatorialTestConfiguration;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
 import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import de.rwth.swc.coffee4j.engine.configuration.execution.InterleavingExecutionConfiguration;
 import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
@@ -16,6 +19,7 @@ import de.rwth.swc.coffee4j.engine.report.ModelBasedArgumentConverter;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.manager.InterleavingCombinatorialTestManager;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Default {@link InterleavingGenerationContext}
@@ -25,6 +29,7 @@ public class InterleavingGenerationContext implements PhaseContext {
     private final ModelConverter modelConverter;
     final InterleavingCombinatorialTestManager interleavingCombinatorialTestManager;
     private final ExtensionExecutor extensionExecutor;
+    private final MetricsListener metricsListener;
     private final boolean isGenerating;
 
     /**
@@ -38,7 +43,26 @@ public class InterleavingGenerationContext implements PhaseContext {
     public InterleavingGenerationContext(InterleavingExecutionConfiguration configuration,
                                                 InputParameterModel model,
                                                 ExtensionExecutor extensionExecutor) {
+        this(configuration, model, extensionExecutor, null);
+    }
+
+    /**
+     * Creates new {@link InterleavingGenerationContext} whose constraint checkers emit their measurements to the
+     * listener of the current run.
+     *
+     * @param configuration provides information for {@link ModelConverter}, {@link InterleavingCombinatorialTestConfiguration}
+     *                      and {@link InterleavingCombinatorialTestManager}
+     * @param model provides information for {@link ModelConverter}
+     * @param extensionExecutor provides {@link ExtensionExecutor}
+     * @param metricsListener receives the measurements of all constraint checkers. May be {@code null} if nothing is
+     *                        measured
+     */
+    public InterleavingGenerationContext(InterleavingExecutionConfiguration configuration,
+                                                InputParameterModel model,
+                                                ExtensionExecutor extensionExecutor,
+                                                MetricsListener metricsListener) {
         this.extensionExecutor = Preconditions.notNull(extensionExecutor);
+        this.metricsListener = metricsListener;
         this.modelConverter = Preconditions.notNull(configuration).getModelConverterFactory().create(model);
         this.isGenerating = configuration.isGenerating();
 
@@ -59,7 +83,7 @@ public class InterleavingGenerationContext implements PhaseContext {
                 configuration.getIdentificationStrategyFactory(),
                 configuration.getFeedbackCheckingStrategyFactory(),
                 configuration.getClassificationStrategyFactory(),
-                configuration.getConstraintCheckerFactory(),
+                measure(configuration.getConstraintCheckerFactory()),
                 reporterManager
         );
 
@@ -67,6 +91,14 @@ public class InterleavingGenerationContext implements PhaseContext {
                 .create(testConfiguration, modelConverter.getConvertedModel());
     }
 
+    private ConstraintCheckerFactory measure(ConstraintCheckerFactory constraintCheckerFactory) {
+        if (metricsListener == null) {
+            return constraintCheckerFactory;
+        }
+        
+        return new MeasuringConstraintCheckerFactory(constraintCheckerFactory, metricsListener);
+    }
+
     protected InterleavingExecutionReporter buildDelegatingOrDefaultExecutionReporter(List<InterleavingExecutionReporter> executionReporters) {
         if(executionReporters.isEmpty()) {
             if (isGenerating) {
@@ -91,4 +123,11 @@ public class InterleavingGenerationContext implements PhaseContext {
         return extensionExecutor;
     }
     
+    /**
+     * @return the listener receiving the measurements of the current run, or an empty optional if nothing is measured
+     */
+    public Optional<MetricsListener> getMetricsListener() {
+        return Optional.ofNullable(metricsListener);
+    }
+    
 }
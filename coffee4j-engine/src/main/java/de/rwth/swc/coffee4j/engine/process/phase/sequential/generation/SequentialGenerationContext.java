@@ -1,8 +1,11 @@
 package de.rwth.swc.coffee4j.engine.process.phase.sequential.generation;
 
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
 import de.rwth.swc.coffee4j.algorithmic.sequential.manager.SequentialCombinatorialTestConfiguration;
 import de.rwth.swc.coffee4j.algorithmic.sequential.manager.SequentialCombinatorialTestManager;
 import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import de.rwth.swc.coffee4j.engine.configuration.model.Value;
 import de.rwth.swc.coffee4j.engine.configuration.execution.SequentialExecutionConfiguration;
 import de.rwth.swc.coffee4j.engine.converter.model.ModelConverter;
 import de.rwth.swc.coffee4j.engine.process.phase.PhaseContext;
@@ -15,12 +18,14 @@ import de.rwth.swc.coffee4j.engine.report.DelegatingModelBasedArgumentConverter;
 import de.rwth.swc.coffee4j.engine.process.report.sequential.LoggingSequentialExecutionReporterForGeneration;
 
 import java.util.List;
+import java.util.Optional;
 
 public class SequentialGenerationContext implements PhaseContext {
 
     private final ModelConverter modelConverter;
     private final SequentialCombinatorialTestManager generator;
     private final ExtensionExecutor extensionExecutor;
+    private final MetricsListener metricsListener;
     private final boolean isGenerating;
 
     /**
@@ -40,7 +45,25 @@ public class SequentialGenerationContext implements PhaseContext {
     public SequentialGenerationContext(SequentialExecutionConfiguration configuration,
             InputParameterModel model, ExtensionExecutor extensionExecutor) {
         
+        this(configuration, model, extensionExecutor, null);
+    }
+    
+    /**
+     * Creates a new {@link SequentialGenerationContext} which additionally provides the listener of the current run,
+     * so that phases created from this context can add their own measurements to the summary of the run.
+     *
+     * @param configuration the {@link SequentialExecutionConfiguration}
+     *                      with which to configure the {@link SequentialGenerationContext}
+     * @param model the {@link InputParameterModel} with which to configure the {@link SequentialGenerationContext}
+     * @param extensionExecutor the {@link ExtensionExecutor} with which to configure the {@link SequentialGenerationContext}
+     * @param metricsListener the listener receiving the measurements of the current run. May be {@code null} if
+     *                        nothing is measured
+     */
+    public SequentialGenerationContext(SequentialExecutionConfiguration configuration,
+            InputParameterModel model, ExtensionExecutor extensionExecutor, MetricsListener metricsListener) {
+        
         this.extensionExecutor = extensionExecutor;
+        this.metricsListener = metricsListener;
         this.modelConverter = configuration.getModelConverterFactory().create(model);
         isGenerating = configuration.isConstraintGenerator();
 
@@ -63,7 +86,26 @@ public class SequentialGenerationContext implements PhaseContext {
                 configuration.getExecutionMode());
 
         this.generator = configuration.getManagerFactory()
-                .apply(testConfiguration, modelConverter.getConvertedModel());
+                .create(testConfiguration, modelConverter.getConvertedModel(), describe(model));
+    }
+    
+    /*
+     * The converted model only contains indices, so the names of the parameters and the string representations of
+     * their values are described separately. This lets persistent caches detect renamed or reordered values.
+     */
+    private static String describe(InputParameterModel model) {
+        final StringBuilder description = new StringBuilder()
+                .append(model.getName()).append('\0');
+        
+        for (Parameter parameter : model.getParameters()) {
+            description.append(parameter.getName()).append('\0').append(parameter.size()).append('\0');
+            
+            for (Value value : parameter.getValues()) {
+                description.append(value.get()).append('\0');
+            }
+        }
+        
+        return description.toString();
     }
 
     private SequentialExecutionReporter buildDelegatingOrDefaultExecutionReporter(
@@ -91,5 +133,12 @@ public class SequentialGenerationContext implements PhaseContext {
     public ExtensionExecutor getExtensionExecutor() {
         return extensionExecutor;
     }
+    
+    /**
+     * @return the listener receiving the measurements of the current run, or an empty optional if nothing is measured
+     */
+    public Optional<MetricsListener> getMetricsListener() {
+        return Optional.ofNullable(metricsListener);
+    }
 
 }
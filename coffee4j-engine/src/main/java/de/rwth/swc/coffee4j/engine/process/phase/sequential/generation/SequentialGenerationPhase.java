@@ -1,10 +1,13 @@
 package de.rwth.swc.coffee4j.engine.process.phase.sequential.generation;
 
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
 import de.rwth.swc.coffee4j.engine.process.phase.AbstractPhase;
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
 import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -43,4 +46,31 @@ public class SequentialGenerationPhase extends AbstractPhase<SequentialGeneratio
         // After Generation Phase
         return context.getExtensionExecutor().executeAfterGeneration(generatedCombinations);
     }
+
+    /**
+     * Executes this phase like {@link #execute(InputParameterModel)}, but passes each combination to the given
+     * consumer as soon as the generator provides it. The consumer is called on the thread executing this phase,
+     * so it can already execute a combination while the rest of the initial test set is generated.
+     *
+     * @param input the {@link InputParameterModel} of the combinatorial test
+     * @param combinationConsumer receives every generated combination exactly once
+     * @return the generated combinations
+     */
+    public List<Combination> execute(InputParameterModel input, Consumer<Combination> combinationConsumer) {
+        Preconditions.notNull(combinationConsumer);
+
+        //Before Generation Phase
+        context.getExtensionExecutor().executeBeforeGeneration();
+
+        // Generation Phase
+        final List<Combination> generatedCombinations = new ArrayList<>();
+        context.getGenerator().generateInitialTests(testInput -> {
+            final Combination combination = context.getModelConverter().convertCombination(testInput);
+            generatedCombinations.add(combination);
+            combinationConsumer.accept(combination);
+        });
+
+        // After Generation Phase
+        return context.getExtensionExecutor().executeAfterGeneration(generatedCombinations);
+    }
 }
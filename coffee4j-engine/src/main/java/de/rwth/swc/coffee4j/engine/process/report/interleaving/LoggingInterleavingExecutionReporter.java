@@ -1,5 +1,6 @@
 package de.rwth.swc.coffee4j.engine.process.report.interleaving;
 
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsSummary;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.report.Report;
 import de.rwth.swc.coffee4j.algorithmic.report.ReportLevel;
@@ -87,5 +88,11 @@ public class LoggingInterleavingExecutionReporter implements InterleavingExecuti
     public void report(ReportLevel level, Report report) {
         logger.info("Report with level {}: {}", level, report);
     }
-    
+
+    @Override
+    public void metricsCollected(MetricsSummary summary) {
+        if (logger.isInfoEnabled()) {
+            logger.info("Metrics of the combinatorial test:{}{}", System.lineSeparator(), summary);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package de.rwth.swc.coffee4j.engine.process.report.sequential;
 
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsSummary;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.report.Report;
 import de.rwth.swc.coffee4j.algorithmic.report.ReportLevel;
@@ -136,4 +137,11 @@ public class LoggingSequentialExecutionReporter implements SequentialExecutionRe
     public void report(ReportLevel level, Report report) {
         logger.info("Report with level {}: {}", level, report);
     }
+
+    @Override
+    public void metricsCollected(MetricsSummary summary) {
+        if (logger.isInfoEnabled()) {
+            logger.info("Metrics of the combinatorial test:{}{}", System.lineSeparator(), summary);
+        }
+    }
 }
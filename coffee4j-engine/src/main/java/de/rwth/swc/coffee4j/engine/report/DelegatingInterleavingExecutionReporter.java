@@ -1,5 +1,6 @@
 package de.rwth.swc.coffee4j.engine.report;
 
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsSummary;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
 import de.rwth.swc.coffee4j.algorithmic.interleaving.InterleavingCombinatorialTestGroup;
@@ -120,4 +121,11 @@ public class DelegatingInterleavingExecutionReporter implements InterleavingExec
             executionReporter.modelModified(original, modified);
         }
     }
+    
+    @Override
+    public void metricsCollected(MetricsSummary summary) {
+        for (InterleavingExecutionReporter executionReporter : executionReporters) {
+            executionReporter.metricsCollected(summary);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package de.rwth.swc.coffee4j.engine.report;
 
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsSummary;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharacterizationAlgorithm;
 import de.rwth.swc.coffee4j.algorithmic.report.Report;
@@ -105,4 +106,11 @@ public class DelegatingSequentialExecutionReporter implements SequentialExecutio
             executionReporter.modelModified(original, modified);
         }
     }
+    
+    @Override
+    public void metricsCollected(MetricsSummary summary) {
+        for (ExecutionReporter executionReporter : executionReporters) {
+            executionReporter.metricsCollected(summary);
+        }
+    }
 }
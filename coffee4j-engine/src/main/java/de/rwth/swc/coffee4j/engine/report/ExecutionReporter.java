@@ -1,5 +1,7 @@
 package de.rwth.swc.coffee4j.engine.report;
 
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsSummary;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.report.Report;
 import de.rwth.swc.coffee4j.algorithmic.report.ReportLevel;
@@ -54,4 +56,13 @@ public interface ExecutionReporter {
     default void modelModified(InputParameterModel original, InputParameterModel modified) {
     }
     
+    /**
+     * Called once at the end of a combinatorial test if metrics are collected for it. The summary contains the
+     * durations of all phases and test input executions as well as the counters listed in {@link MetricNames}.
+     *
+     * @param summary the metrics of the whole combinatorial test
+     */
+    default void metricsCollected(MetricsSummary summary) {
+    }
+    
 }
@@ -4,6 +4,10 @@ import de.rwth.swc.coffee4j.algorithmic.classification.ClassificationStrategyFac
 import de.rwth.swc.coffee4j.algorithmic.sequential.characterization.FaultCharacterizationAlgorithmFactory;
 import de.rwth.swc.coffee4j.algorithmic.conflict.ConflictDetectionConfiguration;
 import de.rwth.swc.coffee4j.algorithmic.sequential.generator.TestInputGroupGenerator;
+import de.rwth.swc.coffee4j.algorithmic.model.CompleteTestModel;
+import de.rwth.swc.coffee4j.algorithmic.sequential.manager.HashMapTestResultCache;
+import de.rwth.swc.coffee4j.algorithmic.sequential.manager.SequentialCombinatorialTestConfiguration;
+import de.rwth.swc.coffee4j.algorithmic.sequential.manager.TestResultCacheFactory;
 import de.rwth.swc.coffee4j.algorithmic.report.ArgumentConverter;
 import de.rwth.swc.coffee4j.engine.MockingTest;
 import de.rwth.swc.coffee4j.engine.converter.model.ModelConverterFactory;
@@ -15,11 +19,13 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class SequentialTestExecutionConfigurationTest implements MockingTest {
 
     private static final String managerFactoryString = "managerFactoryString";
+    private static final String testResultCacheFactoryString = "testResultCacheFactoryString";
     private static final String modelConverterFactoryString = "modelConverterFactoryString";
     private static final String detectionConfigurationString = "detectionConfigurationString";
     private static final String characterizationAlgorithmFactoryString = "characterizationAlgorithmFactoryString";
@@ -31,6 +37,7 @@ class SequentialTestExecutionConfigurationTest implements MockingTest {
     private static SequentialExecutionConfiguration configuration;
 
     private static final CombinatorialTestManagerFactory managerFactory = mock(CombinatorialTestManagerFactory.class);
+    private static final TestResultCacheFactory testResultCacheFactory = mock(TestResultCacheFactory.class);
     private static final ModelConverterFactory modelConverterFactory = mock(ModelConverterFactory.class);
     private static final FaultCharacterizationAlgorithmFactory characterizationAlgorithmFactory = mock(FaultCharacterizationAlgorithmFactory.class);
     private static final ClassificationStrategyFactory classificationStrategyFactory = mock(ClassificationStrategyFactory.class);
@@ -44,6 +51,7 @@ class SequentialTestExecutionConfigurationTest implements MockingTest {
     static void prepareTests() {
         configuration = SequentialExecutionConfiguration.executionConfiguration()
                 .managerFactory(managerFactory)
+                .testResultCacheFactory(testResultCacheFactory)
                 .modelConverterFactory(modelConverterFactory)
                 .faultCharacterizationAlgorithmFactory(characterizationAlgorithmFactory)
                 .classificationStrategyFactory(classificationStrategyFactory)
@@ -55,6 +63,7 @@ class SequentialTestExecutionConfigurationTest implements MockingTest {
 
         copy = SequentialExecutionConfiguration.executionConfiguration()
                 .managerFactory(managerFactory)
+                .testResultCacheFactory(testResultCacheFactory)
                 .modelConverterFactory(modelConverterFactory)
                 .faultCharacterizationAlgorithmFactory(characterizationAlgorithmFactory)
                 .classificationStrategyFactory(classificationStrategyFactory)
@@ -66,6 +75,8 @@ class SequentialTestExecutionConfigurationTest implements MockingTest {
 
         when(managerFactory.toString())
                 .thenReturn(managerFactoryString);
+        when(testResultCacheFactory.toString())
+                .thenReturn(testResultCacheFactoryString);
         when(modelConverterFactory.toString())
                 .thenReturn(modelConverterFactoryString);
         when(detectionConfiguration.toString())
@@ -88,6 +99,31 @@ class SequentialTestExecutionConfigurationTest implements MockingTest {
                 .isEqualTo(managerFactory);
     }
 
+    @Test
+    void setsTestResultCacheFactory() {
+        assertThat(configuration.getTestResultCacheFactory())
+                .isEqualTo(testResultCacheFactory);
+    }
+
+    @Test
+    void defaultManagerFactoryPassesModelDescriptionToCache() {
+        final TestResultCacheFactory cacheFactory = mock(TestResultCacheFactory.class);
+        final CompleteTestModel model = CompleteTestModel.builder()
+                .positiveTestingStrength(1)
+                .parameterSizes(2, 2)
+                .build();
+        when(cacheFactory.create(model, "description"))
+                .thenReturn(new HashMapTestResultCache());
+        
+        SequentialExecutionConfiguration.executionConfiguration()
+                .testResultCacheFactory(cacheFactory)
+                .build()
+                .getManagerFactory()
+                .create(mock(SequentialCombinatorialTestConfiguration.class), model, "description");
+        
+        verify(cacheFactory).create(model, "description");
+    }
+
     @Test
     void setsModelConverterFactory() {
         Assertions.assertThat(configuration.getModelConverterFactory())
@@ -152,6 +188,7 @@ class SequentialTestExecutionConfigurationTest implements MockingTest {
     void testToString() {
         final String formattedString = "CombinatorialTestExecutionConfiguration{" +
                 "managerFactory=" + managerFactoryString +
+                ", testResultCacheFactory=" + testResultCacheFactoryString +
                 ", modelConverterFactory=" + modelConverterFactoryString +
                 ", conflictDetectionConfiguration=" + detectionConfigurationString +
                 ", characterizationAlgorithmFactory=" + characterizationAlgorithmFactoryString +
@@ -159,6 +196,7 @@ class SequentialTestExecutionConfigurationTest implements MockingTest {
                 ", generators=[" + generatorString + "]" +
                 ", executionReporters=[" + reporterString + "]" +
                 ", argumentConverters=[" + argumentConverterString + "]" +
+                ", metricsListeners=[]" +
                 ", executionMode=EXECUTE_ALL" +
                 ", isConstraintGenerator=false" +
                 "}";
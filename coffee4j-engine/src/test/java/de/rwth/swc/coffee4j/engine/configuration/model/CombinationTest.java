@@ -18,10 +18,13 @@ import java.util.stream.Stream;
 import static de.rwth.swc.coffee4j.engine.configuration.model.Combination.combination;
 import static de.rwth.swc.coffee4j.engine.configuration.model.Parameter.parameter;
 import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class CombinationTest {
@@ -139,6 +142,42 @@ class CombinationTest {
         return Combination.of(map);
     }
     
+    @Test
+    void indexBasedCombinationEqualsMapBasedCombination() {
+        final Parameter first = parameter("first").values(1, 2, 3).build();
+        final Parameter second = parameter("second").values("1", "2").build();
+        final Parameter third = parameter("third").values(1.1, 2.2).build();
+        final ParameterValueDictionary dictionary = ParameterValueDictionary.of(List.of(first, second, third));
+        final Combination indexBased = Combination.of(dictionary, new int[] {2, -1, 0});
+        final Combination mapBased = Combination.of(Map.of(first, first.getValues().get(2),
+                third, third.getValues().get(0)));
+        
+        assertEquals(2, indexBased.size());
+        assertEquals(mapBased, indexBased);
+        assertEquals(indexBased, mapBased);
+        assertEquals(mapBased.hashCode(), indexBased.hashCode());
+        assertEquals(mapBased.getParameterValueMap(), indexBased.getParameterValueMap());
+        assertEquals(indexBased.getParameterValueMap().hashCode(), indexBased.hashCode());
+        assertEquals("[first=3, third=1.1]", indexBased.toString());
+        
+        assertEquals(3, indexBased.getRawValue("first"));
+        assertNull(indexBased.getValue("second"));
+        assertNull(indexBased.getValue(second));
+        assertTrue(indexBased.contains(Combination.of(dictionary, new int[] {2, -1, -1})));
+        assertNotEquals(indexBased, Combination.of(dictionary, new int[] {2, 0, 0}));
+        assertArrayEquals(new int[] {2, -1, 0}, indexBased.getValueIndices());
+    }
+    
+    @Test
+    void indexBasedCombinationRejectsInvalidIndices() {
+        final ParameterValueDictionary dictionary = ParameterValueDictionary.of(
+                List.of(parameter("first").values(1, 2).build()));
+        
+        assertThrows(IllegalArgumentException.class, () -> Combination.of(dictionary, new int[] {2}));
+        assertThrows(IllegalArgumentException.class, () -> Combination.of(dictionary, new int[] {-2}));
+        assertThrows(IllegalArgumentException.class, () -> Combination.of(dictionary, new int[] {0, 0}));
+    }
+    
     @Test
     void builderFailsIfParameterNotGiven() {
         final List<Parameter> parameters = List.of(parameter("test").values(1, 2).build());
@@ -0,0 +1,44 @@
+package de.rwth.swc.coffee4j.engine.configuration.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static de.rwth.swc.coffee4j.engine.configuration.model.Parameter.parameter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParameterValueDictionaryTest {
+    
+    @Test
+    void preconditions() {
+        final Parameter parameter = parameter("test").values(1, 2).build();
+        
+        assertThrows(NullPointerException.class, () -> ParameterValueDictionary.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ParameterValueDictionary.of(Arrays.asList(parameter, null)));
+        assertThrows(IllegalArgumentException.class, () -> ParameterValueDictionary.of(List.of(parameter, parameter)));
+    }
+    
+    @Test
+    void indexesParametersAndValues() {
+        final Parameter first = parameter("first").values(1, 2, 3).build();
+        final Parameter second = parameter("second").values("a", "b").build();
+        final Parameter unknown = parameter("unknown").values(1, 2).build();
+        final ParameterValueDictionary dictionary = ParameterValueDictionary.of(List.of(first, second));
+        
+        assertEquals(2, dictionary.size());
+        assertEquals(List.of(first, second), dictionary.getParameters());
+        assertEquals(1, dictionary.indexOf(second));
+        assertEquals(1, dictionary.indexOf("second"));
+        assertEquals(-1, dictionary.indexOf(unknown));
+        assertEquals(-1, dictionary.indexOf("unknown"));
+        assertEquals(3, dictionary.getNumberOfValues(0));
+        assertEquals(2, dictionary.indexOf(0, Value.value(2, 3)));
+        assertEquals(-1, dictionary.indexOf(1, Value.value(2, "c")));
+        assertSame(second.getValues().get(1), dictionary.getValue(1, 1));
+        assertSame(first, dictionary.getParameter(0));
+    }
+    
+}
@@ -0,0 +1,90 @@
+package de.rwth.swc.coffee4j.engine.converter.constraints.methodbased;
+
+import de.rwth.swc.coffee4j.algorithmic.model.TupleList;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.Constraint;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.BooleanFunction3;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.MethodBasedConstraint;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.PartialConstraintFunction;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.PartialConstraintResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.rwth.swc.coffee4j.engine.configuration.model.Parameter.parameter;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrunedSearchConstraintConverterTest {
+
+    private static final List<Parameter> PARAMETERS = List.of(
+            parameter("first").values(0, 1, 2).build(),
+            parameter("second").values(0, 1, 2, 3).build(),
+            parameter("third").values(0, 1).build());
+
+    private static final List<String> PARAMETER_NAMES = List.of("third", "first", "second");
+
+    @Test
+    void convertsLikeTheCartesianProductConverter() {
+        final AtomicInteger numberOfChecks = new AtomicInteger();
+        final Constraint constraint = new MethodBasedConstraint("constraint", PARAMETER_NAMES,
+                (BooleanFunction3<Integer, Integer, Integer>) (third, first, second) -> {
+                    numberOfChecks.incrementAndGet();
+                    return third == 0 || first + second != 3;
+                });
+
+        final TupleList expected = new SimpleCartesianProductConstraintConverter(PARAMETERS).convert(constraint, 0);
+        numberOfChecks.set(0);
+        final TupleList actual = new PrunedSearchConstraintConverter(PARAMETERS).convert(constraint, 0);
+
+        assertEquals(24, numberOfChecks.get());
+        assertEquals(expected.getId(), actual.getId());
+        assertArrayEquals(expected.getInvolvedParameters(), actual.getInvolvedParameters());
+        assertArrayEquals(expected.getTuples().toArray(), actual.getTuples().toArray());
+    }
+
+    @Test
+    void skipsAssignmentsAfterThePartialConstraintIsDecided() {
+        final AtomicInteger numberOfChecks = new AtomicInteger();
+        final Constraint constraint = new MethodBasedConstraint("constraint", PARAMETER_NAMES,
+                (PartialConstraintFunction) values -> {
+                    numberOfChecks.incrementAndGet();
+                    if ((Integer) values.get(0) == 0) {
+                        return PartialConstraintResult.VALID;
+                    } else if (values.size() > 1 && (Integer) values.get(1) == 2) {
+                        return PartialConstraintResult.INVALID;
+                    } else if (values.size() < 3) {
+                        return PartialConstraintResult.UNDECIDED;
+                    }
+
+                    return (Integer) values.get(1) + (Integer) values.get(2) != 3
+                            ? PartialConstraintResult.VALID
+                            : PartialConstraintResult.INVALID;
+                });
+        final Constraint completeConstraint = new MethodBasedConstraint("constraint", PARAMETER_NAMES,
+                (BooleanFunction3<Integer, Integer, Integer>) (third, first, second) ->
+                        third == 0 || (first != 2 && first + second != 3));
+
+        final TupleList expected = new SimpleCartesianProductConstraintConverter(PARAMETERS)
+                .convert(completeConstraint, 0);
+        final TupleList actual = new PrunedSearchConstraintConverter(PARAMETERS).convert(constraint, 0);
+
+        assertEquals(2 + 3 + 8, numberOfChecks.get());
+        assertArrayEquals(expected.getTuples().toArray(), actual.getTuples().toArray());
+    }
+
+    @Test
+    void shouldNotAllowConstraintsWhichAllowAllOrNoValues() {
+        final PrunedSearchConstraintConverter converter = new PrunedSearchConstraintConverter(PARAMETERS);
+        final Constraint validConstraint = new MethodBasedConstraint("valid", PARAMETER_NAMES,
+                (PartialConstraintFunction) values -> PartialConstraintResult.VALID);
+        final Constraint invalidConstraint = new MethodBasedConstraint("invalid", PARAMETER_NAMES,
+                (PartialConstraintFunction) values -> PartialConstraintResult.INVALID);
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(validConstraint, 0));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(invalidConstraint, 0));
+    }
+
+}
@@ -18,6 +18,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static de.rwth.swc.coffee4j.algorithmic.util.CombinationUtil.NO_VALUE;
@@ -287,4 +289,61 @@ class IndexBasedModelConverterTest {
         assertEquals(-1, convertedModel.getWeight(2, 1, -1));
     }
     
+    @Test
+    void convertsConstraintsOnTheCallingThreadByDefault() {
+        final Set<Thread> convertingThreads = ConcurrentHashMap.newKeySet();
+        final InputParameterModel model = modelWithConstraints(convertingThreads);
+        
+        new IndexBasedModelConverter(model);
+        
+        assertEquals(Set.of(Thread.currentThread()), convertingThreads);
+    }
+    
+    @Test
+    void parallelConversionGivesTheSameTupleLists() {
+        final InputParameterModel model = modelWithConstraints(ConcurrentHashMap.newKeySet());
+        
+        final ModelConverter sequentialConverter = new IndexBasedModelConverter(model);
+        final ModelConverter parallelConverter = IndexBasedModelConverter.indexBasedModelConverter(4).create(model);
+        
+        for (Constraint constraint : model.getExclusionConstraints()) {
+            final TupleList expected = sequentialConverter.convertConstraint(constraint);
+            final TupleList actual = parallelConverter.convertConstraint(constraint);
+            
+            assertEquals(expected.getId(), actual.getId());
+            assertArrayEquals(expected.getInvolvedParameters(), actual.getInvolvedParameters());
+            assertArrayEquals(expected.getTuples().toArray(), actual.getTuples().toArray());
+        }
+    }
+    
+    @Test
+    void parallelismMustBePositive() {
+        final InputParameterModel model = modelWithConstraints(ConcurrentHashMap.newKeySet());
+        
+        assertThrows(IllegalArgumentException.class, () -> IndexBasedModelConverter.indexBasedModelConverter(0));
+        assertThrows(IllegalArgumentException.class, () -> new IndexBasedModelConverter(model, 0));
+    }
+    
+    private static InputParameterModel modelWithConstraints(Set<Thread> convertingThreads) {
+        return inputParameterModel("name")
+                .positiveTestingStrength(2)
+                .parameters(
+                        parameter("param1").values(0, 1, 2),
+                        parameter("param2").values(0, 1, 2),
+                        parameter("param3").values(0, 1, 2))
+                .exclusionConstraint(constrain("param1", "param2").by((Integer param1, Integer param2) -> {
+                    convertingThreads.add(Thread.currentThread());
+                    return !param1.equals(param2);
+                }))
+                .exclusionConstraint(constrain("param2", "param3").by((Integer param2, Integer param3) -> {
+                    convertingThreads.add(Thread.currentThread());
+                    return param2 + param3 != 2;
+                }))
+                .exclusionConstraint(constrain("param1", "param3").by((Integer param1, Integer param3) -> {
+                    convertingThreads.add(Thread.currentThread());
+                    return param1 < param3 || param3 == 0;
+                }))
+                .build();
+    }
+    
 }
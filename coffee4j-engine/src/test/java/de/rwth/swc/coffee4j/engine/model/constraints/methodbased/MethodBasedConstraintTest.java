@@ -1,8 +1,11 @@
 package de.rwth.swc.coffee4j.engine.model.constraints.methodbased;
 
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.BooleanFunction2;
 import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.ConstraintFunction;
 import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.MethodBasedConstraint;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.PartialConstraintFunction;
+import de.rwth.swc.coffee4j.engine.configuration.model.constraints.methodbased.PartialConstraintResult;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -46,5 +49,29 @@ class MethodBasedConstraintTest {
         
         assertThrows(IllegalArgumentException.class, () -> constraint.checkIfValid(combination));
     }
+    
+    @Test
+    void decidesPartialAssignmentsOnlyForPartialConstraintFunctions() {
+        final List<String> parameterNames = List.of("first", "second");
+        final MethodBasedConstraint constraint = new MethodBasedConstraint("", parameterNames,
+                (BooleanFunction2<Integer, Integer>) (first, second) -> first != 1 || second == 2);
+        final MethodBasedConstraint partialConstraint = new MethodBasedConstraint("", parameterNames,
+                (PartialConstraintFunction) values -> {
+                    if ((Integer) values.get(0) != 1) {
+                        return PartialConstraintResult.VALID;
+                    } else if (values.size() == 1) {
+                        return PartialConstraintResult.UNDECIDED;
+                    }
+                    
+                    return (Integer) values.get(1) == 2 ? PartialConstraintResult.VALID : PartialConstraintResult.INVALID;
+                });
+        
+        assertEquals(PartialConstraintResult.UNDECIDED, constraint.checkPartially(List.of(0)));
+        assertEquals(PartialConstraintResult.INVALID, constraint.checkPartially(List.of(1, 1)));
+        assertEquals(PartialConstraintResult.VALID, partialConstraint.checkPartially(List.of(0)));
+        assertEquals(PartialConstraintResult.UNDECIDED, partialConstraint.checkPartially(List.of(1)));
+        assertEquals(PartialConstraintResult.INVALID, partialConstraint.checkPartially(List.of(1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> constraint.checkPartially(List.of(1, 1, 1)));
+    }
 
 }
@@ -50,6 +50,21 @@ class DefaultExtensionExecutorTest implements MockingTest {
         verify(beforeGenerationCallback).beforeGeneration();
     }
 
+    @Test
+    void allowsPipelinedExecutionOnlyWithoutCallbacksNeedingAllCombinations() {
+        final Extension generationCallback = mock(BeforeGenerationCallback.class);
+        final Extension executionCallback = mock(AfterExecutionCallback.class);
+
+        assertThat(executor.allowsPipelinedExecution()).isFalse();
+        assertThat(new DefaultExtensionExecutor(List.of()).allowsPipelinedExecution()).isTrue();
+        assertThat(new DefaultExtensionExecutor(List.of(generationCallback, executionCallback))
+                .allowsPipelinedExecution()).isTrue();
+        assertThat(new DefaultExtensionExecutor(List.of(mock(AfterGenerationCallback.class)))
+                .allowsPipelinedExecution()).isFalse();
+        assertThat(new DefaultExtensionExecutor(List.of(mock(BeforeExecutionCallback.class)))
+                .allowsPipelinedExecution()).isFalse();
+    }
+
     @Test
     void executesAfterGenerationCallback() {
         final Combination comboOne = mock(Combination.class);
@@ -0,0 +1,57 @@
+package de.rwth.swc.coffee4j.engine.process.interleaving;
+
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static de.rwth.swc.coffee4j.engine.configuration.model.Parameter.parameter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedResultCacheTest {
+    
+    private static final Parameter PARAMETER = parameter("param").values(0, 1, 2).build();
+    
+    @Test
+    void preconditions() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedResultCache(0));
+        assertThrows(IllegalArgumentException.class, () -> ResultCacheFactory.bounded(-1));
+    }
+    
+    @Test
+    void evictsLeastRecentlyUsedResult() {
+        final ResultCache cache = new BoundedResultCache(2);
+        final TestResult failure = TestResult.failure(new IllegalStateException());
+        
+        cache.addResultIfAbsentFor(testInput(0), TestResult.success());
+        cache.addResultIfAbsentFor(testInput(1), failure);
+        assertEquals(TestResult.success(), cache.getResultFor(testInput(0)));
+        
+        cache.addResultIfAbsentFor(testInput(2), TestResult.success());
+        
+        assertTrue(cache.containsResultFor(testInput(0)));
+        assertFalse(cache.containsResultFor(testInput(1)));
+        assertTrue(cache.containsResultFor(testInput(2)));
+    }
+    
+    @Test
+    void keepsFirstResult() {
+        final ResultCache cache = new BoundedResultCache(1);
+        final TestResult failure = TestResult.failure(new IllegalStateException());
+        
+        cache.addResultIfAbsentFor(testInput(0), failure);
+        cache.addResultIfAbsentFor(testInput(0), TestResult.success());
+        
+        assertEquals(failure, cache.getResultFor(testInput(0)));
+    }
+    
+    private static Combination testInput(int valueIndex) {
+        return Combination.of(Map.of(PARAMETER, PARAMETER.getValues().get(valueIndex)));
+    }
+    
+}
@@ -0,0 +1,154 @@
+package de.rwth.swc.coffee4j.engine.process.interleaving;
+
+import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import de.rwth.swc.coffee4j.engine.configuration.model.Value;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel.inputParameterModel;
+import static de.rwth.swc.coffee4j.engine.configuration.model.Parameter.parameter;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentResultCacheTest {
+    
+    private static final InputParameterModel MODEL = inputParameterModel("model")
+            .positiveTestingStrength(2)
+            .parameters(
+                    parameter("param1").values(0, 1),
+                    parameter("param2").values("one", "two", "three"),
+                    parameter("param3").values(1.1, 2.2))
+            .build();
+    
+    private static final String NAMESPACE = "PersistentResultCacheTest#test";
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void restoresPassingTestInputsOfPreviousRuns() {
+        final Combination passingTestInput = testInput(MODEL, 1, 2, 0);
+        final Combination partialTestInput = testInput(MODEL, 0, -1, 1);
+        final Combination failingTestInput = testInput(MODEL, 0, 0, 0);
+        
+        try (ResultCache cache = new PersistentResultCache(directory, NAMESPACE, MODEL)) {
+            cache.addResultIfAbsentFor(passingTestInput, TestResult.success());
+            cache.addResultIfAbsentFor(partialTestInput, TestResult.success());
+            cache.addResultIfAbsentFor(failingTestInput, TestResult.failure(new IllegalStateException()));
+            
+            assertTrue(cache.containsResultFor(failingTestInput));
+        }
+        
+        try (ResultCache cache = new PersistentResultCache(directory, NAMESPACE, MODEL)) {
+            assertEquals(TestResult.success(), cache.getResultFor(passingTestInput));
+            assertEquals(TestResult.success(), cache.getResultFor(partialTestInput));
+            assertFalse(cache.containsResultFor(failingTestInput));
+        }
+    }
+    
+    @Test
+    void doesNotShareResultsBetweenDifferentModels() {
+        final InputParameterModel otherModel = MODEL.toBuilder()
+                .parameter(parameter("param4").values(true, false))
+                .build();
+        
+        assertNotEquals(PersistentResultCache.computeFingerprint(NAMESPACE, MODEL),
+                PersistentResultCache.computeFingerprint(NAMESPACE, otherModel));
+        
+        try (ResultCache cache = new PersistentResultCache(directory, NAMESPACE, MODEL)) {
+            cache.addResultIfAbsentFor(testInput(MODEL, 1, 1, 1), TestResult.success());
+        }
+        
+        try (ResultCache cache = new PersistentResultCache(directory, NAMESPACE, otherModel)) {
+            assertFalse(cache.containsResultFor(testInput(otherModel, 1, 1, 1, 0)));
+            assertFalse(cache.containsResultFor(testInput(MODEL, 1, 1, 1)));
+        }
+    }
+    
+    @Test
+    void doesNotShareResultsBetweenTestsWithTheSameModel() {
+        final Combination testInput = testInput(MODEL, 1, 1, 1);
+        
+        try (ResultCache cache = ResultCacheFactory.persistent(directory, "Test#first").create(MODEL)) {
+            cache.addResultIfAbsentFor(testInput, TestResult.success());
+        }
+        
+        try (ResultCache cache = ResultCacheFactory.persistent(directory, "Test#second").create(MODEL)) {
+            assertFalse(cache.containsResultFor(testInput));
+        }
+        
+        try (ResultCache cache = ResultCacheFactory.persistent(directory, "Test#first").create(MODEL)) {
+            assertTrue(cache.containsResultFor(testInput));
+        }
+    }
+    
+    @Test
+    void doesNotOverwriteForeignFiles() throws IOException {
+        final Path file;
+        
+        try (PersistentResultCache cache = new PersistentResultCache(directory, NAMESPACE, MODEL)) {
+            file = cache.getFile();
+        }
+        
+        final byte[] foreignContent = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14};
+        Files.write(file, foreignContent);
+        
+        assertThrows(Coffee4JException.class, () -> new PersistentResultCache(directory, NAMESPACE, MODEL));
+        assertArrayEquals(foreignContent, Files.readAllBytes(file));
+    }
+    
+    @Test
+    void ignoresTruncatedLastRecord() throws IOException {
+        final Path file;
+        
+        try (PersistentResultCache cache = new PersistentResultCache(directory, NAMESPACE, MODEL)) {
+            cache.addResultIfAbsentFor(testInput(MODEL, 0, 1, 0), TestResult.success());
+            cache.addResultIfAbsentFor(testInput(MODEL, 1, 0, 1), TestResult.success());
+            file = cache.getFile();
+        }
+        
+        final byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 1));
+        
+        try (ResultCache cache = new PersistentResultCache(directory, NAMESPACE, MODEL)) {
+            assertTrue(cache.containsResultFor(testInput(MODEL, 0, 1, 0)));
+            assertFalse(cache.containsResultFor(testInput(MODEL, 1, 0, 1)));
+            
+            cache.addResultIfAbsentFor(testInput(MODEL, 1, 2, 1), TestResult.success());
+        }
+        
+        try (ResultCache cache = new PersistentResultCache(directory, NAMESPACE, MODEL)) {
+            assertTrue(cache.containsResultFor(testInput(MODEL, 0, 1, 0)));
+            assertTrue(cache.containsResultFor(testInput(MODEL, 1, 2, 1)));
+        }
+    }
+    
+    private static Combination testInput(InputParameterModel model, int... valueIndices) {
+        final Map<Parameter, Value> parameterValueMap = new HashMap<>();
+        
+        for (int i = 0; i < valueIndices.length; i++) {
+            if (valueIndices[i] >= 0) {
+                final Parameter parameter = model.getParameters().get(i);
+                parameterValueMap.put(parameter, parameter.getValues().get(valueIndices[i]));
+            }
+        }
+        
+        return Combination.of(parameterValueMap);
+    }
+    
+}
@@ -1,6 +1,9 @@
 package de.rwth.swc.coffee4j.engine.process.manager.sequential;
 
 import de.rwth.swc.coffee4j.algorithmic.configuration.execution.ExecutionMode;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsSummary;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.algorithmic.sequential.manager.SequentialCombinatorialTestManager;
 import de.rwth.swc.coffee4j.engine.MockingTest;
@@ -18,7 +21,9 @@ import de.rwth.swc.coffee4j.engine.process.phase.model.ModelModificationPhase;
 import de.rwth.swc.coffee4j.engine.process.phase.sequential.characterization.FaultCharacterizationPhase;
 import de.rwth.swc.coffee4j.engine.process.phase.sequential.classification.SequentialClassificationPhase;
 import de.rwth.swc.coffee4j.engine.process.phase.sequential.generation.SequentialGenerationPhase;
+import de.rwth.swc.coffee4j.engine.report.SequentialExecutionReporter;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
@@ -26,11 +31,17 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static de.rwth.swc.coffee4j.engine.configuration.TestMethodConfiguration.testMethodConfiguration;
 import static de.rwth.swc.coffee4j.engine.process.manager.sequential.SequentialPhaseManagerConfiguration.phaseManagerConfiguration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DefaultTestingSequentialPhaseManagerTest implements MockingTest {
@@ -147,4 +158,72 @@ class DefaultTestingSequentialPhaseManagerTest implements MockingTest {
         inOrder.verifyNoMoreInteractions();
     }
     
+    @Test
+    void pipelinesGenerationAndExecutionIfAllowedByExtensions() {
+        prepare();
+        final ExtensionExecutor extensionExecutor = mock(ExtensionExecutor.class);
+        when(extensionExecutor.allowsPipelinedExecution())
+                .thenReturn(true);
+        when(executionPhase.executePipelined(any()))
+                .thenAnswer(invocation -> {
+                    final Consumer<Consumer<Combination>> source = invocation.getArgument(0);
+                    source.accept(combination -> {});
+                    return firstTestResults;
+                });
+        configuration = configuration.toBuilder()
+                .extensionExecutorFactory(extensions -> extensionExecutor)
+                .build();
+
+        final PhaseManager manager = new DefaultTestingSequentialPhaseManager(configuration);
+        manager.run();
+
+        InOrder inOrder = Mockito.inOrder(generationPhase, executionPhase, characterizationPhase);
+
+        inOrder.verify(executionPhase).executePipelined(any());
+        inOrder.verify(generationPhase).execute(eq(model), any());
+        inOrder.verify(characterizationPhase).execute(firstTestResults);
+
+        inOrder.verify(executionPhase).execute(secondCombinationList);
+        inOrder.verify(characterizationPhase).execute(secondTestResults);
+
+        inOrder.verifyNoMoreInteractions();
+    }
+    
+    @Test
+    void reportsMetricsOfAllPhasesIfListenerIsConfigured() {
+        prepare();
+        final MetricsListener listener = mock(MetricsListener.class);
+        final SequentialExecutionReporter reporter = mock(SequentialExecutionReporter.class);
+        when(executionConfiguration.getMetricsListeners())
+                .thenReturn(List.of(listener));
+        when(executionConfiguration.getExecutionReporters())
+                .thenReturn(List.of(reporter));
+        
+        final PhaseManager manager = new DefaultTestingSequentialPhaseManager(configuration);
+        manager.run();
+        
+        final ArgumentCaptor<MetricsSummary> summary = ArgumentCaptor.forClass(MetricsSummary.class);
+        verify(reporter).metricsCollected(summary.capture());
+        verify(listener).durationRecorded(eq(MetricNames.PHASE_GENERATION), anyLong());
+        
+        assertEquals(1, summary.getValue().getDuration(MetricNames.PHASE_GENERATION).getCount());
+        assertEquals(2, summary.getValue().getDuration(MetricNames.PHASE_EXECUTION).getCount());
+        assertEquals(2, summary.getValue().getDuration(MetricNames.PHASE_FAULT_CHARACTERIZATION).getCount());
+        assertEquals(2, summary.getValue().getCounter(MetricNames.TEST_INPUTS_GENERATED));
+        assertEquals(2, summary.getValue().getCounter(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION));
+    }
+    
+    @Test
+    void doesNotReportMetricsIfNoListenerIsConfigured() {
+        prepare();
+        final SequentialExecutionReporter reporter = mock(SequentialExecutionReporter.class);
+        when(executionConfiguration.getExecutionReporters())
+                .thenReturn(List.of(reporter));
+        
+        final PhaseManager manager = new DefaultTestingSequentialPhaseManager(configuration);
+        manager.run();
+        
+        verify(reporter, never()).metricsCollected(any());
+    }
+    
 }
@@ -0,0 +1,167 @@
+package de.rwth.swc.coffee4j.engine.process.phase.execution;
+
+import de.rwth.swc.coffee4j.algorithmic.configuration.execution.ExecutionMode;
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
+import de.rwth.swc.coffee4j.engine.MockingTest;
+import de.rwth.swc.coffee4j.engine.configuration.execution.TestInputExecutor;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+import de.rwth.swc.coffee4j.engine.process.extension.DefaultExtensionExecutor;
+import de.rwth.swc.coffee4j.engine.report.ExecutionReporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.rwth.swc.coffee4j.engine.configuration.TestMethodConfiguration.testMethodConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ExecutionPhaseTest implements MockingTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final List<Combination> combinations = List.of(
+            mock(Combination.class), mock(Combination.class), mock(Combination.class), mock(Combination.class));
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private ExecutionPhase createPhase(TestInputExecutor testInputExecutor, ExecutionReporter reporter,
+            int parallelism) {
+        final ExecutionContext context = ExecutionContext.createExecutionContext(
+                new DefaultExtensionExecutor(Collections.emptyList()),
+                testMethodConfiguration()
+                        .inputParameterModel(mock(InputParameterModel.class))
+                        .testExecutor(testInputExecutor)
+                        .build(),
+                List.of(reporter));
+
+        return ExecutionPhaseFactory.concurrent(parallelism, executor).create(context);
+    }
+
+    @Test
+    void preconditions() {
+        assertThrows(IllegalArgumentException.class, () -> ExecutionPhaseFactory.concurrent(0, executor));
+        assertThrows(NullPointerException.class, () -> ExecutionPhaseFactory.concurrent(2, null));
+    }
+
+    @Test
+    void executesCombinationsConcurrentlyAndKeepsTheirOrder() {
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final ExecutionPhase phase = createPhase(combination -> {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+                return TestResult.success();
+            } catch (Exception e) {
+                return TestResult.failure(e);
+            }
+        }, new ExecutionReporter() {}, 2);
+
+        final Map<Combination, TestResult> results = phase.execute(combinations);
+
+        assertThat(results.keySet()).containsExactlyElementsOf(combinations);
+        assertThat(results.values()).allMatch(TestResult::isSuccessful);
+    }
+
+    @Test
+    void neverCallsReportersConcurrently() {
+        final AtomicInteger activeCallbacks = new AtomicInteger();
+        final AtomicBoolean concurrentCallback = new AtomicBoolean(false);
+        final List<Combination> startedCombinations = Collections.synchronizedList(new ArrayList<>());
+        final List<Combination> finishedCombinations = Collections.synchronizedList(new ArrayList<>());
+        final ExecutionReporter reporter = new ExecutionReporter() {
+            @Override
+            public void testInputExecutionStarted(Combination testInput) {
+                enterCallback();
+                startedCombinations.add(testInput);
+                leaveCallback();
+            }
+
+            @Override
+            public void testInputExecutionFinished(Combination testInput, TestResult result) {
+                enterCallback();
+                assertThat(startedCombinations).contains(testInput);
+                finishedCombinations.add(testInput);
+                leaveCallback();
+            }
+
+            private void enterCallback() {
+                if (activeCallbacks.incrementAndGet() > 1) {
+                    concurrentCallback.set(true);
+                }
+                Thread.yield();
+            }
+
+            private void leaveCallback() {
+                activeCallbacks.decrementAndGet();
+            }
+        };
+        final ExecutionPhase phase = createPhase(combination -> TestResult.success(), reporter, 4);
+
+        final Map<Combination, TestResult> results = phase.execute(combinations);
+
+        assertThat(concurrentCallback).isFalse();
+        assertThat(startedCombinations).containsExactlyInAnyOrderElementsOf(combinations);
+        assertThat(finishedCombinations).containsExactlyInAnyOrderElementsOf(combinations);
+        assertThat(results.keySet()).containsExactlyElementsOf(combinations);
+    }
+
+    @Test
+    void cancelsRunningAndWaitingCombinationsInFailFastMode() {
+        final CountDownLatch blockingCombinationStarted = new CountDownLatch(1);
+        final AtomicBoolean blockingCombinationInterrupted = new AtomicBoolean(false);
+        final AtomicInteger numberOfExecutions = new AtomicInteger();
+        final ExecutionPhase phase = createPhase(combination -> {
+            numberOfExecutions.incrementAndGet();
+
+            if (combination == combinations.get(0)) {
+                try {
+                    blockingCombinationStarted.countDown();
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                } catch (InterruptedException e) {
+                    blockingCombinationInterrupted.set(true);
+                }
+                return TestResult.success();
+            } else {
+                try {
+                    blockingCombinationStarted.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return TestResult.failure(new IllegalStateException());
+            }
+        }, new ExecutionReporter() {}, 2);
+        phase.setExecutionMode(ExecutionMode.FAIL_FAST);
+
+        final Map<Combination, TestResult> results = phase.execute(combinations);
+
+        assertThat(results.keySet()).containsExactly(combinations.get(1));
+        assertThat(results.get(combinations.get(1)).isUnsuccessful()).isTrue();
+        assertThat(blockingCombinationInterrupted).isTrue();
+        assertThat(numberOfExecutions).hasValue(2);
+    }
+
+    @Test
+    void rethrowsExceptionsOfTestInputExecutor() {
+        final ExecutionPhase phase = createPhase(combination -> {
+            throw new IllegalStateException();
+        }, new ExecutionReporter() {}, 2);
+
+        assertThrows(IllegalStateException.class, () -> phase.execute(combinations));
+    }
+
+}
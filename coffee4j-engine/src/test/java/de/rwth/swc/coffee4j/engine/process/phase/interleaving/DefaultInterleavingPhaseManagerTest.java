@@ -1,7 +1,11 @@
 package de.rwth.swc.coffee4j.engine.process.phase.interleaving;
 
 import de.rwth.swc.coffee4j.algorithmic.ErrorConstraintException;
+import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintChecker;
 import de.rwth.swc.coffee4j.algorithmic.constraint.ConstraintCheckerFactory;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricNames;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsListener;
+import de.rwth.swc.coffee4j.algorithmic.metrics.MetricsSummary;
 import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.engine.MockingTest;
 import de.rwth.swc.coffee4j.engine.configuration.TestMethodConfiguration;
@@ -32,7 +36,9 @@ import de.rwth.swc.coffee4j.engine.process.phase.interleaving.generation.Interle
 import de.rwth.swc.coffee4j.engine.process.phase.interleaving.generation.InterleavingGenerationPhaseFactory;
 import de.rwth.swc.coffee4j.engine.process.phase.interleaving.identification.IdentificationPhase;
 import de.rwth.swc.coffee4j.engine.process.phase.interleaving.identification.IdentificationPhaseFactory;
+import de.rwth.swc.coffee4j.engine.report.InterleavingExecutionReporter;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -43,6 +49,8 @@ import java.util.*;
 import static de.rwth.swc.coffee4j.engine.configuration.TestMethodConfiguration.testMethodConfiguration;
 import static de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel.inputParameterModel;
 import static de.rwth.swc.coffee4j.engine.process.interleaving.InterleavingPhaseManagerConfiguration.phaseManagerConfiguration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class DefaultInterleavingPhaseManagerTest implements MockingTest {
@@ -215,6 +223,76 @@ class DefaultInterleavingPhaseManagerTest implements MockingTest {
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void closesTestManagerIfExecutionFails() {
+        prepare();
+        final InterleavingCombinatorialTestManager testManager = mock(InterleavingCombinatorialTestManager.class);
+        when(executionConfiguration.getManagerFactory())
+                .thenReturn((someConfiguration, model) -> testManager);
+        when(executionPhase.execute(Collections.singletonList(combination1)))
+                .thenThrow(new IllegalStateException());
+        
+        final InterleavingPhaseManagerConfiguration configuration = phaseManagerConfiguration()
+                .testMethodConfiguration(testMethodConfiguration)
+                .executionPhaseFactory(context -> executionPhase)
+                .generationPhaseFactory(context -> generationPhase)
+                .checkingPhaseFactory(context -> checkingPhase)
+                .identificationPhaseFactory(context -> identificationPhase)
+                .classificationPhaseFactory(context -> classificationPhase)
+                .extensionExecutorFactory(extensions -> extensionExecutor)
+                .executionConfiguration(executionConfiguration)
+                .build();
+        
+        final AbstractInterleavingPhaseManager manager = new DefaultTestingInterleavingPhaseManager(configuration);
+        
+        assertThrows(IllegalStateException.class, manager::run);
+        verify(testManager).close();
+    }
+    
+    @Test
+    void reportsGeneratedTestInputsAndConstraintChecksIfListenerIsConfigured() {
+        prepare();
+        final MetricsListener listener = mock(MetricsListener.class);
+        final InterleavingExecutionReporter reporter = mock(InterleavingExecutionReporter.class);
+        final ConstraintCheckerFactory constraintCheckerFactory = mock(ConstraintCheckerFactory.class);
+        when(constraintCheckerFactory.createConstraintChecker(any()))
+                .thenReturn(mock(ConstraintChecker.class));
+        when(executionConfiguration.getMetricsListeners())
+                .thenReturn(List.of(listener));
+        when(executionConfiguration.getExecutionReporters())
+                .thenReturn(List.of(reporter));
+        when(executionConfiguration.getConstraintCheckerFactory())
+                .thenReturn(constraintCheckerFactory);
+        when(executionConfiguration.getManagerFactory())
+                .thenReturn((someConfiguration, model) -> {
+                    someConfiguration.getConstraintCheckerFactory().createConstraintChecker(model).isValid(new int[0]);
+                    return mock(InterleavingCombinatorialTestManager.class);
+                });
+        
+        final InterleavingPhaseManagerConfiguration configuration = phaseManagerConfiguration()
+                .testMethodConfiguration(testMethodConfiguration)
+                .executionPhaseFactory(context -> executionPhase)
+                .generationPhaseFactory(context -> generationPhase)
+                .checkingPhaseFactory(context -> checkingPhase)
+                .identificationPhaseFactory(context -> identificationPhase)
+                .classificationPhaseFactory(context -> classificationPhase)
+                .extensionExecutorFactory(extensions -> extensionExecutor)
+                .executionConfiguration(executionConfiguration)
+                .build();
+        
+        final AbstractInterleavingPhaseManager manager = new DefaultTestingInterleavingPhaseManager(configuration);
+        manager.run();
+        
+        final ArgumentCaptor<MetricsSummary> summary = ArgumentCaptor.forClass(MetricsSummary.class);
+        verify(reporter).metricsCollected(summary.capture());
+        verify(listener).countRecorded(MetricNames.CONSTRAINT_CHECKS_INVALID, 1);
+        
+        assertEquals(2, summary.getValue().getCounter(MetricNames.TEST_INPUTS_GENERATED));
+        assertEquals(2, summary.getValue().getCounter(MetricNames.TEST_INPUTS_GENERATED_FOR_CHARACTERIZATION));
+        assertEquals(1, summary.getValue().getDuration(MetricNames.CONSTRAINT_CHECK).getCount());
+        assertEquals(1, summary.getValue().getCounter(MetricNames.CONSTRAINT_CHECKS_INVALID));
+    }
+
     @Test
     void runDefaultDynamicInterleavingPhaseManager() {
         prepare();
@@ -3,6 +3,7 @@ package de.rwth.swc.coffee4j.junit.engine;
 import de.rwth.swc.coffee4j.junit.engine.descriptor.CombinatorialTestEngineDescriptor;
 import de.rwth.swc.coffee4j.junit.engine.discovery.EngineDiscoverySelectorResolver;
 import de.rwth.swc.coffee4j.junit.engine.execution.CombinatorialTestExecutor;
+import de.rwth.swc.coffee4j.junit.engine.execution.ConcurrentExecutionConfiguration;
 import de.rwth.swc.coffee4j.junit.engine.execution.ExecutionContext;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.*;
@@ -15,6 +16,10 @@ import org.junit.platform.engine.*;
  *     It is thus not necessary to set the engine somewhere.
  *     As long as this project is imported the launcher automatically picks up this engine.
  * </p>
+ * <p>
+ *     Test classes and methods can be executed in parallel. This is configured via configuration parameters
+ *     as described in {@link ConcurrentExecutionConfiguration}.
+ * </p>
  */
 public class CombinatorialTestEngine implements TestEngine {
 
@@ -45,7 +50,10 @@ public class CombinatorialTestEngine implements TestEngine {
 			final CombinatorialTestEngineDescriptor engineDescriptor
 					= (CombinatorialTestEngineDescriptor) rootDescriptor;
 			final EngineExecutionListener executionListener = request.getEngineExecutionListener();
-			final ExecutionContext rootContext = ExecutionContext.fromExecutionListener(executionListener);
+			final ConcurrentExecutionConfiguration concurrentExecutionConfiguration = ConcurrentExecutionConfiguration
+					.fromConfigurationParameters(request.getConfigurationParameters());
+			final ExecutionContext rootContext = ExecutionContext.fromExecutionListener(
+					executionListener, concurrentExecutionConfiguration);
 			
 			engineDescriptor.accept(new CombinatorialTestExecutor(rootContext));
 		} else {
@@ -1,9 +1,19 @@
 package de.rwth.swc.coffee4j.junit.engine;
 
 import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import de.rwth.swc.coffee4j.engine.configuration.model.ParameterValueDictionary;
+import de.rwth.swc.coffee4j.engine.configuration.model.Value;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.UniqueId;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Generator for {@link UniqueId}s for combinatorial test related {@link org.junit.platform.engine.TestDescriptor}s
@@ -14,6 +24,15 @@ public class UniqueIdGenerator {
     public static final String SEGMENT_TYPE_METHOD = "method";
     public static final String SEGMENT_TYPE_COMBINATION = "combination";
 
+    private static final String PARAMETER_TYPES_PREFIX = "(";
+    private static final String PARAMETER_TYPES_SUFFIX = ")";
+    private static final String PARAMETER_TYPE_SEPARATOR = ", ";
+
+    private static final String COMBINATION_PREFIX = "[";
+    private static final String COMBINATION_SUFFIX = "]";
+    private static final String PARAMETER_VALUE_SEPARATOR = "=";
+    private static final String ENTRY_SEPARATOR = ", ";
+
     private UniqueIdGenerator() {}
     
     public static UniqueId appendIdFromClass(UniqueId uniqueId, Class<?> clazz) {
@@ -22,17 +41,58 @@ public class UniqueIdGenerator {
     }
 
     /**
-     * Appends a method name to an existing {@link UniqueId}
+     * Appends a method name and its parameter types to an existing {@link UniqueId}, e.g. {@code test(int, String)}.
+     * The parameter types distinguish overloaded methods.
      *
      * @param uniqueId the id which to append to
      * @param method the method for which a unique id is appended
      * @return the newly concatenated id
      */
     public static UniqueId appendIdFromMethod(UniqueId uniqueId, Method method) {
+        final String parameterTypes = Arrays.stream(method.getParameterTypes())
+                .map(Class::getName)
+                .collect(Collectors.joining(PARAMETER_TYPE_SEPARATOR));
+        
         return uniqueId
-                .append(SEGMENT_TYPE_METHOD, method.getName());
+                .append(SEGMENT_TYPE_METHOD, method.getName() + PARAMETER_TYPES_PREFIX + parameterTypes
+                        + PARAMETER_TYPES_SUFFIX);
     }
 
+    /**
+     * Extracts the method name from the value of a method segment appended by
+     * {@link #appendIdFromMethod(UniqueId, Method)}.
+     *
+     * @param segmentValue the value of a method segment
+     * @return the name of the method
+     */
+    public static String extractMethodName(String segmentValue) {
+        final int prefixIndex = segmentValue.indexOf(PARAMETER_TYPES_PREFIX);
+        
+        return prefixIndex < 0 ? segmentValue : segmentValue.substring(0, prefixIndex);
+    }
+    
+    /**
+     * Extracts the comma-separated names of the parameter types from the value of a method segment appended by
+     * {@link #appendIdFromMethod(UniqueId, Method)}.
+     *
+     * @param segmentValue the value of a method segment
+     * @return the names of the parameter types, or an empty string if the segment does not contain any
+     * @throws JUnitException if the parameter types are not enclosed in parentheses
+     */
+    public static String extractParameterTypeNames(String segmentValue) {
+        final int prefixIndex = segmentValue.indexOf(PARAMETER_TYPES_PREFIX);
+        
+        if (prefixIndex < 0) {
+            return "";
+        }
+        if (!segmentValue.endsWith(PARAMETER_TYPES_SUFFIX)) {
+            throw new JUnitException("Invalid method segment " + segmentValue);
+        }
+        
+        return segmentValue.substring(prefixIndex + PARAMETER_TYPES_PREFIX.length(),
+                segmentValue.length() - PARAMETER_TYPES_SUFFIX.length());
+    }
+    
     /**
      * Appends a combination name to an existing {@link UniqueId}
      *
@@ -44,4 +104,98 @@ public class UniqueIdGenerator {
         return uniqueId
                 .append(SEGMENT_TYPE_COMBINATION, combination.toString());
     }
+
+    /**
+     * Reconstructs the combination from the value of a combination segment appended by
+     * {@link #appendIdFromCombination(UniqueId, Combination)}. The parameters and values are matched by their names and
+     * string representations, respectively, so the order of the parameters in the segment does not matter.
+     *
+     * @param segmentValue the value of a combination segment
+     * @param model the model from which the combination was generated
+     * @return the combination assigning a value to every parameter of the model
+     * @throws JUnitException if the segment does not describe exactly one complete combination of the model
+     */
+    public static Combination extractCombination(String segmentValue, InputParameterModel model) {
+        if (!segmentValue.startsWith(COMBINATION_PREFIX) || !segmentValue.endsWith(COMBINATION_SUFFIX)
+                || segmentValue.length() < COMBINATION_PREFIX.length() + COMBINATION_SUFFIX.length()) {
+            throw new JUnitException("Invalid combination segment " + segmentValue);
+        }
+
+        final String entries = segmentValue.substring(
+                COMBINATION_PREFIX.length(), segmentValue.length() - COMBINATION_SUFFIX.length());
+        final Map<Parameter, Value> parameterValueMap = new HashMap<>();
+
+        if (!extractEntries(entries, 0, model.getParameters(), parameterValueMap)
+                || parameterValueMap.size() != model.size()) {
+            throw new JUnitException("Combination " + segmentValue + " is not a test input of model "
+                    + model.getName());
+        }
+
+        for (Map.Entry<Parameter, Value> entry : parameterValueMap.entrySet()) {
+            final String valueString = entry.getValue().toString();
+
+            if (entry.getKey().getValues().stream().filter(value -> value.toString().equals(valueString)).count() > 1) {
+                throw new JUnitException("Combination " + segmentValue + " is ambiguous since parameter "
+                        + entry.getKey().getName() + " has multiple values represented by " + valueString);
+            }
+        }
+
+        final ParameterValueDictionary dictionary = model.getDictionary();
+        final int[] valueIndices = new int[dictionary.size()];
+
+        for (Map.Entry<Parameter, Value> entry : parameterValueMap.entrySet()) {
+            final int parameterIndex = dictionary.indexOf(entry.getKey());
+
+            valueIndices[parameterIndex] = dictionary.indexOf(parameterIndex, entry.getValue());
+        }
+
+        return Combination.of(dictionary, valueIndices);
+    }
+
+    /*
+     * Names and values may contain the separators, so all possible splits are tried.
+     */
+    private static boolean extractEntries(String entries, int position, List<Parameter> parameters,
+            Map<Parameter, Value> parameterValueMap) {
+
+        if (position == entries.length()) {
+            return true;
+        }
+
+        for (Parameter parameter : parameters) {
+            final int valuePosition = position + parameter.getName().length() + PARAMETER_VALUE_SEPARATOR.length();
+
+            if (parameterValueMap.containsKey(parameter)
+                    || !entries.startsWith(parameter.getName() + PARAMETER_VALUE_SEPARATOR, position)) {
+                continue;
+            }
+
+            for (Value value : parameter.getValues()) {
+                final String valueString = value.toString();
+                final int endPosition = valuePosition + valueString.length();
+
+                if (entries.startsWith(valueString, valuePosition)) {
+                    final int nextPosition;
+
+                    if (endPosition == entries.length()) {
+                        nextPosition = endPosition;
+                    } else if (entries.startsWith(ENTRY_SEPARATOR, endPosition)
+                            && endPosition + ENTRY_SEPARATOR.length() < entries.length()) {
+                        nextPosition = endPosition + ENTRY_SEPARATOR.length();
+                    } else {
+                        continue;
+                    }
+
+                    parameterValueMap.put(parameter, value);
+                    if (extractEntries(entries, nextPosition, parameters, parameterValueMap)) {
+                        return true;
+                    }
+                    parameterValueMap.remove(parameter);
+                }
+            }
+        }
+
+        return false;
+    }
+
 }
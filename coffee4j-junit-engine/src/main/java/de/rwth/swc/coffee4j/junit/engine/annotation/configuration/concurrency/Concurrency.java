@@ -0,0 +1,31 @@
+package de.rwth.swc.coffee4j.junit.engine.annotation.configuration.concurrency;
+
+import de.rwth.swc.coffee4j.junit.engine.execution.ConcurrentExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the default {@link ExecutionMode} of the annotated test class or combinatorial test method.
+ * It only has an effect if parallel execution is enabled via the configuration parameters described in
+ * {@link ConcurrentExecutionConfiguration}.
+ *
+ * <p>{@link ExecutionMode#CONCURRENT} allows a class or method to be executed in parallel to its siblings, while
+ * {@link ExecutionMode#SAME_THREAD} forces it to be executed on the thread of its parent. If a class is annotated,
+ * its value is also used for all of its methods which are not annotated themselves.
+ */
+@Documented
+@Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Concurrency {
+
+    /**
+     * @return the execution mode of the annotated class or method
+     */
+    ExecutionMode value();
+
+}
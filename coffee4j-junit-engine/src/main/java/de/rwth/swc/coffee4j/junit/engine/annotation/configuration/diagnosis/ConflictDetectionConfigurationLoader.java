@@ -27,7 +27,8 @@ public class ConflictDetectionConfigurationLoader implements Loader<ConflictDete
                     annotation.explainConflicts(),
                     () -> (ConflictExplainer) createInstance(annotation.conflictExplanationAlgorithm()),
                     annotation.diagnoseConflicts(),
-                    () -> (ConflictDiagnostician) createInstance(annotation.conflictDiagnosisAlgorithm())))
+                    () -> (ConflictDiagnostician) createInstance(annotation.conflictDiagnosisAlgorithm()),
+                    annotation.parallelism()))
             .orElseGet(ConflictDetectionConfiguration::disable);
     }
     
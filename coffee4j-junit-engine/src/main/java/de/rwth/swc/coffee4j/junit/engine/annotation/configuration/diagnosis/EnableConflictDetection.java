@@ -31,4 +31,11 @@ public @interface EnableConflictDetection {
 
     Class<? extends ConflictDiagnostician> conflictDiagnosisAlgorithm() default ExhaustiveConflictDiagnostician.class;
 
+    /**
+     * The maximum number of error constraints which are checked for conflicts at the same time. With the default
+     * of one, they are checked sequentially
+     * @return  the number of threads used for conflict detection
+     */
+    int parallelism() default 1;
+
 }
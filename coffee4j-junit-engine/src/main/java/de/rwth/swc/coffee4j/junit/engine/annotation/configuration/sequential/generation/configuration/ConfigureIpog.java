@@ -32,5 +32,12 @@ public @interface ConfigureIpog {
      */
     Class<? extends ConstraintCheckerFactory> constraintCheckerFactory()
             default MinimalForbiddenTuplesCheckerFactory.class;
+
+    /**
+     * Gets the number of threads used for the horizontal extension
+     *
+     * @return the parallelism of the {@link Ipog} generation. One means sequential generation
+     */
+    int parallelism() default 1;
     
 }
@@ -12,17 +12,19 @@ public class IpogConfigurationProvider
         implements ConfigurationProvider<IpogConfiguration>, AnnotationConsumer<ConfigureIpog> {
 
     private Class<? extends ConstraintCheckerFactory> constraintCheckerFactoryClass;
+    private int parallelism;
 
     @Override
     public void accept(ConfigureIpog configureIpog) {
         constraintCheckerFactoryClass = configureIpog.constraintCheckerFactory();
+        parallelism = configureIpog.parallelism();
     }
 
     @Override
     public IpogConfiguration provide(Method method) {
         final ConstraintCheckerFactory constraintCheckerFactory = ReflectionUtils.createNewInstance(constraintCheckerFactoryClass);
 
-        return new IpogConfiguration(constraintCheckerFactory);
+        return new IpogConfiguration(constraintCheckerFactory, parallelism);
     }
     
 }
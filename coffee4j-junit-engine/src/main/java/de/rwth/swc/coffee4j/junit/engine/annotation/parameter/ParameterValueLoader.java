@@ -16,16 +16,23 @@ import java.lang.reflect.Parameter;
 public class ParameterValueLoader {
     
     public Object load(ParameterContext context) {
-        final Parameter parameter = context.getParameter();
-        
-        final ParameterValueProvider provider = AnnotationSupport.findAnnotation(parameter, ParameterValueSource.class)
+        return loadProvider(context.getParameter()).provideValue(context);
+    }
+    
+    /**
+     * Creates the {@link ParameterValueProvider} of the given parameter without providing a value. The provider may
+     * be reused for all values subsequently provided for the parameter.
+     *
+     * @param parameter the parameter for which the provider is created
+     * @return the initialized provider of the parameter
+     */
+    public ParameterValueProvider loadProvider(Parameter parameter) {
+        return AnnotationSupport.findAnnotation(parameter, ParameterValueSource.class)
                 .map(ParameterValueSource::value)
                 .map(ReflectionSupport::newInstance)
                 .map(instance -> AnnotationConsumerInitializer.initialize(parameter, instance))
                 .orElseThrow(() -> new Coffee4JException(
                         "Could not find " + ParameterValueProvider.class + " for parameter " + parameter  + "."));
-    
-        return provider.provideValue(context);
     }
     
 }
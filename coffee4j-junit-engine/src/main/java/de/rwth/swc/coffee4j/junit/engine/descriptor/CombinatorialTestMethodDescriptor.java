@@ -7,14 +7,24 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.MethodSource;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * JUnit description of a combinatorial test.
+ * <p>
+ *     If only single combinations of the test are selected via their {@link UniqueId}, the descriptor remembers them so
+ *     that only those combinations are executed instead of the complete combinatorial test.
+ * </p>
  */
 public class CombinatorialTestMethodDescriptor extends CombinatorialTestDescriptor {
     
     private final Method method;
     
+    private final Set<String> selectedCombinations = new LinkedHashSet<>();
+    private boolean allCombinationsSelected = false;
+    
     /**
      * Creates a new {@link CombinatorialTestMethodDescriptor} with the supplied {@link UniqueId}, display name, and
      * {@link TestSource}.
@@ -33,6 +43,33 @@ public class CombinatorialTestMethodDescriptor extends CombinatorialTestDescript
         return method;
     }
     
+    /**
+     * Selects the complete combinatorial test, so all combinations are generated and executed.
+     */
+    public void selectAllCombinations() {
+        allCombinationsSelected = true;
+        selectedCombinations.clear();
+    }
+    
+    /**
+     * Selects a single combination of the test. Has no effect if the complete test is already selected.
+     *
+     * @param combinationSegmentValue the value of the combination segment of the {@link UniqueId} of the combination
+     */
+    public void selectCombination(String combinationSegmentValue) {
+        if (!allCombinationsSelected) {
+            selectedCombinations.add(combinationSegmentValue);
+        }
+    }
+    
+    /**
+     * @return the values of the combination segments of all selected combinations. Empty if the complete test is
+     * selected
+     */
+    public Set<String> getSelectedCombinations() {
+        return Collections.unmodifiableSet(selectedCombinations);
+    }
+    
     @Override
     public Type getType() {
         return Type.CONTAINER;
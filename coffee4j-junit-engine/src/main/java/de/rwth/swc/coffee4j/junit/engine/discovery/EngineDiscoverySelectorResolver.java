@@ -18,6 +18,7 @@ public class EngineDiscoverySelectorResolver {
                     .addClassContainerSelectorResolver(new IsCombinatorialTestContainer())
                     .addSelectorResolver(new ClassSelectorResolver())
                     .addSelectorResolver(new MethodSelectorResolver())
+                    .addSelectorResolver(new UniqueIdSelectorResolver())
                     .build();
 
     /**
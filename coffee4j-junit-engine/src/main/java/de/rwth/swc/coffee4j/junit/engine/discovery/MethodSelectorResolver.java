@@ -16,17 +16,32 @@ public class MethodSelectorResolver implements SelectorResolver {
     
     @Override
     public Resolution resolve(MethodSelector selector, Context context) {
-        final Class<?> testClass = selector.getJavaClass();
-        final Method testMethod = selector.getJavaMethod();
+        return resolveMethodDescriptor(selector.getJavaClass(), selector.getJavaMethod(), context)
+                .map(testDescriptor -> {
+                    testDescriptor.selectAllCombinations();
+                    return Resolution.match(Match.exact(testDescriptor));
+                })
+                .orElse(Resolution.unresolved());
+    }
+    
+    /**
+     * Adds the descriptor of a combinatorial test method to the descriptor of its class, or returns the existing
+     * descriptor if the method has already been resolved.
+     *
+     * @param testClass the class containing the method
+     * @param testMethod the method
+     * @param context the context of the current resolution
+     * @return the descriptor of the method, or an empty optional if the method is not a combinatorial test
+     */
+    static Optional<CombinatorialTestMethodDescriptor> resolveMethodDescriptor(Class<?> testClass, Method testMethod,
+            Context context) {
         
         if (IS_COMBINATORIAL_TEST_CONTAINER.test(testClass)
                 && AnnotationSupport.isAnnotated(testMethod, CombinatorialTest.class)) {
             return context.addToParent(() -> DiscoverySelectors.selectClass(testClass), parent -> Optional
-                    .of(new CombinatorialTestMethodDescriptor(parent, testMethod)))
-                    .map(testDescriptor -> Resolution.match(Match.exact(testDescriptor)))
-                    .orElse(Resolution.unresolved());
+                    .of(new CombinatorialTestMethodDescriptor(parent, testMethod)));
         } else {
-            return Resolution.unresolved();
+            return Optional.empty();
         }
     }
     
@@ -3,14 +3,25 @@ package de.rwth.swc.coffee4j.junit.engine.discovery;
 import de.rwth.swc.coffee4j.junit.engine.UniqueIdGenerator;
 import de.rwth.swc.coffee4j.engine.process.util.ReversedUnmodifiableListView;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.support.discovery.SelectorResolver;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
+/**
+ * Resolves the {@link UniqueId}s generated by {@link UniqueIdGenerator}.
+ * <p>
+ *     Ids of classes and methods are resolved to the corresponding class and method selectors. Ids of single
+ *     combinations are resolved to the descriptor of their method, which then only executes the selected combinations
+ *     instead of generating all combinations.
+ * </p>
+ */
 public class UniqueIdSelectorResolver implements SelectorResolver {
     
     private static final String INVALID_ID_MESSAGE = "Invalid uniqueId %s: %s.";
@@ -25,29 +36,90 @@ public class UniqueIdSelectorResolver implements SelectorResolver {
         }
         
         String className = null;
-        String methodName = null;
+        String methodSegment = null;
+        String combination = null;
         
         for (UniqueId.Segment segment : ReversedUnmodifiableListView.of(segments)) {
             if (isMethodSegment(segment)) {
-                if (methodName == null) {
-                    methodName = segment.getValue();
+                if (methodSegment == null) {
+                    methodSegment = segment.getValue();
                 } else {
                     throw new JUnitException(String.format(INVALID_ID_MESSAGE, uniqueId, "Multiple method segments"));
                 }
             } else if (isClassSegment(segment)) {
                 className = segment.getValue();
                 break;
-            } else if (!isCombinationSegment(segment)) {
+            } else if (isCombinationSegment(segment)) {
+                if (combination == null && methodSegment == null) {
+                    combination = segment.getValue();
+                } else {
+                    throw new JUnitException(String.format(INVALID_ID_MESSAGE, uniqueId,
+                            "Combination segments must only occur once after a method segment"));
+                }
+            } else {
                 throw new JUnitException(String.format(INVALID_ID_MESSAGE, uniqueId, "Invalid segment type"));
             }
         }
         
         if (className == null) {
             throw new JUnitException(String.format(INVALID_ID_MESSAGE, uniqueId, "Could not extract class name"));
-        } else if (methodName == null) {
-            return Resolution.selectors(Set.of(DiscoverySelectors.selectClass(className)));
+        }
+        
+        final Optional<Class<?>> testClass = loadClass(className);
+        
+        if (combination != null && methodSegment != null && testClass.isPresent()) {
+            return resolveCombination(testClass.get(), methodSegment, combination, context);
+        }
+        
+        return Resolution.selectors(Set.of(createSelector(className, methodSegment, testClass.orElse(null))));
+    }
+    
+    private static DiscoverySelector createSelector(String className, String methodSegment, Class<?> testClass) {
+        if (methodSegment == null) {
+            return testClass == null
+                    ? DiscoverySelectors.selectClass(className)
+                    : DiscoverySelectors.selectClass(testClass);
         } else {
-            return Resolution.selectors(Set.of(DiscoverySelectors.selectMethod(className, methodName)));
+            final String methodName = UniqueIdGenerator.extractMethodName(methodSegment);
+            final String parameterTypeNames = UniqueIdGenerator.extractParameterTypeNames(methodSegment);
+            
+            return testClass == null
+                    ? DiscoverySelectors.selectMethod(className, methodName, parameterTypeNames)
+                    : DiscoverySelectors.selectMethod(testClass, methodName, parameterTypeNames);
+        }
+    }
+    
+    /*
+     * Overloaded methods share their name, so the method is looked up by its parameter types as well.
+     */
+    private static Resolution resolveCombination(Class<?> testClass, String methodSegment, String combination,
+            Context context) {
+        
+        return ReflectionSupport.findMethod(testClass, UniqueIdGenerator.extractMethodName(methodSegment),
+                        UniqueIdGenerator.extractParameterTypeNames(methodSegment))
+                .flatMap(method -> MethodSelectorResolver.resolveMethodDescriptor(testClass, method, context))
+                .map(testDescriptor -> {
+                    testDescriptor.selectCombination(combination);
+                    return Resolution.match(Match.exact(testDescriptor));
+                })
+                .orElse(Resolution.unresolved());
+    }
+    
+    /*
+     * The class segment contains the canonical name, so the binary names of nested classes have to be tried as well.
+     */
+    private static Optional<Class<?>> loadClass(String canonicalName) {
+        String name = canonicalName;
+        
+        while (true) {
+            final Optional<Class<?>> loadedClass = ReflectionSupport.tryToLoadClass(name).toOptional();
+            final int lastSeparator = name.lastIndexOf('.');
+            
+            if (loadedClass.isPresent() || lastSeparator < 0) {
+                return loadedClass;
+            }
+            
+            name = name.substring(0, lastSeparator) + '$' + name.substring(lastSeparator + 1);
         }
     }
     
@@ -3,6 +3,14 @@ package de.rwth.swc.coffee4j.junit.engine.execution;
 import de.rwth.swc.coffee4j.engine.configuration.TestMethodConfiguration;
 import de.rwth.swc.coffee4j.engine.configuration.execution.SequentialExecutionConfiguration;
 import de.rwth.swc.coffee4j.engine.configuration.extension.Extension;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+import de.rwth.swc.coffee4j.engine.process.extension.ExtensionExecutor;
+import de.rwth.swc.coffee4j.engine.process.phase.execution.ExecutionPhase;
+import de.rwth.swc.coffee4j.engine.process.phase.model.ModelModificationContext;
+import de.rwth.swc.coffee4j.engine.report.DelegatingSequentialExecutionReporter;
+import de.rwth.swc.coffee4j.engine.report.SequentialExecutionReporter;
+import de.rwth.swc.coffee4j.junit.engine.UniqueIdGenerator;
 import de.rwth.swc.coffee4j.engine.process.manager.sequential.DefaultTestingSequentialPhaseManager;
 import de.rwth.swc.coffee4j.engine.process.manager.sequential.SequentialPhaseManagerConfiguration;
 import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.sequential.execution.configuration.ConfigurationLoader;
@@ -23,12 +31,23 @@ import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static de.rwth.swc.coffee4j.engine.process.phase.execution.ExecutionContext.createExecutionContext;
 
 /**
  * Initiates the process automation of the combinatorial tests via a supplied {@link ExecutionRequest}
@@ -50,11 +69,11 @@ public class CombinatorialTestExecutor implements CombinatorialTestDescriptorVis
     public void visitCombinatorialTestEngineDescriptor(CombinatorialTestEngineDescriptor descriptor) {
         executionContext.getExecutionListener().executionStarted(descriptor);
 
+        final List<CombinatorialTestDescriptor> children = new ArrayList<>();
+
         for (TestDescriptor child : descriptor.getChildren()) {
             if (child instanceof CombinatorialTestClassDescriptor) {
-                final CombinatorialTestClassDescriptor classDescriptor = (CombinatorialTestClassDescriptor) child;
-
-                classDescriptor.accept(this);
+                children.add((CombinatorialTestClassDescriptor) child);
             } else {
                 throw new JUnitException("All children below the engine descriptor must be of type "
                         + CombinatorialTestClassDescriptor.class.getCanonicalName()
@@ -62,6 +81,8 @@ public class CombinatorialTestExecutor implements CombinatorialTestDescriptorVis
             }
         }
 
+        executeInOrder(children, child -> child.accept(this));
+
         executionContext.getExecutionListener().executionFinished(descriptor, TestExecutionResult.successful());
     }
 
@@ -69,20 +90,31 @@ public class CombinatorialTestExecutor implements CombinatorialTestDescriptorVis
     public void visitCombinatorialTestClassDescriptor(CombinatorialTestClassDescriptor descriptor) {
         executionContext.getExecutionListener().executionStarted(descriptor);
 
+        TestExecutionResult result = TestExecutionResult.successful();
+
+        try {
+            executeClass(descriptor);
+        } catch (RuntimeException | Error throwable) {
+            result = TestExecutionResult.failed(throwable);
+            throw throwable;
+        } finally {
+            executionContext.getExecutionListener().executionFinished(descriptor, result);
+        }
+    }
+
+    private void executeClass(CombinatorialTestClassDescriptor descriptor) {
         final Class<?> testClass = descriptor.getTestClass();
-        final Object testInstance = createTestInstance(executionContext.getTestInstance().orElse(null), testClass);
+        final Object outerInstance = executionContext.getTestInstance().orElse(null);
+        final Object testInstance = createTestInstance(outerInstance, testClass);
         final LifecycleExecutor lifecycleExecutor = new LifecycleExecutor();
         final ExecutionContext classContext = executionContext
                 .withTestInstance(testInstance)
                 .withLifecycleExecutor(lifecycleExecutor);
+        final List<CombinatorialTestDescriptor> children = new ArrayList<>();
 
         for (TestDescriptor child : descriptor.getChildren()) {
             if (child instanceof CombinatorialTestClassDescriptor || child instanceof CombinatorialTestMethodDescriptor) {
-                final CombinatorialTestDescriptor combinatorialDescriptor = (CombinatorialTestDescriptor) child;
-
-                lifecycleExecutor.executeBeforeClass(testClass);
-                combinatorialDescriptor.accept(new CombinatorialTestExecutor(classContext));
-                lifecycleExecutor.executeAfterClass(testClass);
+                children.add((CombinatorialTestDescriptor) child);
             } else {
                 throw new JUnitException("All children below the class descriptor must of of type "
                         + CombinatorialTestClassDescriptor.class.getCanonicalName() + " or "
@@ -91,7 +123,158 @@ public class CombinatorialTestExecutor implements CombinatorialTestDescriptorVis
             }
         }
 
-        executionContext.getExecutionListener().executionFinished(descriptor, TestExecutionResult.successful());
+        if (executionContext.getConcurrentExecutionConfiguration().isEnabled()) {
+            executeClassConcurrently(children, classContext, lifecycleExecutor, outerInstance, testClass);
+        } else {
+            executeClassSequentially(children, classContext, lifecycleExecutor, testClass);
+        }
+    }
+
+    /*
+     * Without parallel execution, the before and after class methods are executed around each child, as they
+     * always have been.
+     */
+    private void executeClassSequentially(List<CombinatorialTestDescriptor> children, ExecutionContext classContext,
+            LifecycleExecutor lifecycleExecutor, Class<?> testClass) {
+
+        for (CombinatorialTestDescriptor child : children) {
+            lifecycleExecutor.executeBeforeClass(testClass);
+            child.accept(new CombinatorialTestExecutor(classContext));
+            lifecycleExecutor.executeAfterClass(testClass);
+        }
+    }
+
+    /*
+     * With parallel execution, children may run at the same time, so the before and after class methods are
+     * executed once around all of them.
+     */
+    private void executeClassConcurrently(List<CombinatorialTestDescriptor> children, ExecutionContext classContext,
+            LifecycleExecutor lifecycleExecutor, Object outerInstance, Class<?> testClass) {
+
+        lifecycleExecutor.executeBeforeClass(testClass);
+
+        try {
+            executeInOrder(children, child -> child.accept(new CombinatorialTestExecutor(
+                    createChildContext(classContext, child, outerInstance, testClass))));
+        } finally {
+            lifecycleExecutor.executeAfterClass(testClass);
+        }
+    }
+
+    /*
+     * Executes the children in their original order. Consecutive children which may be executed concurrently
+     * are executed together, and each sequential child is only executed once all children before it finished.
+     */
+    private void executeInOrder(List<CombinatorialTestDescriptor> children,
+            Consumer<CombinatorialTestDescriptor> execution) {
+
+        final List<Runnable> concurrentTasks = new ArrayList<>();
+
+        for (CombinatorialTestDescriptor child : children) {
+            if (getExecutionMode(child) == ExecutionMode.CONCURRENT) {
+                concurrentTasks.add(() -> execution.accept(child));
+            } else {
+                executeConcurrently(concurrentTasks);
+                concurrentTasks.clear();
+                execution.accept(child);
+            }
+        }
+
+        executeConcurrently(concurrentTasks);
+    }
+
+    private ExecutionMode getExecutionMode(CombinatorialTestDescriptor descriptor) {
+        final ConcurrentExecutionConfiguration concurrencyConfiguration
+                = executionContext.getConcurrentExecutionConfiguration();
+
+        if (descriptor instanceof CombinatorialTestMethodDescriptor) {
+            return concurrencyConfiguration.getExecutionMode(
+                    ((CombinatorialTestMethodDescriptor) descriptor).getMethod());
+        } else {
+            return concurrencyConfiguration.getExecutionMode(
+                    ((CombinatorialTestClassDescriptor) descriptor).getTestClass());
+        }
+    }
+
+    /*
+     * Methods executed concurrently must not share the state of their test instance, so each gets its own one.
+     */
+    private ExecutionContext createChildContext(ExecutionContext classContext,
+            CombinatorialTestDescriptor child, Object outerInstance, Class<?> testClass) {
+
+        if (child instanceof CombinatorialTestMethodDescriptor
+                && getExecutionMode(child) == ExecutionMode.CONCURRENT) {
+            return classContext.withTestInstance(createTestInstance(outerInstance, testClass));
+        } else {
+            return classContext;
+        }
+    }
+
+    /*
+     * Executes the tasks on a dedicated thread pool and waits until all of them are finished. Tests may block until
+     * other tests run, so the tasks are not forked into a fork join pool, where joining a task can execute it or
+     * other queued tasks on the waiting thread instead of starting them in parallel. The first throwable of any task
+     * is rethrown after all tasks finished.
+     */
+    private void executeConcurrently(List<Runnable> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        final int parallelism = Math.min(tasks.size(),
+                executionContext.getConcurrentExecutionConfiguration().getParallelism());
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        Throwable failure = null;
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(task));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    awaitUninterruptibly(future);
+                } catch (ExecutionException exception) {
+                    if (failure == null) {
+                        failure = exception.getCause();
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new JUnitException("Could not execute tests concurrently", failure);
+        }
+    }
+
+    /*
+     * The tasks must not outlive the before and after class methods around them, so an interrupt does not stop
+     * the waiting but is restored afterwards.
+     */
+    private static void awaitUninterruptibly(Future<?> future) throws ExecutionException {
+        boolean isInterrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    future.get();
+                    return;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     private Object createTestInstance(Object outerClassInstance, Class<?> testClass) {
@@ -142,14 +325,47 @@ public class CombinatorialTestExecutor implements CombinatorialTestDescriptorVis
         final Method testMethod = methodContext.getRequiredMethodDescriptor().getMethod();
         final TestMethodConfiguration testConfiguration = new TestConfigurationLoader(executor).load(testMethod);
         final List<Extension> extensions = new ExtensionLoader().load(testMethod);
+        final Set<String> selectedCombinations = methodContext.getRequiredMethodDescriptor().getSelectedCombinations();
 
-        if (testMethod.isAnnotationPresent(EnableInterleavingGeneration.class)) {
+        if (!selectedCombinations.isEmpty()) {
+            executeSelectedCombinations(testConfiguration, extensions, testMethod, selectedCombinations);
+        } else if (testMethod.isAnnotationPresent(EnableInterleavingGeneration.class)) {
             executeInterleavingTestOrGeneration(testConfiguration, extensions, testMethod);
         } else if (testMethod.isAnnotationPresent(EnableGeneration.class)) {
             executeSequentialTest(testConfiguration, extensions, testMethod);
         }
     }
 
+    /*
+     * Only executes the combinations selected via their unique ids. Generation, conflict detection, and fault
+     * characterization are skipped, but the model may still be modified by extensions as during a normal execution.
+     */
+    private void executeSelectedCombinations(TestMethodConfiguration testConfiguration, List<Extension> extensions,
+            Method testMethod, Set<String> selectedCombinations) {
+
+        final SequentialPhaseManagerConfiguration configuration
+                = createSequentialConfiguration(testConfiguration, extensions, testMethod);
+        final List<SequentialExecutionReporter> reporters
+                = configuration.getExecutionConfiguration().getExecutionReporters();
+
+        final ExtensionExecutor extensionExecutor = configuration.getExtensionExecutorFactory()
+                .create(configuration.getExtensions());
+        final ModelModificationContext modificationContext = new ModelModificationContext(extensionExecutor,
+                new DelegatingSequentialExecutionReporter(reporters));
+        final InputParameterModel model = configuration.getModelModificationPhaseFactory()
+                .create(modificationContext)
+                .execute(testConfiguration.getInputParameterModel());
+        final List<Combination> combinations = selectedCombinations.stream()
+                .map(combination -> UniqueIdGenerator.extractCombination(combination, model))
+                .collect(Collectors.toList());
+        final TestMethodConfiguration modifiedConfiguration = testConfiguration.toBuilder()
+                .inputParameterModel(model)
+                .build();
+
+        new ExecutionPhase(createExecutionContext(extensionExecutor, modifiedConfiguration, reporters))
+                .execute(combinations);
+    }
+
     private void executeInterleavingTestOrGeneration(
             TestMethodConfiguration testConfiguration, List<Extension> extensions, Method testMethod) {
 
@@ -182,19 +398,26 @@ public class CombinatorialTestExecutor implements CombinatorialTestDescriptorVis
     private void executeSequentialTest(
             TestMethodConfiguration testConfiguration, List<Extension> extensions, Method testMethod) {
 
+        final SequentialPhaseManagerConfiguration configuration
+                = createSequentialConfiguration(testConfiguration, extensions, testMethod);
+
+        if (configuration.getExecutionConfiguration().isConstraintGenerator()) {
+            new DefaultGeneratingSequentialPhaseManager(configuration).run();
+        } else {
+            new DefaultTestingSequentialPhaseManager(configuration).run();
+        }
+    }
+
+    private SequentialPhaseManagerConfiguration createSequentialConfiguration(
+            TestMethodConfiguration testConfiguration, List<Extension> extensions, Method testMethod) {
+
         final SequentialExecutionConfiguration executionConfiguration
                 = new ConfigurationLoader().load(testMethod);
 
-        final SequentialPhaseManagerConfiguration configuration = SequentialPhaseManagerConfiguration.phaseManagerConfiguration()
+        return SequentialPhaseManagerConfiguration.phaseManagerConfiguration()
                 .executionConfiguration(executionConfiguration)
                 .testMethodConfiguration(testConfiguration)
                 .extensions(extensions)
                 .build();
-
-        if (executionConfiguration.isConstraintGenerator()) {
-            new DefaultGeneratingSequentialPhaseManager(configuration).run();
-        } else {
-            new DefaultTestingSequentialPhaseManager(configuration).run();
-        }
     }
 }
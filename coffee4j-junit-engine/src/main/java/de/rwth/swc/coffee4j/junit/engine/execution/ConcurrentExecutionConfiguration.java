@@ -0,0 +1,152 @@
+package de.rwth.swc.coffee4j.junit.engine.execution;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.concurrency.Concurrency;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Configures whether test classes and combinatorial test methods are executed in parallel. The configuration is
+ * read from the JUnit Platform configuration parameters, using the same structure as the parallel execution of
+ * JUnit Jupiter:
+ * <ul>
+ *     <li>{@value #ENABLED_PROPERTY_NAME}: whether parallel execution is enabled at all. Defaults to
+ *     {@code false}</li>
+ *     <li>{@value #DEFAULT_MODE_PROPERTY_NAME}: the default {@link ExecutionMode} of test methods.
+ *     Defaults to {@code same_thread}</li>
+ *     <li>{@value #DEFAULT_CLASSES_MODE_PROPERTY_NAME}: the default {@link ExecutionMode} of test classes.
+ *     Defaults to the mode of test methods</li>
+ *     <li>{@value #PARALLELISM_PROPERTY_NAME}: the maximum number of sibling test classes or methods executed
+ *     in parallel. Defaults to the number of available processors</li>
+ * </ul>
+ * The defaults can be overridden per class or method using {@link Concurrency}.
+ */
+public class ConcurrentExecutionConfiguration {
+
+    public static final String ENABLED_PROPERTY_NAME = "coffee4j.execution.parallel.enabled";
+    public static final String DEFAULT_MODE_PROPERTY_NAME = "coffee4j.execution.parallel.mode.default";
+    public static final String DEFAULT_CLASSES_MODE_PROPERTY_NAME = "coffee4j.execution.parallel.mode.classes.default";
+    public static final String PARALLELISM_PROPERTY_NAME = "coffee4j.execution.parallel.config.fixed.parallelism";
+
+    private static final ConcurrentExecutionConfiguration SEQUENTIAL = new ConcurrentExecutionConfiguration(
+            false, ExecutionMode.SAME_THREAD, ExecutionMode.SAME_THREAD, 1);
+
+    private final boolean enabled;
+    private final ExecutionMode defaultMethodMode;
+    private final ExecutionMode defaultClassMode;
+    private final int parallelism;
+
+    private ConcurrentExecutionConfiguration(boolean enabled, ExecutionMode defaultMethodMode,
+            ExecutionMode defaultClassMode, int parallelism) {
+
+        this.enabled = enabled;
+        this.defaultMethodMode = defaultMethodMode;
+        this.defaultClassMode = defaultClassMode;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return a configuration which executes everything on the calling thread
+     */
+    public static ConcurrentExecutionConfiguration sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Reads the configuration from the given parameters as described in {@link ConcurrentExecutionConfiguration}.
+     *
+     * @param parameters the configuration parameters of the current execution request. Must not be {@code null}
+     * @return the configuration described by the parameters
+     * @throws JUnitException if a parameter has an invalid value
+     */
+    public static ConcurrentExecutionConfiguration fromConfigurationParameters(ConfigurationParameters parameters) {
+        Preconditions.notNull(parameters);
+
+        if (!parameters.getBoolean(ENABLED_PROPERTY_NAME).orElse(false)) {
+            return SEQUENTIAL;
+        }
+
+        final ExecutionMode defaultMethodMode = parameters.get(DEFAULT_MODE_PROPERTY_NAME)
+                .map(ConcurrentExecutionConfiguration::parseExecutionMode)
+                .orElse(ExecutionMode.SAME_THREAD);
+        final ExecutionMode defaultClassMode = parameters.get(DEFAULT_CLASSES_MODE_PROPERTY_NAME)
+                .map(ConcurrentExecutionConfiguration::parseExecutionMode)
+                .orElse(defaultMethodMode);
+        final int parallelism = parameters.get(PARALLELISM_PROPERTY_NAME)
+                .map(ConcurrentExecutionConfiguration::parseParallelism)
+                .orElse(Runtime.getRuntime().availableProcessors());
+
+        return new ConcurrentExecutionConfiguration(true, defaultMethodMode, defaultClassMode, parallelism);
+    }
+
+    private static ExecutionMode parseExecutionMode(String value) {
+        try {
+            return ExecutionMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new JUnitException("Invalid execution mode: " + value, e);
+        }
+    }
+
+    private static int parseParallelism(String value) {
+        try {
+            final int parallelism = Integer.parseInt(value.trim());
+
+            if (parallelism > 0) {
+                return parallelism;
+            }
+        } catch (NumberFormatException e) {
+            throw new JUnitException("Invalid parallelism: " + value, e);
+        }
+
+        throw new JUnitException("Parallelism must be positive but was " + value);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param testClass a test class
+     * @return the mode given by a {@link Concurrency} annotation on the class, or else the default mode of classes.
+     * Always {@link ExecutionMode#SAME_THREAD} if parallel execution is not enabled
+     */
+    public ExecutionMode getExecutionMode(Class<?> testClass) {
+        if (!enabled) {
+            return ExecutionMode.SAME_THREAD;
+        }
+
+        return findExecutionMode(testClass).orElse(defaultClassMode);
+    }
+
+    /**
+     * @param testMethod a combinatorial test method
+     * @return the mode given by a {@link Concurrency} annotation on the method or its declaring class, or else the
+     * default mode of methods. Always {@link ExecutionMode#SAME_THREAD} if parallel execution is not enabled
+     */
+    public ExecutionMode getExecutionMode(Method testMethod) {
+        if (!enabled) {
+            return ExecutionMode.SAME_THREAD;
+        }
+
+        return AnnotationSupport.findAnnotation(testMethod, Concurrency.class)
+                .map(Concurrency::value)
+                .or(() -> findExecutionMode(testMethod.getDeclaringClass()))
+                .orElse(defaultMethodMode);
+    }
+
+    private static Optional<ExecutionMode> findExecutionMode(Class<?> testClass) {
+        return AnnotationSupport.findAnnotation(testClass, Concurrency.class)
+                .map(Concurrency::value);
+    }
+
+}
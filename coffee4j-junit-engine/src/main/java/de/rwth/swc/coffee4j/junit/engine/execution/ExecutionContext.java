@@ -12,18 +12,39 @@ public class ExecutionContext {
     private final LifecycleExecutor lifecycleExecutor;
     private final Object testInstance;
     private final CombinatorialTestMethodDescriptor methodDescriptor;
+    private final ConcurrentExecutionConfiguration concurrentExecutionConfiguration;
     
     private ExecutionContext(EngineExecutionListener executionListener, LifecycleExecutor lifecycleExecutor,
-            Object testInstance, CombinatorialTestMethodDescriptor methodDescriptor) {
+            Object testInstance, CombinatorialTestMethodDescriptor methodDescriptor,
+            ConcurrentExecutionConfiguration concurrentExecutionConfiguration) {
         
         this.executionListener = Objects.requireNonNull(executionListener);
         this.testInstance = testInstance;
         this.methodDescriptor = methodDescriptor;
         this.lifecycleExecutor = lifecycleExecutor;
+        this.concurrentExecutionConfiguration = Objects.requireNonNull(concurrentExecutionConfiguration);
     }
     
     public static ExecutionContext fromExecutionListener(EngineExecutionListener executionListener) {
-        return new ExecutionContext(executionListener, null, null, null);
+        return new ExecutionContext(executionListener, null, null, null, ConcurrentExecutionConfiguration.sequential());
+    }
+    
+    /**
+     * Creates a root context for the given configuration. If parallel execution is enabled, all events are
+     * serialized before being passed to the given listener.
+     *
+     * @param executionListener the listener of the platform
+     * @param concurrentExecutionConfiguration the configuration of parallel execution
+     * @return the root execution context
+     */
+    public static ExecutionContext fromExecutionListener(EngineExecutionListener executionListener,
+            ConcurrentExecutionConfiguration concurrentExecutionConfiguration) {
+        
+        final EngineExecutionListener contextListener = concurrentExecutionConfiguration.isEnabled()
+                ? new SynchronizedEngineExecutionListener(executionListener)
+                : executionListener;
+        
+        return new ExecutionContext(contextListener, null, null, null, concurrentExecutionConfiguration);
     }
     
     public EngineExecutionListener getExecutionListener() {
@@ -43,7 +64,8 @@ public class ExecutionContext {
     }
     
     public ExecutionContext withMethodDescriptor(CombinatorialTestMethodDescriptor methodDescriptor) {
-        return new ExecutionContext(executionListener, lifecycleExecutor, testInstance, methodDescriptor);
+        return new ExecutionContext(executionListener, lifecycleExecutor, testInstance, methodDescriptor,
+                concurrentExecutionConfiguration);
     }
     
     public Optional<Object> getTestInstance() {
@@ -59,7 +81,8 @@ public class ExecutionContext {
     }
     
     public ExecutionContext withTestInstance(Object testInstance) {
-        return new ExecutionContext(executionListener, lifecycleExecutor, testInstance, methodDescriptor);
+        return new ExecutionContext(executionListener, lifecycleExecutor, testInstance, methodDescriptor,
+                concurrentExecutionConfiguration);
     }
     
     public Optional<LifecycleExecutor> getLifecycleExecutor() {
@@ -75,7 +98,12 @@ public class ExecutionContext {
     }
     
     public ExecutionContext withLifecycleExecutor(LifecycleExecutor lifecycleExecutor) {
-        return new ExecutionContext(executionListener, lifecycleExecutor, testInstance, methodDescriptor);
+        return new ExecutionContext(executionListener, lifecycleExecutor, testInstance, methodDescriptor,
+                concurrentExecutionConfiguration);
+    }
+    
+    public ConcurrentExecutionConfiguration getConcurrentExecutionConfiguration() {
+        return concurrentExecutionConfiguration;
     }
     
 }
@@ -13,9 +13,14 @@ import org.junit.platform.commons.support.HierarchyTraversalMode;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class LifecycleExecutor {
+    
+    private final Map<Class<?>, Map<Class<? extends Annotation>, List<MethodInvocationPlan>>> plans
+            = new ConcurrentHashMap<>();
 
     public void executeBeforeClass(Class<?> testClass) {
         executeLifecycleMethod(BeforeClass.class, testClass, null, null);
@@ -45,10 +50,9 @@ public class LifecycleExecutor {
             Class<? extends Annotation> annotationClass, Class<?> testClass,
             Object testInstance, Combination combination) {
         
-        final List<CombinationBasedMethodInvoker> invokers = AnnotationSupport.findAnnotatedMethods(
-                testClass, annotationClass, HierarchyTraversalMode.TOP_DOWN).stream()
-                        .map(method -> new CombinationBasedMethodInvoker(testInstance, method))
-                        .collect(Collectors.toList());
+        final List<CombinationBasedMethodInvoker> invokers = getPlans(annotationClass, testClass).stream()
+                .map(plan -> new CombinationBasedMethodInvoker(testInstance, plan))
+                .collect(Collectors.toList());
         
         for (CombinationBasedMethodInvoker invoker : invokers) {
             try {
@@ -62,4 +66,16 @@ public class LifecycleExecutor {
         }
     }
 
+    /*
+     * The lifecycle methods of a class are only searched and compiled once since the lifecycle methods for
+     * combinations are executed for every single combination.
+     */
+    private List<MethodInvocationPlan> getPlans(Class<? extends Annotation> annotationClass, Class<?> testClass) {
+        return plans.computeIfAbsent(testClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(annotationClass, key -> AnnotationSupport.findAnnotatedMethods(
+                        testClass, annotationClass, HierarchyTraversalMode.TOP_DOWN).stream()
+                        .map(MethodInvocationPlan::compile)
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
 }
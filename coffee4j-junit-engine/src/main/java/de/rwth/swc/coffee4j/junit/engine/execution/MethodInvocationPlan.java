@@ -0,0 +1,120 @@
+package de.rwth.swc.coffee4j.junit.engine.execution;
+
+import de.rwth.swc.coffee4j.algorithmic.Coffee4JException;
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.junit.engine.annotation.parameter.ParameterContext;
+import de.rwth.swc.coffee4j.junit.engine.annotation.parameter.ParameterValueLoader;
+import de.rwth.swc.coffee4j.junit.engine.annotation.parameter.ParameterValueProvider;
+import org.junit.platform.commons.support.ModifierSupport;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * A method of a test class which is prepared to be invoked with the values of many combinations.
+ *
+ * <p>
+ *     All reflective work is done once when the plan is compiled: the method is resolved into a {@link MethodHandle}
+ *     which accepts the receiver and an argument array, and the {@link ParameterValueProvider} of every method
+ *     parameter is created and initialized. Invoking the plan therefore only asks the providers for their values
+ *     and calls the handle.
+ * </p>
+ */
+final class MethodInvocationPlan {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final MethodHandle invoker;
+    private final Parameter[] parameters;
+    private final ParameterValueProvider[] providers;
+
+    private MethodInvocationPlan(Method method) {
+        this.method = Preconditions.notNull(method);
+        this.invoker = createInvoker(method);
+        this.parameters = method.getParameters();
+        this.providers = new ParameterValueProvider[parameters.length];
+
+        final ParameterValueLoader valueLoader = new ParameterValueLoader();
+        for (int i = 0; i < parameters.length; i++) {
+            providers[i] = valueLoader.loadProvider(parameters[i]);
+        }
+    }
+
+    /**
+     * Resolves the handle and the parameter value providers of the given method.
+     *
+     * @param method the method to invoke. Must not be {@code null}
+     * @return a plan for invoking the method
+     */
+    static MethodInvocationPlan compile(Method method) {
+        return new MethodInvocationPlan(method);
+    }
+
+    private static MethodHandle createInvoker(Method method) {
+        final MethodHandle handle = unreflect(method);
+        final MethodHandle receiverFirstHandle = ModifierSupport.isStatic(method)
+                ? MethodHandles.dropArguments(handle, 0, Object.class)
+                : handle;
+
+        return receiverFirstHandle
+                .asType(receiverFirstHandle.type().generic())
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE);
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException inaccessible) {
+            // the handle keeps the access rights, so the method only needs to be accessible while unreflecting it
+            method.setAccessible(true);
+
+            try {
+                return lookup.unreflect(method);
+            } catch (IllegalAccessException e) {
+                throw new Coffee4JException(e, "Could not access method %s", method);
+            } finally {
+                method.setAccessible(false);
+            }
+        }
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invokes the method with the values provided for the given combination.
+     *
+     * @param instance the instance on which the method is invoked. May only be {@code null} for static methods
+     * @param combination the combination from which the values of the method parameters are provided. Is not used
+     *                    if the method has no parameters
+     * @throws Throwable any exception thrown by the method itself
+     */
+    void invoke(Object instance, Combination combination) throws Throwable {
+        invoker.invokeExact(instance, bindArguments(combination));
+    }
+
+    private Object[] bindArguments(Combination combination) {
+        if (parameters.length == 0) {
+            return NO_ARGUMENTS;
+        }
+
+        final Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            arguments[i] = providers[i].provideValue(ParameterContext.of(parameters[i], combination));
+        }
+
+        return arguments;
+    }
+
+}
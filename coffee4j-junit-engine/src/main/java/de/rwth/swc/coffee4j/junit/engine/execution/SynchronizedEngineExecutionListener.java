@@ -0,0 +1,46 @@
+package de.rwth.swc.coffee4j.junit.engine.execution;
+
+import de.rwth.swc.coffee4j.algorithmic.util.Preconditions;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * An {@link EngineExecutionListener} which serializes all events before passing them to another listener.
+ * This is used during parallel execution, as listeners provided by the platform do not have to be thread-safe.
+ */
+class SynchronizedEngineExecutionListener implements EngineExecutionListener {
+
+    private final EngineExecutionListener delegate;
+
+    SynchronizedEngineExecutionListener(EngineExecutionListener delegate) {
+        this.delegate = Preconditions.notNull(delegate);
+    }
+
+    @Override
+    public synchronized void dynamicTestRegistered(TestDescriptor testDescriptor) {
+        delegate.dynamicTestRegistered(testDescriptor);
+    }
+
+    @Override
+    public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
+        delegate.executionSkipped(testDescriptor, reason);
+    }
+
+    @Override
+    public synchronized void executionStarted(TestDescriptor testDescriptor) {
+        delegate.executionStarted(testDescriptor);
+    }
+
+    @Override
+    public synchronized void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+        delegate.executionFinished(testDescriptor, testExecutionResult);
+    }
+
+    @Override
+    public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+        delegate.reportingEntryPublished(testDescriptor, entry);
+    }
+
+}
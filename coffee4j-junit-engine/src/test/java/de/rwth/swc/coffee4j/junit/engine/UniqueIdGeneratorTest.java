@@ -0,0 +1,69 @@
+package de.rwth.swc.coffee4j.junit.engine;
+
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
+import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.UniqueId;
+
+import java.util.Map;
+
+import static de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel.inputParameterModel;
+import static de.rwth.swc.coffee4j.engine.configuration.model.Parameter.parameter;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UniqueIdGeneratorTest {
+    
+    private static final InputParameterModel MODEL = inputParameterModel("model")
+            .parameters(
+                    parameter("first").values("a", "a, second=b"),
+                    parameter("second").values("b", "c"),
+                    parameter("third").values(1, 2))
+            .build();
+    
+    @Test
+    void extractsAppendedCombination() {
+        for (Object first : new Object[]{"a", "a, second=b"}) {
+            final Combination combination = Combination.of(Map.of(
+                    getParameter("first"), getParameter("first").getValues().stream()
+                            .filter(value -> value.get().equals(first)).findFirst().orElseThrow(),
+                    getParameter("second"), getParameter("second").getValues().get(1),
+                    getParameter("third"), getParameter("third").getValues().get(0)));
+            final UniqueId uniqueId = UniqueIdGenerator.appendIdFromCombination(UniqueId.root("root", "id"),
+                    combination);
+            
+            assertThat(UniqueIdGenerator.extractCombination(uniqueId.getLastSegment().getValue(), MODEL))
+                    .isEqualTo(combination);
+        }
+    }
+    
+    @Test
+    void extractsCombinationIndependentOfParameterOrder() {
+        final Combination combination = UniqueIdGenerator.extractCombination(
+                "[third=2, second=b, first=a]", MODEL);
+        
+        assertThat(combination.getRawValue("first")).isEqualTo("a");
+        assertThat(combination.getRawValue("second")).isEqualTo("b");
+        assertThat(combination.getRawValue("third")).isEqualTo(2);
+    }
+    
+    @Test
+    void rejectsCombinationsNotInModel() {
+        assertThatThrownBy(() -> UniqueIdGenerator.extractCombination("[first=a, second=b]", MODEL))
+                .isInstanceOf(JUnitException.class);
+        assertThatThrownBy(() -> UniqueIdGenerator.extractCombination("[first=a, second=d, third=1]", MODEL))
+                .isInstanceOf(JUnitException.class);
+        assertThatThrownBy(() -> UniqueIdGenerator.extractCombination("first=a, second=b, third=1", MODEL))
+                .isInstanceOf(JUnitException.class);
+    }
+    
+    private static Parameter getParameter(String name) {
+        return MODEL.getParameters().stream()
+                .filter(parameter -> parameter.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+    
+}
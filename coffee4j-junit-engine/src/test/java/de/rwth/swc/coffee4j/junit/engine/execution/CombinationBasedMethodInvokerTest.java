@@ -82,6 +82,27 @@ public class CombinationBasedMethodInvokerTest {
         assertEquals("methodWithParameters(firstValue, secondValue)", invokedMethods.get(0));
     }
     
+    @Test
+    void canCallPrivateMethodWithPrimitiveParameters() throws Throwable {
+        final Method privateMethod = getClass().getDeclaredMethod("privateMethod", int.class);
+        final CombinationBasedMethodInvoker invoker = new CombinationBasedMethodInvoker(this, privateMethod);
+        final Combination combination = Combination.of(Map.of(
+                parameter("number").values(1, 2).build(), value(1, 2)));
+        
+        invoker.execute(combination);
+        invoker.execute(combination);
+        
+        assertEquals(List.of("privateMethod(2)", "privateMethod(2)"), invokedMethods);
+    }
+    
+    @Test
+    void rethrowsExceptionsOfMethod() throws NoSuchMethodException {
+        final Method throwingMethod = getClass().getMethod("throwingMethod");
+        final CombinationBasedMethodInvoker invoker = new CombinationBasedMethodInvoker(this, throwingMethod);
+        
+        assertThrows(IllegalStateException.class, () -> invoker.execute(null));
+    }
+    
     public static void staticMethod() {
         invokedMethods.add("staticMethod");
     }
@@ -94,4 +115,12 @@ public class CombinationBasedMethodInvokerTest {
         invokedMethods.add("methodWithParameters(" + first + ", " + second + ")");
     }
     
+    private void privateMethod(@InputParameter("number") int number) {
+        invokedMethods.add("privateMethod(" + number + ")");
+    }
+    
+    public void throwingMethod() {
+        throw new IllegalStateException("test");
+    }
+    
 }
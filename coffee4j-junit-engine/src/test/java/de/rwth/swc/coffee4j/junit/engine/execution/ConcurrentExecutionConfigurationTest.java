@@ -0,0 +1,122 @@
+package de.rwth.swc.coffee4j.junit.engine.execution;
+
+import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.concurrency.Concurrency;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentExecutionConfigurationTest {
+
+    @Test
+    void isSequentialByDefault() throws NoSuchMethodException {
+        final ConcurrentExecutionConfiguration configuration = ConcurrentExecutionConfiguration
+                .fromConfigurationParameters(parameters(Map.of(
+                        ConcurrentExecutionConfiguration.DEFAULT_MODE_PROPERTY_NAME, "concurrent")));
+
+        assertFalse(configuration.isEnabled());
+        assertEquals(ExecutionMode.SAME_THREAD, configuration.getExecutionMode(ConcurrentClass.class));
+        assertEquals(ExecutionMode.SAME_THREAD, configuration.getExecutionMode(method(ConcurrentClass.class)));
+    }
+
+    @Test
+    void usesDefaultModesIfNotAnnotated() throws NoSuchMethodException {
+        final ConcurrentExecutionConfiguration configuration = ConcurrentExecutionConfiguration
+                .fromConfigurationParameters(parameters(Map.of(
+                        ConcurrentExecutionConfiguration.ENABLED_PROPERTY_NAME, "true",
+                        ConcurrentExecutionConfiguration.DEFAULT_MODE_PROPERTY_NAME, "concurrent",
+                        ConcurrentExecutionConfiguration.DEFAULT_CLASSES_MODE_PROPERTY_NAME, "same_thread",
+                        ConcurrentExecutionConfiguration.PARALLELISM_PROPERTY_NAME, "3")));
+
+        assertTrue(configuration.isEnabled());
+        assertEquals(3, configuration.getParallelism());
+        assertEquals(ExecutionMode.SAME_THREAD, configuration.getExecutionMode(UnannotatedClass.class));
+        assertEquals(ExecutionMode.CONCURRENT, configuration.getExecutionMode(method(UnannotatedClass.class)));
+    }
+
+    @Test
+    void classModeDefaultsToMethodMode() {
+        final ConcurrentExecutionConfiguration configuration = ConcurrentExecutionConfiguration
+                .fromConfigurationParameters(parameters(Map.of(
+                        ConcurrentExecutionConfiguration.ENABLED_PROPERTY_NAME, "true",
+                        ConcurrentExecutionConfiguration.DEFAULT_MODE_PROPERTY_NAME, "concurrent")));
+
+        assertEquals(ExecutionMode.CONCURRENT, configuration.getExecutionMode(UnannotatedClass.class));
+    }
+
+    @Test
+    void annotationsOverrideDefaults() throws NoSuchMethodException {
+        final ConcurrentExecutionConfiguration configuration = ConcurrentExecutionConfiguration
+                .fromConfigurationParameters(parameters(Map.of(
+                        ConcurrentExecutionConfiguration.ENABLED_PROPERTY_NAME, "true")));
+
+        assertEquals(ExecutionMode.CONCURRENT, configuration.getExecutionMode(ConcurrentClass.class));
+        assertEquals(ExecutionMode.CONCURRENT, configuration.getExecutionMode(method(ConcurrentClass.class)));
+        assertEquals(ExecutionMode.SAME_THREAD,
+                configuration.getExecutionMode(ConcurrentClass.class.getDeclaredMethod("sameThreadMethod")));
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        assertThrows(JUnitException.class, () -> ConcurrentExecutionConfiguration
+                .fromConfigurationParameters(parameters(Map.of(
+                        ConcurrentExecutionConfiguration.ENABLED_PROPERTY_NAME, "true",
+                        ConcurrentExecutionConfiguration.DEFAULT_MODE_PROPERTY_NAME, "parallel"))));
+        assertThrows(JUnitException.class, () -> ConcurrentExecutionConfiguration
+                .fromConfigurationParameters(parameters(Map.of(
+                        ConcurrentExecutionConfiguration.ENABLED_PROPERTY_NAME, "true",
+                        ConcurrentExecutionConfiguration.PARALLELISM_PROPERTY_NAME, "0"))));
+    }
+
+    private static Method method(Class<?> testClass) throws NoSuchMethodException {
+        return testClass.getDeclaredMethod("testMethod");
+    }
+
+    private static ConfigurationParameters parameters(Map<String, String> values) {
+        return new ConfigurationParameters() {
+            @Override
+            public Optional<String> get(String key) {
+                return Optional.ofNullable(values.get(key));
+            }
+
+            @Override
+            public Optional<Boolean> getBoolean(String key) {
+                return get(key).map(Boolean::parseBoolean);
+            }
+
+            @Override
+            public int size() {
+                return values.size();
+            }
+        };
+    }
+
+    private static class UnannotatedClass {
+
+        void testMethod() {
+        }
+
+    }
+
+    @Concurrency(ExecutionMode.CONCURRENT)
+    private static class ConcurrentClass {
+
+        void testMethod() {
+        }
+
+        @Concurrency(ExecutionMode.SAME_THREAD)
+        void sameThreadMethod() {
+        }
+
+    }
+
+}
@@ -1,18 +1,28 @@
 package de.rwth.swc.coffee4j.junit.engine.it;
 
 
+import de.rwth.swc.coffee4j.algorithmic.model.TestResult;
 import de.rwth.swc.coffee4j.junit.engine.CombinatorialTestEngine;
+import de.rwth.swc.coffee4j.engine.configuration.model.Combination;
 import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
 import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import de.rwth.swc.coffee4j.engine.report.SequentialExecutionReporter;
 import de.rwth.swc.coffee4j.junit.engine.annotation.CombinatorialTest;
+import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.reporter.EnableReporter;
 import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.sequential.generation.EnableGeneration;
 import de.rwth.swc.coffee4j.junit.engine.annotation.parameter.parameter.InputParameter;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
 import org.junit.platform.testkit.engine.EngineTestKit;
 import org.junit.platform.testkit.engine.Events;
+import org.junit.platform.engine.UniqueId;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.testkit.engine.EventConditions.container;
 import static org.junit.platform.testkit.engine.EventConditions.displayName;
 import static org.junit.platform.testkit.engine.EventConditions.test;
@@ -39,6 +49,82 @@ class DiscoveryIT {
                 .haveAtLeastOne(test("parameter_uno"));
     }
 
+    @Test
+    void executeSingleCombinationByUniqueId() {
+        final Events allTests = EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .selectors(selectClass(OneMethodTestCase.class))
+                .execute()
+                .tests();
+        final UniqueId combinationId = allTests.started().stream()
+                .map(event -> event.getTestDescriptor().getUniqueId())
+                .filter(uniqueId -> uniqueId.getLastSegment().getValue().contains("zwei"))
+                .findFirst()
+                .orElseThrow();
+        
+        final Events tests = EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .selectors(selectUniqueId(combinationId))
+                .execute()
+                .tests();
+        
+        tests.assertStatistics(statistics -> statistics.started(1).succeeded(1));
+        assertThat(tests.started().stream().findFirst().orElseThrow().getTestDescriptor().getUniqueId())
+                .isEqualTo(combinationId);
+    }
+
+    @Test
+    void reportsSingleCombinationSelectedByUniqueId() {
+        final UniqueId combinationId = EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .selectors(selectClass(ReportingTestCase.class))
+                .execute()
+                .tests()
+                .started()
+                .stream()
+                .map(event -> event.getTestDescriptor().getUniqueId())
+                .filter(uniqueId -> uniqueId.getLastSegment().getValue().contains("zwei"))
+                .findFirst()
+                .orElseThrow();
+        RecordingReporter.FINISHED_TEST_INPUTS.clear();
+        
+        EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .selectors(selectUniqueId(combinationId))
+                .execute()
+                .tests()
+                .assertStatistics(statistics -> statistics.started(1).succeeded(1));
+        
+        assertThat(RecordingReporter.FINISHED_TEST_INPUTS).hasSize(1);
+        assertThat(RecordingReporter.FINISHED_TEST_INPUTS.get(0).getRawValue("parameter_uno")).isEqualTo("zwei");
+    }
+
+    @Test
+    void executeSingleCombinationOfOverloadedMethodByUniqueId() {
+        final UniqueId combinationId = EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .selectors(selectClass(OverloadedMethodTestCase.class))
+                .execute()
+                .tests()
+                .started()
+                .stream()
+                .map(event -> event.getTestDescriptor().getUniqueId())
+                .filter(uniqueId -> uniqueId.toString().contains(Integer.class.getName()))
+                .filter(uniqueId -> uniqueId.getLastSegment().getValue().contains("zwei"))
+                .findFirst()
+                .orElseThrow();
+        OverloadedMethodTestCase.INVOKED_OVERLOADS.clear();
+        
+        EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .selectors(selectUniqueId(combinationId))
+                .execute()
+                .tests()
+                .assertStatistics(statistics -> statistics.started(1).succeeded(1));
+        
+        assertThat(OverloadedMethodTestCase.INVOKED_OVERLOADS).containsExactly(Integer.class);
+    }
+
     static class OneMethodTestCase {
 
         private static InputParameterModel model() {
@@ -55,5 +141,57 @@ class DiscoveryIT {
             // no-op
         }
     }
-}
 
+    static class OverloadedMethodTestCase {
+
+        static final List<Class<?>> INVOKED_OVERLOADS = new CopyOnWriteArrayList<>();
+
+        private static InputParameterModel model() {
+            return InputParameterModel.inputParameterModel("dummy_model")
+                    .parameters(
+                            Parameter.parameter("parameter_uno").values("eins", "zwei").build(),
+                            Parameter.parameter("parameter_dos").values(1, 2).build()
+                    ).build();
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        void testMethod(@InputParameter("parameter_uno") String parameterUno) {
+            INVOKED_OVERLOADS.add(String.class);
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        void testMethod(@InputParameter("parameter_dos") Integer parameterDos) {
+            INVOKED_OVERLOADS.add(Integer.class);
+        }
+    }
+
+    static class ReportingTestCase {
+
+        private static InputParameterModel model() {
+            return InputParameterModel.inputParameterModel("dummy_model")
+                    .parameter(
+                            Parameter.parameter("parameter_uno")
+                                    .values("eins", "zwei").build()
+                    ).build();
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        @EnableReporter(RecordingReporter.class)
+        void testMethod(@InputParameter("parameter_uno") String parameterUno) {
+            // no-op
+        }
+    }
+
+    public static class RecordingReporter implements SequentialExecutionReporter {
+
+        static final List<Combination> FINISHED_TEST_INPUTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void testInputExecutionFinished(Combination testInput, TestResult result) {
+            FINISHED_TEST_INPUTS.add(testInput);
+        }
+    }
+}
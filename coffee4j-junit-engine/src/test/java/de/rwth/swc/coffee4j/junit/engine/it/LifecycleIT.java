@@ -5,6 +5,8 @@ import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
 import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
 import de.rwth.swc.coffee4j.junit.engine.annotation.CombinatorialTest;
 import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.sequential.generation.EnableGeneration;
+import de.rwth.swc.coffee4j.junit.engine.annotation.test.lifecycle.all.AfterClass;
+import de.rwth.swc.coffee4j.junit.engine.annotation.test.lifecycle.all.BeforeClass;
 import de.rwth.swc.coffee4j.junit.engine.annotation.test.lifecycle.combination.AfterCombination;
 import de.rwth.swc.coffee4j.junit.engine.annotation.test.lifecycle.combination.BeforeCombination;
 import de.rwth.swc.coffee4j.junit.engine.annotation.test.lifecycle.test.AfterMethod;
@@ -25,6 +27,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass
 class LifecycleIT {
 
     private static final List<String> methodsInvoked = new ArrayList<>();
+    private static final List<String> classLifecycleInvocations = new ArrayList<>();
 
     @Test
     void allBeforeAndAfter() {
@@ -61,6 +64,29 @@ class LifecycleIT {
                 );
     }
 
+    @Test
+    void classLifecycleSurroundsEachChildWithoutParallelExecution() {
+        classLifecycleInvocations.clear();
+        
+        EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .selectors(selectClass(ClassLifecycleTestCase.class))
+                .execute()
+                .tests()
+                .assertStatistics(stats -> stats.started(4).succeeded(4));
+        
+        assertThat(classLifecycleInvocations)
+                .hasSize(8)
+                .containsSubsequence("beforeClass", "first", "first", "afterClass")
+                .containsSubsequence("beforeClass", "second", "second", "afterClass")
+                .startsWith("beforeClass")
+                .endsWith("afterClass")
+                .containsOnly("beforeClass", "afterClass", "first", "second");
+        assertThat(classLifecycleInvocations.subList(0, 4))
+                .containsOnlyOnce("beforeClass", "afterClass")
+                .endsWith("afterClass");
+    }
+
     static class TestCase {
 
         private static InputParameterModel model() {
@@ -97,4 +123,37 @@ class LifecycleIT {
             methodsInvoked.add("afterTest");
         }
     }
+
+    static class ClassLifecycleTestCase {
+
+        private static InputParameterModel model() {
+            return InputParameterModel.inputParameterModel("dummy_model")
+                    .parameter(
+                            Parameter.parameter("parameter_uno")
+                                    .values("eins", "zwei").build()
+                    ).build();
+        }
+
+        @BeforeClass
+        static void beforeClass() {
+            classLifecycleInvocations.add("beforeClass");
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        void first(@InputParameter("parameter_uno") String parameter) {
+            classLifecycleInvocations.add("first");
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        void second(@InputParameter("parameter_uno") String parameter) {
+            classLifecycleInvocations.add("second");
+        }
+
+        @AfterClass
+        static void afterClass() {
+            classLifecycleInvocations.add("afterClass");
+        }
+    }
 }
@@ -0,0 +1,227 @@
+package de.rwth.swc.coffee4j.junit.engine.it;
+
+import de.rwth.swc.coffee4j.algorithmic.interleaving.feedback.DefaultFeedbackCheckingStrategy;
+import de.rwth.swc.coffee4j.algorithmic.interleaving.generator.aetg.AetgStrategy;
+import de.rwth.swc.coffee4j.algorithmic.interleaving.identification.trt.TupleRelationshipStrategy;
+import de.rwth.swc.coffee4j.engine.configuration.execution.InterleavingExecutionConfiguration;
+import de.rwth.swc.coffee4j.engine.configuration.model.InputParameterModel;
+import de.rwth.swc.coffee4j.engine.configuration.model.Parameter;
+import de.rwth.swc.coffee4j.junit.engine.CombinatorialTestEngine;
+import de.rwth.swc.coffee4j.junit.engine.annotation.CombinatorialTest;
+import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.concurrency.Concurrency;
+import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.interleaving.EnableInterleavingGeneration;
+import de.rwth.swc.coffee4j.junit.engine.annotation.configuration.sequential.generation.EnableGeneration;
+import de.rwth.swc.coffee4j.junit.engine.annotation.parameter.parameter.InputParameter;
+import de.rwth.swc.coffee4j.junit.engine.annotation.test.lifecycle.all.AfterClass;
+import de.rwth.swc.coffee4j.junit.engine.annotation.test.lifecycle.all.BeforeClass;
+import de.rwth.swc.coffee4j.junit.engine.execution.ConcurrentExecutionConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class ParallelExecutionIT {
+
+    private static final CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private static final List<String> methodsInvoked = Collections.synchronizedList(new ArrayList<>());
+
+    private static final Set<Object> testInstances = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    @Test
+    void executesConcurrentMethodsInParallel() {
+        final EngineExecutionResults executionResults = EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .configurationParameter(ConcurrentExecutionConfiguration.ENABLED_PROPERTY_NAME, "true")
+                .configurationParameter(ConcurrentExecutionConfiguration.PARALLELISM_PROPERTY_NAME, "2")
+                .selectors(selectClass(TestCase.class))
+                .execute();
+
+        executionResults.tests().assertStatistics(
+                stats -> stats
+                        .started(4)
+                        .succeeded(4)
+        );
+        executionResults.containers().assertStatistics(
+                stats -> stats
+                        .started(4)
+                        .succeeded(4)
+        );
+        assertThat(testInstances).hasSize(2);
+    }
+
+    @Test
+    void executesClassLifecycleOnceForMixedMethods() {
+        final EngineExecutionResults executionResults = EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .configurationParameter(ConcurrentExecutionConfiguration.ENABLED_PROPERTY_NAME, "true")
+                .configurationParameter(ConcurrentExecutionConfiguration.PARALLELISM_PROPERTY_NAME, "2")
+                .selectors(selectClass(MixedTestCase.class))
+                .execute();
+
+        executionResults.tests().assertStatistics(
+                stats -> stats
+                        .started(6)
+                        .succeeded(6)
+        );
+        assertThat(methodsInvoked)
+                .containsOnlyOnce("beforeClass", "afterClass")
+                .startsWith("beforeClass")
+                .endsWith("afterClass")
+                .containsSequence("sequentialTestMethod", "sequentialTestMethod");
+    }
+
+    @Test
+    void identifiesFailureInducingCombinationsOfConcurrentInterleavingMethods() {
+        final EngineExecutionResults executionResults = EngineTestKit
+                .engine(CombinatorialTestEngine.ENGINE_ID)
+                .configurationParameter(ConcurrentExecutionConfiguration.ENABLED_PROPERTY_NAME, "true")
+                .configurationParameter(ConcurrentExecutionConfiguration.PARALLELISM_PROPERTY_NAME, "2")
+                .selectors(selectClass(InterleavingTestCase.class))
+                .execute();
+
+        executionResults.containers().assertStatistics(
+                stats -> stats
+                        .started(4)
+                        .succeeded(4)
+        );
+        assertThat(executionResults.tests().failed().count()).isPositive();
+        assertThat(executionResults.tests().succeeded().count()).isPositive();
+    }
+
+    @Concurrency(ExecutionMode.CONCURRENT)
+    static class TestCase {
+
+        private static InputParameterModel model() {
+            return InputParameterModel.inputParameterModel("dummy_model")
+                    .parameter(
+                            Parameter.parameter("parameter_uno")
+                                    .values("eins", "zwei").build()
+                    ).build();
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        void firstTestMethod(@InputParameter("parameter_uno") String parameter) throws Exception {
+            testInstances.add(this);
+            barrier.await(10, TimeUnit.SECONDS);
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        void secondTestMethod(@InputParameter("parameter_uno") String parameter) throws Exception {
+            testInstances.add(this);
+            barrier.await(10, TimeUnit.SECONDS);
+        }
+
+    }
+
+    @Concurrency(ExecutionMode.CONCURRENT)
+    static class MixedTestCase {
+
+        private static InputParameterModel model() {
+            return InputParameterModel.inputParameterModel("dummy_model")
+                    .parameter(
+                            Parameter.parameter("parameter_uno")
+                                    .values("eins", "zwei").build()
+                    ).build();
+        }
+
+        @BeforeClass
+        static void beforeClass() {
+            methodsInvoked.add("beforeClass");
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        void firstConcurrentTestMethod(@InputParameter("parameter_uno") String parameter) {
+            methodsInvoked.add("firstConcurrentTestMethod");
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        @Concurrency(ExecutionMode.SAME_THREAD)
+        void sequentialTestMethod(@InputParameter("parameter_uno") String parameter) {
+            methodsInvoked.add("sequentialTestMethod");
+        }
+
+        @CombinatorialTest
+        @EnableGeneration
+        void secondConcurrentTestMethod(@InputParameter("parameter_uno") String parameter) {
+            methodsInvoked.add("secondConcurrentTestMethod");
+        }
+
+        @AfterClass
+        static void afterClass() {
+            methodsInvoked.add("afterClass");
+        }
+
+    }
+
+    @Concurrency(ExecutionMode.CONCURRENT)
+    static class InterleavingTestCase {
+
+        private static final CyclicBarrier interleavingBarrier = new CyclicBarrier(2);
+
+        private static final Set<String> startedTestMethods = ConcurrentHashMap.newKeySet();
+
+        private static InputParameterModel model() {
+            return InputParameterModel.inputParameterModel("interleaving_model")
+                    .positiveTestingStrength(2)
+                    .parameters(
+                            Parameter.parameter("first").values(0, 1).build(),
+                            Parameter.parameter("second").values(0, 1).build(),
+                            Parameter.parameter("third").values(0, 1).build()
+                    ).build();
+        }
+
+        private static InterleavingExecutionConfiguration.Builder configuration() {
+            return InterleavingExecutionConfiguration.executionConfiguration()
+                    .testInputGenerationStrategyFactory(AetgStrategy.aetgStrategy(42))
+                    .identificationStrategyFactory(TupleRelationshipStrategy.tupleRelationshipStrategy())
+                    .feedbackCheckingStrategyFactory(DefaultFeedbackCheckingStrategy.defaultCheckingStrategy());
+        }
+
+        @CombinatorialTest
+        @EnableInterleavingGeneration("configuration")
+        void firstTestMethod(@InputParameter("first") int first, @InputParameter("second") int second,
+                @InputParameter("third") int third) throws Exception {
+
+            awaitOtherTestMethod("firstTestMethod");
+            assertThat(first == 0 && second == 0).isFalse();
+        }
+
+        @CombinatorialTest
+        @EnableInterleavingGeneration("configuration")
+        void secondTestMethod(@InputParameter("first") int first, @InputParameter("second") int second,
+                @InputParameter("third") int third) throws Exception {
+
+            awaitOtherTestMethod("secondTestMethod");
+            assertThat(second == 1 && third == 1).isFalse();
+        }
+
+        /*
+         * Both methods must be running at the same time, so that the identification of each method runs while the
+         * other method occupies a thread of the engine.
+         */
+        private static void awaitOtherTestMethod(String testMethod) throws Exception {
+            if (startedTestMethods.add(testMethod)) {
+                interleavingBarrier.await(10, TimeUnit.SECONDS);
+            }
+        }
+
+    }
+}